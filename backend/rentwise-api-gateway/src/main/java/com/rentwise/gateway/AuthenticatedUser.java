@@ -0,0 +1,29 @@
+package com.rentwise.gateway;
+
+/**
+ * Identity carried by a verified login token.
+ */
+public class AuthenticatedUser {
+    private final Long id;
+    private final String username;
+    private final String role;
+    
+    public AuthenticatedUser(Long id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+}
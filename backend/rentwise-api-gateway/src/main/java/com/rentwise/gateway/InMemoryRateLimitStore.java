@@ -0,0 +1,98 @@
+package com.rentwise.gateway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets in this gateway's memory. Each bucket is a single AtomicLong holding its GCRA
+ * "theoretical arrival time" (the instant its schedule of granted requests runs to), updated by
+ * CAS, so taking a token never locks. A bucket whose time has passed is full again and carries
+ * no state worth keeping.
+ *
+ * Keys are spread over stripes, each a map bounded to max-keys / STRIPES entries. A stripe drops
+ * its full buckets every idle-sweep-interval, found on the next miss, and when it reaches its
+ * bound; if it is still at the bound it drops arbitrary buckets (which then start full) rather
+ * than grow.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+    
+    private static final int STRIPES = 16;
+    
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final AtomicLong[] lastSweep = new AtomicLong[STRIPES];
+    private final int maxKeysPerStripe;
+    private final long idleSweepIntervalNanos;
+    
+    public InMemoryRateLimitStore(@Value("${gateway.rate-limit.max-keys:100000}") int maxKeys,
+                                  @Value("${gateway.rate-limit.idle-sweep-interval:60s}") Duration idleSweepInterval) {
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.idleSweepIntervalNanos = idleSweepInterval.toNanos();
+        long now = System.nanoTime();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            lastSweep[i] = new AtomicLong(now);
+        }
+    }
+    
+    @Override
+    public long tryConsume(String key, RateLimit limit) {
+        return tryConsume(key, limit, System.nanoTime());
+    }
+    
+    // Takes the clock reading as a parameter so tests can step time exactly
+    long tryConsume(String key, RateLimit limit, long now) {
+        AtomicLong bucket = bucket(key, now);
+        long interval = limit.getEmissionIntervalNanos();
+        long tolerance = limit.getToleranceNanos();
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    @Override
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+    
+    private AtomicLong bucket(String key, long now) {
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        long swept = lastSweep[index].get();
+        if (now - swept >= idleSweepIntervalNanos && lastSweep[index].compareAndSet(swept, now)) {
+            stripe.values().removeIf(candidate -> candidate.get() <= now);
+        }
+        if (stripe.size() >= maxKeysPerStripe) {
+            stripe.values().removeIf(candidate -> candidate.get() <= now);
+            Iterator<String> keys = stripe.keySet().iterator();
+            while (stripe.size() >= maxKeysPerStripe && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+    }
+}
@@ -0,0 +1,53 @@
+package com.rentwise.gateway;
+
+/**
+ * A token bucket: refills at permitsPerSecond up to burst tokens, one token per request.
+ * Held as the GCRA parameters stores work with: the refill interval of one token and how far
+ * ahead of now a bucket's schedule may run before it is empty.
+ */
+public class RateLimit {
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    
+    public RateLimit(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = emissionIntervalNanos * burst;
+    }
+    
+    /** Parses "rate:burst", e.g. "10:20"; "rate" alone means a burst of one second's worth. */
+    public static RateLimit parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        double rate = Double.parseDouble(parts[0].trim());
+        int burst = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : (int) Math.max(1, Math.ceil(rate));
+        return new RateLimit(rate, burst);
+    }
+    
+    // Getters
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+    
+    public int getBurst() {
+        return burst;
+    }
+    
+    public long getEmissionIntervalNanos() {
+        return emissionIntervalNanos;
+    }
+    
+    public long getToleranceNanos() {
+        return toleranceNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return permitsPerSecond + "/s burst " + burst;
+    }
+}
@@ -0,0 +1,136 @@
+package com.rentwise.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route token-bucket rate limiting, keyed by the authenticated user or, for anonymous
+ * requests, the client IP, so one runaway client cannot saturate a backend. Over the limit the
+ * request is answered here with 429 and Retry-After. Routes take their rate and burst from
+ * gateway.rate-limit.routes, falling back to gateway.rate-limit.default; buckets live in the
+ * RateLimitStore bean.
+ *
+ * The client IP is the connection's remote address: this gateway is the edge, so a client-sent
+ * X-Forwarded-For is not trusted.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String SERVICE_NAME = "rentwise-api-gateway";
+
+    private final RateLimitStore store;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final RateLimit defaultLimit;
+    private final Map<String, RateLimit> routeLimits = new HashMap<>();
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitStore store, MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${gateway.rate-limit.default:50:100}") String defaultLimit,
+                           @Value("${gateway.rate-limit.routes:}") List<String> routeLimits) {
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.defaultLimit = RateLimit.parse(defaultLimit);
+        for (String entry : routeLimits) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            this.routeLimits.put(parts[0].trim(), RateLimit.parse(parts[1]));
+        }
+        Gauge.builder("gateway.rate-limit.buckets", store, RateLimitStore::size)
+                .description("Token buckets currently held")
+                .register(meterRegistry);
+        logger.info("[{}] [RateLimitFilter] [Constructor] Rate limiting {} - default {}, per route {}",
+                SERVICE_NAME, enabled ? "enabled" : "disabled", this.defaultLimit, this.routeLimits);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null) {
+            return chain.filter(exchange);
+        }
+        String routeId = route.getId();
+        String client = client(exchange);
+        if (client == null) {
+            return chain.filter(exchange);
+        }
+        RouteMeters meters = meters(routeId);
+        long waitNanos = store.tryConsume(routeId + "|" + client, routeLimits.getOrDefault(routeId, defaultLimit));
+        if (waitNanos == 0) {
+            meters.allowed.increment();
+            return chain.filter(exchange);
+        }
+        meters.rejected.increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        logger.debug("[{}] [RateLimitFilter] [filter] Rejected - route: {}, client: {}, retry after {}s",
+                SERVICE_NAME, routeId, client, retryAfterSeconds);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return exchange.getResponse().setComplete();
+    }
+
+    @Override
+    public int getOrder() {
+        // After TokenAuthenticationFilter has set the user, ahead of the response cache and routing
+        return Ordered.HIGHEST_PRECEDENCE + 15;
+    }
+
+    private static String client(ServerWebExchange exchange) {
+        AuthenticatedUser user = exchange.getAttribute(TokenAuthenticationFilter.USER_ATTRIBUTE);
+        if (user != null) {
+            return "user:" + user.getId();
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return null;
+        }
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    private RouteMeters meters(String routeId) {
+        return routeMeters.computeIfAbsent(routeId, id -> new RouteMeters(meterRegistry, id));
+    }
+
+    private static final class RouteMeters {
+
+        final Counter allowed;
+        final Counter rejected;
+
+        RouteMeters(MeterRegistry meterRegistry, String routeId) {
+            this.allowed = counter(meterRegistry, routeId, "allowed");
+            this.rejected = counter(meterRegistry, routeId, "rejected");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String routeId, String result) {
+            return Counter.builder("gateway.rate-limit.requests")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.rentwise.gateway;
+
+/**
+ * Where token buckets live. InMemoryRateLimitStore keeps them per gateway instance; a shared
+ * implementation (e.g. a Redis script doing the same GCRA update) can replace it as a @Primary bean to
+ * enforce one limit across instances without touching RateLimitFilter.
+ */
+public interface RateLimitStore {
+    
+    /**
+     * Takes one token from the key's bucket if it has one.
+     * @return 0 when the request may proceed, otherwise nanoseconds until a token is available
+     */
+    long tryConsume(String key, RateLimit limit);
+    
+    /** Buckets currently held, for monitoring. */
+    int size();
+}
@@ -1,13 +1,16 @@
 package com.rentwise.gateway;
 
+import com.rentwise.common.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 public class RentwiseApiGatewayApplication {
 
 	private static final Logger logger = LoggerFactory.getLogger(RentwiseApiGatewayApplication.class);
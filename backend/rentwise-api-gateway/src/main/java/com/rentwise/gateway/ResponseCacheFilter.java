@@ -0,0 +1,351 @@
+package com.rentwise.gateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches successful GET responses at the edge for the routes listed in gateway.cache.route-ttls,
+ * keyed on route, path, query and the authenticated user, so a reload of the same dashboard view
+ * is answered here instead of by the backends. Only paths on the route's allowlist
+ * (gateway.cache.paths) are cached: GETs known to be idempotent and not per-moment state such as
+ * import progress or claimed work queues. The cache is bounded by total body bytes.
+ *
+ * A POST/PUT/PATCH/DELETE through a route evicts every cached response of that route and of the
+ * routes it is listed as invalidating (gateway.cache.invalidates), both when the write starts and
+ * when it completes, so a GET racing the write cannot store what it read before the commit.
+ * Eviction bumps a per-route generation rather than scanning the cache: entries stored under an
+ * older generation are never served and are dropped when next looked up or by the size bound.
+ * Writes that do not pass through this gateway instance are only caught by the TTL.
+ *
+ * Hits carry X-Cache: HIT; gateway.response.cache.requests{route,result} gives the hit ratio.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+    private static final String SERVICE_NAME = "rentwise-api-gateway";
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final Set<HttpMethod> WRITE_METHODS = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+    // Response headers that describe one connection or one client rather than the content
+    private static final Set<String> UNCACHED_HEADERS = Set.of("connection", "keep-alive", "transfer-encoding",
+            "content-length", "date", "set-cookie", "vary", "access-control-allow-origin",
+            "access-control-allow-credentials", "access-control-expose-headers");
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Duration> routeTtls = new HashMap<>();
+    private final Map<String, List<String>> invalidatedRoutes = new HashMap<>();
+    private final Map<String, List<PathPattern>> cachedPaths = new HashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+    private final long maxEntryBytes;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheFilter(MeterRegistry meterRegistry,
+                               @Value("${gateway.cache.route-ttls:properties-api=30s,dashboard-api=10s}") List<String> routeTtls,
+                               @Value("${gateway.cache.invalidates:properties-api=dashboard-api,tenants-api=dashboard-api}") List<String> invalidates,
+                               @Value("${gateway.cache.paths:}") List<String> paths,
+                               @Value("${gateway.cache.max-size:64MB}") DataSize maxSize,
+                               @Value("${gateway.cache.max-entry-size:512KB}") DataSize maxEntrySize) {
+        this.meterRegistry = meterRegistry;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        for (String entry : routeTtls) {
+            String[] parts = entry.split("=", 2);
+            this.routeTtls.put(parts[0].trim(), DurationStyle.detectAndParse(parts[1].trim()));
+        }
+        for (String entry : invalidates) {
+            String[] parts = entry.split("=", 2);
+            this.invalidatedRoutes.computeIfAbsent(parts[0].trim(), route -> new ArrayList<>()).add(parts[1].trim());
+        }
+        for (String entry : paths) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            this.cachedPaths.computeIfAbsent(parts[0].trim(), route -> new ArrayList<>())
+                    .add(PathPatternParser.defaultInstance.parse(parts[1].trim()));
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.body.length + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return response.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return response.ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses");
+        logger.info("[{}] [ResponseCacheFilter] [Constructor] Caching GET responses for routes {} on paths {} (max {}), invalidation: {}",
+                SERVICE_NAME, this.routeTtls, this.cachedPaths, maxSize, this.invalidatedRoutes);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        String routeId = route.getId();
+        ServerHttpRequest request = exchange.getRequest();
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            invalidate(routeId);
+            return chain.filter(exchange).doFinally(signal -> invalidate(routeId));
+        }
+        Duration ttl = routeTtls.get(routeId);
+        if (ttl == null || !HttpMethod.GET.equals(request.getMethod()) || !isCachedPath(routeId, request)) {
+            return chain.filter(exchange);
+        }
+        RouteMeters meters = meters(routeId);
+        String principal = principal(exchange);
+        if (principal == null || requestsFreshResponse(request)) {
+            meters.bypasses.increment();
+            return chain.filter(exchange);
+        }
+        String query = request.getURI().getRawQuery();
+        String key = routeId + " " + request.getURI().getRawPath() + (query != null ? "?" + query : "") + " " + principal;
+        long generation = generation(routeId).get();
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.generation == generation) {
+                meters.hits.increment();
+                return writeCached(exchange.getResponse(), cached);
+            }
+            cache.asMap().remove(key, cached); // Stored before a write on this resource family
+        }
+        meters.misses.increment();
+        CachingResponse response = new CachingResponse(exchange.getResponse(), key, routeId, generation, ttl);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // After TokenAuthenticationFilter has set the user, before NettyWriteResponseFilter writes the body
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+
+    private void invalidate(String routeId) {
+        generation(routeId).incrementAndGet();
+        for (String invalidated : invalidatedRoutes.getOrDefault(routeId, List.of())) {
+            generation(invalidated).incrementAndGet();
+        }
+        logger.debug("[{}] [ResponseCacheFilter] [invalidate] Write on route {} - evicted {} and {}", SERVICE_NAME,
+                routeId, routeId, invalidatedRoutes.getOrDefault(routeId, List.of()));
+    }
+
+    private boolean isCachedPath(String routeId, ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : cachedPaths.getOrDefault(routeId, List.of())) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AtomicLong generation(String routeId) {
+        return generations.computeIfAbsent(routeId, id -> new AtomicLong());
+    }
+
+    /** The cache partition for this request, or null when it must not be cached at all. */
+    private static String principal(ServerWebExchange exchange) {
+        AuthenticatedUser user = exchange.getAttribute(TokenAuthenticationFilter.USER_ATTRIBUTE);
+        if (user != null) {
+            return "user:" + user.getId();
+        }
+        // Credentials the gateway did not verify: the backend may answer per caller
+        return exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION) ? null : "anonymous";
+    }
+
+    private static boolean requestsFreshResponse(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+
+    private static Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(HttpStatus.OK);
+        HttpHeaders headers = response.getHeaders();
+        cached.headers.forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setContentLength(cached.body.length);
+        headers.set(HttpHeaders.AGE, String.valueOf((System.currentTimeMillis() - cached.storedAt) / 1000));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body)));
+    }
+
+    private RouteMeters meters(String routeId) {
+        return routeMeters.computeIfAbsent(routeId, id -> new RouteMeters(meterRegistry, id));
+    }
+
+    /**
+     * Passes the backend's body through unchanged while keeping a copy, stored once the body
+     * completes if the response turned out cacheable and under max-entry-size.
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final String routeId;
+        private final long generation;
+        private final Duration ttl;
+
+        CachingResponse(ServerHttpResponse delegate, String key, String routeId, long generation, Duration ttl) {
+            super(delegate);
+            this.key = key;
+            this.routeId = routeId;
+            this.generation = generation;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            ByteArrayOutputStream[] copy = {new ByteArrayOutputStream()};
+            Flux<? extends DataBuffer> teed = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (copy[0] == null) {
+                            return;
+                        }
+                        if (copy[0].size() + buffer.readableByteCount() > maxEntryBytes) {
+                            copy[0] = null; // Too large to cache; keep streaming it to the client
+                            return;
+                        }
+                        int position = buffer.readPosition();
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy[0].writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (copy[0] != null) {
+                            store(copy[0].toByteArray());
+                        }
+                    });
+            return super.writeWith(teed);
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            String cacheControl = headers.getCacheControl();
+            return getStatusCode() != null && getStatusCode().value() == HttpStatus.OK.value()
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && (cacheControl == null || !cacheControl.contains("no-store"))
+                    && !MediaType.TEXT_EVENT_STREAM.isCompatibleWith(headers.getContentType())
+                    && headers.getContentLength() <= maxEntryBytes;
+        }
+
+        private void store(byte[] body) {
+            if (generation(routeId).get() != generation) {
+                return; // A write on this resource family went through while the backend answered
+            }
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (!UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !CACHE_STATUS_HEADER.equalsIgnoreCase(name)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            cache.put(key, new CachedResponse(headers, body, generation, ttl));
+        }
+    }
+
+    private static final class CachedResponse {
+
+        final HttpHeaders headers;
+        final byte[] body;
+        final long generation;
+        final Duration ttl;
+        final long storedAt = System.currentTimeMillis();
+
+        CachedResponse(HttpHeaders headers, byte[] body, long generation, Duration ttl) {
+            this.headers = headers;
+            this.body = body;
+            this.generation = generation;
+            this.ttl = ttl;
+        }
+    }
+
+    private static final class RouteMeters {
+
+        final Counter hits;
+        final Counter misses;
+        final Counter bypasses;
+
+        RouteMeters(MeterRegistry meterRegistry, String routeId) {
+            this.hits = counter(meterRegistry, routeId, "hit");
+            this.misses = counter(meterRegistry, routeId, "miss");
+            this.bypasses = counter(meterRegistry, routeId, "bypass");
+            Gauge.builder("gateway.response.cache.hit.ratio", this, meters -> {
+                        double lookups = meters.hits.count() + meters.misses.count();
+                        return lookups == 0 ? 0 : meters.hits.count() / lookups;
+                    })
+                    .description("Share of cacheable GETs answered from the gateway cache")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String routeId, String result) {
+            return Counter.builder("gateway.response.cache.requests")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
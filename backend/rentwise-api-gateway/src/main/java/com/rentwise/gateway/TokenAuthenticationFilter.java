@@ -0,0 +1,111 @@
+package com.rentwise.gateway;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates requests at the edge from the signed login token (Bearer header or the
+ * login cookie). A valid token is forwarded with X-User-Id / X-User-Name / X-User-Role
+ * headers. An invalid or expired token on /api/** is rejected with 401 here instead of
+ * reaching a backend; page requests pass through so the dashboard can redirect to login.
+ * Requests without a token pass through unchanged, since the backends still decide which of
+ * their endpoints are public. Client-supplied X-User-* headers are always stripped.
+ */
+@Component
+public class TokenAuthenticationFilter implements GlobalFilter, Ordered {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenAuthenticationFilter.class);
+    private static final String SERVICE_NAME = "rentwise-api-gateway";
+    private static final String BEARER_PREFIX = "Bearer ";
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_NAME_HEADER = "X-User-Name";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    public static final String USER_ATTRIBUTE = "rentwise.user";
+    
+    private final TokenVerifier tokenVerifier;
+    private final String cookieName;
+    private final List<String> publicPaths;
+    
+    public TokenAuthenticationFilter(TokenVerifier tokenVerifier,
+                                     @Value("${gateway.auth.cookie-name:rentwise_token}") String cookieName,
+                                     @Value("${gateway.auth.public-paths:/api/users/login,/api/users/register,/api/users/token-keys}") List<String> publicPaths) {
+        this.tokenVerifier = tokenVerifier;
+        this.cookieName = cookieName;
+        this.publicPaths = publicPaths;
+    }
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_NAME_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                })
+                .build();
+        String path = stripped.getPath().value();
+        String token = resolveToken(stripped);
+        if (token == null || publicPaths.contains(path)) {
+            // A stale token must not block logging in again
+            return chain.filter(exchange.mutate().request(stripped).build());
+        }
+        // chain.filter completes empty, so the branch is chosen before it runs: a switchIfEmpty
+        // after it would also fire for every successfully proxied request
+        return tokenVerifier.verify(token)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> user.isPresent()
+                        ? authenticated(exchange, stripped, user.get(), chain)
+                        : unauthenticated(exchange, stripped, path, chain));
+    }
+    
+    private Mono<Void> authenticated(ServerWebExchange exchange, ServerHttpRequest stripped,
+                                     AuthenticatedUser user, GatewayFilterChain chain) {
+        exchange.getAttributes().put(USER_ATTRIBUTE, user);
+        ServerHttpRequest authenticated = stripped.mutate()
+                .header(USER_ID_HEADER, String.valueOf(user.getId()))
+                .header(USER_NAME_HEADER, user.getUsername())
+                .header(USER_ROLE_HEADER, user.getRole())
+                .build();
+        return chain.filter(exchange.mutate().request(authenticated).build());
+    }
+    
+    private Mono<Void> unauthenticated(ServerWebExchange exchange, ServerHttpRequest stripped,
+                                       String path, GatewayFilterChain chain) {
+        if (!path.startsWith("/api/")) {
+            return chain.filter(exchange.mutate().request(stripped).build());
+        }
+        logger.warn("[{}] [TokenAuthenticationFilter] [filter] Rejected invalid or expired token - Path: {}", SERVICE_NAME, path);
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+    
+    private String resolveToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        HttpCookie cookie = request.getCookies().getFirst(cookieName);
+        return cookie != null ? cookie.getValue() : null;
+    }
+    
+    @Override
+    public int getOrder() {
+        // Ahead of routing and of filters that key on the user
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+}
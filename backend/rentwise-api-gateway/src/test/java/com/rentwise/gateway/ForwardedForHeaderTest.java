@@ -0,0 +1,32 @@
+package com.rentwise.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.filter.headers.XForwardedHeadersFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ForwardedForHeaderTest {
+
+    @Autowired
+    private XForwardedHeadersFilter xForwardedHeadersFilter;
+
+    @Test
+    void clientSuppliedForwardedForIsReplaced() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost/api/users/login")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 50000))
+                .header("X-Forwarded-For", "10.0.0.1"));
+
+        HttpHeaders forwarded = xForwardedHeadersFilter.filter(exchange.getRequest().getHeaders(), exchange);
+
+        assertEquals(List.of("203.0.113.7"), forwarded.get("X-Forwarded-For"));
+    }
+}
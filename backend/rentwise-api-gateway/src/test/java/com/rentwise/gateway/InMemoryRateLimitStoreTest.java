@@ -0,0 +1,100 @@
+package com.rentwise.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    // 10 tokens per second, so one token every 100 ms, holding at most 5
+    private final RateLimit limit = new RateLimit(10, 5);
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100_000, Duration.ofSeconds(60));
+
+    private int drain(String key, long now) {
+        int granted = 0;
+        while (store.tryConsume(key, limit, now) == 0) {
+            granted++;
+        }
+        return granted;
+    }
+
+    @Test
+    void newBucketStartsFullAtBurst() {
+        assertEquals(5, drain("k", 0));
+    }
+
+    @Test
+    void emptyBucketReportsWaitUntilNextToken() {
+        long now = 1000 * SECOND;
+        drain("k", now);
+
+        assertEquals(limit.getEmissionIntervalNanos(), store.tryConsume("k", limit, now));
+        assertEquals(1, store.tryConsume("k", limit, now + limit.getEmissionIntervalNanos() - 1));
+    }
+
+    @Test
+    void tokenBecomesAvailableExactlyAfterTheInterval() {
+        long now = 1000 * SECOND;
+        drain("k", now);
+        long refilled = now + limit.getEmissionIntervalNanos();
+
+        assertEquals(0, store.tryConsume("k", limit, refilled));
+        assertTrue(store.tryConsume("k", limit, refilled) > 0, "only one token refilled");
+    }
+
+    @Test
+    void partialRefillGrantsWholeTokensOnly() {
+        long now = 1000 * SECOND;
+        drain("k", now);
+
+        assertEquals(2, drain("k", now + limit.getEmissionIntervalNanos() * 5 / 2));
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        long now = 1000 * SECOND;
+        drain("k", now);
+
+        // Exactly the time to refill the whole burst, then far beyond it: never more than the burst
+        assertEquals(5, drain("k", now + limit.getToleranceNanos()));
+        assertEquals(5, drain("k", now + limit.getToleranceNanos() + 3600 * SECOND));
+    }
+
+    @Test
+    void refillJustBelowCapacityLeavesOneTokenShort() {
+        long now = 1000 * SECOND;
+        drain("k", now);
+
+        assertEquals(4, drain("k", now + limit.getToleranceNanos() - 1));
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        drain("user:1", 0);
+
+        assertEquals(5, drain("user:2", 0));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void heldBucketsStayBounded() {
+        InMemoryRateLimitStore bounded = new InMemoryRateLimitStore(1600, Duration.ofSeconds(60));
+        for (int i = 0; i < 100_000; i++) {
+            bounded.tryConsume("ip:" + i, limit, 0);
+        }
+        assertTrue(bounded.size() <= 1600, "held " + bounded.size());
+    }
+
+    @Test
+    void parseReadsRateAndBurst() {
+        RateLimit parsed = RateLimit.parse("10:20");
+        assertEquals(10, parsed.getPermitsPerSecond());
+        assertEquals(20, parsed.getBurst());
+        assertEquals(3, RateLimit.parse(" 2.5 ").getBurst(), "rate alone means one second's worth");
+    }
+}
@@ -0,0 +1,125 @@
+package com.rentwise.gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rate limiting per request: the store's bucket update alone, and the whole
+ * RateLimitFilter (route and key lookup, bucket, metrics) in front of a chain that does nothing.
+ * Limits are set high enough that every request is admitted, so the common path is measured.
+ *
+ * Not run by the test phase. Run with:
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *       -Dexec.args="-cp %classpath com.rentwise.gateway.RateLimitBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final RateLimit UNLIMITED = new RateLimit(1e9, 1_000_000_000);
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        InMemoryRateLimitStore store;
+        RateLimitFilter filter;
+        String[] keys;
+        MockServerWebExchange[] anonymous;
+        MockServerWebExchange[] authenticated;
+        final GatewayFilterChain chain = exchange -> Mono.empty();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            store = new InMemoryRateLimitStore(100_000, Duration.ofSeconds(60));
+            filter = new RateLimitFilter(store, new SimpleMeterRegistry(), true, "1000000000:1000000000", List.of());
+            Route route = Route.async().id("properties-api").uri("lb://rentwise-property-service").predicate(e -> true).build();
+            keys = new String[KEYS];
+            anonymous = new MockServerWebExchange[KEYS];
+            authenticated = new MockServerWebExchange[KEYS];
+            for (int i = 0; i < KEYS; i++) {
+                keys[i] = "properties-api|user:" + i;
+                String address = "10.0." + (i >> 8) + "." + (i & 0xff);
+                anonymous[i] = exchange(route, address, null);
+                authenticated[i] = exchange(route, address, new AuthenticatedUser((long) i, "user" + i, "TENANT"));
+            }
+        }
+
+        private static MockServerWebExchange exchange(Route route, String address, AuthenticatedUser user) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/properties")
+                    .remoteAddress(new InetSocketAddress(address, 50000)));
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+            if (user != null) {
+                exchange.getAttributes().put(TokenAuthenticationFilter.USER_ATTRIBUTE, user);
+            }
+            return exchange;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            next = (next + 1) % KEYS;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public long storeDistinctKeys(Shared shared, Cursor cursor) {
+        return shared.store.tryConsume(shared.keys[cursor.advance()], UNLIMITED);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long storeOneHotKeyFourThreads(Shared shared) {
+        return shared.store.tryConsume("properties-api|user:0", UNLIMITED);
+    }
+
+    @Benchmark
+    public void filterAuthenticated(Shared shared, Cursor cursor) {
+        shared.filter.filter(shared.authenticated[cursor.advance()], shared.chain).block();
+    }
+
+    @Benchmark
+    public void filterAnonymous(Shared shared, Cursor cursor) {
+        shared.filter.filter(shared.anonymous[cursor.advance()], shared.chain).block();
+    }
+
+    @Benchmark
+    public void baselineChainOnly(Shared shared, Cursor cursor) {
+        shared.chain.filter(shared.anonymous[cursor.advance()]).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RateLimitBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.rentwise.gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    /** Records the keys and limits it is asked about; denies once `allowed` requests went through. */
+    private static final class RecordingStore implements RateLimitStore {
+        final List<String> keys = new ArrayList<>();
+        final List<RateLimit> limits = new ArrayList<>();
+        int allowed = Integer.MAX_VALUE;
+        long waitNanos = 1_500_000_000L;
+
+        @Override
+        public long tryConsume(String key, RateLimit limit) {
+            keys.add(key);
+            limits.add(limit);
+            return keys.size() <= allowed ? 0 : waitNanos;
+        }
+
+        @Override
+        public int size() {
+            return keys.size();
+        }
+    }
+
+    private final RecordingStore store = new RecordingStore();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private RateLimitFilter filter(boolean enabled) {
+        return new RateLimitFilter(store, new SimpleMeterRegistry(), enabled, "50:100", List.of("dashboard-api=10:30", ""));
+    }
+
+    private static MockServerWebExchange exchange(String routeId, AuthenticatedUser user) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/dashboard/admin/tenants")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 50000))
+                .header("X-Forwarded-For", "198.51.100.1"));
+        if (routeId != null) {
+            Route route = Route.async().id(routeId).uri("lb://rentwise-dashboard-service").predicate(e -> true).build();
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        }
+        if (user != null) {
+            exchange.getAttributes().put(TokenAuthenticationFilter.USER_ATTRIBUTE, user);
+        }
+        return exchange;
+    }
+
+    @Test
+    void authenticatedRequestsAreKeyedByUser() {
+        filter(true).filter(exchange("dashboard-api", new AuthenticatedUser(7L, "alice", "ADMIN")), chain).block();
+
+        assertEquals(List.of("dashboard-api|user:7"), store.keys);
+    }
+
+    @Test
+    void anonymousRequestsAreKeyedByConnectionAddress() {
+        // X-Forwarded-For is client-controlled at the edge and must not pick the bucket
+        filter(true).filter(exchange("dashboard-api", null), chain).block();
+
+        assertEquals(List.of("dashboard-api|ip:203.0.113.7"), store.keys);
+    }
+
+    @Test
+    void routeOverrideOrDefaultLimitApplies() {
+        RateLimitFilter filter = filter(true);
+        filter.filter(exchange("dashboard-api", null), chain).block();
+        filter.filter(exchange("properties-api", null), chain).block();
+
+        assertEquals(10, store.limits.get(0).getPermitsPerSecond());
+        assertEquals(30, store.limits.get(0).getBurst());
+        assertEquals(50, store.limits.get(1).getPermitsPerSecond());
+        assertEquals(100, store.limits.get(1).getBurst());
+    }
+
+    @Test
+    void overLimitGets429WithRetryAfterRoundedUp() {
+        store.allowed = 1;
+        RateLimitFilter filter = filter(true);
+        filter.filter(exchange("dashboard-api", null), chain).block();
+        MockServerWebExchange rejected = exchange("dashboard-api", null);
+
+        filter.filter(rejected, chain).block();
+
+        assertEquals(1, forwarded.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("2", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void unroutedOrDisabledRequestsAreNotCounted() {
+        filter(true).filter(exchange(null, null), chain).block();
+        filter(false).filter(exchange("dashboard-api", null), chain).block();
+
+        assertEquals(0, store.keys.size());
+        assertEquals(2, forwarded.get());
+    }
+
+    @Test
+    void allowedRequestsLeaveResponseUntouched() {
+        MockServerWebExchange exchange = exchange("dashboard-api", null);
+
+        filter(true).filter(exchange, chain).block();
+
+        assertNull(exchange.getResponse().getStatusCode());
+        assertEquals(1, forwarded.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.rentwise.gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    };
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(new SimpleMeterRegistry(),
+            List.of("dashboard-api=10s"), List.of("tenants-api=dashboard-api"),
+            List.of("dashboard-api=/api/dashboard/admin/tenants", "dashboard-api=/api/dashboard/user/{section}"),
+            DataSize.ofMegabytes(1), DataSize.ofKilobytes(64));
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        Route route = Route.async().id(routeId).uri("lb://rentwise-dashboard-service").predicate(e -> true).build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getAttributes().put(TokenAuthenticationFilter.USER_ATTRIBUTE, new AuthenticatedUser(7L, "alice", "ADMIN"));
+        return exchange;
+    }
+
+    private MockServerWebExchange get(String path) {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(path), "dashboard-api");
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    @Test
+    void allowlistedGetWithoutQueryIsServedFromTheCache() {
+        MockServerWebExchange first = get("/api/dashboard/admin/tenants");
+        MockServerWebExchange second = get("/api/dashboard/admin/tenants");
+
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("[]", second.getResponse().getBodyAsString().block());
+        assertEquals(1, forwarded.get());
+    }
+
+    @Test
+    void queryStringIsPartOfTheKey() {
+        get("/api/dashboard/user/tenants?userId=1");
+        get("/api/dashboard/user/tenants?userId=2");
+        MockServerWebExchange repeated = get("/api/dashboard/user/tenants?userId=1");
+
+        assertEquals("HIT", repeated.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(2, forwarded.get());
+    }
+
+    @Test
+    void getsOffTheAllowlistAlwaysReachTheBackend() {
+        MockServerWebExchange first = get("/api/dashboard/admin/pending-requests");
+        get("/api/dashboard/admin/pending-requests");
+
+        assertNull(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(2, forwarded.get());
+    }
+
+    @Test
+    void writeOnAnInvalidatingRouteEvictsCachedResponses() {
+        get("/api/dashboard/admin/tenants");
+        filter.filter(exchange(MockServerHttpRequest.put("/api/tenants/3/assign-property?propertyId=9"), "tenants-api"), chain).block();
+        MockServerWebExchange after = get("/api/dashboard/admin/tenants");
+
+        assertEquals("MISS", after.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(3, forwarded.get());
+    }
+}
@@ -0,0 +1,96 @@
+package com.rentwise.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenAuthenticationFilterTest {
+
+    private final TokenVerifier tokenVerifier = mock(TokenVerifier.class);
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenVerifier, "rentwise_token",
+            List.of("/api/users/login"));
+    private final List<ServerWebExchange> forwarded = new ArrayList<>();
+    // Like the real chain, completes empty once the request has been proxied
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.add(exchange);
+        return Mono.empty();
+    };
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path)
+                .header(TokenAuthenticationFilter.USER_ID_HEADER, "999");
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void validTokenIsForwardedOnceWithUserHeaders() {
+        when(tokenVerifier.verify("good")).thenReturn(Mono.just(new AuthenticatedUser(7L, "alice", "ADMIN")));
+        MockServerWebExchange exchange = exchange("/api/properties", "good");
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(1, forwarded.size());
+        HttpHeaders headers = forwarded.get(0).getRequest().getHeaders();
+        assertEquals("7", headers.getFirst(TokenAuthenticationFilter.USER_ID_HEADER));
+        assertEquals("alice", headers.getFirst(TokenAuthenticationFilter.USER_NAME_HEADER));
+        assertEquals("ADMIN", headers.getFirst(TokenAuthenticationFilter.USER_ROLE_HEADER));
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void validTokenOnPageIsForwardedOnce() {
+        when(tokenVerifier.verify("good")).thenReturn(Mono.just(new AuthenticatedUser(7L, "alice", "ADMIN")));
+
+        filter.filter(exchange("/dashboard", "good"), chain).block();
+
+        assertEquals(1, forwarded.size());
+        assertEquals("7", forwarded.get(0).getRequest().getHeaders().getFirst(TokenAuthenticationFilter.USER_ID_HEADER));
+    }
+
+    @Test
+    void invalidTokenOnApiIsRejected() {
+        when(tokenVerifier.verify("bad")).thenReturn(Mono.empty());
+        MockServerWebExchange exchange = exchange("/api/properties", "bad");
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(0, forwarded.size());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void invalidTokenOnPagePassesThroughStripped() {
+        when(tokenVerifier.verify("bad")).thenReturn(Mono.empty());
+
+        filter.filter(exchange("/dashboard", "bad"), chain).block();
+
+        assertEquals(1, forwarded.size());
+        assertNull(forwarded.get(0).getRequest().getHeaders().getFirst(TokenAuthenticationFilter.USER_ID_HEADER));
+    }
+
+    @Test
+    void requestsWithoutTokenOrOnPublicPathsSkipVerification() {
+        filter.filter(exchange("/api/properties", null), chain).block();
+        filter.filter(exchange("/api/users/login", "stale"), chain).block();
+
+        assertEquals(2, forwarded.size());
+        forwarded.forEach(exchange ->
+                assertNull(exchange.getRequest().getHeaders().getFirst(TokenAuthenticationFilter.USER_ID_HEADER)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.rentwise.common.importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits one CSV line (RFC 4180 quoting, UTF-8) read straight from a mapped buffer. Quoted
+ * fields may contain commas and doubled quotes but not line breaks, see MappedLineReader.
+ * Not thread-safe: each parsing thread uses its own instance so the scratch buffer is reused.
+ */
+public class CsvLine {
+
+    private byte[] scratch = new byte[256];
+
+    public List<String> split(ByteBuffer buffer, int start, int end) {
+        List<String> fields = new ArrayList<>();
+        int position = start;
+        while (true) {
+            int length = 0;
+            if (position < end && buffer.get(position) == '"') {
+                position++;
+                while (position < end) {
+                    byte b = buffer.get(position++);
+                    if (b == '"') {
+                        if (position < end && buffer.get(position) == '"') {
+                            position++;
+                        } else {
+                            break;
+                        }
+                    }
+                    length = append(length, b);
+                }
+                while (position < end && buffer.get(position) != ',') {
+                    position++; // Ignore anything between a closing quote and the separator
+                }
+            } else {
+                while (position < end && buffer.get(position) != ',') {
+                    length = append(length, buffer.get(position++));
+                }
+            }
+            fields.add(new String(scratch, 0, length, StandardCharsets.UTF_8).trim());
+            if (position >= end) {
+                return fields;
+            }
+            position++; // Separator
+        }
+    }
+
+    private int append(int length, byte b) {
+        if (length == scratch.length) {
+            byte[] grown = new byte[scratch.length * 2];
+            System.arraycopy(scratch, 0, grown, 0, length);
+            scratch = grown;
+        }
+        scratch[length] = b;
+        return length + 1;
+    }
+}
@@ -0,0 +1,156 @@
+package com.rentwise.common.importer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Progress of one bulk import. Counters are written by the import thread only and read by
+ * status requests, hence volatile rather than synchronized.
+ */
+public class ImportJob {
+    public static final int MAX_ERRORS = 100;
+    
+    private String id;
+    private String fileName;
+    private String format; // CSV, JSON
+    private volatile String state = "QUEUED"; // QUEUED, RUNNING, COMPLETED, FAILED
+    private volatile long totalBytes;
+    private volatile long processedBytes;
+    private volatile long rowsParsed;
+    private volatile long rowsInserted;
+    private volatile long rowsRejected;
+    private final List<String> errors = new CopyOnWriteArrayList<>(); // First MAX_ERRORS rejections
+    private volatile String failureMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    
+    public ImportJob() {}
+    
+    public ImportJob(String id, String fileName, String format) {
+        this.id = id;
+        this.fileName = fileName;
+        this.format = format;
+    }
+    
+    public void reject(long line, String reason) {
+        rowsRejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("Line " + line + ": " + reason);
+        }
+    }
+    
+    public double getPercentComplete() {
+        return totalBytes > 0 ? Math.min(100.0, 100.0 * processedBytes / totalBytes) : 0;
+    }
+    
+    public long getRowsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+        return millis > 0 ? rowsInserted * 1000 / millis : 0;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public void setFormat(String format) {
+        this.format = format;
+    }
+    
+    public String getState() {
+        return state;
+    }
+    
+    public void setState(String state) {
+        this.state = state;
+    }
+    
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+    
+    public void setTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+    
+    public long getProcessedBytes() {
+        return processedBytes;
+    }
+    
+    public void setProcessedBytes(long processedBytes) {
+        this.processedBytes = processedBytes;
+    }
+    
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+    
+    public void setRowsParsed(long rowsParsed) {
+        this.rowsParsed = rowsParsed;
+    }
+    
+    public long getRowsInserted() {
+        return rowsInserted;
+    }
+    
+    public void setRowsInserted(long rowsInserted) {
+        this.rowsInserted = rowsInserted;
+    }
+    
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+    
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+    
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,122 @@
+package com.rentwise.common.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a file as line-aligned chunks of memory-mapped bytes so the chunks can be parsed on
+ * separate threads. Each nominal chunk end is moved forward past the next '\n', so no line is
+ * split between chunks; as a consequence a single record may not contain a line break.
+ */
+public final class MappedLineReader {
+
+    /** Receives one line as [start, end) of the chunk buffer, without the '\n' or '\r\n'. */
+    public interface LineVisitor {
+        void visit(ByteBuffer chunk, int start, int end, int lineIndex);
+    }
+
+    private MappedLineReader() {}
+
+    /**
+     * @param from        offset of the first byte to include, e.g. just past a header line
+     * @param targetBytes approximate chunk size
+     */
+    public static List<Chunk> split(FileChannel channel, long from, long targetBytes) throws IOException {
+        long size = channel.size();
+        List<Chunk> chunks = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long start = from;
+        while (start < size) {
+            long end = Math.min(size, start + targetBytes);
+            while (end < size) {
+                probe.clear();
+                int read = channel.read(probe, end);
+                if (read <= 0) {
+                    end = size;
+                    break;
+                }
+                int newline = indexOf(probe, 0, read, (byte) '\n');
+                if (newline >= 0) {
+                    end += newline + 1;
+                    break;
+                }
+                end += read;
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line starting at byte " + start + " is too long");
+            }
+            chunks.add(new Chunk(start, (int) (end - start)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /** Length of the first line including its '\n', or the file size if there is none. */
+    public static int firstLineLength(FileChannel channel) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long position = 0;
+        while (position < channel.size()) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            int newline = indexOf(probe, 0, read, (byte) '\n');
+            if (newline >= 0) {
+                return (int) (position + newline + 1);
+            }
+            position += read;
+        }
+        return (int) channel.size();
+    }
+
+    /** @return the number of lines visited */
+    public static int forEachLine(FileChannel channel, Chunk chunk, LineVisitor visitor) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.getOffset(), chunk.getLength());
+        int limit = buffer.limit();
+        int lineStart = 0;
+        int lineIndex = 0;
+        while (lineStart < limit) {
+            int newline = indexOf(buffer, lineStart, limit, (byte) '\n');
+            int next = newline >= 0 ? newline + 1 : limit;
+            int end = newline >= 0 ? newline : limit;
+            if (end > lineStart && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            visitor.visit(buffer, lineStart, end, lineIndex++);
+            lineStart = next;
+        }
+        return lineIndex;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static final class Chunk {
+        private final long offset;
+        private final int length;
+
+        Chunk(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+    }
+}
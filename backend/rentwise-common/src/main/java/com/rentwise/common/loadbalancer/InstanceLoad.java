@@ -0,0 +1,74 @@
+package com.rentwise.common.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load seen on one service instance: requests in flight and a peak-sensitive EWMA of response
+ * time. A sample above the average replaces it at once, so a slowing instance is avoided from
+ * its next response; faster samples pull it down with a weight that grows with the time since
+ * the previous sample. Read without new samples, the average decays toward zero over the same
+ * decay time, so an instance that stopped getting traffic because it was slow is eventually
+ * tried again.
+ *
+ * Response times already include the queueing instances usually have, so the cost scales the
+ * average only by how far requests in flight exceed the usual in-flight count across the
+ * service's instances. Scaling by the raw count would charge a busy fast instance for its queue
+ * twice and let an idle but much slower one win.
+ */
+class InstanceLoad {
+    
+    // Cost of an instance with no latency sample yet and a request already in flight: one probe at a time
+    static final double UNMEASURED_BUSY_COST = Double.MAX_VALUE / 2;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final double decayNanos;
+    private double ewmaNanos; // Guarded by this
+    private long sampledAt; // Guarded by this
+    
+    InstanceLoad(long decayNanos) {
+        this.decayNanos = decayNanos;
+    }
+    
+    /** @return the requests already in flight that this one joins */
+    int start() {
+        return inFlight.getAndIncrement();
+    }
+    
+    /** @param latencyNanos the request's response time, or -1 when it was not measured */
+    void complete(long latencyNanos, long now) {
+        inFlight.updateAndGet(count -> Math.max(0, count - 1));
+        if (latencyNanos < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-Math.max(0, now - sampledAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            sampledAt = now;
+        }
+    }
+    
+    /**
+     * Expected wait for one more request: average response time, scaled up when the queue it
+     * joins is longer than usual (and so not reflected in the average yet).
+     * @param usualInFlight requests typically already in flight when one arrives, see LatencyAwareLoadBalancer
+     */
+    double cost(long now, double usualInFlight) {
+        int pending = inFlight.get();
+        double average;
+        synchronized (this) {
+            if (ewmaNanos == 0) {
+                return pending == 0 ? 0 : UNMEASURED_BUSY_COST;
+            }
+            average = ewmaNanos * Math.exp(-Math.max(0, now - sampledAt) / decayNanos);
+        }
+        return average * Math.max(1, (pending + 1) / (usualInFlight + 1));
+    }
+    
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,171 @@
+package com.rentwise.common.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Replaces round robin for the gateway's lb:// routes and load-balanced calls and for the
+ * dashboard's Feign clients. Picks two distinct instances at random and sends the request to the
+ * one with the lower cost (peak EWMA response time, scaled up by requests in flight beyond the
+ * usual, see InstanceLoad), so a slow or overloaded instance gets little traffic while the
+ * random pair keeps the healthy ones evenly loaded without herding onto a single "best"
+ * instance. LatencyAwareLoadBalancerSimulationTest shows the effect on p99.
+ *
+ * Also registered as the client's LoadBalancerLifecycle, which is how it learns when each
+ * request starts and completes. Failed requests count as at least failure-penalty.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+    // Weight of each request in usualInFlight: it follows roughly the last 100 requests
+    private static final double IN_FLIGHT_SMOOTHING = 0.01;
+    
+    private final String applicationName;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final LongSupplier clock;
+    private final Supplier<RandomGenerator> random;
+    private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+    private final Object usualInFlightLock = new Object();
+    private volatile double usualInFlight; // Requests already in flight where one arrives, across instances
+    
+    public LatencyAwareLoadBalancer(String applicationName, ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                    String serviceId, Duration decayTime, Duration failurePenalty) {
+        this(applicationName, supplierProvider, serviceId, decayTime, failurePenalty, System::nanoTime, ThreadLocalRandom::current);
+    }
+    
+    /** Clock and random source are replaceable for LatencyAwareLoadBalancerSimulationTest. */
+    LatencyAwareLoadBalancer(String applicationName, ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                             String serviceId, Duration decayTime, Duration failurePenalty,
+                             LongSupplier clock, Supplier<RandomGenerator> random) {
+        this.applicationName = applicationName;
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.clock = clock;
+        this.random = random;
+    }
+    
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = choose(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+    
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            logger.warn("[{}] [LatencyAwareLoadBalancer] [choose] No instances available for: {}", applicationName, serviceId);
+            return new EmptyResponse();
+        }
+        if (loads.size() > instances.size() * 2) {
+            forgetDepartedInstances(instances);
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        RandomGenerator random = this.random.get();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = clock.getAsLong();
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        double usual = usualInFlight;
+        return new DefaultResponse(load(a).cost(now, usual) <= load(b).cost(now, usual) ? a : b);
+    }
+    
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+    
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+    
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(clock.getAsLong());
+        }
+        int joined = load(lbResponse.getServer()).start();
+        synchronized (usualInFlightLock) {
+            usualInFlight += (joined - usualInFlight) * IN_FLIGHT_SMOOTHING;
+        }
+    }
+    
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long latency = -1;
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            latency = now - timed.getRequestStartTime();
+        }
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            latency = Math.max(latency, failurePenaltyNanos);
+        }
+        load(lbResponse.getServer()).complete(latency, now);
+    }
+    
+    private InstanceLoad load(ServiceInstance instance) {
+        return loads.computeIfAbsent(key(instance), key -> new InstanceLoad(decayNanos));
+    }
+    
+    private void forgetDepartedInstances(List<ServiceInstance> instances) {
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(key(instance));
+        }
+        loads.keySet().retainAll(current);
+    }
+    
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
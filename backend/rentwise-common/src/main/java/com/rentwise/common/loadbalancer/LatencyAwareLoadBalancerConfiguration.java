@@ -0,0 +1,28 @@
+package com.rentwise.common.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Per-service load balancer configuration, applied to every client through
+ * @LoadBalancerClients(defaultConfiguration = ...). Deliberately not a @Configuration: it must
+ * only be loaded into each client's child context, where the service name is known.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+    
+    @Bean
+    public LatencyAwareLoadBalancer latencyAwareLoadBalancer(Environment environment,
+                                                             LoadBalancerClientFactory loadBalancerClientFactory,
+                                                             @Value("${rentwise.load-balancer.decay-time:10s}") Duration decayTime,
+                                                             @Value("${rentwise.load-balancer.failure-penalty:1s}") Duration failurePenalty) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(environment.getProperty("spring.application.name"),
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, decayTime, failurePenalty);
+    }
+}
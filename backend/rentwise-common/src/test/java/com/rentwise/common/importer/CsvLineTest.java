@@ -0,0 +1,60 @@
+package com.rentwise.common.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvLineTest {
+
+    private static List<String> split(String line) {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        return new CsvLine().split(buffer, 0, buffer.limit());
+    }
+
+    @Test
+    void splitsPlainFieldsAndTrimsThem() {
+        assertEquals(List.of("Maple Court", "Austin", "1200"), split("Maple Court, Austin ,1200"));
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        assertEquals(List.of("a", "", "", "d", ""), split("a,,,d,"));
+    }
+
+    @Test
+    void quotedFieldsMayHoldSeparatorsAndDoubledQuotes() {
+        assertEquals(List.of("12 Oak St, Apt 4", "the \"blue\" one", "x"), split("\"12 Oak St, Apt 4\",\"the \"\"blue\"\" one\",x"));
+    }
+
+    @Test
+    void ignoresCharactersBetweenClosingQuoteAndSeparator() {
+        assertEquals(List.of("quoted", "next"), split("\"quoted\"junk,next"));
+    }
+
+    @Test
+    void decodesUtf8() {
+        assertEquals(List.of("Café", "Zürich"), split("Café,\"Zürich\""));
+    }
+
+    @Test
+    void growsTheScratchBufferForLongFields() {
+        String longField = "x".repeat(10_000);
+        CsvLine csv = new CsvLine();
+        ByteBuffer buffer = ByteBuffer.wrap(("short," + longField + ",end").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(List.of("short", longField, "end"), csv.split(buffer, 0, buffer.limit()));
+        // The grown buffer is reused for the next line
+        assertEquals(List.of("a", "b"), csv.split(ByteBuffer.wrap("a,b".getBytes(StandardCharsets.UTF_8)), 0, 3));
+    }
+
+    @Test
+    void splitsOnlyTheGivenRange() {
+        ByteBuffer buffer = ByteBuffer.wrap("skip\na,b\nskip".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(List.of("a", "b"), new CsvLine().split(buffer, 5, 8));
+    }
+}
@@ -0,0 +1,122 @@
+package com.rentwise.common.importer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second through the parse side of a bulk import: a 200k-row property CSV is split
+ * into line-aligned mapped chunks and every line is split into fields, on one thread and on a
+ * pool of four as the import services do. This is the stage that has to stay well ahead of the
+ * 50k rows/s insert target; the end-to-end rate including MySQL is measured by the services'
+ * import throughput tests.
+ *
+ * Not run by the test phase. Run with:
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *       -Dexec.args="-cp %classpath com.rentwise.common.importer.ImportParseBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportParseBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int CHUNK_BYTES = 1 << 20;
+    private static final int THREADS = 4;
+
+    @State(Scope.Benchmark)
+    public static class Upload {
+        Path file;
+        FileChannel channel;
+        List<MappedLineReader.Chunk> chunks;
+        ExecutorService pool;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            file = Files.createTempFile("import-parse-", ".csv");
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("name,address,city,state,zipCode,type,bedrooms,bathrooms,rentAmount,status,userId\n");
+                for (int i = 0; i < ROWS; i++) {
+                    writer.write("Property " + i + ",\"" + i + " Main St, Unit " + (i % 40) + "\",Austin,TX,787"
+                            + (i % 100) + ",APARTMENT," + (i % 5) + "," + (1 + i % 3) + "," + (800 + i % 3000)
+                            + ".00,AVAILABLE," + (i % 500) + "\n");
+                }
+            }
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            chunks = MappedLineReader.split(channel, MappedLineReader.firstLineLength(channel), CHUNK_BYTES);
+            pool = Executors.newFixedThreadPool(THREADS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            pool.shutdownNow();
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long parseOneThread(Upload upload) throws IOException {
+        long fields = 0;
+        for (MappedLineReader.Chunk chunk : upload.chunks) {
+            fields += parse(upload.channel, chunk);
+        }
+        return fields;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long parseFourThreads(Upload upload) throws Exception {
+        List<Future<Long>> parsed = new ArrayList<>(upload.chunks.size());
+        for (MappedLineReader.Chunk chunk : upload.chunks) {
+            parsed.add(upload.pool.submit(() -> parse(upload.channel, chunk)));
+        }
+        long fields = 0;
+        for (Future<Long> future : parsed) {
+            fields += future.get();
+        }
+        return fields;
+    }
+
+    private static long parse(FileChannel channel, MappedLineReader.Chunk chunk) throws IOException {
+        CsvLine csv = new CsvLine();
+        long[] fields = new long[1];
+        MappedLineReader.forEachLine(channel, chunk, (buffer, start, end, lineIndex) ->
+                fields[0] += csv.split(buffer, start, end).size());
+        return fields[0];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ImportParseBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.rentwise.common.importer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end bulk import rate against MySQL 8.0, shared by the services' import throughput
+ * tests: a 200k-row CSV goes through the service's import (mapped parse, JDBC batches, indexing)
+ * and must sustain the 50k rows/s target measured by the job itself. Subclasses are
+ * {@code @SpringBootTest}s that supply the CSV rows and start the import.
+ *
+ * Tagged "performance", which the services' builds exclude unless run with -Pperformance;
+ * skipped when Docker is not available. Shipped to the services in the rentwise-common test-jar.
+ */
+@Tag("performance")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class ImportThroughputTestSupport {
+
+    protected static final int ROWS = 200_000;
+    protected static final long TARGET_ROWS_PER_SECOND = 50_000;
+
+    @Container
+    @ServiceConnection
+    protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true"); // As in docker-compose; batches are sent one row at a time without it
+
+    @Container
+    @ServiceConnection
+    protected static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management");
+
+    /** The CSV header line, without the line break. */
+    protected abstract String header();
+
+    /** Appends data row i, including its line break. */
+    protected abstract void appendRow(StringBuilder csv, int i);
+
+    protected abstract ImportJob startImport(MockMultipartFile file) throws Exception;
+
+    /** Rows in the imported table once the job is done. */
+    protected abstract long countRows();
+
+    @Test
+    void importsAtLeastFiftyThousandRowsPerSecond() throws Exception {
+        StringBuilder csv = new StringBuilder(header()).append('\n');
+        for (int i = 0; i < ROWS; i++) {
+            appendRow(csv, i);
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "import.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        ImportJob job = startImport(file);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (!"COMPLETED".equals(job.getState()) && !"FAILED".equals(job.getState()) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertEquals("COMPLETED", job.getState(), job::getFailureMessage);
+        assertEquals(ROWS, job.getRowsInserted());
+        assertEquals(0, job.getRowsRejected());
+        assertEquals(ROWS, countRows());
+        assertTrue(job.getRowsPerSecond() >= TARGET_ROWS_PER_SECOND,
+                () -> "Imported " + ROWS + " rows at " + job.getRowsPerSecond() + " rows/s");
+    }
+}
@@ -0,0 +1,100 @@
+package com.rentwise.common.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedLineReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private FileChannel open(String content) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private static List<String> lines(FileChannel channel, List<MappedLineReader.Chunk> chunks) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (MappedLineReader.Chunk chunk : chunks) {
+            MappedLineReader.forEachLine(channel, chunk, (buffer, start, end, lineIndex) -> {
+                byte[] bytes = new byte[end - start];
+                buffer.get(start, bytes);
+                lines.add(new String(bytes, StandardCharsets.UTF_8));
+            });
+        }
+        return lines;
+    }
+
+    @Test
+    void chunksEndOnLineBoundariesAndCoverTheWholeFile() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String line = "row-" + i + ",value-" + (i * 7);
+            expected.add(line);
+            content.append(line).append('\n');
+        }
+        try (FileChannel channel = open(content.toString())) {
+            List<MappedLineReader.Chunk> chunks = MappedLineReader.split(channel, 0, 1000);
+
+            assertTrue(chunks.size() > 10);
+            long offset = 0;
+            for (MappedLineReader.Chunk chunk : chunks) {
+                assertEquals(offset, chunk.getOffset());
+                offset += chunk.getLength();
+            }
+            assertEquals(channel.size(), offset);
+            assertEquals(expected, lines(channel, chunks));
+        }
+    }
+
+    @Test
+    void stripsCarriageReturnsAndKeepsALastLineWithoutNewline() throws IOException {
+        try (FileChannel channel = open("a,b\r\nc,d\r\ne,f")) {
+            assertEquals(List.of("a,b", "c,d", "e,f"), lines(channel, MappedLineReader.split(channel, 0, 4)));
+        }
+    }
+
+    @Test
+    void startsAfterTheHeader() throws IOException {
+        try (FileChannel channel = open("name,city\nMaple,Austin\nOak,Boston\n")) {
+            int header = MappedLineReader.firstLineLength(channel);
+
+            assertEquals("name,city\n".length(), header);
+            assertEquals(List.of("Maple,Austin", "Oak,Boston"), lines(channel, MappedLineReader.split(channel, header, 1 << 20)));
+        }
+    }
+
+    @Test
+    void firstLineLengthIsTheFileSizeWithoutANewline() throws IOException {
+        try (FileChannel channel = open("only,a,header")) {
+            assertEquals(channel.size(), MappedLineReader.firstLineLength(channel));
+        }
+    }
+
+    @Test
+    void countsAndIndexesLinesWithinAChunk() throws IOException {
+        try (FileChannel channel = open("a\n\nb\n")) {
+            List<Integer> indexes = new ArrayList<>();
+            MappedLineReader.Chunk chunk = MappedLineReader.split(channel, 0, 1 << 20).get(0);
+
+            int count = MappedLineReader.forEachLine(channel, chunk, (buffer, start, end, lineIndex) -> indexes.add(lineIndex));
+
+            assertEquals(3, count);
+            assertEquals(List.of(0, 1, 2), indexes);
+        }
+    }
+}
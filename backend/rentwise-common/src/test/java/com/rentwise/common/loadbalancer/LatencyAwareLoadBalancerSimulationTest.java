@@ -0,0 +1,212 @@
+package com.rentwise.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Harness for the p99 effect of LatencyAwareLoadBalancer when one instance is slowed down. A
+ * discrete-event simulation on a virtual clock, so runs are fast and repeatable per seed: 4
+ * instances with 8 workers each serve 32 closed-loop clients for 60 s (the first 5 s are not
+ * measured), service times uniform in [0.5, 1.5] x 5 ms, with one instance slowed to 50 ms.
+ * The balancer under test is the real class, fed through its lifecycle callbacks; round robin
+ * is the baseline it replaced. Latencies are end to end, including time queued at the instance.
+ */
+class LatencyAwareLoadBalancerSimulationTest {
+
+    private static final int INSTANCES = 4;
+    private static final int WORKERS = 8;
+    private static final int CLIENTS = 32;
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long WARM_UP = TimeUnit.SECONDS.toNanos(5);
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(60);
+    private static final int SEEDS = 10;
+
+    @Test
+    void roundRobinPutsTheSlowInstanceInTheP99() {
+        Result result = simulate(false, SLOW, DURATION, 1);
+
+        assertEquals(0.25, result.slowShare(), 0.01);
+        assertTrue(result.p99() >= SLOW, result::toString);
+    }
+
+    @Test
+    void slowInstanceStaysOutOfTheP99() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            Result roundRobin = simulate(false, SLOW, DURATION, seed);
+            Result latencyAware = simulate(true, SLOW, DURATION, seed);
+
+            assertTrue(latencyAware.p99() < SLOW / 2, "seed " + seed + ": " + latencyAware);
+            assertTrue(latencyAware.slowShare() < 0.005, "seed " + seed + ": " + latencyAware);
+            assertTrue(latencyAware.requests() > roundRobin.requests() * 4, "seed " + seed + ": " + latencyAware + " vs " + roundRobin);
+        }
+    }
+
+    @Test
+    void healthyInstancesShareTheLoadEvenly() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            Result roundRobin = simulate(false, FAST, DURATION, seed);
+            Result latencyAware = simulate(true, FAST, DURATION, seed);
+
+            assertTrue(latencyAware.p99() <= roundRobin.p99() * 1.25, "seed " + seed + ": " + latencyAware + " vs " + roundRobin);
+            for (double share : latencyAware.shares()) {
+                assertEquals(1.0 / INSTANCES, share, 0.05, "seed " + seed + ": " + latencyAware);
+            }
+        }
+    }
+
+    @Test
+    void recoveredInstanceIsProbedAndGetsItsShareBack() {
+        for (int seed = 1; seed <= SEEDS; seed++) {
+            // Slow until 20 s in; measured from 40 s, after at most two decay times without traffic
+            Result result = simulate(true, SLOW, TimeUnit.SECONDS.toNanos(20), TimeUnit.SECONDS.toNanos(40), seed);
+
+            assertEquals(1.0 / INSTANCES, result.slowShare(), 0.05, "seed " + seed + ": " + result);
+        }
+    }
+
+    private static Result simulate(boolean latencyAware, long slowService, long slowUntil, long seed) {
+        return simulate(latencyAware, slowService, slowUntil, WARM_UP, seed);
+    }
+
+    /**
+     * Instance 0 serves in slowService on average until slowUntil, the others in FAST.
+     * Requests issued before measureFrom are not counted.
+     */
+    private static Result simulate(boolean latencyAware, long slowService, long slowUntil, long measureFrom, long seed) {
+        long[] clock = {0};
+        Random serviceTimes = new Random(seed);
+        Random picks = new Random(seed * 31 + 7);
+        List<ServiceInstance> instances = new ArrayList<>();
+        List<Server> servers = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            instances.add(new DefaultServiceInstance("instance-" + i, "rentwise-test-service", "10.0.0." + (i + 1), 8080, false));
+            servers.add(new Server(i == 0 ? slowService : FAST, i == 0 ? slowUntil : 0));
+        }
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer("rentwise-test", null, "rentwise-test-service",
+                Duration.ofSeconds(10), Duration.ofSeconds(1), () -> clock[0], () -> picks);
+        PriorityQueue<Call> completions = new PriorityQueue<>(Comparator.comparingLong((Call call) -> call.completesAt)
+                .thenComparingLong(call -> call.sequence));
+        List<Long> latencies = new ArrayList<>();
+        long[] perInstance = new long[INSTANCES];
+        long[] sequence = {0};
+        int[] roundRobin = {0};
+
+        Runnable issue = () -> {
+            Call call = new Call(clock[0], sequence[0]++);
+            if (latencyAware) {
+                call.response = balancer.choose(instances);
+                balancer.onStartRequest(call.request, call.response);
+            } else {
+                call.response = new DefaultResponse(instances.get(roundRobin[0]++ % INSTANCES));
+            }
+            call.instance = instances.indexOf(call.response.getServer());
+            Server server = servers.get(call.instance);
+            if (server.busy < WORKERS) {
+                server.busy++;
+                call.completesAt = clock[0] + server.serviceTime(clock[0], serviceTimes);
+                completions.add(call);
+            } else {
+                server.queue.add(call);
+            }
+        };
+        for (int i = 0; i < CLIENTS; i++) {
+            issue.run();
+        }
+        while (!completions.isEmpty() && completions.peek().completesAt < DURATION) {
+            Call call = completions.poll();
+            clock[0] = call.completesAt;
+            if (call.issuedAt >= measureFrom) {
+                latencies.add(clock[0] - call.issuedAt);
+                perInstance[call.instance]++;
+            }
+            if (latencyAware) {
+                balancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, call.request, call.response));
+            }
+            Server server = servers.get(call.instance);
+            Call next = server.queue.poll();
+            if (next != null) {
+                next.completesAt = clock[0] + server.serviceTime(clock[0], serviceTimes);
+                completions.add(next);
+            } else {
+                server.busy--;
+            }
+            issue.run(); // The client sends its next request straight away
+        }
+        return Result.of(latencies, perInstance);
+    }
+
+    private static final class Server {
+        final long slowService;
+        final long slowUntil;
+        final Deque<Call> queue = new ArrayDeque<>();
+        int busy;
+
+        Server(long slowService, long slowUntil) {
+            this.slowService = slowService;
+            this.slowUntil = slowUntil;
+        }
+
+        long serviceTime(long now, Random random) {
+            long mean = now < slowUntil ? slowService : FAST;
+            return (long) (mean * (0.5 + random.nextDouble()));
+        }
+    }
+
+    private static final class Call {
+        final long issuedAt;
+        final long sequence;
+        final Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        Response<ServiceInstance> response;
+        int instance;
+        long completesAt;
+
+        Call(long issuedAt, long sequence) {
+            this.issuedAt = issuedAt;
+            this.sequence = sequence;
+        }
+    }
+
+    private record Result(int requests, long p50, long p99, double[] shares) {
+
+        static Result of(List<Long> latencies, long[] perInstance) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            double[] shares = new double[perInstance.length];
+            for (int i = 0; i < perInstance.length; i++) {
+                shares[i] = (double) perInstance[i] / sorted.length;
+            }
+            return new Result(sorted.length, sorted[sorted.length / 2], sorted[(int) (sorted.length * 0.99)], shares);
+        }
+
+        double slowShare() {
+            return shares[0];
+        }
+
+        @Override
+        public String toString() {
+            return requests + " requests, p50 " + TimeUnit.NANOSECONDS.toMicros(p50) / 1000.0 + " ms, p99 "
+                    + TimeUnit.NANOSECONDS.toMicros(p99) / 1000.0 + " ms, shares " + Arrays.toString(shares);
+        }
+    }
+}
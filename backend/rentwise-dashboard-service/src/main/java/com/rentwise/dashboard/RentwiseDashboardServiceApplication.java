@@ -1,13 +1,18 @@
 package com.rentwise.dashboard;
 
+import com.rentwise.common.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
 @EnableRabbit
+@EnableScheduling
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 public class RentwiseDashboardServiceApplication {
 
     public static void main(String[] args) {
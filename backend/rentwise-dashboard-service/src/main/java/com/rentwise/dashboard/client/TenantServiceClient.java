@@ -6,6 +6,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "rentwise-tenant-service")
 public interface TenantServiceClient {
@@ -38,11 +39,29 @@ public interface TenantServiceClient {
     @GetMapping("/api/tenants/requests/pending")
     List<TenantRequestDTO> getPendingTenantRequests();
     
+    // Admin actions carry the verified caller identity; tenant-service rejects non-admin roles
+    @GetMapping("/api/tenants/requests/claimed")
+    List<TenantRequestDTO> getClaimedTenantRequests(@RequestHeader("X-User-Id") Long adminId,
+                                                    @RequestHeader("X-User-Role") String role);
+    
+    @PostMapping("/api/tenants/requests/claim")
+    List<TenantRequestDTO> claimPendingTenantRequests(@RequestHeader("X-User-Id") Long adminId,
+                                                      @RequestHeader("X-User-Role") String role,
+                                                      @RequestParam int limit);
+    
+    @DeleteMapping("/api/tenants/requests/claim")
+    void releaseTenantRequestClaims(@RequestHeader("X-User-Id") Long adminId,
+                                    @RequestHeader("X-User-Role") String role);
+    
     @PutMapping("/api/tenants/requests/{id}/approve")
-    TenantRequestDTO approveTenantRequest(@PathVariable Long id);
+    TenantRequestDTO approveTenantRequest(@PathVariable Long id,
+                                          @RequestHeader("X-User-Id") Long adminId,
+                                          @RequestHeader("X-User-Role") String role);
     
     @PutMapping("/api/tenants/requests/{id}/reject")
-    TenantRequestDTO rejectTenantRequest(@PathVariable Long id);
+    TenantRequestDTO rejectTenantRequest(@PathVariable Long id,
+                                         @RequestHeader("X-User-Id") Long adminId,
+                                         @RequestHeader("X-User-Role") String role);
     
     @GetMapping("/api/tenants/user/{userId}")
     List<TenantDTO> getTenantsByUserId(@PathVariable Long userId);
@@ -50,6 +69,9 @@ public interface TenantServiceClient {
     @GetMapping("/api/tenants/property/{propertyId}")
     List<TenantDTO> getTenantsByPropertyId(@PathVariable Long propertyId);
     
+    @GetMapping("/api/tenants/occupancy/properties")
+    Map<Long, Long> getTenantCountsByProperty();
+    
     @PutMapping("/api/tenants/{id}/assign-property")
     TenantDTO assignPropertyToTenant(@PathVariable Long id, @RequestParam Long propertyId);
 }
@@ -1,22 +1,27 @@
 package com.rentwise.dashboard.client;
 
 import com.rentwise.dashboard.dto.UserDTO;
+import com.rentwise.dashboard.dto.UserDirectoryDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "rentwise-user-service")
 public interface UserServiceClient {
     
-    @GetMapping("/api/users")
-    List<UserDTO> getAllUsers();
-    
     @GetMapping("/api/users/{id}")
     UserDTO getUserById(@PathVariable Long id);
     
     @GetMapping("/api/users/username/{username}")
     UserDTO getUserByUsername(@PathVariable String username);
+    
+    @GetMapping("/api/users/token-keys")
+    Map<String, Object> getTokenKeys();
+    
+    @GetMapping("/api/users/directory")
+    UserDirectoryDTO getUserDirectory(@RequestParam("since") long since);
 }
 
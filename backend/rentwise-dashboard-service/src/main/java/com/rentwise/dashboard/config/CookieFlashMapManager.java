@@ -0,0 +1,111 @@
+package com.rentwise.dashboard.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.AbstractFlashMapManager;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps redirect flash messages in a short-lived cookie instead of the HTTP session, so the
+ * dashboard holds no per-user server state and any instance can render the page after a
+ * redirect. Only string-valued attributes (the success/error messages) are carried.
+ */
+@Component("flashMapManager")
+public class CookieFlashMapManager extends AbstractFlashMapManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CookieFlashMapManager.class);
+    private static final String SERVICE_NAME = "rentwise-dashboard-service";
+    private static final String COOKIE_NAME = "rentwise_flash";
+    private static final TypeReference<List<Map<String, Object>>> FLASH_LIST = new TypeReference<>() {};
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Override
+    protected List<FlashMap> retrieveFlashMaps(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return decode(cookie.getValue());
+            }
+        }
+        return null;
+    }
+    
+    @Override
+    protected void updateFlashMaps(List<FlashMap> flashMaps, HttpServletRequest request, HttpServletResponse response) {
+        ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(COOKIE_NAME, flashMaps.isEmpty() ? "" : encode(flashMaps))
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax");
+        if (flashMaps.isEmpty()) {
+            cookie.maxAge(0);
+        } else {
+            cookie.maxAge(getFlashMapTimeout());
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+    }
+    
+    private String encode(List<FlashMap> flashMaps) {
+        try {
+            List<Map<String, Object>> entries = new ArrayList<>(flashMaps.size());
+            for (FlashMap flashMap : flashMaps) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("path", flashMap.getTargetRequestPath());
+                entry.put("params", flashMap.getTargetRequestParams().toSingleValueMap());
+                entry.put("expires", flashMap.getExpirationTime());
+                Map<String, String> attributes = new LinkedHashMap<>();
+                flashMap.forEach((name, value) -> {
+                    if (value != null) {
+                        attributes.put(name, value.toString());
+                    }
+                });
+                entry.put("attributes", attributes);
+                entries.add(entry);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(entries));
+        } catch (Exception e) {
+            logger.warn("[{}] [CookieFlashMapManager] [encode] Dropping flash attributes: {}", SERVICE_NAME, e.getMessage());
+            return "";
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<FlashMap> decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            List<FlashMap> flashMaps = new ArrayList<>();
+            for (Map<String, Object> entry : objectMapper.readValue(Base64.getUrlDecoder().decode(value), FLASH_LIST)) {
+                FlashMap flashMap = new FlashMap();
+                flashMap.setTargetRequestPath((String) entry.get("path"));
+                ((Map<String, String>) entry.get("params")).forEach(flashMap::addTargetRequestParam);
+                flashMap.putAll((Map<String, Object>) entry.get("attributes"));
+                long expires = ((Number) entry.get("expires")).longValue();
+                flashMap.startExpirationPeriod((int) Math.max(0, (expires - System.currentTimeMillis()) / 1000));
+                flashMaps.add(flashMap);
+            }
+            return flashMaps;
+        } catch (Exception e) {
+            // Tampered or from an older format: just lose the message
+            logger.debug("[{}] [CookieFlashMapManager] [decode] Ignoring unreadable flash cookie: {}", SERVICE_NAME, e.getMessage());
+            return null;
+        }
+    }
+}
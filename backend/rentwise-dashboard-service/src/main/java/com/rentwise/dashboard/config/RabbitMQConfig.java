@@ -15,6 +15,9 @@ public class RabbitMQConfig {
     public static final String EXCHANGE_TENANT_REQUEST = "tenant.request.exchange";
     public static final String ROUTING_KEY_TENANT_REQUEST = "tenant.request.routing";
     
+    public static final String EXCHANGE_PROPERTY_CHANGED = "property.changed.exchange";
+    public static final String ROUTING_KEY_PROPERTY_CHANGED = "property.changed.#";
+    
     @Bean
     public Queue tenantRequestQueue() {
         return QueueBuilder.durable(QUEUE_TENANT_REQUEST).build();
@@ -33,6 +36,26 @@ public class RabbitMQConfig {
             .with(ROUTING_KEY_TENANT_REQUEST);
     }
     
+    // Server-named, exclusive queue: every dashboard instance keeps its own property cache
+    // and so needs every change event, not a share of them
+    @Bean
+    public Queue propertyChangedQueue() {
+        return new AnonymousQueue();
+    }
+    
+    @Bean
+    public TopicExchange propertyChangedExchange() {
+        return new TopicExchange(EXCHANGE_PROPERTY_CHANGED);
+    }
+    
+    @Bean
+    public Binding propertyChangedBinding() {
+        return BindingBuilder
+            .bind(propertyChangedQueue())
+            .to(propertyChangedExchange())
+            .with(ROUTING_KEY_PROPERTY_CHANGED);
+    }
+    
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
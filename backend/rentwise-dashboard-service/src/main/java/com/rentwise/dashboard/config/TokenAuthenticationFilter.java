@@ -0,0 +1,63 @@
+package com.rentwise.dashboard.config;
+
+import com.rentwise.dashboard.dto.UserDTO;
+import com.rentwise.dashboard.service.TokenVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Resolves the signed login token (Authorization: Bearer header from the React app, or the
+ * cookie set by user-service's form login) into a UserDTO stored as the "user" request
+ * attribute. Requests without a valid token pass through with no attribute; controllers
+ * decide what needs a user.
+ */
+@Component
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+    
+    public static final String USER_ATTRIBUTE = "user";
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    @Autowired
+    private TokenVerifier tokenVerifier;
+    
+    @Value("${dashboard.auth.cookie-name:rentwise_token}")
+    private String cookieName;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            UserDTO user = tokenVerifier.verify(token);
+            if (user != null) {
+                request.setAttribute(USER_ATTRIBUTE, user);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+    
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (cookieName.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
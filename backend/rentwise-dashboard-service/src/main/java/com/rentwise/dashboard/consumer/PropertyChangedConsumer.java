@@ -0,0 +1,33 @@
+package com.rentwise.dashboard.consumer;
+
+import com.rentwise.dashboard.model.PropertyChangedEvent;
+import com.rentwise.dashboard.service.PropertyCatalogCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PropertyChangedConsumer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyChangedConsumer.class);
+    private static final String SERVICE_NAME = "rentwise-dashboard-service";
+    
+    @Autowired
+    private PropertyCatalogCache propertyCatalogCache;
+    
+    @RabbitListener(queues = "#{propertyChangedQueue.name}")
+    public void handlePropertyChangedEvent(PropertyChangedEvent event) {
+        logger.debug("[{}] [PropertyChangedConsumer] [handlePropertyChangedEvent] Received event - Property ID: {}, Change: {}, Version: {}", 
+                SERVICE_NAME, event.getPropertyId(), event.getChangeType(), event.getVersion());
+        try {
+            propertyCatalogCache.apply(event);
+        } catch (Exception e) {
+            // The cache may now be behind; the next read fetches the full list
+            propertyCatalogCache.invalidate();
+            logger.error("[{}] [PropertyChangedConsumer] [handlePropertyChangedEvent] ERROR processing event: {}", 
+                    SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.rentwise.dashboard.controller;
 
-import com.rentwise.dashboard.client.UserServiceClient;
 import com.rentwise.dashboard.dto.TenantRequestDTO;
 import com.rentwise.dashboard.dto.UserDTO;
 import com.rentwise.dashboard.service.DashboardService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -25,62 +27,32 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
     
-    @Autowired
-    private UserServiceClient userServiceClient;
+    @Value("${dashboard.auth.cookie-name:rentwise_token}")
+    private String tokenCookieName;
     
     @GetMapping
-    public String dashboard(@RequestParam(required = false) String username, 
-                           HttpSession session, 
-                           Model model) {
-        logger.info("[{}] [DashboardController] [dashboard] START - Username: {}", SERVICE_NAME, username);
+    public String dashboard(@RequestAttribute(name = "user", required = false) UserDTO user) {
+        logger.info("[{}] [DashboardController] [dashboard] START - User: {}", SERVICE_NAME, user != null ? user.getUsername() : null);
         
-        try {
-            // If username provided, fetch user and store in session
-            if (username != null && !username.isEmpty()) {
-                UserDTO user = userServiceClient.getUserByUsername(username);
-                if (user != null) {
-                    session.setAttribute("user", user);
-                    logger.info("[{}] [DashboardController] [dashboard] User loaded: {} with role: {}", 
-                            SERVICE_NAME, user.getUsername(), user.getRole());
-                    
-                    // Route based on role
-                    if ("ADMIN".equalsIgnoreCase(user.getRole())) {
-                        return "redirect:/dashboard/admin";
-                    } else {
-                        return "redirect:/dashboard/user";
-                    }
-                } else {
-                    logger.warn("[{}] [DashboardController] [dashboard] User not found: {}", SERVICE_NAME, username);
-                    return "redirect:http://localhost:8081/login?error";
-                }
-            }
-            
-            // Check if user exists in session
-            UserDTO user = (UserDTO) session.getAttribute("user");
-            if (user != null) {
-                if ("ADMIN".equalsIgnoreCase(user.getRole())) {
-                    return "redirect:/dashboard/admin";
-                } else {
-                    return "redirect:/dashboard/user";
-                }
+        // User comes from the signed login token, verified locally by TokenAuthenticationFilter
+        if (user != null) {
+            // Route based on role
+            if ("ADMIN".equalsIgnoreCase(user.getRole())) {
+                return "redirect:/dashboard/admin";
+            } else {
+                return "redirect:/dashboard/user";
             }
-            
-            // No user info, redirect to login
-            logger.warn("[{}] [DashboardController] [dashboard] No user info, redirecting to login", SERVICE_NAME);
-            return "redirect:http://localhost:8081/login";
-            
-        } catch (Exception e) {
-            logger.error("[{}] [DashboardController] [dashboard] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
-            return "redirect:http://localhost:8081/login?error";
         }
+        
+        // No valid token, redirect to login
+        logger.warn("[{}] [DashboardController] [dashboard] No user info, redirecting to login", SERVICE_NAME);
+        return "redirect:http://localhost:8081/login";
     }
     
     @GetMapping("/admin")
-    public String adminDashboard(HttpSession session, Model model) {
+    public String adminDashboard(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         logger.info("[{}] [DashboardController] [adminDashboard] START", SERVICE_NAME);
         try {
-            // Check if user is in session and is ADMIN
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
                 logger.warn("[{}] [DashboardController] [adminDashboard] Unauthorized access attempt", SERVICE_NAME);
                 return "redirect:http://localhost:8081/login";
@@ -88,7 +60,7 @@ public class DashboardController {
             
             List<com.rentwise.dashboard.dto.PropertyDTO> properties = dashboardService.getAllProperties();
             List<com.rentwise.dashboard.dto.TenantDTO> tenants = dashboardService.getAllTenants();
-            List<TenantRequestDTO> pendingRequests = dashboardService.getPendingTenantRequests();
+            List<TenantRequestDTO> pendingRequests = dashboardService.getClaimedTenantRequests(user.getId(), user.getRole());
             
             model.addAttribute("properties", properties);
             model.addAttribute("tenants", tenants);
@@ -105,13 +77,11 @@ public class DashboardController {
     }
     
     @GetMapping("/user")
-    public String userDashboard(HttpSession session, Model model) {
+    public String userDashboard(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         logger.info("[{}] [DashboardController] [userDashboard] START", SERVICE_NAME);
         try {
-            // Get user from session
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null) {
-                logger.warn("[{}] [DashboardController] [userDashboard] No user in session, redirecting to login", SERVICE_NAME);
+                logger.warn("[{}] [DashboardController] [userDashboard] No valid token, redirecting to login", SERVICE_NAME);
                 return "redirect:http://localhost:8081/login";
             }
             
@@ -144,12 +114,11 @@ public class DashboardController {
     
     @PostMapping("/user/tenants/request")
     public String submitTenantRequest(@ModelAttribute TenantRequestDTO request, 
-                                     HttpSession session,
+                                     @RequestAttribute(name = "user", required = false) UserDTO user,
                                      RedirectAttributes redirectAttributes) {
         logger.info("[{}] [DashboardController] [submitTenantRequest] START - Email: {}", 
                 SERVICE_NAME, request.getEmail());
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null) {
                 return "redirect:http://localhost:8081/login";
             }
@@ -172,10 +141,17 @@ public class DashboardController {
     
     // Admin approval endpoints
     @PostMapping("/admin/tenants/requests/{id}/approve")
-    public String approveTenantRequest(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String approveTenantRequest(@PathVariable Long id,
+                                       @RequestAttribute(name = "user", required = false) UserDTO user,
+                                       RedirectAttributes redirectAttributes) {
         logger.info("[{}] [DashboardController] [approveTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
+            logger.warn("[{}] [DashboardController] [approveTenantRequest] No authenticated admin", SERVICE_NAME);
+            redirectAttributes.addFlashAttribute("error", "Unauthorized: please log in to approve requests");
+            return "redirect:/dashboard/admin";
+        }
         try {
-            dashboardService.approveTenantRequest(id);
+            dashboardService.approveTenantRequest(id, user.getId(), user.getRole());
             redirectAttributes.addFlashAttribute("success", "Tenant request approved successfully!");
             logger.info("[{}] [DashboardController] [approveTenantRequest] SUCCESS", SERVICE_NAME);
             return "redirect:/dashboard/admin";
@@ -188,10 +164,17 @@ public class DashboardController {
     }
     
     @PostMapping("/admin/tenants/requests/{id}/reject")
-    public String rejectTenantRequest(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String rejectTenantRequest(@PathVariable Long id,
+                                       @RequestAttribute(name = "user", required = false) UserDTO user,
+                                       RedirectAttributes redirectAttributes) {
         logger.info("[{}] [DashboardController] [rejectTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
+            logger.warn("[{}] [DashboardController] [rejectTenantRequest] No authenticated admin", SERVICE_NAME);
+            redirectAttributes.addFlashAttribute("error", "Unauthorized: please log in to reject requests");
+            return "redirect:/dashboard/admin";
+        }
         try {
-            dashboardService.rejectTenantRequest(id);
+            dashboardService.rejectTenantRequest(id, user.getId(), user.getRole());
             redirectAttributes.addFlashAttribute("success", "Tenant request rejected.");
             logger.info("[{}] [DashboardController] [rejectTenantRequest] SUCCESS", SERVICE_NAME);
             return "redirect:/dashboard/admin";
@@ -206,12 +189,11 @@ public class DashboardController {
     @PostMapping("/admin/tenants/{id}/assign-property")
     public String assignPropertyToTenant(@PathVariable Long id,
                                         @RequestParam Long propertyId,
-                                        HttpSession session,
+                                        @RequestAttribute(name = "user", required = false) UserDTO user,
                                         RedirectAttributes redirectAttributes) {
         logger.info("[{}] [DashboardController] [assignPropertyToTenant] START - Tenant ID: {}, Property ID: {}", 
                 SERVICE_NAME, id, propertyId);
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
                 logger.warn("[{}] [DashboardController] [assignPropertyToTenant] Unauthorized access attempt", SERVICE_NAME);
                 redirectAttributes.addFlashAttribute("error", "Unauthorized to assign properties.");
@@ -230,11 +212,9 @@ public class DashboardController {
     }
     
     @GetMapping("/home")
-    public String home(HttpSession session) {
+    public String home(@RequestAttribute(name = "user", required = false) UserDTO user) {
         logger.info("[{}] [DashboardController] [home] START - Redirecting to appropriate dashboard", SERVICE_NAME);
         
-        // Check if user exists in session
-        UserDTO user = (UserDTO) session.getAttribute("user");
         if (user != null) {
             // Route based on role
             if ("ADMIN".equalsIgnoreCase(user.getRole())) {
@@ -244,26 +224,61 @@ public class DashboardController {
             }
         }
         
-        // No user in session, redirect to login
-        logger.warn("[{}] [DashboardController] [home] No user in session, redirecting to login", SERVICE_NAME);
+        // No valid token, redirect to login
+        logger.warn("[{}] [DashboardController] [home] No valid token, redirecting to login", SERVICE_NAME);
         return "redirect:http://localhost:8081/login";
     }
     
     @GetMapping("/logout")
-    public String logout(HttpSession session) {
+    public String logout(@RequestAttribute(name = "user", required = false) UserDTO user, HttpServletResponse response) {
         logger.info("[{}] [DashboardController] [logout] START - Logging out user", SERVICE_NAME);
-        session.invalidate();
+        if (user != null && "ADMIN".equalsIgnoreCase(user.getRole())) {
+            try {
+                // Hand unreviewed requests back to the pool instead of waiting for the lease to expire
+                dashboardService.releaseTenantRequestClaims(user.getId(), user.getRole());
+            } catch (Exception e) {
+                logger.warn("[{}] [DashboardController] [logout] Failed to release claims: {}", SERVICE_NAME, e.getMessage());
+            }
+        }
+        // Tokens are stateless: dropping the cookie is the logout; the token itself lapses at expiry
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(tokenCookieName, "")
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(0)
+                .build()
+                .toString());
         return "redirect:http://localhost:8081/login?logout";
     }
     
+    @PostMapping("/admin/pending-requests/claim")
+    public String claimPendingRequests(@RequestAttribute(name = "user", required = false) UserDTO user,
+                                       RedirectAttributes redirectAttributes) {
+        logger.info("[{}] [DashboardController] [claimPendingRequests] START", SERVICE_NAME);
+        if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
+            logger.warn("[{}] [DashboardController] [claimPendingRequests] No authenticated admin", SERVICE_NAME);
+            redirectAttributes.addFlashAttribute("error", "Unauthorized: please log in to claim requests");
+            return "redirect:/dashboard/admin";
+        }
+        try {
+            List<TenantRequestDTO> claimed = dashboardService.claimPendingTenantRequests(user.getId(), user.getRole());
+            logger.info("[{}] [DashboardController] [claimPendingRequests] SUCCESS - Holding {} requests", SERVICE_NAME, claimed.size());
+            return "redirect:/dashboard/admin";
+        } catch (Exception e) {
+            logger.error("[{}] [DashboardController] [claimPendingRequests] ERROR - {}", 
+                    SERVICE_NAME, e.getMessage(), e);
+            redirectAttributes.addFlashAttribute("error", "Failed to claim requests: " + e.getMessage());
+            return "redirect:/dashboard/admin";
+        }
+    }
+    
     @GetMapping("/admin/pending-requests")
-    public String getPendingRequestsFragment(HttpSession session, Model model) {
+    public String getPendingRequestsFragment(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
                 return "dashboard/fragments/empty :: pending-requests";
             }
-            List<TenantRequestDTO> pendingRequests = dashboardService.getPendingTenantRequests();
+            List<TenantRequestDTO> pendingRequests = dashboardService.getClaimedTenantRequests(user.getId(), user.getRole());
             model.addAttribute("pendingRequests", pendingRequests);
             return "dashboard/fragments/pending-requests :: pending-requests";
         } catch (Exception e) {
@@ -273,9 +288,8 @@ public class DashboardController {
     }
     
     @GetMapping("/admin/tenants")
-    public String getTenantsFragment(HttpSession session, Model model) {
+    public String getTenantsFragment(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null || !"ADMIN".equalsIgnoreCase(user.getRole())) {
                 return "dashboard/fragments/empty :: tenants";
             }
@@ -291,9 +305,8 @@ public class DashboardController {
     }
     
     @GetMapping("/user/roommates")
-    public String getRoommatesFragment(HttpSession session, Model model) {
+    public String getRoommatesFragment(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null) {
                 return "dashboard/fragments/empty :: roommates";
             }
@@ -308,9 +321,8 @@ public class DashboardController {
     }
     
     @GetMapping("/user/requests")
-    public String getRequestsFragment(HttpSession session, Model model) {
+    public String getRequestsFragment(@RequestAttribute(name = "user", required = false) UserDTO user, Model model) {
         try {
-            UserDTO user = (UserDTO) session.getAttribute("user");
             if (user == null) {
                 return "dashboard/fragments/empty :: requests";
             }
@@ -19,6 +19,9 @@ public class DashboardRestController {
     
     private static final Logger logger = LoggerFactory.getLogger(DashboardRestController.class);
     private static final String SERVICE_NAME = "rentwise-dashboard-service";
+    // Set by the gateway from the verified login token; client-supplied copies are stripped there
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_ROLE_HEADER = "X-User-Role";
     
     @Autowired
     private DashboardService dashboardService;
@@ -55,10 +58,17 @@ public class DashboardRestController {
     }
     
     @GetMapping("/admin/pending-requests")
-    public ResponseEntity<List<TenantRequestDTO>> getPendingRequests() {
-        logger.info("[{}] [DashboardRestController] [getPendingRequests] START", SERVICE_NAME);
+    public ResponseEntity<List<TenantRequestDTO>> getPendingRequests(
+            @RequestHeader(name = USER_ID_HEADER, required = false) Long adminId,
+            @RequestHeader(name = USER_ROLE_HEADER, required = false) String role) {
+        logger.info("[{}] [DashboardRestController] [getPendingRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        if (!isAdmin(adminId, role)) {
+            logger.warn("[{}] [DashboardRestController] [getPendingRequests] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         try {
-            List<TenantRequestDTO> requests = dashboardService.getPendingTenantRequests();
+            // Read-only: the slice of requests already leased to this admin
+            List<TenantRequestDTO> requests = dashboardService.getClaimedTenantRequests(adminId, role);
             logger.info("[{}] [DashboardRestController] [getPendingRequests] SUCCESS - Retrieved {} requests", 
                     SERVICE_NAME, requests.size());
             return ResponseEntity.ok(requests);
@@ -69,6 +79,28 @@ public class DashboardRestController {
         }
     }
     
+    @PostMapping("/admin/pending-requests/claim")
+    public ResponseEntity<List<TenantRequestDTO>> claimPendingRequests(
+            @RequestHeader(name = USER_ID_HEADER, required = false) Long adminId,
+            @RequestHeader(name = USER_ROLE_HEADER, required = false) String role) {
+        logger.info("[{}] [DashboardRestController] [claimPendingRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        if (!isAdmin(adminId, role)) {
+            logger.warn("[{}] [DashboardRestController] [claimPendingRequests] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            // Renews the admin's leases and tops the slice up with unclaimed requests
+            List<TenantRequestDTO> requests = dashboardService.claimPendingTenantRequests(adminId, role);
+            logger.info("[{}] [DashboardRestController] [claimPendingRequests] SUCCESS - Admin holds {} requests", 
+                    SERVICE_NAME, requests.size());
+            return ResponseEntity.ok(requests);
+        } catch (Exception e) {
+            logger.error("[{}] [DashboardRestController] [claimPendingRequests] ERROR - {}", 
+                    SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     // User Dashboard Endpoints
     @GetMapping("/user/tenants")
     public ResponseEntity<List<TenantDTO>> getUserTenants(@RequestParam Long userId) {
@@ -133,10 +165,16 @@ public class DashboardRestController {
     }
     
     @PutMapping("/admin/tenant-requests/{id}/approve")
-    public ResponseEntity<TenantRequestDTO> approveTenantRequest(@PathVariable Long id) {
+    public ResponseEntity<TenantRequestDTO> approveTenantRequest(@PathVariable Long id,
+            @RequestHeader(name = USER_ID_HEADER, required = false) Long adminId,
+            @RequestHeader(name = USER_ROLE_HEADER, required = false) String role) {
         logger.info("[{}] [DashboardRestController] [approveTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (!isAdmin(adminId, role)) {
+            logger.warn("[{}] [DashboardRestController] [approveTenantRequest] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         try {
-            TenantRequestDTO approved = dashboardService.approveTenantRequest(id);
+            TenantRequestDTO approved = dashboardService.approveTenantRequest(id, adminId, role);
             logger.info("[{}] [DashboardRestController] [approveTenantRequest] SUCCESS", SERVICE_NAME);
             return ResponseEntity.ok(approved);
         } catch (Exception e) {
@@ -147,10 +185,16 @@ public class DashboardRestController {
     }
     
     @PutMapping("/admin/tenant-requests/{id}/reject")
-    public ResponseEntity<TenantRequestDTO> rejectTenantRequest(@PathVariable Long id) {
+    public ResponseEntity<TenantRequestDTO> rejectTenantRequest(@PathVariable Long id,
+            @RequestHeader(name = USER_ID_HEADER, required = false) Long adminId,
+            @RequestHeader(name = USER_ROLE_HEADER, required = false) String role) {
         logger.info("[{}] [DashboardRestController] [rejectTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (!isAdmin(adminId, role)) {
+            logger.warn("[{}] [DashboardRestController] [rejectTenantRequest] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         try {
-            TenantRequestDTO rejected = dashboardService.rejectTenantRequest(id);
+            TenantRequestDTO rejected = dashboardService.rejectTenantRequest(id, adminId, role);
             logger.info("[{}] [DashboardRestController] [rejectTenantRequest] SUCCESS", SERVICE_NAME);
             return ResponseEntity.ok(rejected);
         } catch (Exception e) {
@@ -176,5 +220,8 @@ public class DashboardRestController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    private static boolean isAdmin(Long userId, String role) {
+        return userId != null && "ADMIN".equalsIgnoreCase(role);
+    }
 }
-
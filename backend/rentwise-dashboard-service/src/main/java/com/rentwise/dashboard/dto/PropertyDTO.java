@@ -19,11 +19,33 @@ public class PropertyDTO {
     private Long userId; // Link to user who owns/manages this property
     private String ownerName; // Username of the owner (for display)
     private Integer tenantCount; // Number of tenants in this property (for display)
+    private Long version; // property-service version, used to order change events
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
     public PropertyDTO() {}
     
+    public PropertyDTO(PropertyDTO other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.address = other.address;
+        this.city = other.city;
+        this.state = other.state;
+        this.zipCode = other.zipCode;
+        this.type = other.type;
+        this.bedrooms = other.bedrooms;
+        this.bathrooms = other.bathrooms;
+        this.rentAmount = other.rentAmount;
+        this.status = other.status;
+        this.description = other.description;
+        this.userId = other.userId;
+        this.ownerName = other.ownerName;
+        this.tenantCount = other.tenantCount;
+        this.version = other.version;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -145,6 +167,14 @@ public class PropertyDTO {
         this.tenantCount = tenantCount;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,36 @@
+package com.rentwise.dashboard.dto;
+
+import java.util.List;
+
+public class UserDirectoryDTO {
+    private long version;
+    private boolean full; // False: users holds only the entries changed since the requested version
+    private List<UserDirectoryEntryDTO> users;
+    
+    public UserDirectoryDTO() {}
+    
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
+    public boolean isFull() {
+        return full;
+    }
+    
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+    
+    public List<UserDirectoryEntryDTO> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserDirectoryEntryDTO> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,34 @@
+package com.rentwise.dashboard.dto;
+
+public class UserDirectoryEntryDTO {
+    private Long id;
+    private String username;
+    private String role;
+    
+    public UserDirectoryEntryDTO() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+    
+    public void setRole(String role) {
+        this.role = role;
+    }
+}
@@ -0,0 +1,60 @@
+package com.rentwise.dashboard.model;
+
+import com.rentwise.dashboard.dto.PropertyDTO;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class PropertyChangedEvent implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private Long propertyId;
+    private String changeType; // CREATED, UPDATED, DELETED
+    private Long version;
+    private PropertyDTO property; // Null for DELETED
+    private LocalDateTime timestamp;
+    
+    public PropertyChangedEvent() {
+        this.timestamp = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getPropertyId() {
+        return propertyId;
+    }
+    
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+    
+    public String getChangeType() {
+        return changeType;
+    }
+    
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public PropertyDTO getProperty() {
+        return property;
+    }
+    
+    public void setProperty(PropertyDTO property) {
+        this.property = property;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -2,11 +2,11 @@ package com.rentwise.dashboard.service;
 
 import com.rentwise.dashboard.client.PropertyServiceClient;
 import com.rentwise.dashboard.client.TenantServiceClient;
-import com.rentwise.dashboard.client.UserServiceClient;
 import com.rentwise.dashboard.dto.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,7 +18,7 @@ public class DashboardService {
     private static final String SERVICE_NAME = "rentwise-dashboard-service";
     
     @Autowired
-    private UserServiceClient userServiceClient;
+    private UserDirectoryCache userDirectoryCache;
     
     @Autowired
     private PropertyServiceClient propertyServiceClient;
@@ -26,32 +26,28 @@ public class DashboardService {
     @Autowired
     private TenantServiceClient tenantServiceClient;
     
+    @Autowired
+    private PropertyCatalogCache propertyCatalogCache;
+    
+    @Value("${dashboard.pending-requests.claim-size:10}")
+    private int pendingRequestClaimSize;
+    
     public List<PropertyDTO> getAllProperties() {
         logger.info("[{}] [DashboardService] [getAllProperties] START", SERVICE_NAME);
         try {
-            List<PropertyDTO> properties = propertyServiceClient.getAllProperties();
-            List<UserDTO> allUsers = userServiceClient.getAllUsers();
+            List<PropertyDTO> properties = propertyCatalogCache.getAllProperties();
+            java.util.Map<Long, Long> tenantCounts = getTenantCountsByProperty();
             
-            // Enrich properties with owner names and tenant counts
+            // Enrich properties with owner names (local directory reads) and tenant counts
             for (PropertyDTO property : properties) {
-                if (property.getUserId() != null) {
-                    UserDTO owner = allUsers.stream()
-                            .filter(u -> u.getId().equals(property.getUserId()))
-                            .findFirst()
-                            .orElse(null);
-                    if (owner != null) {
-                        property.setOwnerName(owner.getUsername());
-                    }
+                String ownerName = userDirectoryCache.getUsername(property.getUserId());
+                if (ownerName != null) {
+                    property.setOwnerName(ownerName);
                 }
                 
-                // Get tenant count for this property
+                // Tenant count for this property from tenant-service's occupancy counters
                 if (property.getId() != null) {
-                    try {
-                        List<TenantDTO> tenants = tenantServiceClient.getTenantsByPropertyId(property.getId());
-                        property.setTenantCount(tenants.size());
-                    } catch (Exception e) {
-                        property.setTenantCount(0);
-                    }
+                    property.setTenantCount(tenantCounts.getOrDefault(property.getId(), 0L).intValue());
                 }
             }
             
@@ -64,6 +60,17 @@ public class DashboardService {
         }
     }
     
+    // One aggregate call instead of a getTenantsByPropertyId round trip per property
+    private java.util.Map<Long, Long> getTenantCountsByProperty() {
+        try {
+            return tenantServiceClient.getTenantCountsByProperty();
+        } catch (Exception e) {
+            logger.warn("[{}] [DashboardService] [getTenantCountsByProperty] Failed to load tenant counts: {}", 
+                    SERVICE_NAME, e.getMessage());
+            return new java.util.HashMap<>();
+        }
+    }
+    
     public List<TenantDTO> getAllTenants() {
         logger.info("[{}] [DashboardService] [getAllTenants] START", SERVICE_NAME);
         try {
@@ -72,19 +79,13 @@ public class DashboardService {
                 logger.info("[{}] [DashboardService] [getAllTenants] No tenants found", SERVICE_NAME);
                 return new java.util.ArrayList<>();
             }
-            List<UserDTO> allUsers = userServiceClient.getAllUsers();
-            List<PropertyDTO> allProperties = propertyServiceClient.getAllProperties();
+            List<PropertyDTO> allProperties = propertyCatalogCache.getAllProperties();
             
             // Enrich tenants with user names and property names
             for (TenantDTO tenant : tenants) {
-                if (tenant.getUserId() != null) {
-                    UserDTO user = allUsers.stream()
-                            .filter(u -> u.getId().equals(tenant.getUserId()))
-                            .findFirst()
-                            .orElse(null);
-                    if (user != null) {
-                        tenant.setRoommateOf(user.getUsername());
-                    }
+                String roommateOf = userDirectoryCache.getUsername(tenant.getUserId());
+                if (roommateOf != null) {
+                    tenant.setRoommateOf(roommateOf);
                 }
                 
                 if (tenant.getPropertyId() != null) {
@@ -111,7 +112,7 @@ public class DashboardService {
         logger.info("[{}] [DashboardService] [getTenantsByUserId] START - User ID: {}", SERVICE_NAME, userId);
         try {
             List<TenantDTO> tenants = tenantServiceClient.getTenantsByUserId(userId);
-            List<PropertyDTO> allProperties = propertyServiceClient.getAllProperties();
+            List<PropertyDTO> allProperties = propertyCatalogCache.getAllProperties();
             
             // Enrich tenants with property names
             for (TenantDTO tenant : tenants) {
@@ -153,7 +154,7 @@ public class DashboardService {
             List<TenantDTO> userTenants = tenantServiceClient.getTenantsByUserId(userId);
             
             // Get all properties to find ones where user's tenants are assigned
-            List<PropertyDTO> allProperties = propertyServiceClient.getAllProperties();
+            List<PropertyDTO> allProperties = propertyCatalogCache.getAllProperties();
             
             // Collect unique property IDs from user's tenants
             java.util.Set<Long> propertyIds = new java.util.HashSet<>();
@@ -189,14 +190,10 @@ public class DashboardService {
             List<PropertyDTO> properties = new java.util.ArrayList<>(uniqueProperties.values());
             
             // Enrich properties with tenant counts
+            java.util.Map<Long, Long> tenantCounts = getTenantCountsByProperty();
             for (PropertyDTO property : properties) {
                 if (property.getId() != null) {
-                    try {
-                        List<TenantDTO> tenants = tenantServiceClient.getTenantsByPropertyId(property.getId());
-                        property.setTenantCount(tenants.size());
-                    } catch (Exception e) {
-                        property.setTenantCount(0);
-                    }
+                    property.setTenantCount(tenantCounts.getOrDefault(property.getId(), 0L).intValue());
                 }
             }
             
@@ -222,6 +219,43 @@ public class DashboardService {
         }
     }
     
+    public List<TenantRequestDTO> getClaimedTenantRequests(Long adminId, String role) {
+        logger.info("[{}] [DashboardService] [getClaimedTenantRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        try {
+            List<TenantRequestDTO> requests = tenantServiceClient.getClaimedTenantRequests(adminId, role);
+            logger.info("[{}] [DashboardService] [getClaimedTenantRequests] SUCCESS - Admin {} holds {} requests", 
+                    SERVICE_NAME, adminId, requests.size());
+            return requests;
+        } catch (Exception e) {
+            logger.error("[{}] [DashboardService] [getClaimedTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public List<TenantRequestDTO> claimPendingTenantRequests(Long adminId, String role) {
+        logger.info("[{}] [DashboardService] [claimPendingTenantRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        try {
+            List<TenantRequestDTO> requests = tenantServiceClient.claimPendingTenantRequests(adminId, role, pendingRequestClaimSize);
+            logger.info("[{}] [DashboardService] [claimPendingTenantRequests] SUCCESS - Admin {} holds {} requests", 
+                    SERVICE_NAME, adminId, requests.size());
+            return requests;
+        } catch (Exception e) {
+            logger.error("[{}] [DashboardService] [claimPendingTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public void releaseTenantRequestClaims(Long adminId, String role) {
+        logger.info("[{}] [DashboardService] [releaseTenantRequestClaims] START - Admin ID: {}", SERVICE_NAME, adminId);
+        try {
+            tenantServiceClient.releaseTenantRequestClaims(adminId, role);
+            logger.info("[{}] [DashboardService] [releaseTenantRequestClaims] SUCCESS", SERVICE_NAME);
+        } catch (Exception e) {
+            logger.error("[{}] [DashboardService] [releaseTenantRequestClaims] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
     public List<TenantRequestDTO> getTenantRequestsByUser(Long userId) {
         logger.info("[{}] [DashboardService] [getTenantRequestsByUser] START - User ID: {}", SERVICE_NAME, userId);
         try {
@@ -248,10 +282,10 @@ public class DashboardService {
         }
     }
     
-    public TenantRequestDTO approveTenantRequest(Long requestId) {
+    public TenantRequestDTO approveTenantRequest(Long requestId, Long adminId, String role) {
         logger.info("[{}] [DashboardService] [approveTenantRequest] START - Request ID: {}", SERVICE_NAME, requestId);
         try {
-            TenantRequestDTO approved = tenantServiceClient.approveTenantRequest(requestId);
+            TenantRequestDTO approved = tenantServiceClient.approveTenantRequest(requestId, adminId, role);
             logger.info("[{}] [DashboardService] [approveTenantRequest] SUCCESS - Request approved with ID: {}", 
                     SERVICE_NAME, requestId);
             return approved;
@@ -261,10 +295,10 @@ public class DashboardService {
         }
     }
     
-    public TenantRequestDTO rejectTenantRequest(Long requestId) {
+    public TenantRequestDTO rejectTenantRequest(Long requestId, Long adminId, String role) {
         logger.info("[{}] [DashboardService] [rejectTenantRequest] START - Request ID: {}", SERVICE_NAME, requestId);
         try {
-            TenantRequestDTO rejected = tenantServiceClient.rejectTenantRequest(requestId);
+            TenantRequestDTO rejected = tenantServiceClient.rejectTenantRequest(requestId, adminId, role);
             logger.info("[{}] [DashboardService] [rejectTenantRequest] SUCCESS - Request rejected with ID: {}", 
                     SERVICE_NAME, requestId);
             return rejected;
@@ -0,0 +1,164 @@
+package com.rentwise.dashboard.service;
+
+import com.rentwise.dashboard.client.PropertyServiceClient;
+import com.rentwise.dashboard.dto.PropertyDTO;
+import com.rentwise.dashboard.model.PropertyChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Local copy of property-service's catalog, kept current by PropertyChangedEvents instead of
+ * a getAllProperties() call per dashboard request. The full list is fetched on first use and
+ * again every refresh-interval-ms as a backstop for events lost in transit. Events arriving
+ * while a refresh is in flight are replayed on top of the fetched list, and an event is only
+ * applied when its version is newer than the copy held.
+ *
+ * A DELETED event leaves a tombstone with the deleted version, so a CREATED or UPDATED event
+ * for an older version arriving after it cannot bring the property back. Tombstones are kept
+ * for one refresh interval; anything later than that is put right by the next refresh.
+ */
+@Service
+public class PropertyCatalogCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyCatalogCache.class);
+    private static final String SERVICE_NAME = "rentwise-dashboard-service";
+    
+    @Autowired
+    private PropertyServiceClient propertyServiceClient;
+    
+    @Value("${dashboard.property-cache.refresh-interval-ms:300000}")
+    private long refreshIntervalMs;
+    
+    private final Object refreshLock = new Object();
+    private final Object lock = new Object();
+    private volatile Map<Long, PropertyDTO> properties; // Null until the first load
+    private volatile long loadedAt;
+    private List<PropertyChangedEvent> replay; // Non-null while a refresh is in flight; guarded by lock
+    private final Map<Long, Tombstone> tombstones = new HashMap<>(); // Guarded by lock
+    
+    /** Copies in id order, so callers may enrich them without touching the cache. */
+    public List<PropertyDTO> getAllProperties() {
+        Map<Long, PropertyDTO> current = properties;
+        if (current == null || System.currentTimeMillis() - loadedAt > refreshIntervalMs) {
+            current = refresh();
+        }
+        List<PropertyDTO> copies = new ArrayList<>(current.size());
+        for (PropertyDTO property : current.values()) {
+            copies.add(new PropertyDTO(property));
+        }
+        return copies;
+    }
+    
+    public void apply(PropertyChangedEvent event) {
+        if (event.getPropertyId() == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (replay != null) {
+                replay.add(event);
+            }
+            if (properties != null) {
+                applyTo(properties, event);
+            }
+        }
+    }
+    
+    /** Drops the cached list so the next read fetches it again. */
+    public void invalidate() {
+        synchronized (lock) {
+            loadedAt = 0;
+        }
+    }
+    
+    private Map<Long, PropertyDTO> refresh() {
+        synchronized (refreshLock) {
+            // Another request may have refreshed while this one waited
+            if (properties != null && System.currentTimeMillis() - loadedAt <= refreshIntervalMs) {
+                return properties;
+            }
+            logger.info("[{}] [PropertyCatalogCache] [refresh] START", SERVICE_NAME);
+            synchronized (lock) {
+                replay = new ArrayList<>();
+            }
+            try {
+                long start = System.currentTimeMillis();
+                List<PropertyDTO> fetched = propertyServiceClient.getAllProperties();
+                Map<Long, PropertyDTO> fresh = new ConcurrentSkipListMap<>();
+                for (PropertyDTO property : fetched) {
+                    if (property.getId() != null) {
+                        fresh.put(property.getId(), property);
+                    }
+                }
+                int replayed;
+                synchronized (lock) {
+                    tombstones.values().removeIf(tombstone -> tombstone.deletedAt < start - refreshIntervalMs);
+                    // A list read before a delete was committed may still hold the property
+                    fresh.values().removeIf(property -> isDeleted(property.getId(), version(property.getVersion())));
+                    replayed = replay.size();
+                    for (PropertyChangedEvent event : replay) {
+                        applyTo(fresh, event);
+                    }
+                    replay = null;
+                    properties = fresh;
+                    loadedAt = start;
+                }
+                logger.info("[{}] [PropertyCatalogCache] [refresh] SUCCESS - {} properties loaded, {} events replayed",
+                        SERVICE_NAME, fresh.size(), replayed);
+                return fresh;
+            } catch (Exception e) {
+                synchronized (lock) {
+                    replay = null;
+                }
+                logger.error("[{}] [PropertyCatalogCache] [refresh] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+                throw e;
+            }
+        }
+    }
+    
+    /** Called with lock held. */
+    private void applyTo(Map<Long, PropertyDTO> target, PropertyChangedEvent event) {
+        Long id = event.getPropertyId();
+        long version = version(event.getVersion());
+        PropertyDTO held = target.get(id);
+        if (held != null && version <= version(held.getVersion())) {
+            return; // Redelivered or older than the copy already held
+        }
+        if (isDeleted(id, version)) {
+            return; // Older than a delete already applied
+        }
+        if ("DELETED".equals(event.getChangeType())) {
+            target.remove(id);
+            tombstones.put(id, new Tombstone(version, System.currentTimeMillis()));
+        } else if (event.getProperty() != null) {
+            target.put(id, event.getProperty());
+        }
+    }
+    
+    private boolean isDeleted(Long id, long version) {
+        Tombstone tombstone = tombstones.get(id);
+        return tombstone != null && version <= tombstone.version;
+    }
+    
+    private static long version(Long version) {
+        return version != null ? version : 0L;
+    }
+    
+    private static final class Tombstone {
+        final long version;
+        final long deletedAt;
+        
+        Tombstone(long version, long deletedAt) {
+            this.version = version;
+            this.deletedAt = deletedAt;
+        }
+    }
+}
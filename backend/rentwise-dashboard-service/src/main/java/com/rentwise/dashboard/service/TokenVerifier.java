@@ -0,0 +1,128 @@
+package com.rentwise.dashboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentwise.dashboard.client.UserServiceClient;
+import com.rentwise.dashboard.dto.UserDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies the RS256 login tokens issued by user-service without calling it per request.
+ * Public keys are fetched from /api/users/token-keys once and cached by kid; a token signed
+ * with an unknown kid (key rotation, or user-service restarted with a generated key) triggers
+ * a refetch, at most once per key-refresh-interval-ms so forged kids cannot hammer user-service.
+ */
+@Service
+public class TokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVerifier.class);
+    private static final String SERVICE_NAME = "rentwise-dashboard-service";
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    @Autowired
+    private UserServiceClient userServiceClient;
+
+    @Value("${dashboard.auth.issuer:rentwise-user-service}")
+    private String issuer;
+
+    @Value("${dashboard.auth.clock-skew-seconds:30}")
+    private long clockSkewSeconds;
+
+    @Value("${dashboard.auth.key-refresh-interval-ms:30000}")
+    private long keyRefreshIntervalMs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long keysFetchedAt;
+
+    /**
+     * @return the user the token was issued to, or null when it is malformed, expired, from
+     *         another issuer or not signed by a user-service key
+     */
+    public UserDTO verify(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length != 3) {
+                return null;
+            }
+            JsonNode header = objectMapper.readTree(BASE64URL.decode(parts[0]));
+            if (!"RS256".equals(header.path("alg").asText())) {
+                return null;
+            }
+            PublicKey key = getKey(header.path("kid").asText());
+            if (key == null) {
+                logger.warn("[{}] [TokenVerifier] [verify] Unknown token key: {}", SERVICE_NAME, header.path("kid").asText());
+                return null;
+            }
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(key);
+            verifier.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!verifier.verify(BASE64URL.decode(parts[2]))) {
+                return null;
+            }
+            JsonNode claims = objectMapper.readTree(BASE64URL.decode(parts[1]));
+            long now = System.currentTimeMillis() / 1000;
+            if (!issuer.equals(claims.path("iss").asText()) || claims.path("exp").asLong(0) + clockSkewSeconds < now) {
+                return null;
+            }
+            return new UserDTO(Long.valueOf(claims.path("sub").asText()), claims.path("username").asText(),
+                    claims.path("email").asText(null), claims.path("role").asText(), true);
+        } catch (Exception e) {
+            logger.debug("[{}] [TokenVerifier] [verify] Rejected token: {}", SERVICE_NAME, e.getMessage());
+            return null;
+        }
+    }
+
+    private PublicKey getKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        synchronized (this) {
+            key = keys.get(kid);
+            if (key == null && System.currentTimeMillis() - keysFetchedAt >= keyRefreshIntervalMs) {
+                refreshKeys();
+                key = keys.get(kid);
+            }
+            return key;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void refreshKeys() {
+        keysFetchedAt = System.currentTimeMillis();
+        try {
+            Map<String, Object> keySet = userServiceClient.getTokenKeys();
+            Map<String, PublicKey> fetched = new HashMap<>();
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            for (Map<String, Object> jwk : (List<Map<String, Object>>) keySet.get("keys")) {
+                if (!"RSA".equals(jwk.get("kty"))) {
+                    continue;
+                }
+                BigInteger modulus = new BigInteger(1, BASE64URL.decode((String) jwk.get("n")));
+                BigInteger exponent = new BigInteger(1, BASE64URL.decode((String) jwk.get("e")));
+                fetched.put((String) jwk.get("kid"), factory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            }
+            keys = fetched;
+            logger.info("[{}] [TokenVerifier] [refreshKeys] SUCCESS - Loaded {} token key(s): {}", SERVICE_NAME, fetched.size(), fetched.keySet());
+        } catch (Exception e) {
+            // Keep the keys we have; the next unknown kid after the interval retries
+            logger.error("[{}] [TokenVerifier] [refreshKeys] ERROR - {}", SERVICE_NAME, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.rentwise.dashboard.service;
+
+import com.rentwise.dashboard.client.UserServiceClient;
+import com.rentwise.dashboard.dto.UserDirectoryDTO;
+import com.rentwise.dashboard.dto.UserDirectoryEntryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache of user-service's directory (id, username, role), so owner and roommate names
+ * resolve with a map read instead of fetching every user per request. The whole directory is
+ * loaded on first use; after that a background task asks only for the users changed since the
+ * version held, every refresh-interval-ms, and reloads in full every full-refresh-interval-ms as
+ * a backstop. If user-service is unreachable, lookups keep answering from the last copy.
+ */
+@Service
+public class UserDirectoryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectoryCache.class);
+    private static final String SERVICE_NAME = "rentwise-dashboard-service";
+
+    @Autowired
+    private UserServiceClient userServiceClient;
+
+    @Value("${dashboard.user-directory.full-refresh-interval-ms:3600000}")
+    private long fullRefreshIntervalMs;
+
+    private final Object refreshLock = new Object();
+    private volatile Map<Long, UserDirectoryEntryDTO> entries; // Null until the first load
+    private volatile long version;
+    private volatile long fullLoadedAt;
+
+    /** @return the username, or null for an unknown id (e.g. a user registered since the last refresh) */
+    public String getUsername(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        Map<Long, UserDirectoryEntryDTO> current = entries;
+        if (current == null) {
+            current = refresh(true);
+        }
+        UserDirectoryEntryDTO entry = current.get(userId);
+        return entry != null ? entry.getUsername() : null;
+    }
+
+    @Scheduled(initialDelayString = "${dashboard.user-directory.refresh-interval-ms:5000}",
+               fixedDelayString = "${dashboard.user-directory.refresh-interval-ms:5000}")
+    public void refreshInBackground() {
+        if (entries == null) {
+            return; // Nobody has asked yet; the first lookup loads in full
+        }
+        try {
+            refresh(false);
+        } catch (Exception e) {
+            // Keep serving the copy we have; the next run retries
+            logger.warn("[{}] [UserDirectoryCache] [refreshInBackground] Refresh failed: {}", SERVICE_NAME, e.getMessage());
+        }
+    }
+
+    private Map<Long, UserDirectoryEntryDTO> refresh(boolean initial) {
+        synchronized (refreshLock) {
+            Map<Long, UserDirectoryEntryDTO> current = entries;
+            if (initial && current != null) {
+                return current; // Another request loaded it while this one waited
+            }
+            boolean full = current == null || System.currentTimeMillis() - fullLoadedAt > fullRefreshIntervalMs;
+            long start = System.currentTimeMillis();
+            UserDirectoryDTO directory = userServiceClient.getUserDirectory(full ? 0 : version);
+            if (directory.isFull()) {
+                Map<Long, UserDirectoryEntryDTO> fresh = new ConcurrentHashMap<>();
+                putAll(fresh, directory);
+                entries = fresh;
+                fullLoadedAt = start;
+                current = fresh;
+                logger.info("[{}] [UserDirectoryCache] [refresh] SUCCESS - Loaded {} users, version {}",
+                        SERVICE_NAME, fresh.size(), directory.getVersion());
+            } else {
+                putAll(current, directory);
+                if (directory.getUsers() != null && !directory.getUsers().isEmpty()) {
+                    logger.debug("[{}] [UserDirectoryCache] [refresh] Applied {} changed users, version {}",
+                            SERVICE_NAME, directory.getUsers().size(), directory.getVersion());
+                }
+            }
+            version = directory.getVersion();
+            return current;
+        }
+    }
+
+    private static void putAll(Map<Long, UserDirectoryEntryDTO> target, UserDirectoryDTO directory) {
+        if (directory.getUsers() == null) {
+            return;
+        }
+        for (UserDirectoryEntryDTO entry : directory.getUsers()) {
+            if (entry.getId() != null) {
+                target.put(entry.getId(), entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.rentwise.property.analytics;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Time-weighted monthly average rent of a group of properties (one city). The rollup holds the
+ * sum of the rents currently in effect and the number of properties contributing; before
+ * every change the elapsed time is credited to the calendar months it falls in, as rent x
+ * minutes and properties x minutes. A month's average rent is the ratio of the two, so a
+ * trend query reads one row per month however many rent changes the month saw.
+ *
+ * Months are keyed as yyyymm in the given zone. Not thread-safe; callers synchronize on the
+ * rollup.
+ */
+public class MonthlyRentRollup {
+
+    private final ZoneId zone;
+    private long rentCents;
+    private long properties;
+    private long accountedUntil; // Epoch minute up to which time has been credited
+    private final TreeMap<Integer, long[]> months = new TreeMap<>(); // {rent cent-minutes, property-minutes}
+    private final Set<Integer> dirtyMonths = new HashSet<>();
+
+    public MonthlyRentRollup(ZoneId zone, long startMinute) {
+        this.zone = zone;
+        this.accountedUntil = startMinute;
+    }
+
+    /** Credits the current rents for the time between the last change and epochMinute. */
+    public void advanceTo(long epochMinute) {
+        while (accountedUntil < epochMinute) {
+            YearMonth month = YearMonth.from(Instant.ofEpochSecond(accountedUntil * 60).atZone(zone));
+            long monthEnd = month.plusMonths(1).atDay(1).atStartOfDay(zone).toEpochSecond() / 60;
+            long until = Math.min(monthEnd, epochMinute);
+            if (properties > 0) {
+                long minutes = until - accountedUntil;
+                int key = key(month);
+                long[] totals = months.computeIfAbsent(key, k -> new long[2]);
+                totals[0] += rentCents * minutes;
+                totals[1] += properties * minutes;
+                dirtyMonths.add(key);
+            }
+            accountedUntil = until;
+        }
+    }
+
+    public void add(long rentCents, long epochMinute) {
+        advanceTo(epochMinute);
+        this.rentCents += rentCents;
+        properties++;
+    }
+
+    public void remove(long rentCents, long epochMinute) {
+        advanceTo(epochMinute);
+        if (properties > 0) {
+            this.rentCents -= rentCents;
+            properties--;
+        }
+    }
+
+    /** Loads a month written by an earlier run; the live state is set separately. */
+    public void restoreMonth(int month, long rentCentMinutes, long propertyMinutes) {
+        months.put(month, new long[]{rentCentMinutes, propertyMinutes});
+    }
+
+    public long getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return month -> {rent cent-minutes, property-minutes} for months in [fromMonth, toMonth]
+     */
+    public Map<Integer, long[]> months(int fromMonth, int toMonth) {
+        Map<Integer, long[]> copy = new TreeMap<>();
+        for (Map.Entry<Integer, long[]> entry : months.subMap(fromMonth, true, toMonth, true).entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().clone());
+        }
+        return copy;
+    }
+
+    /** Months changed since the last call, with their current totals. */
+    public Map<Integer, long[]> drainDirtyMonths() {
+        Map<Integer, long[]> changed = new TreeMap<>();
+        for (Integer month : dirtyMonths) {
+            changed.put(month, months.get(month).clone());
+        }
+        dirtyMonths.clear();
+        return changed;
+    }
+
+    /** Marks a drained month as changed again, e.g. after its write failed. */
+    public void markDirty(int month) {
+        if (months.containsKey(month)) {
+            dirtyMonths.add(month);
+        }
+    }
+
+    public static int key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static YearMonth month(int key) {
+        return YearMonth.of(key / 100, key % 100);
+    }
+}
@@ -0,0 +1,482 @@
+package com.rentwise.property.analytics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Struct-of-arrays copy of the property table for analytics. Strings are dictionary encoded
+ * to int codes, rent is held as long cents and counts as ints, so filter and aggregate passes
+ * are tight loops over primitive arrays. Rows are updated in place; a deleted row keeps its
+ * slot (marked dead) until the slot is reused.
+ *
+ * Large scans are split into fixed-size chunks that run on the common ForkJoin pool and are
+ * merged per group at the end.
+ */
+public class PropertyColumnStore {
+
+    public static final int NULL = -1;
+    public static final String CITY = "city";
+    public static final String STATE = "state";
+    public static final String TYPE = "type";
+    public static final String STATUS = "status";
+    public static final String BEDROOMS = "bedrooms";
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final Dictionary cities = new Dictionary();
+    private final Dictionary states = new Dictionary();
+    private final Dictionary types = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final List<Integer> freeSlots = new ArrayList<>();
+    private long[] ids = new long[1024];
+    private boolean[] live = new boolean[1024];
+    private long[] rentCents = new long[1024];
+    private int[] cityCodes = new int[1024];
+    private int[] stateCodes = new int[1024];
+    private int[] typeCodes = new int[1024];
+    private int[] statusCodes = new int[1024];
+    private int[] bedrooms = new int[1024];
+    private int[] bathrooms = new int[1024];
+    private int size;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String city, String state, String type, String status,
+                    Integer bedroomCount, Integer bathroomCount, BigDecimal rent) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot == null) {
+                slot = freeSlots.isEmpty() ? size++ : freeSlots.remove(freeSlots.size() - 1);
+                ensureCapacity(slot + 1);
+                slotById.put(id, slot);
+            }
+            ids[slot] = id;
+            live[slot] = true;
+            rentCents[slot] = rent != null ? rent.movePointRight(2).longValue() : NULL;
+            cityCodes[slot] = cities.encode(city);
+            stateCodes[slot] = states.encode(state);
+            typeCodes[slot] = types.encode(type);
+            statusCodes[slot] = statuses.encode(status);
+            bedrooms[slot] = bedroomCount != null ? bedroomCount : NULL;
+            bathrooms[slot] = bathroomCount != null ? bathroomCount : NULL;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                live[slot] = false;
+                freeSlots.add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            freeSlots.clear();
+            Arrays.fill(live, 0, size, false);
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int liveRows() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aggregates the rows matching the filter, grouped by one column (or a single group when
+     * groupBy is null). The scan pass records the matching rows of each chunk, so exact medians
+     * only revisit those rows before quickselecting the middle of each group.
+     *
+     * @param vacantStatus status value counted towards the vacancy rate
+     */
+    public List<GroupStats> aggregate(Filter filter, String groupBy, String vacantStatus, int parallelThreshold) {
+        lock.readLock().lock();
+        try {
+            int[] groupColumn = groupColumn(groupBy);
+            int groups = groupCount(groupBy);
+            int[] bounds = filter.toBounds(this);
+            // A status never seen maps to an impossible code; NULL would match rows without a status
+            int knownVacantCode = statuses.lookup(vacantStatus);
+            int vacantCode = knownVacantCode == NULL ? Integer.MIN_VALUE : knownVacantCode;
+            int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            IntStream chunkStream = IntStream.range(0, chunks);
+            if (size >= parallelThreshold) {
+                chunkStream = chunkStream.parallel();
+            }
+            List<Partial> partials = chunkStream
+                    .mapToObj(chunk -> scanChunk(chunk, bounds, groupColumn, groups, vacantCode))
+                    .toList();
+            Partial total = new Partial(groups, 0);
+            for (Partial partial : partials) {
+                total.mergeCounts(partial);
+            }
+            long[][] rentsByGroup = gatherRents(partials, groupColumn, total.rentCount);
+
+            List<GroupStats> result = new ArrayList<>();
+            for (int g = 0; g < groups; g++) {
+                if (total.count[g] == 0) {
+                    continue;
+                }
+                boolean anyRent = total.rentCount[g] > 0;
+                result.add(new GroupStats(groupLabel(groupBy, g), total.count[g], total.vacant[g], total.rentCount[g],
+                        total.sumCents[g], anyRent ? total.minCents[g] : NULL, anyRent ? total.maxCents[g] : NULL,
+                        median(rentsByGroup[g])));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Partial scanChunk(int chunk, int[] bounds, int[] groupColumn, int groups, int vacantCode) {
+        int from = chunk * CHUNK_SIZE;
+        int to = Math.min(size, from + CHUNK_SIZE);
+        Partial partial = new Partial(groups, to - from);
+        for (int i = from; i < to; i++) {
+            if (!matches(i, bounds)) {
+                continue;
+            }
+            int g = groupColumn == null ? 0 : groupColumn[i];
+            if (g < 0) {
+                continue; // Rows whose group column is null are left out of grouped results
+            }
+            partial.count[g]++;
+            if (statusCodes[i] == vacantCode) {
+                partial.vacant[g]++;
+            }
+            long rent = rentCents[i];
+            if (rent != NULL) {
+                partial.rows[partial.rowCount++] = i;
+                partial.rentCount[g]++;
+                partial.sumCents[g] += rent;
+                partial.minCents[g] = Math.min(partial.minCents[g], rent);
+                partial.maxCents[g] = Math.max(partial.maxCents[g], rent);
+            }
+        }
+        return partial;
+    }
+
+    private long[][] gatherRents(List<Partial> partials, int[] groupColumn, int[] rentCount) {
+        long[][] rents = new long[rentCount.length][];
+        int[] filled = new int[rentCount.length];
+        for (int g = 0; g < rentCount.length; g++) {
+            rents[g] = new long[rentCount[g]];
+        }
+        for (Partial partial : partials) {
+            for (int r = 0; r < partial.rowCount; r++) {
+                int i = partial.rows[r];
+                int g = groupColumn == null ? 0 : groupColumn[i];
+                rents[g][filled[g]++] = rentCents[i];
+            }
+        }
+        return rents;
+    }
+
+    /** bounds = {city, state, type, status, minBedrooms, maxBedrooms, minBathrooms}; see Filter.toBounds. */
+    private boolean matches(int i, int[] bounds) {
+        return live[i]
+                && (bounds[0] == NULL || cityCodes[i] == bounds[0])
+                && (bounds[1] == NULL || stateCodes[i] == bounds[1])
+                && (bounds[2] == NULL || typeCodes[i] == bounds[2])
+                && (bounds[3] == NULL || statusCodes[i] == bounds[3])
+                && bedrooms[i] >= bounds[4] && bedrooms[i] <= bounds[5]
+                && bathrooms[i] >= bounds[6];
+    }
+
+    private int[] groupColumn(String groupBy) {
+        if (groupBy == null) {
+            return null;
+        }
+        switch (groupBy) {
+            case CITY: return cityCodes;
+            case STATE: return stateCodes;
+            case TYPE: return typeCodes;
+            case STATUS: return statusCodes;
+            case BEDROOMS: return bedrooms;
+            default: throw new IllegalArgumentException("Unsupported groupBy: " + groupBy);
+        }
+    }
+
+    private int groupCount(String groupBy) {
+        if (groupBy == null) {
+            return 1;
+        }
+        switch (groupBy) {
+            case CITY: return cities.size();
+            case STATE: return states.size();
+            case TYPE: return types.size();
+            case STATUS: return statuses.size();
+            default:
+                int max = 0;
+                for (int i = 0; i < size; i++) {
+                    if (live[i]) {
+                        max = Math.max(max, bedrooms[i]);
+                    }
+                }
+                return max + 1;
+        }
+    }
+
+    private String groupLabel(String groupBy, int g) {
+        if (groupBy == null) {
+            return "ALL";
+        }
+        switch (groupBy) {
+            case CITY: return cities.decode(g);
+            case STATE: return states.decode(g);
+            case TYPE: return types.decode(g);
+            case STATUS: return statuses.decode(g);
+            default: return Integer.toString(g);
+        }
+    }
+
+    /** Exact median by quickselect; reorders the array. */
+    private static long median(long[] values) {
+        if (values.length == 0) {
+            return NULL;
+        }
+        int mid = values.length / 2;
+        long upper = select(values, mid);
+        if (values.length % 2 == 1) {
+            return upper;
+        }
+        // After select, everything left of mid is <= upper, so the lower middle is their maximum
+        long lower = Long.MIN_VALUE;
+        for (int i = 0; i < mid; i++) {
+            lower = Math.max(lower, values[i]);
+        }
+        return (lower + upper) / 2;
+    }
+
+    private static long select(long[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            long pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    long swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        live = Arrays.copyOf(live, capacity);
+        rentCents = Arrays.copyOf(rentCents, capacity);
+        cityCodes = Arrays.copyOf(cityCodes, capacity);
+        stateCodes = Arrays.copyOf(stateCodes, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        bedrooms = Arrays.copyOf(bedrooms, capacity);
+        bathrooms = Arrays.copyOf(bathrooms, capacity);
+    }
+
+    /** Equality filters by value plus bedroom/bathroom bounds; null fields are unfiltered. */
+    public static class Filter {
+        private String city;
+        private String state;
+        private String type;
+        private String status;
+        private Integer minBedrooms;
+        private Integer maxBedrooms;
+        private Integer minBathrooms;
+
+        public Filter(String city, String state, String type, String status,
+                      Integer minBedrooms, Integer maxBedrooms, Integer minBathrooms) {
+            this.city = city;
+            this.state = state;
+            this.type = type;
+            this.status = status;
+            this.minBedrooms = minBedrooms;
+            this.maxBedrooms = maxBedrooms;
+            this.minBathrooms = minBathrooms;
+        }
+
+        /**
+         * Resolves the filter to primitive bounds. A value the dictionary has never seen matches
+         * nothing, so it maps to an impossible code. An unset lower bound still excludes rows
+         * with no count once an upper bound is given.
+         */
+        int[] toBounds(PropertyColumnStore store) {
+            int minBeds = minBedrooms != null ? minBedrooms : (maxBedrooms != null ? 0 : Integer.MIN_VALUE);
+            return new int[]{
+                    code(store.cities, city), code(store.states, state), code(store.types, type), code(store.statuses, status),
+                    minBeds, maxBedrooms != null ? maxBedrooms : Integer.MAX_VALUE,
+                    minBathrooms != null ? minBathrooms : Integer.MIN_VALUE};
+        }
+
+        private static int code(Dictionary dictionary, String value) {
+            if (value == null) {
+                return NULL;
+            }
+            int code = dictionary.lookup(value);
+            return code == NULL ? Integer.MIN_VALUE : code;
+        }
+    }
+
+    public static final class GroupStats {
+        private final String key;
+        private final int count;
+        private final int vacant;
+        private final int rentCount;
+        private final long sumCents;
+        private final long minCents;
+        private final long maxCents;
+        private final long medianCents;
+
+        GroupStats(String key, int count, int vacant, int rentCount, long sumCents, long minCents, long maxCents, long medianCents) {
+            this.key = key;
+            this.count = count;
+            this.vacant = vacant;
+            this.rentCount = rentCount;
+            this.sumCents = sumCents;
+            this.minCents = minCents;
+            this.maxCents = maxCents;
+            this.medianCents = medianCents;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getVacant() {
+            return vacant;
+        }
+
+        public int getRentCount() {
+            return rentCount;
+        }
+
+        public long getSumCents() {
+            return sumCents;
+        }
+
+        public long getMinCents() {
+            return minCents;
+        }
+
+        public long getMaxCents() {
+            return maxCents;
+        }
+
+        public long getMedianCents() {
+            return medianCents;
+        }
+    }
+
+    private static final class Partial {
+        final int[] count;
+        final int[] vacant;
+        final int[] rentCount;
+        final long[] sumCents;
+        final long[] minCents;
+        final long[] maxCents;
+        final int[] rows; // Matching rows with a rent, for the median pass
+        int rowCount;
+
+        Partial(int groups, int chunkRows) {
+            count = new int[groups];
+            vacant = new int[groups];
+            rentCount = new int[groups];
+            sumCents = new long[groups];
+            minCents = new long[groups];
+            maxCents = new long[groups];
+            rows = new int[chunkRows];
+            Arrays.fill(minCents, Long.MAX_VALUE);
+            Arrays.fill(maxCents, Long.MIN_VALUE);
+        }
+
+        void mergeCounts(Partial other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                vacant[g] += other.vacant[g];
+                rentCount[g] += other.rentCount[g];
+                sumCents[g] += other.sumCents[g];
+                minCents[g] = Math.min(minCents[g], other.minCents[g]);
+                maxCents[g] = Math.max(maxCents[g], other.maxCents[g]);
+            }
+        }
+    }
+
+    /** Append-only string dictionary; codes stay stable for the life of the store. */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NULL;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int lookup(String value) {
+            Integer code = value != null ? codes.get(value) : null;
+            return code != null ? code : NULL;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
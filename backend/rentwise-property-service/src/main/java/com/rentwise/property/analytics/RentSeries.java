@@ -0,0 +1,138 @@
+package com.rentwise.property.analytics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Rent changes of one property as a time series of (epoch second, rent in cents) points in
+ * time order. The stored form is delta-encoded: each point keeps only the seconds since the
+ * previous point and the change in cents, zigzag/varint encoded, so a change costs about six
+ * bytes and a property's whole history fits in one small blob.
+ *
+ * Not thread-safe.
+ */
+public class RentSeries {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private long[] seconds = new long[4];
+    private long[] cents = new long[4];
+    private int size;
+
+    /**
+     * Appends a point. Times earlier than the last point are moved up to it, so the series
+     * stays ordered if the clock steps back.
+     * @return false when the rent equals the last point's and nothing was added
+     */
+    public boolean append(long epochSecond, long rentCents) {
+        if (size > 0) {
+            if (cents[size - 1] == rentCents) {
+                return false;
+            }
+            epochSecond = Math.max(epochSecond, seconds[size - 1]);
+        }
+        if (size == seconds.length) {
+            seconds = Arrays.copyOf(seconds, size * 2);
+            cents = Arrays.copyOf(cents, size * 2);
+        }
+        seconds[size] = epochSecond;
+        cents[size] = rentCents;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long secondAt(int index) {
+        return seconds[index];
+    }
+
+    public long centsAt(int index) {
+        return cents[index];
+    }
+
+    /** Index of the last point at or before epochSecond, i.e. the rent in effect then; -1 if none. */
+    public int floor(long epochSecond) {
+        int low = 0;
+        int high = size - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (seconds[mid] <= epochSecond) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    public byte[] serialize() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + size * 6);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, size);
+        long previousSecond = 0;
+        long previousCents = 0;
+        for (int i = 0; i < size; i++) {
+            writeVarLong(out, zigzag(seconds[i] - previousSecond));
+            writeVarLong(out, zigzag(cents[i] - previousCents));
+            previousSecond = seconds[i];
+            previousCents = cents[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static RentSeries deserialize(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported rent series format version: " + version);
+        }
+        RentSeries series = new RentSeries();
+        int length = (int) readVarLong(in);
+        series.seconds = new long[Math.max(4, length)];
+        series.cents = new long[Math.max(4, length)];
+        long second = 0;
+        long rent = 0;
+        for (int i = 0; i < length; i++) {
+            second += unzigzag(readVarLong(in));
+            rent += unzigzag(readVarLong(in));
+            series.seconds[i] = second;
+            series.cents[i] = rent;
+        }
+        series.size = length;
+        return series;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,208 @@
+package com.rentwise.property.analytics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch with a relative-error guarantee (the DDSketch scheme). Values are
+ * counted in logarithmic bins of ratio gamma = (1 + alpha) / (1 - alpha), so any reported
+ * quantile is within alpha of the true value in relative terms. Because a bin is only a
+ * counter, values can be removed as exactly as they were added, which lets the sketch follow
+ * property updates and deletes.
+ *
+ * Not thread-safe; callers synchronize on the sketch.
+ */
+public class RentSketch {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private long[] bins = new long[0];
+    private int minIndex;
+    private long zeroCount;
+    private long count;
+
+    public RentSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be in (0, 1)");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            int index = index(value);
+            ensureRange(index);
+            bins[index - minIndex]++;
+        }
+        count++;
+    }
+
+    /**
+     * Removes one occurrence of a value previously added. Removing a value that was never
+     * added is ignored rather than driving a bin negative.
+     */
+    public void remove(double value) {
+        if (value <= 0) {
+            if (zeroCount > 0) {
+                zeroCount--;
+                count--;
+            }
+            return;
+        }
+        int slot = index(value) - minIndex;
+        if (slot >= 0 && slot < bins.length && bins[slot] > 0) {
+            bins[slot]--;
+            count--;
+        }
+    }
+
+    public void merge(RentSketch other) {
+        if (other.gamma != gamma) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        for (int slot = 0; slot < other.bins.length; slot++) {
+            if (other.bins[slot] > 0) {
+                int index = other.minIndex + slot;
+                ensureRange(index);
+                bins[index - minIndex] += other.bins[slot];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * @param quantile in [0, 1]
+     * @return the estimated value, or NaN when the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int slot = 0; slot < bins.length; slot++) {
+            seen += bins[slot];
+            if (seen > rank) {
+                return 2 * Math.pow(gamma, minIndex + slot) / (gamma + 1);
+            }
+        }
+        return 2 * Math.pow(gamma, minIndex + bins.length - 1) / (gamma + 1);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Compact binary form: version, relative accuracy, zero count, then the non-empty bin
+     * range as zigzag/varint encoded offsets and counts. A few hundred bytes at most for rents.
+     */
+    public byte[] serialize() {
+        int first = 0;
+        int last = bins.length - 1;
+        while (first <= last && bins[first] == 0) {
+            first++;
+        }
+        while (last >= first && bins[last] == 0) {
+            last--;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(FORMAT_VERSION);
+        out.writeBytes(ByteBuffer.allocate(Double.BYTES).putDouble(relativeAccuracy).array());
+        writeVarLong(out, zeroCount);
+        writeVarLong(out, zigzag(minIndex + first));
+        writeVarLong(out, Math.max(0, last - first + 1));
+        for (int slot = first; slot <= last; slot++) {
+            writeVarLong(out, bins[slot]);
+        }
+        return out.toByteArray();
+    }
+
+    public static RentSketch deserialize(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported sketch format version: " + version);
+        }
+        RentSketch sketch = new RentSketch(in.getDouble());
+        sketch.zeroCount = readVarLong(in);
+        sketch.minIndex = (int) unzigzag(readVarLong(in));
+        int length = (int) readVarLong(in);
+        sketch.bins = new long[length];
+        sketch.count = sketch.zeroCount;
+        for (int slot = 0; slot < length; slot++) {
+            sketch.bins[slot] = readVarLong(in);
+            sketch.count += sketch.bins[slot];
+        }
+        return sketch;
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private void ensureRange(int index) {
+        if (bins.length == 0) {
+            bins = new long[16];
+            minIndex = index - 8;
+            return;
+        }
+        if (index < minIndex) {
+            int grow = Math.max(minIndex - index, bins.length / 2);
+            long[] grown = new long[bins.length + grow];
+            System.arraycopy(bins, 0, grown, grow, bins.length);
+            bins = grown;
+            minIndex -= grow;
+        } else if (index >= minIndex + bins.length) {
+            int required = index - minIndex + 1;
+            bins = Arrays.copyOf(bins, Math.max(required, bins.length + bins.length / 2));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
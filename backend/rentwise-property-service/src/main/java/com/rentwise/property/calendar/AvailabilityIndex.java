@@ -0,0 +1,318 @@
+package com.rentwise.property.calendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Calendar intervals (epoch days, half-open) indexed twice: one IntervalTree per property over
+ * its booked intervals, for calendar and free-window lookups, and one global IntervalTree over
+ * every property's free gaps (the complement of its bookings, open-ended at both sides). A
+ * property is free for [from, to) exactly when one of its gaps contains that range, and since
+ * a property's gaps are disjoint, each free property is found once without scanning the
+ * bookings of busy ones. A property's gaps are recomputed from its own tree on every change.
+ */
+public class AvailabilityIndex {
+
+    private static final long OPEN_START = Long.MIN_VALUE / 2;
+    private static final long OPEN_END = Long.MAX_VALUE / 2;
+
+    private final Map<Long, IntervalTree> byProperty = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final IntervalTree gaps = new IntervalTree();
+    private final Map<Long, long[]> gapStarts = new HashMap<>(); // Gaps are keyed by (start, property id)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void addProperty(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            if (!gapStarts.containsKey(propertyId)) {
+                refreshGaps(propertyId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the property and all of its intervals. */
+    public void removeProperty(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            IntervalTree tree = byProperty.remove(propertyId);
+            if (tree != null) {
+                tree.overlapping(OPEN_START, OPEN_END, (start, end, id) -> {
+                    entries.remove(id);
+                    return true;
+                });
+            }
+            dropGaps(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds or replaces an interval. */
+    public void put(long intervalId, long propertyId, long start, long end, String kind) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(intervalId);
+            byProperty.computeIfAbsent(propertyId, p -> new IntervalTree()).insert(start, end, intervalId);
+            entries.put(intervalId, new Entry(propertyId, start, end, kind));
+            refreshGaps(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long intervalId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(intervalId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byProperty.clear();
+            entries.clear();
+            gaps.clear();
+            gapStarts.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Interval ids of the property overlapping [from, to), in start order. */
+    public List<Long> overlapping(long propertyId, long from, long to) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            IntervalTree tree = byProperty.get(propertyId);
+            if (tree != null) {
+                tree.overlapping(from, to, (start, end, id) -> ids.add(id));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return id of an interval of the given kind overlapping [from, to) on the property,
+     *         other than excludedId, or null if there is none
+     */
+    public Long findConflict(long propertyId, long from, long to, String kind, Long excludedId) {
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = byProperty.get(propertyId);
+            if (tree == null) {
+                return null;
+            }
+            Long[] conflict = new Long[1];
+            tree.overlapping(from, to, (start, end, id) -> {
+                if (!Long.valueOf(id).equals(excludedId) && entries.get(id).kind.equals(kind)) {
+                    conflict[0] = id;
+                    return false;
+                }
+                return true;
+            });
+            return conflict[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Properties with no interval overlapping [from, to), in id order.
+     * @param offset number of free properties to skip
+     * @param limit  number of free property ids to return
+     */
+    public Page freeProperties(long from, long to, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            // Stab at the first day; a property's gaps are disjoint, so it has at most one hit
+            FreeCollector free = new FreeCollector(to);
+            gaps.overlapping(from, from + 1, free);
+            long[] sorted = Arrays.copyOf(free.ids, free.count);
+            Arrays.sort(sorted);
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < sorted.length && ids.size() < limit; i++) {
+                ids.add(sorted[i]);
+            }
+            return new Page(sorted.length, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gaps of at least minLength days in the property's calendar within [from, to), as
+     * {start, end} pairs in date order.
+     */
+    public List<long[]> freeWindows(long propertyId, long from, long to, long minLength) {
+        lock.readLock().lock();
+        try {
+            List<long[]> windows = new ArrayList<>();
+            long[] cursor = {from};
+            IntervalTree tree = byProperty.get(propertyId);
+            if (tree != null) {
+                tree.overlapping(from, to, (start, end, id) -> {
+                    if (start - cursor[0] >= minLength) {
+                        windows.add(new long[]{cursor[0], start});
+                    }
+                    cursor[0] = Math.max(cursor[0], end); // Intervals may overlap each other
+                    return cursor[0] < to;
+                });
+            }
+            if (to - cursor[0] >= minLength) {
+                windows.add(new long[]{cursor[0], to});
+            }
+            return windows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean containsProperty(long propertyId) {
+        lock.readLock().lock();
+        try {
+            return gapStarts.containsKey(propertyId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int intervalCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long intervalId) {
+        Entry entry = entries.remove(intervalId);
+        if (entry == null) {
+            return;
+        }
+        IntervalTree tree = byProperty.get(entry.propertyId);
+        tree.remove(entry.start, intervalId);
+        if (tree.isEmpty()) {
+            byProperty.remove(entry.propertyId);
+        }
+        refreshGaps(entry.propertyId);
+    }
+
+    /** Replaces the property's gaps in the global tree with the complement of its bookings. */
+    private void refreshGaps(long propertyId) {
+        dropGaps(propertyId);
+        GapCollector collector = new GapCollector();
+        IntervalTree tree = byProperty.get(propertyId);
+        if (tree != null) {
+            tree.overlapping(OPEN_START, OPEN_END, collector);
+        }
+        collector.add(collector.cursor, OPEN_END);
+        long[] starts = new long[collector.count];
+        for (int i = 0; i < collector.count; i++) {
+            starts[i] = collector.bounds[i * 2];
+            gaps.insert(starts[i], collector.bounds[i * 2 + 1], propertyId);
+        }
+        gapStarts.put(propertyId, starts);
+    }
+
+    private void dropGaps(long propertyId) {
+        long[] starts = gapStarts.remove(propertyId);
+        if (starts != null) {
+            for (long start : starts) {
+                gaps.remove(start, propertyId);
+            }
+        }
+    }
+
+    /** Walks bookings in start order and records the uncovered stretches between them. */
+    private static final class GapCollector implements IntervalTree.Visitor {
+        long[] bounds = new long[8];
+        int count;
+        long cursor = OPEN_START;
+
+        @Override
+        public boolean visit(long start, long end, long id) {
+            if (start > cursor) {
+                add(cursor, start);
+            }
+            cursor = Math.max(cursor, end); // Bookings of different kinds may overlap
+            return true;
+        }
+
+        void add(long start, long end) {
+            if (count * 2 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[count * 2] = start;
+            bounds[count * 2 + 1] = end;
+            count++;
+        }
+    }
+
+    /** Owners of stabbed gaps that also reach the end of the requested range. */
+    private static final class FreeCollector implements IntervalTree.Visitor {
+        final long to;
+        long[] ids = new long[64];
+        int count;
+
+        FreeCollector(long to) {
+            this.to = to;
+        }
+
+        @Override
+        public boolean visit(long start, long end, long propertyId) {
+            if (end >= to) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                }
+                ids[count++] = propertyId;
+            }
+            return true;
+        }
+    }
+
+    private static final class Entry {
+        final long propertyId;
+        final long start;
+        final long end;
+        final String kind;
+
+        Entry(long propertyId, long start, long end, String kind) {
+            this.propertyId = propertyId;
+            this.start = start;
+            this.end = end;
+            this.kind = kind;
+        }
+    }
+
+    public static final class Page {
+        private final int total;
+        private final List<Long> ids;
+
+        Page(int total, List<Long> ids) {
+            this.total = total;
+            this.ids = ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.rentwise.property.calendar;
+
+/**
+ * AVL tree of half-open intervals [start, end) ordered by (start, id), where every node also
+ * records the largest end in its subtree. A subtree whose largest end is at or before the
+ * query start cannot overlap it and is skipped, so an overlap query costs O(log n + k) for
+ * k matches. Insert and remove are O(log n).
+ *
+ * Not thread-safe; AvailabilityIndex guards its trees with a read/write lock.
+ */
+public class IntervalTree {
+
+    /** Receives matches in (start, id) order; returning false stops the walk. */
+    public interface Visitor {
+        boolean visit(long start, long end, long id);
+    }
+
+    private Node root;
+    private int size;
+
+    public void insert(long start, long end, long id) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+        root = insert(root, start, end, id);
+        size++;
+    }
+
+    /** @return false if no interval with this start and id was present */
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Exposed for the balance checks in IntervalTreeTest
+    int height() {
+        return height(root);
+    }
+
+    /** Visits every interval overlapping [from, to). */
+    public void overlapping(long from, long to, Visitor visitor) {
+        overlapping(root, from, to, visitor);
+    }
+
+    public boolean overlapsAny(long from, long to) {
+        boolean[] found = new boolean[1];
+        overlapping(root, from, to, (start, end, id) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    private static boolean overlapping(Node node, long from, long to, Visitor visitor) {
+        if (node == null || node.maxEnd <= from) {
+            return true;
+        }
+        if (!overlapping(node.left, from, to, visitor)) {
+            return false;
+        }
+        if (node.start >= to) {
+            return true; // Everything to the right starts later still
+        }
+        if (node.end > from && !visitor.visit(node.start, node.end, node.id)) {
+            return false;
+        }
+        return overlapping(node.right, from, to, visitor);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.id);
+    }
+
+    private Node insert(Node node, long start, long end, long id) {
+        if (node == null) {
+            return new Node(start, end, id);
+        }
+        if (compare(start, id, node) < 0) {
+            node.left = insert(node.left, start, end, id);
+        } else {
+            node.right = insert(node.right, start, end, id);
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static final class Node {
+        final long start;
+        final long end;
+        final long id;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.maxEnd = end;
+        }
+    }
+}
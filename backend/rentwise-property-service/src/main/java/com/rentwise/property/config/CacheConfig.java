@@ -0,0 +1,68 @@
+package com.rentwise.property.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.rentwise.property.model.Property;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions, backed by Caffeine through JCache.
+ * Regions are created here with explicit size bounds and TTLs rather than relying on
+ * Hibernate's create-on-demand defaults, which would be unbounded.
+ */
+@Configuration
+public class CacheConfig {
+    
+    // Hibernate's default region names for the query cache
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    
+    @Value("${property.cache.entity.max-size:10000}")
+    private long entityMaxSize;
+    
+    @Value("${property.cache.entity.ttl:10m}")
+    private Duration entityTtl;
+    
+    @Value("${property.cache.query.max-size:5000}")
+    private long queryMaxSize;
+    
+    @Value("${property.cache.query.ttl:5m}")
+    private Duration queryTtl;
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(cacheManager, Property.class.getName(), entityMaxSize, entityTtl);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, queryMaxSize, queryTtl);
+        // Timestamps must outlive every cached query result, so this region is never expired
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 1000, null);
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+    
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
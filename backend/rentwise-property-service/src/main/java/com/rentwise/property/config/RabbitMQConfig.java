@@ -0,0 +1,34 @@
+package com.rentwise.property.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+    
+    // Routing keys are property.changed.<created|updated|deleted>; consumers declare and bind their own queues
+    public static final String EXCHANGE_PROPERTY_CHANGED = "property.changed.exchange";
+    public static final String ROUTING_KEY_PROPERTY_CHANGED_PREFIX = "property.changed.";
+    
+    @Bean
+    public TopicExchange propertyChangedExchange() {
+        return new TopicExchange(EXCHANGE_PROPERTY_CHANGED);
+    }
+    
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+    
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(jsonMessageConverter());
+        return template;
+    }
+}
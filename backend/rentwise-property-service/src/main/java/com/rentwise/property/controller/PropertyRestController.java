@@ -1,15 +1,43 @@
 package com.rentwise.property.controller;
 
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.property.model.AvailabilityWindow;
+import com.rentwise.property.model.AvailablePropertyPage;
 import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyAnalyticsResult;
+import com.rentwise.property.model.PropertyAvailability;
+import com.rentwise.property.model.PropertyFacetResult;
+import com.rentwise.property.model.PropertyGeoPage;
+import com.rentwise.property.model.PropertySearchCriteria;
+import com.rentwise.property.model.PropertySearchPage;
+import com.rentwise.property.model.PropertySuggestion;
+import com.rentwise.property.model.RentPoint;
+import com.rentwise.property.model.RentQuantileStats;
+import com.rentwise.property.model.RentTrendPoint;
+import com.rentwise.property.service.PropertyAnalyticsService;
+import com.rentwise.property.service.PropertyAutocompleteService;
+import com.rentwise.property.service.PropertyAvailabilityService;
+import com.rentwise.property.service.PropertyFacetService;
+import com.rentwise.property.service.PropertyGeoService;
+import com.rentwise.property.service.PropertyImportService;
 import com.rentwise.property.service.PropertyService;
+import com.rentwise.property.service.RentHistoryService;
+import com.rentwise.property.service.RentStatisticsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/properties")
@@ -21,6 +49,30 @@ public class PropertyRestController {
     @Autowired
     private PropertyService propertyService;
     
+    @Autowired
+    private PropertyGeoService propertyGeoService;
+    
+    @Autowired
+    private PropertyFacetService propertyFacetService;
+    
+    @Autowired
+    private PropertyAnalyticsService propertyAnalyticsService;
+    
+    @Autowired
+    private RentStatisticsService rentStatisticsService;
+    
+    @Autowired
+    private PropertyAutocompleteService propertyAutocompleteService;
+    
+    @Autowired
+    private PropertyAvailabilityService propertyAvailabilityService;
+    
+    @Autowired
+    private PropertyImportService propertyImportService;
+    
+    @Autowired
+    private RentHistoryService rentHistoryService;
+    
     @GetMapping
     public List<Property> getAllProperties() {
         logger.info("[{}] [PropertyRestController] [getAllProperties] START - API: GET /api/properties", SERVICE_NAME);
@@ -35,6 +87,271 @@ public class PropertyRestController {
         }
     }
     
+    // Filters are bound from query parameters, e.g.
+    // /api/properties/search?city=Chicago&status=AVAILABLE&minBedrooms=2&maxRent=3000&limit=20&cursor=...
+    @GetMapping("/search")
+    public ResponseEntity<PropertySearchPage> searchProperties(PropertySearchCriteria criteria) {
+        logger.info("[{}] [PropertyRestController] [searchProperties] START - API: GET /api/properties/search", SERVICE_NAME);
+        try {
+            PropertySearchPage page = propertyService.searchProperties(criteria);
+            logger.info("[{}] [PropertyRestController] [searchProperties] SUCCESS - Returning {} properties", 
+                    SERVICE_NAME, page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [searchProperties] Invalid search request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [searchProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/analytics?groupBy=state&type=APARTMENT for vacancy rate and rent by state
+    @GetMapping("/analytics")
+    public ResponseEntity<PropertyAnalyticsResult> getPropertyAnalytics(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer minBedrooms,
+            @RequestParam(required = false) Integer maxBedrooms,
+            @RequestParam(required = false) Integer minBathrooms) {
+        logger.info("[{}] [PropertyRestController] [getPropertyAnalytics] START - API: GET /api/properties/analytics - GroupBy: {}", 
+                SERVICE_NAME, groupBy);
+        try {
+            PropertyAnalyticsResult result = propertyAnalyticsService.getAnalytics(groupBy, city, state, type, status, 
+                    minBedrooms, maxBedrooms, minBathrooms);
+            logger.info("[{}] [PropertyRestController] [getPropertyAnalytics] SUCCESS - Returning {} groups", 
+                    SERVICE_NAME, result.getGroups().size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertyAnalytics] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertyAnalytics] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. curl -F file=@properties.csv http://localhost:8082/api/properties/import
+    // Returns 202 with the job; poll GET /api/properties/import/{jobId} for progress
+    @PostMapping("/import")
+    public ResponseEntity<ImportJob> importProperties(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        logger.info("[{}] [PropertyRestController] [importProperties] START - API: POST /api/properties/import", SERVICE_NAME);
+        try {
+            ImportJob job = propertyImportService.startImport(file, format);
+            logger.info("[{}] [PropertyRestController] [importProperties] SUCCESS - Import job: {}", SERVICE_NAME, job.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [importProperties] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [importProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJob> getImportJob(@PathVariable String jobId) {
+        ImportJob job = propertyImportService.getJob(jobId);
+        if (job == null) {
+            logger.warn("[{}] [PropertyRestController] [getImportJob] Import job not found: {}", SERVICE_NAME, jobId);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+    
+    // Dates are ISO (yyyy-MM-dd) and half-open: to is the first day no longer needed
+    // e.g. /api/properties/available?from=2026-06-01&to=2026-09-01
+    @GetMapping("/available")
+    public ResponseEntity<AvailablePropertyPage> getAvailableProperties(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.info("[{}] [PropertyRestController] [getAvailableProperties] START - API: GET /api/properties/available", SERVICE_NAME);
+        try {
+            AvailablePropertyPage result = propertyAvailabilityService.findAvailable(from, to, offset, limit);
+            logger.info("[{}] [PropertyRestController] [getAvailableProperties] SUCCESS - Returning {} of {} properties", 
+                    SERVICE_NAME, result.getItems().size(), result.getTotal());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getAvailableProperties] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getAvailableProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/autocomplete?q=main%20st - an empty q returns the most viewed properties
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PropertySuggestion>> autocompleteProperties(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("[{}] [PropertyRestController] [autocompleteProperties] START - API: GET /api/properties/autocomplete", SERVICE_NAME);
+        try {
+            List<PropertySuggestion> suggestions = propertyAutocompleteService.autocomplete(q, limit);
+            logger.info("[{}] [PropertyRestController] [autocompleteProperties] SUCCESS - Returning {} suggestions", 
+                    SERVICE_NAME, suggestions.size());
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [autocompleteProperties] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [autocompleteProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/rent-stats?city=Austin&bedrooms=2&quantiles=0.5,0.9
+    @GetMapping("/rent-stats")
+    public ResponseEntity<List<RentQuantileStats>> getRentStats(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(defaultValue = "0.5,0.9") List<Double> quantiles,
+            @RequestParam(defaultValue = "false") boolean merged) {
+        logger.info("[{}] [PropertyRestController] [getRentStats] START - API: GET /api/properties/rent-stats", SERVICE_NAME);
+        try {
+            List<RentQuantileStats> stats = rentStatisticsService.getRentStats(city, bedrooms, quantiles, merged);
+            logger.info("[{}] [PropertyRestController] [getRentStats] SUCCESS - Returning {} buckets", SERVICE_NAME, stats.size());
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getRentStats] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getRentStats] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/rent-trends?city=Austin&from=2025-11&to=2026-10
+    @GetMapping("/rent-trends")
+    public ResponseEntity<List<RentTrendPoint>> getRentTrends(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(defaultValue = "false") boolean merged) {
+        logger.info("[{}] [PropertyRestController] [getRentTrends] START - API: GET /api/properties/rent-trends", SERVICE_NAME);
+        try {
+            List<RentTrendPoint> trends = rentHistoryService.getRentTrends(city, from, to, merged);
+            logger.info("[{}] [PropertyRestController] [getRentTrends] SUCCESS - Returning {} points", SERVICE_NAME, trends.size());
+            return ResponseEntity.ok(trends);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getRentTrends] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getRentTrends] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // Repeat a parameter to OR its values, e.g. ?city=Austin&city=Dallas&bedrooms=2&rentBand=1500-2000
+    @GetMapping("/facets")
+    public ResponseEntity<PropertyFacetResult> getPropertyFacets(
+            @RequestParam(required = false) List<String> city,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<String> bedrooms,
+            @RequestParam(required = false) List<String> rentBand,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.info("[{}] [PropertyRestController] [getPropertyFacets] START - API: GET /api/properties/facets", SERVICE_NAME);
+        try {
+            Map<String, List<String>> filters = new HashMap<>();
+            filters.put(PropertyFacetService.CITY, city);
+            filters.put(PropertyFacetService.TYPE, type);
+            filters.put(PropertyFacetService.STATUS, status);
+            filters.put(PropertyFacetService.BEDROOMS, bedrooms);
+            filters.put(PropertyFacetService.RENT_BAND, rentBand);
+            PropertyFacetResult result = propertyFacetService.getFacets(filters, offset, limit);
+            logger.info("[{}] [PropertyRestController] [getPropertyFacets] SUCCESS - {} matching properties", 
+                    SERVICE_NAME, result.getTotal());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertyFacets] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertyFacets] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // Either lat/lon or zipCode (its centroid) gives the centre
+    @GetMapping("/nearby")
+    public ResponseEntity<PropertyGeoPage> getPropertiesNearby(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) String zipCode,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.info("[{}] [PropertyRestController] [getPropertiesNearby] START - API: GET /api/properties/nearby", SERVICE_NAME);
+        try {
+            double[] centre = resolveCentre(lat, lon, zipCode);
+            PropertyGeoPage page = propertyGeoService.findWithinRadius(centre[0], centre[1], radiusKm, offset, limit);
+            logger.info("[{}] [PropertyRestController] [getPropertiesNearby] SUCCESS - Returning {} properties", 
+                    SERVICE_NAME, page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertiesNearby] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertiesNearby] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/nearest")
+    public ResponseEntity<PropertyGeoPage> getNearestProperties(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) String zipCode,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit) {
+        logger.info("[{}] [PropertyRestController] [getNearestProperties] START - API: GET /api/properties/nearest", SERVICE_NAME);
+        try {
+            double[] centre = resolveCentre(lat, lon, zipCode);
+            PropertyGeoPage page = propertyGeoService.findNearest(centre[0], centre[1], offset, limit);
+            logger.info("[{}] [PropertyRestController] [getNearestProperties] SUCCESS - Returning {} properties", 
+                    SERVICE_NAME, page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getNearestProperties] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getNearestProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // A box with minLon > maxLon crosses the antimeridian
+    @GetMapping("/within")
+    public ResponseEntity<PropertyGeoPage> getPropertiesWithinBox(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.info("[{}] [PropertyRestController] [getPropertiesWithinBox] START - API: GET /api/properties/within", SERVICE_NAME);
+        try {
+            PropertyGeoPage page = propertyGeoService.findWithinBox(minLat, minLon, maxLat, maxLon, offset, limit);
+            logger.info("[{}] [PropertyRestController] [getPropertiesWithinBox] SUCCESS - Returning {} properties", 
+                    SERVICE_NAME, page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertiesWithinBox] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertiesWithinBox] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Property> getPropertyById(@PathVariable Long id) {
         logger.info("[{}] [PropertyRestController] [getPropertyById] START - API: GET /api/properties/{}", SERVICE_NAME, id);
@@ -80,6 +397,9 @@ public class PropertyRestController {
             }
             logger.warn("[{}] [PropertyRestController] [updateProperty] Property not found with ID: {}", SERVICE_NAME, id);
             return ResponseEntity.notFound().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.warn("[{}] [PropertyRestController] [updateProperty] Conflict: property {} was changed concurrently", SERVICE_NAME, id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             logger.error("[{}] [PropertyRestController] [updateProperty] ERROR - Failed to update property with ID: {} - Error: {}", 
                     SERVICE_NAME, id, e.getMessage(), e);
@@ -101,6 +421,114 @@ public class PropertyRestController {
         }
     }
     
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<List<PropertyAvailability>> getPropertyCalendar(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("[{}] [PropertyRestController] [getPropertyCalendar] START - API: GET /api/properties/{}/availability", SERVICE_NAME, id);
+        try {
+            List<PropertyAvailability> bookings = propertyAvailabilityService.getCalendar(id, from, to);
+            if (bookings == null) {
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("[{}] [PropertyRestController] [getPropertyCalendar] SUCCESS - Returning {} bookings", SERVICE_NAME, bookings.size());
+            return ResponseEntity.ok(bookings);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertyCalendar] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertyCalendar] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PostMapping("/{id}/availability")
+    public ResponseEntity<PropertyAvailability> addPropertyBooking(@PathVariable Long id, @RequestBody PropertyAvailability booking) {
+        logger.info("[{}] [PropertyRestController] [addPropertyBooking] START - API: POST /api/properties/{}/availability", SERVICE_NAME, id);
+        try {
+            PropertyAvailability created = propertyAvailabilityService.addBooking(id, booking);
+            if (created == null) {
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("[{}] [PropertyRestController] [addPropertyBooking] SUCCESS - Booking created with ID: {}", SERVICE_NAME, created.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [addPropertyBooking] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("[{}] [PropertyRestController] [addPropertyBooking] Conflict: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [addPropertyBooking] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @DeleteMapping("/{id}/availability/{bookingId}")
+    public ResponseEntity<Void> deletePropertyBooking(@PathVariable Long id, @PathVariable Long bookingId) {
+        logger.info("[{}] [PropertyRestController] [deletePropertyBooking] START - API: DELETE /api/properties/{}/availability/{}", 
+                SERVICE_NAME, id, bookingId);
+        try {
+            if (!propertyAvailabilityService.deleteBooking(id, bookingId)) {
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("[{}] [PropertyRestController] [deletePropertyBooking] SUCCESS - Booking deleted with ID: {}", SERVICE_NAME, bookingId);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [deletePropertyBooking] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/7/availability/free-windows?from=2026-06-01&to=2026-12-01&minDays=30
+    @GetMapping("/{id}/availability/free-windows")
+    public ResponseEntity<List<AvailabilityWindow>> getPropertyFreeWindows(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int minDays) {
+        logger.info("[{}] [PropertyRestController] [getPropertyFreeWindows] START - API: GET /api/properties/{}/availability/free-windows", 
+                SERVICE_NAME, id);
+        try {
+            List<AvailabilityWindow> windows = propertyAvailabilityService.findFreeWindows(id, from, to, minDays);
+            if (windows == null) {
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("[{}] [PropertyRestController] [getPropertyFreeWindows] SUCCESS - Returning {} windows", SERVICE_NAME, windows.size());
+            return ResponseEntity.ok(windows);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getPropertyFreeWindows] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getPropertyFreeWindows] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // e.g. /api/properties/7/rent-history?from=2025-01-01&to=2026-01-01
+    @GetMapping("/{id}/rent-history")
+    public ResponseEntity<List<RentPoint>> getRentHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("[{}] [PropertyRestController] [getRentHistory] START - API: GET /api/properties/{}/rent-history", SERVICE_NAME, id);
+        try {
+            List<RentPoint> points = rentHistoryService.getRentHistory(id, from, to);
+            if (points == null) {
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("[{}] [PropertyRestController] [getRentHistory] SUCCESS - Returning {} points", SERVICE_NAME, points.size());
+            return ResponseEntity.ok(points);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [PropertyRestController] [getRentHistory] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyRestController] [getRentHistory] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Property>> getPropertiesByUserId(@PathVariable Long userId) {
         logger.info("[{}] [PropertyRestController] [getPropertiesByUserId] START - User ID: {}", SERVICE_NAME, userId);
@@ -114,5 +542,14 @@ public class PropertyRestController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    private double[] resolveCentre(Double lat, Double lon, String zipCode) {
+        if (lat != null && lon != null) {
+            return new double[]{lat, lon};
+        }
+        if (zipCode != null && !zipCode.isEmpty()) {
+            return propertyGeoService.resolveZipCode(zipCode);
+        }
+        throw new IllegalArgumentException("Either lat and lon or zipCode is required");
+    }
 }
-
@@ -0,0 +1,254 @@
+package com.rentwise.property.facet;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Roaring bitmap per facet value over dense document ordinals. Ordinals freed by removals
+ * are reused so the bitmaps stay dense. Filters OR values within a facet and AND across
+ * facets; each facet's counts ignore that facet's own filter so a UI can offer the other
+ * values of an already-selected facet.
+ */
+public class FacetIndex {
+
+    private final List<String> facets;
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final Map<Long, Map<String, String>> valuesById = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private long[] idByOrdinal = new long[1024];
+    private int nextOrdinal;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FacetIndex(Collection<String> facets) {
+        this.facets = new ArrayList<>(facets);
+        for (String facet : facets) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds or replaces a document. Facets missing from values, or mapped to null, leave the
+     * document out of that facet.
+     */
+    public void put(long id, Map<String, String> values) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(id);
+            if (ordinal == null) {
+                ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+                if (ordinal >= idByOrdinal.length) {
+                    idByOrdinal = Arrays.copyOf(idByOrdinal, idByOrdinal.length * 2);
+                }
+                idByOrdinal[ordinal] = id;
+                ordinalById.put(id, ordinal);
+                live.add(ordinal);
+            }
+            Map<String, String> previous = valuesById.get(id);
+            for (String facet : facets) {
+                String oldValue = previous != null ? previous.get(facet) : null;
+                String newValue = values.get(facet);
+                if (oldValue != null && oldValue.equals(newValue)) {
+                    continue;
+                }
+                if (oldValue != null) {
+                    clearBit(facet, oldValue, ordinal);
+                }
+                if (newValue != null) {
+                    bitmaps.get(facet).computeIfAbsent(newValue, v -> new RoaringBitmap()).add(ordinal);
+                }
+            }
+            valuesById.put(id, new HashMap<>(values));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            Map<String, String> previous = valuesById.remove(id);
+            for (Map.Entry<String, String> entry : previous.entrySet()) {
+                if (entry.getValue() != null && bitmaps.containsKey(entry.getKey())) {
+                    clearBit(entry.getKey(), entry.getValue(), ordinal);
+                }
+            }
+            live.remove(ordinal);
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (Map<String, RoaringBitmap> values : bitmaps.values()) {
+                values.clear();
+            }
+            ordinalById.clear();
+            valuesById.clear();
+            freeOrdinals.clear();
+            live.clear();
+            nextOrdinal = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Compresses runs after a bulk load. */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            for (Map<String, RoaringBitmap> values : bitmaps.values()) {
+                values.values().forEach(RoaringBitmap::runOptimize);
+            }
+            live.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param filters facet -> accepted values; facets absent or empty are unfiltered
+     * @param offset  first matching id to return, in ordinal order (id order after a full
+     *                load; ordinals reused by later inserts fall in between)
+     * @param limit   number of matching ids to return
+     */
+    public Result query(Map<String, ? extends Collection<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, RoaringBitmap> selections = new HashMap<>();
+            for (String facet : facets) {
+                Collection<String> accepted = filters.get(facet);
+                if (accepted == null || accepted.isEmpty()) {
+                    continue;
+                }
+                List<RoaringBitmap> union = new ArrayList<>();
+                for (String value : accepted) {
+                    RoaringBitmap bitmap = bitmaps.get(facet).get(value);
+                    if (bitmap != null) {
+                        union.add(bitmap);
+                    }
+                }
+                selections.put(facet, union.isEmpty() ? new RoaringBitmap()
+                        : FastAggregation.or(union.toArray(new RoaringBitmap[0])));
+            }
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String facet : facets) {
+                RoaringBitmap base = intersectExcept(selections, facet);
+                Map<String, Integer> facetCounts = new TreeMap<>();
+                for (Map.Entry<String, RoaringBitmap> value : bitmaps.get(facet).entrySet()) {
+                    int count = RoaringBitmap.andCardinality(base, value.getValue());
+                    if (count > 0) {
+                        facetCounts.put(value.getKey(), count);
+                    }
+                }
+                counts.put(facet, facetCounts);
+            }
+
+            RoaringBitmap matched = intersectExcept(selections, null);
+            int total = matched.getCardinality();
+            List<Long> ids = new ArrayList<>();
+            if (offset < total) {
+                PeekableIntIterator it = matched.getIntIterator();
+                it.advanceIfNeeded(matched.select(offset));
+                while (it.hasNext() && ids.size() < limit) {
+                    ids.add(idByOrdinal[it.next()]);
+                }
+            }
+            return new Result(total, counts, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = live.getLongSizeInBytes();
+            for (Map<String, RoaringBitmap> values : bitmaps.values()) {
+                for (RoaringBitmap bitmap : values.values()) {
+                    bytes += bitmap.getLongSizeInBytes();
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap intersectExcept(Map<String, RoaringBitmap> selections, String skippedFacet) {
+        RoaringBitmap result = live;
+        for (Map.Entry<String, RoaringBitmap> selection : selections.entrySet()) {
+            if (!selection.getKey().equals(skippedFacet)) {
+                result = RoaringBitmap.and(result, selection.getValue());
+            }
+        }
+        return result;
+    }
+
+    private void clearBit(String facet, String value, int ordinal) {
+        Map<String, RoaringBitmap> values = bitmaps.get(facet);
+        RoaringBitmap bitmap = values.get(value);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                values.remove(value);
+            }
+        }
+    }
+
+    public static final class Result {
+        private final int total;
+        private final Map<String, Map<String, Integer>> counts;
+        private final List<Long> ids;
+
+        Result(int total, Map<String, Map<String, Integer>> counts, List<Long> ids) {
+            this.total = total;
+            this.counts = counts;
+            this.ids = ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Map<String, Integer>> getCounts() {
+            return counts;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+    }
+}
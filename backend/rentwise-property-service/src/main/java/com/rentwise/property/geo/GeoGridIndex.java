@@ -0,0 +1,397 @@
+package com.rentwise.property.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory point index over a fixed latitude/longitude grid. Each non-empty cell keeps its
+ * points in parallel primitive arrays, so a query only touches the cells overlapping its
+ * search area and never allocates per scanned point.
+ *
+ * Reads share a lock and writes take it exclusively; property writes are rare compared to
+ * map and radius lookups.
+ */
+public class GeoGridIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 10) {
+            throw new IllegalArgumentException("Cell size must be in (0, 10] degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    public void put(long id, double latitude, double longitude) {
+        long key = cellKey(latRow(latitude), lonColumn(longitude));
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            cells.computeIfAbsent(key, k -> new Cell()).add(id, latitude, longitude);
+            cellById.put(id, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Points inside the box ordered by id. A box with minLongitude greater than maxLongitude
+     * is treated as crossing the antimeridian.
+     */
+    public Page withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                          int offset, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (minLongitude <= maxLongitude) {
+                collectBox(minLatitude, minLongitude, maxLatitude, maxLongitude, hits);
+            } else {
+                collectBox(minLatitude, minLongitude, maxLatitude, 180.0, hits);
+                collectBox(minLatitude, -180.0, maxLatitude, maxLongitude, hits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingLong(Hit::getId));
+        int from = Math.min(offset, hits.size());
+        int to = Math.min(from + limit, hits.size());
+        return new Page(new ArrayList<>(hits.subList(from, to)), hits.size());
+    }
+
+    /**
+     * Points within radiusKm of the centre, nearest first. Only the first offset + limit
+     * matches are kept in a bounded heap; every match still counts towards the total.
+     */
+    public Page withinRadius(double latitude, double longitude, double radiusKm, int offset, int limit) {
+        int keep = offset + limit;
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Comparator.comparingDouble(Hit::getDistanceKm).reversed());
+        int total = 0;
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+        double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double lonDelta = maxAbsLat >= 90.0 ? 180.0 : latDelta / Math.cos(Math.toRadians(maxAbsLat));
+        lock.readLock().lock();
+        try {
+            int[] rows = {latRow(minLat), latRow(maxLat)};
+            List<int[]> columnRanges = columnRanges(longitude - lonDelta, longitude + lonDelta);
+            for (int row = rows[0]; row <= rows[1]; row++) {
+                for (int[] range : columnRanges) {
+                    for (int column = range[0]; column <= range[1]; column++) {
+                        Cell cell = cells.get(cellKey(row, column));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < cell.size; i++) {
+                            double distance = distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+                            if (distance > radiusKm) {
+                                continue;
+                            }
+                            total++;
+                            offer(nearest, keep, cell, i, distance);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Page(drainPage(nearest, offset), total);
+    }
+
+    /**
+     * The nearest offset + limit points, returned from position offset. Rings of cells are
+     * scanned outwards from the centre until no unscanned cell can hold a closer point.
+     */
+    public Page nearest(double latitude, double longitude, int offset, int limit) {
+        int keep = offset + limit;
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Comparator.comparingDouble(Hit::getDistanceKm).reversed());
+        lock.readLock().lock();
+        try {
+            int total = cellById.size();
+            if (total == 0) {
+                return new Page(new ArrayList<>(), 0);
+            }
+            int centreRow = latRow(latitude);
+            int centreColumn = lonColumn(longitude);
+            int maxRing = Math.max(latCells, lonCells / 2);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                long ringCells = ring == 0 ? 1 : 8L * ring;
+                if (ringCells > cells.size() || 2 * ring + 1 >= lonCells) {
+                    // The remaining rings are mostly empty: one pass over every point is cheaper
+                    nearest.clear();
+                    for (Cell cell : cells.values()) {
+                        for (int i = 0; i < cell.size; i++) {
+                            offer(nearest, keep, cell, i,
+                                    distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]));
+                        }
+                    }
+                    break;
+                }
+                scanRing(centreRow, centreColumn, ring, latitude, longitude, keep, nearest);
+                if (nearest.size() >= keep && nearest.peek().getDistanceKm() <= ringClearanceKm(latitude, ring)) {
+                    break;
+                }
+            }
+            return new Page(drainPage(nearest, offset), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeLocked(long id) {
+        Long key = cellById.remove(id);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(id) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private void collectBox(double minLat, double minLon, double maxLat, double maxLon, List<Hit> hits) {
+        int minRow = latRow(minLat);
+        int maxRow = latRow(maxLat);
+        int minColumn = lonColumn(minLon);
+        int maxColumn = lonColumn(maxLon);
+        long spanned = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        if (spanned > cells.size()) {
+            // Large boxes over a sparse grid: walk the occupied cells instead of the box
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int row = (int) (entry.getKey() >>> 32);
+                int column = (int) (long) entry.getKey();
+                if (row >= minRow && row <= maxRow && column >= minColumn && column <= maxColumn) {
+                    collectCell(entry.getValue(), minLat, minLon, maxLat, maxLon, hits);
+                }
+            }
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Cell cell = cells.get(cellKey(row, column));
+                if (cell != null) {
+                    collectCell(cell, minLat, minLon, maxLat, maxLon, hits);
+                }
+            }
+        }
+    }
+
+    private void collectCell(Cell cell, double minLat, double minLon, double maxLat, double maxLon, List<Hit> hits) {
+        for (int i = 0; i < cell.size; i++) {
+            double lat = cell.latitudes[i];
+            double lon = cell.longitudes[i];
+            if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                hits.add(new Hit(cell.ids[i], lat, lon, Double.NaN));
+            }
+        }
+    }
+
+    private void scanRing(int centreRow, int centreColumn, int ring, double latitude, double longitude,
+                          int keep, PriorityQueue<Hit> nearest) {
+        for (int row = centreRow - ring; row <= centreRow + ring; row++) {
+            if (row < 0 || row >= latCells) {
+                continue;
+            }
+            boolean edgeRow = row == centreRow - ring || row == centreRow + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int column = centreColumn - ring; column <= centreColumn + ring; column += step) {
+                Cell cell = cells.get(cellKey(row, Math.floorMod(column, lonCells)));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    offer(nearest, keep, cell, i, distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Lower bound on the distance from the centre to any cell outside the first ring + 1 rings.
+     * Longitude degrees shrink towards the poles, so the bound uses the widest latitude reachable.
+     */
+    private double ringClearanceKm(double latitude, int ring) {
+        double reachLat = Math.min(89.999, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        return ring * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(reachLat));
+    }
+
+    private static void offer(PriorityQueue<Hit> nearest, int keep, Cell cell, int i, double distance) {
+        if (nearest.size() < keep) {
+            nearest.add(new Hit(cell.ids[i], cell.latitudes[i], cell.longitudes[i], distance));
+        } else if (keep > 0 && distance < nearest.peek().getDistanceKm()) {
+            nearest.poll();
+            nearest.add(new Hit(cell.ids[i], cell.latitudes[i], cell.longitudes[i], distance));
+        }
+    }
+
+    private static List<Hit> drainPage(PriorityQueue<Hit> nearest, int offset) {
+        List<Hit> ordered = new ArrayList<>(nearest);
+        ordered.sort(Comparator.comparingDouble(Hit::getDistanceKm).thenComparingLong(Hit::getId));
+        int from = Math.min(offset, ordered.size());
+        return new ArrayList<>(ordered.subList(from, ordered.size()));
+    }
+
+    private List<int[]> columnRanges(double minLon, double maxLon) {
+        List<int[]> ranges = new ArrayList<>();
+        if (maxLon - minLon >= 360.0) {
+            ranges.add(new int[]{0, lonCells - 1});
+        } else if (minLon < -180.0) {
+            ranges.add(new int[]{lonColumn(minLon + 360.0), lonCells - 1});
+            ranges.add(new int[]{0, lonColumn(maxLon)});
+        } else if (maxLon > 180.0) {
+            ranges.add(new int[]{lonColumn(minLon), lonCells - 1});
+            ranges.add(new int[]{0, lonColumn(maxLon - 360.0)});
+        } else {
+            ranges.add(new int[]{lonColumn(minLon), lonColumn(maxLon)});
+        }
+        return ranges;
+    }
+
+    private int latRow(double latitude) {
+        return Math.min(latCells - 1, Math.max(0, (int) Math.floor((latitude + 90.0) / cellDegrees)));
+    }
+
+    private int lonColumn(double longitude) {
+        return Math.min(lonCells - 1, Math.max(0, (int) Math.floor((longitude + 180.0) / cellDegrees)));
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private static final class Cell {
+        long[] ids = new long[4];
+        double[] latitudes = new double[4];
+        double[] longitudes = new double[4];
+        int size;
+
+        void add(long id, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    // Swap the last point into the hole; cell order is not significant
+                    size--;
+                    ids[i] = ids[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static final class Hit {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final double distanceKm;
+
+        Hit(long id, double latitude, double longitude, double distanceKm) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+
+    public static final class Page {
+        private final List<Hit> hits;
+        private final int total;
+
+        Page(List<Hit> hits, int total) {
+            this.hits = hits;
+            this.total = total;
+        }
+
+        public List<Hit> getHits() {
+            return hits;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.rentwise.property.geo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Offline ZIP code to centroid lookup, loaded once from a "zip,latitude,longitude" CSV.
+ * The bundled file covers the metro areas the seed data uses; point property.geo.zip-centroids
+ * at a full ZCTA gazetteer export to cover every US ZIP code.
+ */
+@Component
+public class ZipCentroidTable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ZipCentroidTable.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    
+    private final Map<String, double[]> centroids = new HashMap<>();
+    
+    public ZipCentroidTable(@Value("${property.geo.zip-centroids:classpath:geo/zip-centroids.csv}") Resource source) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // Header
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                if (fields.length < 3) {
+                    continue;
+                }
+                centroids.put(fields[0].trim(), new double[]{
+                        Double.parseDouble(fields[1].trim()), Double.parseDouble(fields[2].trim())});
+            }
+        }
+        logger.info("[{}] [ZipCentroidTable] Loaded {} ZIP centroids from {}", SERVICE_NAME, centroids.size(), source.getDescription());
+    }
+    
+    /**
+     * @return {latitude, longitude}, or null when the ZIP code is unknown. ZIP+4 codes are
+     *         looked up by their five-digit prefix.
+     */
+    public double[] lookup(String zipCode) {
+        if (zipCode == null) {
+            return null;
+        }
+        String zip = zipCode.trim();
+        if (zip.length() > 5) {
+            zip = zip.substring(0, 5);
+        }
+        return centroids.get(zip);
+    }
+    
+    public int size() {
+        return centroids.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.rentwise.property.model;
+
+import java.time.LocalDate;
+
+/**
+ * A free stretch of a property's calendar, half-open like PropertyAvailability.
+ */
+public class AvailabilityWindow {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long days;
+    
+    public AvailabilityWindow() {}
+    
+    public AvailabilityWindow(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.days = endDate.toEpochDay() - startDate.toEpochDay();
+    }
+    
+    // Getters and Setters
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+    
+    public long getDays() {
+        return days;
+    }
+    
+    public void setDays(long days) {
+        this.days = days;
+    }
+}
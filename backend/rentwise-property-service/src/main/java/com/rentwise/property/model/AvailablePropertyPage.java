@@ -0,0 +1,52 @@
+package com.rentwise.property.model;
+
+import java.util.List;
+
+public class AvailablePropertyPage {
+    private List<Property> items;
+    private int total; // Properties free for the whole requested range
+    private int offset;
+    private int limit;
+    
+    public AvailablePropertyPage() {}
+    
+    public AvailablePropertyPage(List<Property> items, int total, int offset, int limit) {
+        this.items = items;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+    }
+    
+    // Getters and Setters
+    public List<Property> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Property> items) {
+        this.items = items;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rentwise.property.model;
+
+public class NearbyProperty {
+    private Property property;
+    private Double distanceKm; // Null for bounding-box results
+    
+    public NearbyProperty() {}
+    
+    public NearbyProperty(Property property, Double distanceKm) {
+        this.property = property;
+        this.distanceKm = distanceKm;
+    }
+    
+    // Getters and Setters
+    public Property getProperty() {
+        return property;
+    }
+    
+    public void setProperty(Property property) {
+        this.property = property;
+    }
+    
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+    
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
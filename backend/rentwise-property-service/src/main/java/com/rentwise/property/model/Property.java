@@ -1,11 +1,25 @@
 package com.rentwise.property.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "properties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "properties", indexes = {
+    // Equality filters first, then (rent_amount, id) so MySQL walks the index in keyset order
+    // without a filesort. Bedroom and bathroom ranges trail: placed before rent they would break
+    // that order, so instead they are checked on the index entries (index condition pushdown)
+    // before any row is read. See PropertySearchExplainTest.
+    @Index(name = "idx_properties_city_status_rent_rooms", columnList = "city, status, rent_amount, id, bedrooms, bathrooms"),
+    @Index(name = "idx_properties_state_status_rent_rooms", columnList = "state, status, rent_amount, id, bedrooms, bathrooms"),
+    @Index(name = "idx_properties_type_status_rent_rooms", columnList = "type, status, rent_amount, id, bedrooms, bathrooms"),
+    @Index(name = "idx_properties_status_rent_rooms", columnList = "status, rent_amount, id, bedrooms, bathrooms"),
+    @Index(name = "idx_properties_user_id", columnList = "user_id")
+})
 public class Property {
     
     @Id
@@ -17,6 +31,8 @@ public class Property {
     private String city;
     private String state;
     private String zipCode;
+    private Double latitude; // Resolved from zipCode when not supplied
+    private Double longitude;
     private String type; // APARTMENT, HOUSE, CONDO
     private Integer bedrooms;
     private Integer bathrooms;
@@ -26,6 +42,9 @@ public class Property {
     @Column(name = "user_id")
     private Long userId; // Link to user who owns/manages this property
     
+    @Version
+    private Long version; // Incremented by Hibernate on every update, guarded by the row's current value; carried by PropertyChangedEvent
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -34,6 +53,9 @@ public class Property {
     
     @PrePersist
     protected void onCreate() {
+        if (version == null) {
+            version = 0L;
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -109,6 +131,22 @@ public class Property {
         this.zipCode = zipCode;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public String getType() {
         return type;
     }
@@ -157,6 +195,14 @@ public class Property {
         this.userId = userId;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
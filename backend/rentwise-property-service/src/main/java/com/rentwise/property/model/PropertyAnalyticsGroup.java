@@ -0,0 +1,81 @@
+package com.rentwise.property.model;
+
+import java.math.BigDecimal;
+
+public class PropertyAnalyticsGroup {
+    private String key;
+    private int count;
+    private int vacantCount;
+    private double vacancyRate;
+    private BigDecimal averageRent; // Rent statistics are null when no property in the group has a rent
+    private BigDecimal medianRent;
+    private BigDecimal minRent;
+    private BigDecimal maxRent;
+    
+    public PropertyAnalyticsGroup() {}
+    
+    // Getters and Setters
+    public String getKey() {
+        return key;
+    }
+    
+    public void setKey(String key) {
+        this.key = key;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    public void setCount(int count) {
+        this.count = count;
+    }
+    
+    public int getVacantCount() {
+        return vacantCount;
+    }
+    
+    public void setVacantCount(int vacantCount) {
+        this.vacantCount = vacantCount;
+    }
+    
+    public double getVacancyRate() {
+        return vacancyRate;
+    }
+    
+    public void setVacancyRate(double vacancyRate) {
+        this.vacancyRate = vacancyRate;
+    }
+    
+    public BigDecimal getAverageRent() {
+        return averageRent;
+    }
+    
+    public void setAverageRent(BigDecimal averageRent) {
+        this.averageRent = averageRent;
+    }
+    
+    public BigDecimal getMedianRent() {
+        return medianRent;
+    }
+    
+    public void setMedianRent(BigDecimal medianRent) {
+        this.medianRent = medianRent;
+    }
+    
+    public BigDecimal getMinRent() {
+        return minRent;
+    }
+    
+    public void setMinRent(BigDecimal minRent) {
+        this.minRent = minRent;
+    }
+    
+    public BigDecimal getMaxRent() {
+        return maxRent;
+    }
+    
+    public void setMaxRent(BigDecimal maxRent) {
+        this.maxRent = maxRent;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rentwise.property.model;
+
+import java.util.List;
+
+public class PropertyAnalyticsResult {
+    private String groupBy; // Null when the whole filtered set is one group
+    private int matchedProperties;
+    private List<PropertyAnalyticsGroup> groups;
+    
+    public PropertyAnalyticsResult() {}
+    
+    public PropertyAnalyticsResult(String groupBy, int matchedProperties, List<PropertyAnalyticsGroup> groups) {
+        this.groupBy = groupBy;
+        this.matchedProperties = matchedProperties;
+        this.groups = groups;
+    }
+    
+    // Getters and Setters
+    public String getGroupBy() {
+        return groupBy;
+    }
+    
+    public void setGroupBy(String groupBy) {
+        this.groupBy = groupBy;
+    }
+    
+    public int getMatchedProperties() {
+        return matchedProperties;
+    }
+    
+    public void setMatchedProperties(int matchedProperties) {
+        this.matchedProperties = matchedProperties;
+    }
+    
+    public List<PropertyAnalyticsGroup> getGroups() {
+        return groups;
+    }
+    
+    public void setGroups(List<PropertyAnalyticsGroup> groups) {
+        this.groups = groups;
+    }
+}
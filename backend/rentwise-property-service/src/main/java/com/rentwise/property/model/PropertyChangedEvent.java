@@ -0,0 +1,66 @@
+package com.rentwise.property.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class PropertyChangedEvent implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private Long propertyId;
+    private String changeType; // CREATED, UPDATED, DELETED
+    private Long version; // Property version after the change; consumers drop events older than what they hold
+    private Property property; // State after the change; null for DELETED
+    private LocalDateTime timestamp;
+    
+    public PropertyChangedEvent() {
+        this.timestamp = LocalDateTime.now();
+    }
+    
+    public PropertyChangedEvent(Long propertyId, String changeType, Long version, Property property) {
+        this.propertyId = propertyId;
+        this.changeType = changeType;
+        this.version = version;
+        this.property = property;
+        this.timestamp = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getPropertyId() {
+        return propertyId;
+    }
+    
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+    
+    public String getChangeType() {
+        return changeType;
+    }
+    
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public Property getProperty() {
+        return property;
+    }
+    
+    public void setProperty(Property property) {
+        this.property = property;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
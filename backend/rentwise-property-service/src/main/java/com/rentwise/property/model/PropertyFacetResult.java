@@ -0,0 +1,63 @@
+package com.rentwise.property.model;
+
+import java.util.List;
+import java.util.Map;
+
+public class PropertyFacetResult {
+    private int total;
+    private Map<String, Map<String, Integer>> facets; // facet -> value -> matching properties
+    private List<Property> items;
+    private int offset;
+    private int limit;
+    
+    public PropertyFacetResult() {}
+    
+    public PropertyFacetResult(int total, Map<String, Map<String, Integer>> facets, List<Property> items, int offset, int limit) {
+        this.total = total;
+        this.facets = facets;
+        this.items = items;
+        this.offset = offset;
+        this.limit = limit;
+    }
+    
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+    
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+    
+    public List<Property> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Property> items) {
+        this.items = items;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rentwise.property.model;
+
+import java.util.List;
+
+public class PropertyGeoPage {
+    private List<NearbyProperty> items;
+    private int total; // Matches across all pages; for nearest queries, every indexed property
+    private int offset;
+    private int limit;
+    
+    public PropertyGeoPage() {}
+    
+    public PropertyGeoPage(List<NearbyProperty> items, int total, int offset, int limit) {
+        this.items = items;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+    }
+    
+    // Getters and Setters
+    public List<NearbyProperty> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<NearbyProperty> items) {
+        this.items = items;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
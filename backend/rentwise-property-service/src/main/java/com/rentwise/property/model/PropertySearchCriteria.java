@@ -0,0 +1,117 @@
+package com.rentwise.property.model;
+
+import java.math.BigDecimal;
+
+public class PropertySearchCriteria {
+    private String city;
+    private String state;
+    private String type;
+    private String status;
+    private Integer minBedrooms;
+    private Integer maxBedrooms;
+    private Integer minBathrooms;
+    private Integer maxBathrooms;
+    private BigDecimal minRent;
+    private BigDecimal maxRent;
+    private String cursor; // Opaque keyset cursor from the previous page
+    private int limit = 20;
+    
+    public PropertySearchCriteria() {}
+    
+    // Getters and Setters
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public String getState() {
+        return state;
+    }
+    
+    public void setState(String state) {
+        this.state = state;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public Integer getMinBedrooms() {
+        return minBedrooms;
+    }
+    
+    public void setMinBedrooms(Integer minBedrooms) {
+        this.minBedrooms = minBedrooms;
+    }
+    
+    public Integer getMaxBedrooms() {
+        return maxBedrooms;
+    }
+    
+    public void setMaxBedrooms(Integer maxBedrooms) {
+        this.maxBedrooms = maxBedrooms;
+    }
+    
+    public Integer getMinBathrooms() {
+        return minBathrooms;
+    }
+    
+    public void setMinBathrooms(Integer minBathrooms) {
+        this.minBathrooms = minBathrooms;
+    }
+    
+    public Integer getMaxBathrooms() {
+        return maxBathrooms;
+    }
+    
+    public void setMaxBathrooms(Integer maxBathrooms) {
+        this.maxBathrooms = maxBathrooms;
+    }
+    
+    public BigDecimal getMinRent() {
+        return minRent;
+    }
+    
+    public void setMinRent(BigDecimal minRent) {
+        this.minRent = minRent;
+    }
+    
+    public BigDecimal getMaxRent() {
+        return maxRent;
+    }
+    
+    public void setMaxRent(BigDecimal maxRent) {
+        this.maxRent = maxRent;
+    }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rentwise.property.model;
+
+import java.util.List;
+
+public class PropertySearchPage {
+    private List<Property> items;
+    private String nextCursor; // Null when there are no further results
+    private boolean hasMore;
+    
+    public PropertySearchPage() {}
+    
+    public PropertySearchPage(List<Property> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+    
+    // Getters and Setters
+    public List<Property> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Property> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,74 @@
+package com.rentwise.property.model;
+
+/**
+ * Lightweight property summary returned by autocomplete, so pickers do not need the full
+ * property payload.
+ */
+public class PropertySuggestion {
+    private Long id;
+    private String name;
+    private String address;
+    private String city;
+    private String status;
+    private int popularity; // Bucketed view count: floor(log2(views)) + 1, 0 when never viewed
+    
+    public PropertySuggestion() {}
+    
+    public PropertySuggestion(Property property, int popularity) {
+        this.id = property.getId();
+        this.name = property.getName();
+        this.address = property.getAddress();
+        this.city = property.getCity();
+        this.status = property.getStatus();
+        this.popularity = popularity;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public int getPopularity() {
+        return popularity;
+    }
+    
+    public void setPopularity(int popularity) {
+        this.popularity = popularity;
+    }
+}
@@ -0,0 +1,87 @@
+package com.rentwise.property.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Rent changes of one property, stored as a delta-encoded RentSeries. A row is written on the
+ * first rent change; until then the history is just the property's current rent since
+ * creation.
+ */
+@Entity
+@Table(name = "rent_history", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rent_history_property_id", columnNames = {"property_id"})
+})
+public class RentHistory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+    
+    @Column(name = "point_count")
+    private Integer pointCount;
+    
+    @Lob
+    @Column(nullable = false)
+    private byte[] points;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public RentHistory() {}
+    
+    public RentHistory(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getPropertyId() {
+        return propertyId;
+    }
+    
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+    
+    public Integer getPointCount() {
+        return pointCount;
+    }
+    
+    public void setPointCount(Integer pointCount) {
+        this.pointCount = pointCount;
+    }
+    
+    public byte[] getPoints() {
+        return points;
+    }
+    
+    public void setPoints(byte[] points) {
+        this.points = points;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
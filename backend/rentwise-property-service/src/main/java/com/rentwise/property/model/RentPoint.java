@@ -0,0 +1,33 @@
+package com.rentwise.property.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class RentPoint {
+    private LocalDateTime effectiveFrom;
+    private BigDecimal rentAmount;
+    
+    public RentPoint() {}
+    
+    public RentPoint(LocalDateTime effectiveFrom, BigDecimal rentAmount) {
+        this.effectiveFrom = effectiveFrom;
+        this.rentAmount = rentAmount;
+    }
+    
+    // Getters and Setters
+    public LocalDateTime getEffectiveFrom() {
+        return effectiveFrom;
+    }
+    
+    public void setEffectiveFrom(LocalDateTime effectiveFrom) {
+        this.effectiveFrom = effectiveFrom;
+    }
+    
+    public BigDecimal getRentAmount() {
+        return rentAmount;
+    }
+    
+    public void setRentAmount(BigDecimal rentAmount) {
+        this.rentAmount = rentAmount;
+    }
+}
@@ -0,0 +1,63 @@
+package com.rentwise.property.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class RentQuantileStats {
+    private String city; // Null when buckets were merged across cities
+    private Integer bedrooms; // Null when buckets were merged across bedroom counts
+    private long count;
+    private double relativeError; // Every quantile is within this fraction of the exact value
+    private Map<String, BigDecimal> quantiles; // e.g. p50 -> 1850.00
+    
+    public RentQuantileStats() {}
+    
+    public RentQuantileStats(String city, Integer bedrooms, long count, double relativeError, Map<String, BigDecimal> quantiles) {
+        this.city = city;
+        this.bedrooms = bedrooms;
+        this.count = count;
+        this.relativeError = relativeError;
+        this.quantiles = quantiles;
+    }
+    
+    // Getters and Setters
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public Integer getBedrooms() {
+        return bedrooms;
+    }
+    
+    public void setBedrooms(Integer bedrooms) {
+        this.bedrooms = bedrooms;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public double getRelativeError() {
+        return relativeError;
+    }
+    
+    public void setRelativeError(double relativeError) {
+        this.relativeError = relativeError;
+    }
+    
+    public Map<String, BigDecimal> getQuantiles() {
+        return quantiles;
+    }
+    
+    public void setQuantiles(Map<String, BigDecimal> quantiles) {
+        this.quantiles = quantiles;
+    }
+}
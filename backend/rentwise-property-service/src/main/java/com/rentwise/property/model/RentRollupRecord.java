@@ -0,0 +1,96 @@
+package com.rentwise.property.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One city's totals for one calendar month: rent x minutes and properties x minutes. Their
+ * ratio is the month's time-weighted average rent.
+ */
+@Entity
+@Table(name = "rent_monthly_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rent_monthly_rollups_city_month", columnNames = {"city", "month"})
+})
+public class RentRollupRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private String city;
+    
+    @Column(name = "month")
+    private Integer month; // yyyymm
+    
+    @Column(name = "rent_cent_minutes")
+    private Long rentCentMinutes;
+    
+    @Column(name = "property_minutes")
+    private Long propertyMinutes;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public RentRollupRecord() {}
+    
+    public RentRollupRecord(String city, Integer month) {
+        this.city = city;
+        this.month = month;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public Integer getMonth() {
+        return month;
+    }
+    
+    public void setMonth(Integer month) {
+        this.month = month;
+    }
+    
+    public Long getRentCentMinutes() {
+        return rentCentMinutes;
+    }
+    
+    public void setRentCentMinutes(Long rentCentMinutes) {
+        this.rentCentMinutes = rentCentMinutes;
+    }
+    
+    public Long getPropertyMinutes() {
+        return propertyMinutes;
+    }
+    
+    public void setPropertyMinutes(Long propertyMinutes) {
+        this.propertyMinutes = propertyMinutes;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rentwise.property.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted form of one (city, bedrooms) rent sketch, so percentiles survive restarts
+ * without rescanning the properties table.
+ */
+@Entity
+@Table(name = "rent_quantile_sketches", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rent_quantile_sketches_city_bedrooms", columnNames = {"city", "bedrooms"})
+})
+public class RentSketchRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    private String city;
+    private Integer bedrooms;
+    
+    @Column(name = "sample_count")
+    private Long sampleCount;
+    
+    @Lob
+    @Column(nullable = false)
+    private byte[] sketch;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public RentSketchRecord() {}
+    
+    public RentSketchRecord(String city, Integer bedrooms) {
+        this.city = city;
+        this.bedrooms = bedrooms;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public Integer getBedrooms() {
+        return bedrooms;
+    }
+    
+    public void setBedrooms(Integer bedrooms) {
+        this.bedrooms = bedrooms;
+    }
+    
+    public Long getSampleCount() {
+        return sampleCount;
+    }
+    
+    public void setSampleCount(Long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+    
+    public byte[] getSketch() {
+        return sketch;
+    }
+    
+    public void setSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
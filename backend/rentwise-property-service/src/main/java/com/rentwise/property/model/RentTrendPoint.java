@@ -0,0 +1,52 @@
+package com.rentwise.property.model;
+
+import java.math.BigDecimal;
+
+public class RentTrendPoint {
+    private String city; // Null when cities were merged
+    private String month; // yyyy-MM
+    private BigDecimal averageRent; // Time-weighted over the month
+    private BigDecimal propertyMonths; // Properties x fraction of the month they were listed; the weight for merging
+    
+    public RentTrendPoint() {}
+    
+    public RentTrendPoint(String city, String month, BigDecimal averageRent, BigDecimal propertyMonths) {
+        this.city = city;
+        this.month = month;
+        this.averageRent = averageRent;
+        this.propertyMonths = propertyMonths;
+    }
+    
+    // Getters and Setters
+    public String getCity() {
+        return city;
+    }
+    
+    public void setCity(String city) {
+        this.city = city;
+    }
+    
+    public String getMonth() {
+        return month;
+    }
+    
+    public void setMonth(String month) {
+        this.month = month;
+    }
+    
+    public BigDecimal getAverageRent() {
+        return averageRent;
+    }
+    
+    public void setAverageRent(BigDecimal averageRent) {
+        this.averageRent = averageRent;
+    }
+    
+    public BigDecimal getPropertyMonths() {
+        return propertyMonths;
+    }
+    
+    public void setPropertyMonths(BigDecimal propertyMonths) {
+        this.propertyMonths = propertyMonths;
+    }
+}
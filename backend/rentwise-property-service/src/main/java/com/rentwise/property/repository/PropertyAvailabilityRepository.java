@@ -0,0 +1,17 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.PropertyAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface PropertyAvailabilityRepository extends JpaRepository<PropertyAvailability, Long> {
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PropertyAvailability a WHERE a.propertyId = :propertyId")
+    int deleteByPropertyId(@Param("propertyId") Long propertyId);
+}
@@ -1,16 +1,34 @@
 package com.rentwise.property.repository;
 
 import com.rentwise.property.model.Property;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, Long> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByStatus(String status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByCity(String city);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByType(String type);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Property> findByUserId(Long userId);
+    long countByCityIsNotNullAndBedroomsIsNotNullAndRentAmountIsNotNull();
+    
+    // Rows written before the version column existed; @Version cannot increment a null
+    @Transactional
+    @Modifying
+    @Query("UPDATE Property p SET p.version = 0 WHERE p.version IS NULL")
+    int initializeMissingVersions();
 }
 
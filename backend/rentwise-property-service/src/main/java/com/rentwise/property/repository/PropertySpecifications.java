@@ -0,0 +1,79 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertySearchCriteria;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria predicates for the property search API. Equality filters are emitted before
+ * range filters so the generated WHERE clause lines up with the composite indexes on
+ * Property, and results are always ordered by (rentAmount, id) for keyset paging. The
+ * bedroom and bathroom ranges are filtered from the trailing index columns.
+ */
+public final class PropertySpecifications {
+    
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.asc("rentAmount"), Sort.Order.asc("id"));
+    
+    private PropertySpecifications() {}
+    
+    public static Specification<Property> matching(PropertySearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.getCity() != null) {
+                predicates.add(cb.equal(root.get("city"), criteria.getCity()));
+            }
+            if (criteria.getState() != null) {
+                predicates.add(cb.equal(root.get("state"), criteria.getState()));
+            }
+            if (criteria.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), criteria.getType()));
+            }
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getMinBedrooms() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bedrooms"), criteria.getMinBedrooms()));
+            }
+            if (criteria.getMaxBedrooms() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("bedrooms"), criteria.getMaxBedrooms()));
+            }
+            if (criteria.getMinBathrooms() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bathrooms"), criteria.getMinBathrooms()));
+            }
+            if (criteria.getMaxBathrooms() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("bathrooms"), criteria.getMaxBathrooms()));
+            }
+            if (criteria.getMinRent() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("rentAmount"), criteria.getMinRent()));
+            }
+            if (criteria.getMaxRent() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("rentAmount"), criteria.getMaxRent()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+    
+    /**
+     * Rows strictly after (afterRent, afterId) in KEYSET_SORT order. MySQL sorts NULL rent
+     * first, so a NULL cursor rent continues through the remaining NULL rows by id and then
+     * moves on to every non-NULL rent.
+     */
+    public static Specification<Property> after(BigDecimal afterRent, Long afterId) {
+        return (root, query, cb) -> {
+            if (afterRent == null) {
+                return cb.or(
+                        cb.and(cb.isNull(root.get("rentAmount")), cb.greaterThan(root.get("id"), afterId)),
+                        cb.isNotNull(root.get("rentAmount")));
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("rentAmount"), afterRent),
+                    cb.and(cb.equal(root.get("rentAmount"), afterRent), cb.greaterThan(root.get("id"), afterId)));
+        };
+    }
+}
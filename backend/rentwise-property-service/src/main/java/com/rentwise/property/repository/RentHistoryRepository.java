@@ -0,0 +1,21 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.RentHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface RentHistoryRepository extends JpaRepository<RentHistory, Long> {
+    Optional<RentHistory> findByPropertyId(Long propertyId);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RentHistory h WHERE h.propertyId = :propertyId")
+    int deleteByPropertyId(@Param("propertyId") Long propertyId);
+}
@@ -0,0 +1,12 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.RentRollupRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RentRollupRecordRepository extends JpaRepository<RentRollupRecord, Long> {
+    Optional<RentRollupRecord> findByCityAndMonth(String city, Integer month);
+}
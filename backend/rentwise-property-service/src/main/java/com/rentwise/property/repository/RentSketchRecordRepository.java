@@ -0,0 +1,12 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.RentSketchRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RentSketchRecordRepository extends JpaRepository<RentSketchRecord, Long> {
+    Optional<RentSketchRecord> findByCityAndBedrooms(String city, Integer bedrooms);
+}
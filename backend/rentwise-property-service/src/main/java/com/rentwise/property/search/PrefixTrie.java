@@ -0,0 +1,367 @@
+package com.rentwise.property.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Radix (path-compressed) trie in which every node caches the best topK documents in its
+ * subtree, so a prefix lookup is a walk down the prefix followed by a copy of one cached
+ * list. Single-child chains are collapsed into one edge, so the node count grows with the
+ * number of distinct branching prefixes rather than with total key length.
+ *
+ * Inserts merge the new document into each cached list on the way down; removals rebuild the
+ * lists bottom-up along the removed key's path from the children's lists.
+ */
+public class PrefixTrie<V> {
+
+    private final int topK;
+    private final Comparator<Ranked<V>> ranking;
+    private final Function<V, List<String>> keys;
+    private final Node<V> root = new Node<>("");
+    private final Map<Long, Ranked<V>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nodeCount = 1;
+
+    /**
+     * @param topK    documents cached per node, and the most a lookup can return
+     * @param ranking best first; ties are broken by document id
+     * @param keys    normalized keys of a document; must be deterministic, since removal
+     *                recomputes them instead of storing them
+     */
+    public PrefixTrie(int topK, Comparator<V> ranking, Function<V, List<String>> keys) {
+        this.topK = topK;
+        this.keys = keys;
+        this.ranking = (a, b) -> {
+            int byValue = ranking.compare(a.value, b.value);
+            return byValue != 0 ? byValue : Long.compare(a.id, b.id);
+        };
+    }
+
+    /** Indexes (or re-indexes) a document under each of its keys. */
+    public void put(long id, V value) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            Ranked<V> ranked = new Ranked<>(id, value);
+            for (String key : distinctKeys(value)) {
+                insert(key, ranked);
+            }
+            documents.put(id, ranked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.labels = new char[0];
+            root.children = Node.noChildren();
+            root.terminals = null;
+            root.top = Node.NO_RANKED;
+            documents.clear();
+            nodeCount = 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public V get(long id) {
+        lock.readLock().lock();
+        try {
+            Ranked<V> ranked = documents.get(id);
+            return ranked != null ? ranked.value : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Best documents having a key that starts with the normalized prefix, at most min(limit, topK). */
+    public List<V> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node<V> node = root;
+            int matched = 0;
+            while (node != null && matched < prefix.length()) {
+                Node<V> child = node.child(prefix.charAt(matched));
+                if (child != null) {
+                    int common = commonPrefix(child.edge, prefix, matched);
+                    if (common < child.edge.length() && matched + common < prefix.length()) {
+                        child = null; // Diverges inside the edge
+                    }
+                    matched += common;
+                }
+                node = child;
+            }
+            List<V> results = new ArrayList<>();
+            if (node != null) {
+                for (int i = 0; i < node.top.length && i < limit; i++) {
+                    results.add(node.ranked(i).value);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, Ranked<V> ranked) {
+        Node<V> node = root;
+        offer(node, ranked);
+        int position = 0;
+        while (position < key.length()) {
+            Node<V> child = node.child(key.charAt(position));
+            if (child == null) {
+                Node<V> leaf = new Node<>(key.substring(position));
+                leaf.top = new Object[]{ranked};
+                leaf.addTerminal(ranked);
+                node.addChild(leaf);
+                nodeCount++;
+                return;
+            }
+            int common = commonPrefix(child.edge, key, position);
+            if (common < child.edge.length()) {
+                // Split the edge: the shared part becomes a new node above the existing child
+                Node<V> split = new Node<>(child.edge.substring(0, common));
+                split.top = child.top.clone();
+                child.edge = child.edge.substring(common);
+                split.addChild(child);
+                node.replaceChild(split);
+                nodeCount++;
+                child = split;
+            }
+            offer(child, ranked);
+            node = child;
+            position += common;
+        }
+        node.addTerminal(ranked);
+    }
+
+    private void removeLocked(long id) {
+        Ranked<V> ranked = documents.remove(id);
+        if (ranked == null) {
+            return;
+        }
+        for (String key : distinctKeys(ranked.value)) {
+            List<Node<V>> path = new ArrayList<>();
+            Node<V> node = root;
+            path.add(node);
+            int position = 0;
+            while (node != null && position < key.length()) {
+                node = node.child(key.charAt(position));
+                if (node != null) {
+                    path.add(node);
+                    position += node.edge.length();
+                }
+            }
+            if (node == null) {
+                continue;
+            }
+            node.removeTerminal(ranked);
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                Node<V> current = path.get(depth);
+                if (depth > 0 && current.terminals == null && current.children.length <= 1) {
+                    Node<V> parent = path.get(depth - 1);
+                    if (current.children.length == 0) {
+                        parent.removeChild(current.edge.charAt(0));
+                    } else {
+                        // One child left: fold this node into it to keep the path compressed
+                        Node<V> only = current.children[0];
+                        only.edge = current.edge + only.edge;
+                        parent.replaceChild(only);
+                    }
+                    nodeCount--;
+                    continue;
+                }
+                if (current.contains(ranked)) {
+                    rebuildTop(current);
+                }
+            }
+        }
+    }
+
+    private List<String> distinctKeys(V value) {
+        return keys.apply(value).stream().filter(k -> !k.isEmpty()).distinct().toList();
+    }
+
+    private void offer(Node<V> node, Ranked<V> ranked) {
+        if (node.contains(ranked)) {
+            return; // Another key of the same document passes through this node
+        }
+        Object[] top = node.top;
+        int position = 0;
+        while (position < top.length && ranking.compare(node.ranked(position), ranked) < 0) {
+            position++;
+        }
+        if (position < topK) {
+            int length = Math.min(top.length + 1, topK);
+            Object[] updated = new Object[length];
+            System.arraycopy(top, 0, updated, 0, position);
+            updated[position] = ranked;
+            System.arraycopy(top, position, updated, position + 1, length - position - 1);
+            node.top = updated;
+        }
+    }
+
+    /** A document appears at most once per list even when several of its keys share the subtree. */
+    private void rebuildTop(Node<V> node) {
+        List<Ranked<V>> candidates = new ArrayList<>();
+        if (node.terminals != null) {
+            candidates.addAll(node.terminals);
+        }
+        for (Node<V> child : node.children) {
+            for (int i = 0; i < child.top.length; i++) {
+                candidates.add(child.ranked(i));
+            }
+        }
+        candidates.sort(ranking);
+        List<Ranked<V>> top = new ArrayList<>(Math.min(topK, candidates.size()));
+        for (Ranked<V> candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (top.isEmpty() || top.get(top.size() - 1) != candidate) {
+                top.add(candidate);
+            }
+        }
+        node.top = top.toArray();
+    }
+
+    /** Length of the common prefix of edge and key.substring(from). */
+    private static int commonPrefix(String edge, String key, int from) {
+        int length = Math.min(edge.length(), key.length() - from);
+        int i = 0;
+        while (i < length && edge.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node<V> {
+        String edge; // Label on the edge from the parent; children are keyed by its first char
+        char[] labels = new char[0];
+        Node<V>[] children = noChildren();
+        List<Ranked<V>> terminals; // Null unless a key ends here
+        Object[] top = NO_RANKED; // Ranked<V>, best first; exact-size array to keep small nodes small
+
+        static final Object[] NO_RANKED = new Object[0];
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        @SuppressWarnings("unchecked")
+        Ranked<V> ranked(int i) {
+            return (Ranked<V>) top[i];
+        }
+
+        boolean contains(Ranked<V> ranked) {
+            for (Object candidate : top) {
+                if (candidate == ranked) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <V> Node<V>[] noChildren() {
+            return new Node[0];
+        }
+
+        Node<V> child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node<V> child) {
+            char label = child.edge.charAt(0);
+            int insertAt = -Arrays.binarySearch(labels, label) - 1;
+            char[] grownLabels = new char[labels.length + 1];
+            System.arraycopy(labels, 0, grownLabels, 0, insertAt);
+            grownLabels[insertAt] = label;
+            System.arraycopy(labels, insertAt, grownLabels, insertAt + 1, labels.length - insertAt);
+            Node<V>[] grown = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            grown[insertAt] = child;
+            labels = grownLabels;
+            children = grown;
+        }
+
+        /** Swaps in a node whose edge starts with the same char as the child it replaces. */
+        void replaceChild(Node<V> child) {
+            children[Arrays.binarySearch(labels, child.edge.charAt(0))] = child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] fewerLabels = new char[labels.length - 1];
+            System.arraycopy(labels, 0, fewerLabels, 0, index);
+            System.arraycopy(labels, index + 1, fewerLabels, index, labels.length - index - 1);
+            Node<V>[] fewer = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, fewer, index, children.length - index - 1);
+            labels = fewerLabels;
+            children = fewer;
+        }
+
+        void addTerminal(Ranked<V> ranked) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(1);
+            }
+            terminals.add(ranked);
+        }
+
+        void removeTerminal(Ranked<V> ranked) {
+            if (terminals != null && terminals.remove(ranked) && terminals.isEmpty()) {
+                terminals = null;
+            }
+        }
+    }
+
+    private static final class Ranked<V> {
+        final long id;
+        final V value;
+
+        Ranked(long id, V value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
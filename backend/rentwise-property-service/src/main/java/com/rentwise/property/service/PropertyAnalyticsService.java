@@ -0,0 +1,114 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.analytics.PropertyColumnStore;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyAnalyticsGroup;
+import com.rentwise.property.model.PropertyAnalyticsResult;
+import com.rentwise.property.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Portfolio analytics (rent averages and medians, vacancy rates) computed over a columnar
+ * in-memory copy of the property table. The copy is loaded once the application is ready and
+ * PropertyService keeps it current on every create, update and delete.
+ */
+@Service
+public class PropertyAnalyticsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAnalyticsService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private static final String VACANT_STATUS = "AVAILABLE";
+    
+    @Autowired
+    private PropertyRepository propertyRepository;
+    
+    @Value("${property.analytics.parallel-threshold:200000}")
+    private int parallelThreshold;
+    
+    private final PropertyColumnStore store = new PropertyColumnStore();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildStore() {
+        logger.info("[{}] [PropertyAnalyticsService] [buildStore] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            store.clear();
+            Page<Property> properties;
+            int page = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                properties.forEach(this::indexProperty);
+            } while (properties.hasNext());
+            logger.info("[{}] [PropertyAnalyticsService] [buildStore] SUCCESS - Loaded {} properties in {} ms", 
+                    SERVICE_NAME, store.liveRows(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAnalyticsService] [buildStore] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    public void indexProperty(Property property) {
+        store.put(property.getId(), property.getCity(), property.getState(), property.getType(), property.getStatus(),
+                property.getBedrooms(), property.getBathrooms(), property.getRentAmount());
+    }
+    
+    public void removeProperty(Long propertyId) {
+        store.remove(propertyId);
+    }
+    
+    /**
+     * @param groupBy city, state, type, status, bedrooms, or null for a single group
+     */
+    public PropertyAnalyticsResult getAnalytics(String groupBy, String city, String state, String type, String status,
+                                                Integer minBedrooms, Integer maxBedrooms, Integer minBathrooms) {
+        logger.info("[{}] [PropertyAnalyticsService] [getAnalytics] START - GroupBy: {}, City: {}, State: {}, Type: {}, Status: {}", 
+                SERVICE_NAME, groupBy, city, state, type, status);
+        try {
+            long start = System.nanoTime();
+            PropertyColumnStore.Filter filter = new PropertyColumnStore.Filter(city, state, type, status, 
+                    minBedrooms, maxBedrooms, minBathrooms);
+            List<PropertyAnalyticsGroup> groups = new ArrayList<>();
+            int matched = 0;
+            for (PropertyColumnStore.GroupStats stats : store.aggregate(filter, groupBy, VACANT_STATUS, parallelThreshold)) {
+                groups.add(toGroup(stats));
+                matched += stats.getCount();
+            }
+            logger.info("[{}] [PropertyAnalyticsService] [getAnalytics] SUCCESS - {} groups over {} properties in {} us", 
+                    SERVICE_NAME, groups.size(), matched, (System.nanoTime() - start) / 1000);
+            return new PropertyAnalyticsResult(groupBy, matched, groups);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAnalyticsService] [getAnalytics] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    private static PropertyAnalyticsGroup toGroup(PropertyColumnStore.GroupStats stats) {
+        PropertyAnalyticsGroup group = new PropertyAnalyticsGroup();
+        group.setKey(stats.getKey());
+        group.setCount(stats.getCount());
+        group.setVacantCount(stats.getVacant());
+        group.setVacancyRate((double) stats.getVacant() / stats.getCount());
+        if (stats.getRentCount() > 0) {
+            group.setAverageRent(BigDecimal.valueOf(stats.getSumCents(), 2)
+                    .divide(BigDecimal.valueOf(stats.getRentCount()), 2, RoundingMode.HALF_UP));
+            group.setMedianRent(BigDecimal.valueOf(stats.getMedianCents(), 2));
+            group.setMinRent(BigDecimal.valueOf(stats.getMinCents(), 2));
+            group.setMaxRent(BigDecimal.valueOf(stats.getMaxCents(), 2));
+        }
+        return group;
+    }
+}
@@ -0,0 +1,156 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertySuggestion;
+import com.rentwise.property.repository.PropertyRepository;
+import com.rentwise.property.search.PrefixTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prefix autocomplete over property names, addresses and cities. Every word start of each
+ * field is a key, so "main" finds "123 Main St". Results are ranked by popularity (how often
+ * the property has been opened since startup, in log2 buckets so the trie is only re-ranked
+ * when a property crosses a bucket) and then by name.
+ */
+@Service
+public class PropertyAutocompleteService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAutocompleteService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    
+    @Autowired
+    private PropertyRepository propertyRepository;
+    
+    private final int maxKeyLength;
+    private final PrefixTrie<PropertySuggestion> trie;
+    private final Map<Long, AtomicInteger> views = new ConcurrentHashMap<>();
+    
+    public PropertyAutocompleteService(@Value("${property.autocomplete.top-k:10}") int topK,
+                                       @Value("${property.autocomplete.max-key-length:32}") int maxKeyLength) {
+        this.maxKeyLength = maxKeyLength;
+        this.trie = new PrefixTrie<>(topK, 
+                Comparator.comparingInt(PropertySuggestion::getPopularity).reversed()
+                        .thenComparing(PropertySuggestion::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)),
+                this::keysOf);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        logger.info("[{}] [PropertyAutocompleteService] [buildIndex] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            trie.clear();
+            Page<Property> properties;
+            int page = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                properties.forEach(this::indexProperty);
+            } while (properties.hasNext());
+            logger.info("[{}] [PropertyAutocompleteService] [buildIndex] SUCCESS - Indexed {} properties in {} trie nodes in {} ms", 
+                    SERVICE_NAME, trie.size(), trie.nodeCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAutocompleteService] [buildIndex] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    public void indexProperty(Property property) {
+        trie.put(property.getId(), new PropertySuggestion(property, popularityOf(property.getId())));
+    }
+    
+    public void removeProperty(Long propertyId) {
+        trie.remove(propertyId);
+        views.remove(propertyId);
+    }
+    
+    /** Counts a view and re-ranks the property when its popularity bucket changes. */
+    public void recordView(Long propertyId) {
+        int count = views.computeIfAbsent(propertyId, id -> new AtomicInteger()).incrementAndGet();
+        if (Integer.bitCount(count) == 1) {
+            PropertySuggestion current = trie.get(propertyId);
+            if (current != null) {
+                PropertySuggestion promoted = new PropertySuggestion();
+                promoted.setId(current.getId());
+                promoted.setName(current.getName());
+                promoted.setAddress(current.getAddress());
+                promoted.setCity(current.getCity());
+                promoted.setStatus(current.getStatus());
+                promoted.setPopularity(bucketOf(count));
+                trie.put(propertyId, promoted);
+            }
+        }
+    }
+    
+    public List<PropertySuggestion> autocomplete(String query, int limit) {
+        logger.info("[{}] [PropertyAutocompleteService] [autocomplete] START - Query: {}, Limit: {}", SERVICE_NAME, query, limit);
+        try {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Limit must be at least 1");
+            }
+            // Keys are stored cut to maxKeyLength, so a longer query has to be cut the same way to reach them
+            String prefix = normalize(query);
+            if (prefix.length() > maxKeyLength) {
+                prefix = prefix.substring(0, maxKeyLength);
+            }
+            List<PropertySuggestion> suggestions = trie.complete(prefix, limit);
+            logger.info("[{}] [PropertyAutocompleteService] [autocomplete] SUCCESS - Returning {} suggestions", 
+                    SERVICE_NAME, suggestions.size());
+            return suggestions;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAutocompleteService] [autocomplete] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /** Each word start of name, address and city, cut to maxKeyLength characters. */
+    private List<String> keysOf(PropertySuggestion suggestion) {
+        List<String> keys = new ArrayList<>();
+        for (String field : new String[]{suggestion.getName(), suggestion.getAddress(), suggestion.getCity()}) {
+            String normalized = normalize(field);
+            int start = 0;
+            while (start < normalized.length()) {
+                keys.add(normalized.substring(start, Math.min(normalized.length(), start + maxKeyLength)));
+                int space = normalized.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+        return keys;
+    }
+    
+    private int popularityOf(Long propertyId) {
+        AtomicInteger count = views.get(propertyId);
+        return count != null ? bucketOf(count.get()) : 0;
+    }
+    
+    private static int bucketOf(int count) {
+        return 32 - Integer.numberOfLeadingZeros(count);
+    }
+    
+    /** Lower case with every run of non-alphanumerics collapsed to one space. */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{Alnum}]+", " ").trim();
+    }
+}
@@ -0,0 +1,270 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.calendar.AvailabilityIndex;
+import com.rentwise.property.model.AvailabilityWindow;
+import com.rentwise.property.model.AvailablePropertyPage;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyAvailability;
+import com.rentwise.property.repository.PropertyAvailabilityRepository;
+import com.rentwise.property.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Occupancy and maintenance calendar per property. Bookings live in property_availability and
+ * are mirrored in an AvailabilityIndex built once the application is ready, so calendar,
+ * free-window and portfolio-wide availability queries never scan the table.
+ */
+@Service
+public class PropertyAvailabilityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAvailabilityService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private static final String OCCUPIED = "OCCUPIED";
+    private static final Set<String> KINDS = Set.of(OCCUPIED, "MAINTENANCE");
+    
+    @Autowired
+    private PropertyRepository propertyRepository;
+    
+    @Autowired
+    private PropertyAvailabilityRepository propertyAvailabilityRepository;
+    
+    @Value("${property.availability.max-range-days:1096}")
+    private long maxRangeDays;
+    
+    @Value("${property.availability.max-page-size:100}")
+    private int maxPageSize;
+    
+    private final AvailabilityIndex index = new AvailabilityIndex();
+    private final Object writeLock = new Object(); // Keeps the overlap check and the insert atomic
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        logger.info("[{}] [PropertyAvailabilityService] [buildIndex] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            index.clear();
+            Page<Property> properties;
+            int page = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                properties.forEach(this::indexProperty);
+            } while (properties.hasNext());
+            Page<PropertyAvailability> bookings;
+            page = 0;
+            do {
+                bookings = propertyAvailabilityRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                for (PropertyAvailability booking : bookings) {
+                    if (index.containsProperty(booking.getPropertyId())) {
+                        indexBooking(booking);
+                    }
+                }
+            } while (bookings.hasNext());
+            logger.info("[{}] [PropertyAvailabilityService] [buildIndex] SUCCESS - Indexed {} bookings in {} ms", 
+                    SERVICE_NAME, index.intervalCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [buildIndex] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    public void indexProperty(Property property) {
+        index.addProperty(property.getId());
+    }
+    
+    /** Deletes the property's calendar along with it. */
+    public void removeProperty(Long propertyId) {
+        synchronized (writeLock) {
+            propertyAvailabilityRepository.deleteByPropertyId(propertyId);
+            index.removeProperty(propertyId);
+        }
+    }
+    
+    /**
+     * @param from first day of interest, or null for the whole calendar
+     * @param to   day after the last day of interest, or null for the whole calendar
+     * @return bookings overlapping the range in start order, or null if the property does not exist
+     */
+    public List<PropertyAvailability> getCalendar(Long propertyId, LocalDate from, LocalDate to) {
+        logger.info("[{}] [PropertyAvailabilityService] [getCalendar] START - Property ID: {}, From: {}, To: {}", 
+                SERVICE_NAME, propertyId, from, to);
+        try {
+            if (!index.containsProperty(propertyId)) {
+                logger.warn("[{}] [PropertyAvailabilityService] [getCalendar] Property not found with ID: {}", SERVICE_NAME, propertyId);
+                return null;
+            }
+            long start = from != null ? from.toEpochDay() : LocalDate.MIN.toEpochDay();
+            long end = to != null ? to.toEpochDay() : LocalDate.MAX.toEpochDay();
+            if (end <= start) {
+                throw new IllegalArgumentException("to must be after from");
+            }
+            List<PropertyAvailability> bookings = loadInOrder(index.overlapping(propertyId, start, end));
+            logger.info("[{}] [PropertyAvailabilityService] [getCalendar] SUCCESS - Found {} bookings", SERVICE_NAME, bookings.size());
+            return bookings;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [getCalendar] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Occupancy may not overlap other occupancy, and maintenance may not overlap other
+     * maintenance; maintenance during a tenancy is allowed.
+     * @return the saved booking, or null if the property does not exist
+     * @throws IllegalStateException if the booking conflicts with an existing one
+     */
+    public PropertyAvailability addBooking(Long propertyId, PropertyAvailability booking) {
+        logger.info("[{}] [PropertyAvailabilityService] [addBooking] START - Property ID: {}, Kind: {}, {} to {}", 
+                SERVICE_NAME, propertyId, booking.getKind(), booking.getStartDate(), booking.getEndDate());
+        try {
+            if (booking.getKind() == null) {
+                booking.setKind(OCCUPIED);
+            }
+            if (!KINDS.contains(booking.getKind())) {
+                throw new IllegalArgumentException("Kind must be one of " + KINDS);
+            }
+            if (booking.getStartDate() == null || booking.getEndDate() == null 
+                    || !booking.getEndDate().isAfter(booking.getStartDate())) {
+                throw new IllegalArgumentException("startDate and endDate are required and endDate must be after startDate");
+            }
+            synchronized (writeLock) {
+                if (!index.containsProperty(propertyId)) {
+                    logger.warn("[{}] [PropertyAvailabilityService] [addBooking] Property not found with ID: {}", SERVICE_NAME, propertyId);
+                    return null;
+                }
+                Long conflict = index.findConflict(propertyId, booking.getStartDate().toEpochDay(), 
+                        booking.getEndDate().toEpochDay(), booking.getKind(), null);
+                if (conflict != null) {
+                    throw new IllegalStateException("Overlaps " + booking.getKind() + " booking " + conflict);
+                }
+                booking.setId(null);
+                booking.setPropertyId(propertyId);
+                PropertyAvailability saved = propertyAvailabilityRepository.save(booking);
+                indexBooking(saved);
+                logger.info("[{}] [PropertyAvailabilityService] [addBooking] SUCCESS - Booking created with ID: {}", SERVICE_NAME, saved.getId());
+                return saved;
+            }
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [addBooking] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /** @return false if the property has no such booking */
+    public boolean deleteBooking(Long propertyId, Long bookingId) {
+        logger.info("[{}] [PropertyAvailabilityService] [deleteBooking] START - Property ID: {}, Booking ID: {}", 
+                SERVICE_NAME, propertyId, bookingId);
+        try {
+            synchronized (writeLock) {
+                PropertyAvailability booking = propertyAvailabilityRepository.findById(bookingId).orElse(null);
+                if (booking == null || !booking.getPropertyId().equals(propertyId)) {
+                    logger.warn("[{}] [PropertyAvailabilityService] [deleteBooking] Booking not found with ID: {}", SERVICE_NAME, bookingId);
+                    return false;
+                }
+                propertyAvailabilityRepository.delete(booking);
+                index.remove(bookingId);
+            }
+            logger.info("[{}] [PropertyAvailabilityService] [deleteBooking] SUCCESS - Booking deleted with ID: {}", SERVICE_NAME, bookingId);
+            return true;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [deleteBooking] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Properties with no occupancy or maintenance anywhere in [from, to), in id order.
+     */
+    public AvailablePropertyPage findAvailable(LocalDate from, LocalDate to, int offset, int limit) {
+        logger.info("[{}] [PropertyAvailabilityService] [findAvailable] START - From: {}, To: {}, Offset: {}, Limit: {}", 
+                SERVICE_NAME, from, to, offset, limit);
+        try {
+            checkRange(from, to);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset must not be negative");
+            }
+            int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+            AvailabilityIndex.Page page = index.freeProperties(from.toEpochDay(), to.toEpochDay(), offset, pageSize);
+            Map<Long, Property> byId = new HashMap<>();
+            for (Property property : propertyRepository.findAllById(page.getIds())) {
+                byId.put(property.getId(), property);
+            }
+            List<Property> items = new ArrayList<>();
+            for (Long id : page.getIds()) {
+                Property property = byId.get(id);
+                if (property != null) {
+                    items.add(property);
+                }
+            }
+            logger.info("[{}] [PropertyAvailabilityService] [findAvailable] SUCCESS - Returning {} of {} properties", 
+                    SERVICE_NAME, items.size(), page.getTotal());
+            return new AvailablePropertyPage(items, page.getTotal(), offset, pageSize);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [findAvailable] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * @return free stretches of at least minDays within [from, to), or null if the property does not exist
+     */
+    public List<AvailabilityWindow> findFreeWindows(Long propertyId, LocalDate from, LocalDate to, int minDays) {
+        logger.info("[{}] [PropertyAvailabilityService] [findFreeWindows] START - Property ID: {}, From: {}, To: {}, Min days: {}", 
+                SERVICE_NAME, propertyId, from, to, minDays);
+        try {
+            checkRange(from, to);
+            if (minDays < 1) {
+                throw new IllegalArgumentException("minDays must be at least 1");
+            }
+            if (!index.containsProperty(propertyId)) {
+                logger.warn("[{}] [PropertyAvailabilityService] [findFreeWindows] Property not found with ID: {}", SERVICE_NAME, propertyId);
+                return null;
+            }
+            List<AvailabilityWindow> windows = new ArrayList<>();
+            for (long[] window : index.freeWindows(propertyId, from.toEpochDay(), to.toEpochDay(), minDays)) {
+                windows.add(new AvailabilityWindow(LocalDate.ofEpochDay(window[0]), LocalDate.ofEpochDay(window[1])));
+            }
+            logger.info("[{}] [PropertyAvailabilityService] [findFreeWindows] SUCCESS - Found {} windows", SERVICE_NAME, windows.size());
+            return windows;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyAvailabilityService] [findFreeWindows] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    private void indexBooking(PropertyAvailability booking) {
+        index.put(booking.getId(), booking.getPropertyId(), booking.getStartDate().toEpochDay(), 
+                booking.getEndDate().toEpochDay(), booking.getKind());
+    }
+    
+    private List<PropertyAvailability> loadInOrder(List<Long> ids) {
+        List<PropertyAvailability> bookings = propertyAvailabilityRepository.findAllById(ids);
+        bookings.sort(Comparator.comparing(PropertyAvailability::getStartDate).thenComparing(PropertyAvailability::getId));
+        return bookings;
+    }
+    
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("from and to are required and to must be after from");
+        }
+        if (to.toEpochDay() - from.toEpochDay() > maxRangeDays) {
+            throw new IllegalArgumentException("Range must be at most " + maxRangeDays + " days");
+        }
+    }
+}
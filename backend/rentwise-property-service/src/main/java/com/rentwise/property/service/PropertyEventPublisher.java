@@ -0,0 +1,192 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.config.RabbitMQConfig;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes PropertyChangedEvents to property.changed.exchange off the request thread.
+ * Writers only enqueue; one sender thread drains the queue in batches of up to batch-size,
+ * waiting linger-ms after the first event so bursts (bulk imports, rapid edits) share one
+ * channel and one publisher-confirm round trip. Within a batch only the newest event per
+ * property is sent, since each event carries the full state after the change.
+ *
+ * Delivery is best effort: a full queue drops the event, and a batch the broker does not
+ * confirm is retried with backoff until it is, blocking later batches behind it. Consumers
+ * should keep a periodic full refresh as a backstop.
+ */
+@Service
+public class PropertyEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyEventPublisher.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final long MAX_RETRY_BACKOFF_MS = 30000;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${property.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${property.events.linger-ms:50}")
+    private long lingerMs;
+
+    @Value("${property.events.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${property.events.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final BlockingQueue<PropertyChangedEvent> pending;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "property-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public PropertyEventPublisher(@Value("${property.events.queue-capacity:100000}") int queueCapacity) {
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        sender.submit(this::sendLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        sender.shutdownNow();
+        try {
+            sender.awaitTermination(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!pending.isEmpty()) {
+            logger.warn("[{}] [PropertyEventPublisher] [shutdown] {} events not published", SERVICE_NAME, pending.size());
+        }
+    }
+
+    public void propertyCreated(Property property) {
+        enqueue(new PropertyChangedEvent(property.getId(), "CREATED", property.getVersion(), property));
+    }
+
+    public void propertyUpdated(Property property) {
+        enqueue(new PropertyChangedEvent(property.getId(), "UPDATED", property.getVersion(), property));
+    }
+
+    /**
+     * @param previous the row as it was before the delete
+     */
+    public void propertyDeleted(Property previous) {
+        long version = (previous.getVersion() != null ? previous.getVersion() : 0L) + 1;
+        enqueue(new PropertyChangedEvent(previous.getId(), "DELETED", version, null));
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void enqueue(PropertyChangedEvent event) {
+        if (!pending.offer(event)) {
+            long total = dropped.incrementAndGet();
+            logger.warn("[{}] [PropertyEventPublisher] [enqueue] Queue full - dropped {} event for property {} ({} dropped so far)",
+                    SERVICE_NAME, event.getChangeType(), event.getPropertyId(), total);
+        }
+    }
+
+    private void sendLoop() {
+        List<PropertyChangedEvent> drained = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PropertyChangedEvent first = pending.take();
+                drained.add(first);
+                if (lingerMs > 0 && pending.size() < batchSize - 1) {
+                    Thread.sleep(lingerMs);
+                }
+                pending.drainTo(drained, batchSize - 1);
+                List<PropertyChangedEvent> batch = coalesce(drained);
+                drained.clear();
+                sendWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("[{}] [PropertyEventPublisher] [sendLoop] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+                drained.clear();
+            }
+        }
+    }
+
+    private void sendWithRetry(List<PropertyChangedEvent> batch) throws InterruptedException {
+        long backoff = retryBackoffMs;
+        while (running) {
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    for (PropertyChangedEvent event : batch) {
+                        operations.convertAndSend(RabbitMQConfig.EXCHANGE_PROPERTY_CHANGED,
+                                RabbitMQConfig.ROUTING_KEY_PROPERTY_CHANGED_PREFIX + event.getChangeType().toLowerCase(Locale.ROOT),
+                                event);
+                    }
+                    operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                    return null;
+                });
+                published.addAndGet(batch.size());
+                logger.debug("[{}] [PropertyEventPublisher] [sendWithRetry] SUCCESS - Published {} events", SERVICE_NAME, batch.size());
+                return;
+            } catch (Exception e) {
+                logger.error("[{}] [PropertyEventPublisher] [sendWithRetry] ERROR - {} events not confirmed, retrying in {} ms: {}",
+                        SERVICE_NAME, batch.size(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    /** Keeps the newest event per property, in the order each property was first seen. */
+    private static List<PropertyChangedEvent> coalesce(List<PropertyChangedEvent> events) {
+        Map<Long, PropertyChangedEvent> newest = new LinkedHashMap<>();
+        for (PropertyChangedEvent event : events) {
+            PropertyChangedEvent seen = newest.get(event.getPropertyId());
+            if (seen == null || compareVersions(event, seen) >= 0) {
+                newest.put(event.getPropertyId(), event);
+            }
+        }
+        return new ArrayList<>(newest.values());
+    }
+
+    private static int compareVersions(PropertyChangedEvent a, PropertyChangedEvent b) {
+        return Long.compare(a.getVersion() != null ? a.getVersion() : 0L, b.getVersion() != null ? b.getVersion() : 0L);
+    }
+}
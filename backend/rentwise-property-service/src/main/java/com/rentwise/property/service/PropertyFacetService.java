@@ -0,0 +1,144 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.facet.FacetIndex;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyFacetResult;
+import com.rentwise.property.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live facet counts for the property listing, served from per-value Roaring bitmaps. The
+ * index is loaded once the application is ready and PropertyService keeps it current on
+ * every create, update and delete.
+ */
+@Service
+public class PropertyFacetService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyFacetService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    
+    public static final String CITY = "city";
+    public static final String TYPE = "type";
+    public static final String STATUS = "status";
+    public static final String BEDROOMS = "bedrooms";
+    public static final String RENT_BAND = "rentBand";
+    
+    @Autowired
+    private PropertyRepository propertyRepository;
+    
+    @Value("${property.facets.max-page-size:100}")
+    private int maxPageSize;
+    
+    private final FacetIndex index = new FacetIndex(List.of(CITY, TYPE, STATUS, BEDROOMS, RENT_BAND));
+    private final BigDecimal[] rentBandEdges;
+    
+    public PropertyFacetService(@Value("${property.facets.rent-bands:1000,1500,2000,2500,3000}") String rentBands) {
+        this.rentBandEdges = Arrays.stream(rentBands.split(","))
+                .map(String::trim)
+                .map(BigDecimal::new)
+                .sorted()
+                .toArray(BigDecimal[]::new);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        logger.info("[{}] [PropertyFacetService] [buildIndex] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            index.clear();
+            Page<Property> properties;
+            int page = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                properties.forEach(this::indexProperty);
+            } while (properties.hasNext());
+            index.optimize();
+            logger.info("[{}] [PropertyFacetService] [buildIndex] SUCCESS - Indexed {} properties ({} bytes of bitmaps) in {} ms", 
+                    SERVICE_NAME, index.size(), index.estimatedBytes(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyFacetService] [buildIndex] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    public void indexProperty(Property property) {
+        Map<String, String> values = new HashMap<>();
+        values.put(CITY, property.getCity());
+        values.put(TYPE, property.getType());
+        values.put(STATUS, property.getStatus());
+        values.put(BEDROOMS, property.getBedrooms() != null ? property.getBedrooms().toString() : null);
+        values.put(RENT_BAND, rentBandOf(property.getRentAmount()));
+        index.put(property.getId(), values);
+    }
+    
+    public void removeProperty(Long propertyId) {
+        index.remove(propertyId);
+    }
+    
+    /**
+     * @param filters facet name -> accepted values; values are ORed within a facet and facets
+     *                are ANDed together
+     */
+    public PropertyFacetResult getFacets(Map<String, ? extends Collection<String>> filters, int offset, int limit) {
+        logger.info("[{}] [PropertyFacetService] [getFacets] START - Filters: {}, Offset: {}, Limit: {}", 
+                SERVICE_NAME, filters, offset, limit);
+        try {
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset must not be negative");
+            }
+            int pageSize = Math.max(0, Math.min(limit, maxPageSize));
+            FacetIndex.Result result = index.query(filters, offset, pageSize);
+            Map<Long, Property> byId = new HashMap<>();
+            for (Property property : propertyRepository.findAllById(result.getIds())) {
+                byId.put(property.getId(), property);
+            }
+            List<Property> items = new ArrayList<>();
+            for (Long id : result.getIds()) {
+                Property property = byId.get(id);
+                if (property != null) {
+                    items.add(property);
+                }
+            }
+            logger.info("[{}] [PropertyFacetService] [getFacets] SUCCESS - {} matching properties", SERVICE_NAME, result.getTotal());
+            return new PropertyFacetResult(result.getTotal(), result.getCounts(), items, offset, pageSize);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyFacetService] [getFacets] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Band label for a rent, e.g. "<1000", "1000-1500" or "3000+" for the default edges.
+     */
+    public String rentBandOf(BigDecimal rent) {
+        if (rent == null) {
+            return null;
+        }
+        if (rent.compareTo(rentBandEdges[0]) < 0) {
+            return "<" + rentBandEdges[0].toPlainString();
+        }
+        for (int i = 1; i < rentBandEdges.length; i++) {
+            if (rent.compareTo(rentBandEdges[i]) < 0) {
+                return rentBandEdges[i - 1].toPlainString() + "-" + rentBandEdges[i].toPlainString();
+            }
+        }
+        return rentBandEdges[rentBandEdges.length - 1].toPlainString() + "+";
+    }
+}
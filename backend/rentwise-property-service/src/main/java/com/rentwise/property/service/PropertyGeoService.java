@@ -0,0 +1,227 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.geo.GeoGridIndex;
+import com.rentwise.property.geo.ZipCentroidTable;
+import com.rentwise.property.model.NearbyProperty;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertyGeoPage;
+import com.rentwise.property.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Radius, bounding-box and nearest-neighbour lookups over an in-memory grid of property
+ * coordinates. The grid is loaded once the application is ready (backfilling coordinates
+ * from the ZIP centroid table for rows that have none) and PropertyService keeps it current
+ * on every create, update and delete.
+ */
+@Service
+public class PropertyGeoService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyGeoService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    
+    @Autowired
+    private PropertyRepository propertyRepository;
+    
+    @Autowired
+    private ZipCentroidTable zipCentroidTable;
+    
+    @Value("${property.geo.max-radius-km:200}")
+    private double maxRadiusKm;
+    
+    @Value("${property.geo.max-page-size:100}")
+    private int maxPageSize;
+    
+    private final GeoGridIndex index;
+    
+    public PropertyGeoService(@Value("${property.geo.cell-size-deg:0.05}") double cellSizeDegrees) {
+        this.index = new GeoGridIndex(cellSizeDegrees);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        logger.info("[{}] [PropertyGeoService] [buildIndex] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            int backfilled = 0;
+            index.clear();
+            Page<Property> properties;
+            int page = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                List<Property> resolved = new ArrayList<>();
+                for (Property property : properties) {
+                    if (property.getLatitude() == null && applyCoordinates(property, null)) {
+                        resolved.add(property);
+                    }
+                    indexProperty(property);
+                }
+                if (!resolved.isEmpty()) {
+                    propertyRepository.saveAll(resolved);
+                    backfilled += resolved.size();
+                }
+            } while (properties.hasNext());
+            logger.info("[{}] [PropertyGeoService] [buildIndex] SUCCESS - Indexed {} properties ({} backfilled from ZIP) in {} ms", 
+                    SERVICE_NAME, index.size(), backfilled, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyGeoService] [buildIndex] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Fills latitude/longitude from the ZIP centroid table when the caller did not supply
+     * them, or when an update changed the ZIP code but carried the old coordinates along.
+     * @param previous the stored row before an update, or null on create
+     * @return true if coordinates were set
+     */
+    public boolean applyCoordinates(Property property, Property previous) {
+        boolean missing = property.getLatitude() == null || property.getLongitude() == null;
+        boolean stale = previous != null
+                && !Objects.equals(previous.getZipCode(), property.getZipCode())
+                && Objects.equals(previous.getLatitude(), property.getLatitude())
+                && Objects.equals(previous.getLongitude(), property.getLongitude());
+        if (!missing && !stale) {
+            return false;
+        }
+        double[] centroid = zipCentroidTable.lookup(property.getZipCode());
+        if (centroid == null) {
+            if (stale) {
+                property.setLatitude(null);
+                property.setLongitude(null);
+            }
+            logger.debug("[{}] [PropertyGeoService] [applyCoordinates] No centroid for ZIP: {}", SERVICE_NAME, property.getZipCode());
+            return false;
+        }
+        property.setLatitude(centroid[0]);
+        property.setLongitude(centroid[1]);
+        return true;
+    }
+    
+    public void indexProperty(Property property) {
+        if (property.getLatitude() != null && property.getLongitude() != null) {
+            index.put(property.getId(), property.getLatitude(), property.getLongitude());
+        } else {
+            index.remove(property.getId());
+        }
+    }
+    
+    public void removeProperty(Long propertyId) {
+        index.remove(propertyId);
+    }
+    
+    public PropertyGeoPage findWithinRadius(double latitude, double longitude, double radiusKm, int offset, int limit) {
+        logger.info("[{}] [PropertyGeoService] [findWithinRadius] START - Lat: {}, Lon: {}, Radius: {} km, Offset: {}, Limit: {}", 
+                SERVICE_NAME, latitude, longitude, radiusKm, offset, limit);
+        try {
+            checkCoordinates(latitude, longitude);
+            if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+                throw new IllegalArgumentException("Radius must be greater than 0 and at most " + maxRadiusKm + " km");
+            }
+            int pageSize = pageSize(offset, limit);
+            PropertyGeoPage result = toPage(index.withinRadius(latitude, longitude, radiusKm, offset, pageSize), offset, pageSize);
+            logger.info("[{}] [PropertyGeoService] [findWithinRadius] SUCCESS - Returning {} of {} properties", 
+                    SERVICE_NAME, result.getItems().size(), result.getTotal());
+            return result;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyGeoService] [findWithinRadius] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public PropertyGeoPage findWithinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, 
+                                         int offset, int limit) {
+        logger.info("[{}] [PropertyGeoService] [findWithinBox] START - Box: ({}, {}) to ({}, {}), Offset: {}, Limit: {}", 
+                SERVICE_NAME, minLatitude, minLongitude, maxLatitude, maxLongitude, offset, limit);
+        try {
+            checkCoordinates(minLatitude, minLongitude);
+            checkCoordinates(maxLatitude, maxLongitude);
+            if (minLatitude > maxLatitude) {
+                throw new IllegalArgumentException("minLat must not be greater than maxLat");
+            }
+            int pageSize = pageSize(offset, limit);
+            PropertyGeoPage result = toPage(index.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude, offset, pageSize), 
+                    offset, pageSize);
+            logger.info("[{}] [PropertyGeoService] [findWithinBox] SUCCESS - Returning {} of {} properties", 
+                    SERVICE_NAME, result.getItems().size(), result.getTotal());
+            return result;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyGeoService] [findWithinBox] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public PropertyGeoPage findNearest(double latitude, double longitude, int offset, int limit) {
+        logger.info("[{}] [PropertyGeoService] [findNearest] START - Lat: {}, Lon: {}, Offset: {}, Limit: {}", 
+                SERVICE_NAME, latitude, longitude, offset, limit);
+        try {
+            checkCoordinates(latitude, longitude);
+            int pageSize = pageSize(offset, limit);
+            PropertyGeoPage result = toPage(index.nearest(latitude, longitude, offset, pageSize), offset, pageSize);
+            logger.info("[{}] [PropertyGeoService] [findNearest] SUCCESS - Returning {} properties", 
+                    SERVICE_NAME, result.getItems().size());
+            return result;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyGeoService] [findNearest] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * @return {latitude, longitude} of the ZIP code's centroid
+     */
+    public double[] resolveZipCode(String zipCode) {
+        double[] centroid = zipCentroidTable.lookup(zipCode);
+        if (centroid == null) {
+            throw new IllegalArgumentException("Unknown ZIP code: " + zipCode);
+        }
+        return centroid;
+    }
+    
+    private PropertyGeoPage toPage(GeoGridIndex.Page page, int offset, int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (GeoGridIndex.Hit hit : page.getHits()) {
+            ids.add(hit.getId());
+        }
+        Map<Long, Property> byId = new HashMap<>();
+        for (Property property : propertyRepository.findAllById(ids)) {
+            byId.put(property.getId(), property);
+        }
+        List<NearbyProperty> items = new ArrayList<>();
+        for (GeoGridIndex.Hit hit : page.getHits()) {
+            Property property = byId.get(hit.getId());
+            if (property != null) {
+                items.add(new NearbyProperty(property, Double.isNaN(hit.getDistanceKm()) ? null : hit.getDistanceKm()));
+            }
+        }
+        return new PropertyGeoPage(items, page.getTotal(), offset, limit);
+    }
+    
+    private int pageSize(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
+    }
+    
+    private static void checkCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+}
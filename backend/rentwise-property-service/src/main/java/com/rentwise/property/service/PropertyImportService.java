@@ -0,0 +1,447 @@
+package com.rentwise.property.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rentwise.common.importer.CsvLine;
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.common.importer.MappedLineReader;
+import com.rentwise.property.model.Property;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Bulk property import from CSV (with a header row) or JSON lines (one object per line; a
+ * top-level array is accepted when each element sits on its own line). The uploaded file is
+ * memory-mapped and split into line-aligned chunks that are parsed in parallel, while the
+ * import thread inserts the parsed rows in file order with JDBC batches on one connection,
+ * committing and indexing each batch as it goes. Imports run one at a time; progress is
+ * polled through getJob.
+ */
+@Service
+public class PropertyImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PropertyImportService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final String[] QUERY_SPACES = {"properties"};
+    private static final String INSERT_SQL = "INSERT INTO properties (name, address, city, state, zip_code, latitude, longitude, "
+            + "type, bedrooms, bathrooms, rent_amount, status, user_id, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private PropertyService propertyService;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${property.import.chunk-bytes:8388608}")
+    private int chunkBytes;
+    
+    @Value("${property.import.batch-size:1000}")
+    private int batchSize;
+    
+    private final int parseThreads;
+    private final ExecutorService parseExecutor;
+    private final ExecutorService importExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "property-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+    
+    public PropertyImportService(@Value("${property.import.parse-threads:0}") int parseThreads) {
+        this.parseThreads = parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors();
+        this.parseExecutor = Executors.newFixedThreadPool(this.parseThreads, runnable -> {
+            Thread thread = new Thread(runnable, "property-import-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdownNow();
+        parseExecutor.shutdownNow();
+    }
+    
+    /**
+     * Stores the upload in a temporary file and queues the import.
+     * @param format CSV or JSON; inferred from the file extension when null
+     */
+    public ImportJob startImport(MultipartFile file, String format) throws IOException {
+        logger.info("[{}] [PropertyImportService] [startImport] START - File: {}, Size: {} bytes", 
+                SERVICE_NAME, file.getOriginalFilename(), file.getSize());
+        try {
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            String resolvedFormat = resolveFormat(file.getOriginalFilename(), format);
+            Path upload = Files.createTempFile("property-import-", "." + resolvedFormat.toLowerCase(Locale.ROOT));
+            file.transferTo(upload);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), resolvedFormat);
+            jobs.put(job.getId(), job);
+            importExecutor.submit(() -> runImport(job, upload));
+            logger.info("[{}] [PropertyImportService] [startImport] SUCCESS - Queued import job: {}", SERVICE_NAME, job.getId());
+            return job;
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyImportService] [startImport] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public ImportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+    
+    private void runImport(ImportJob job, Path upload) {
+        logger.info("[{}] [PropertyImportService] [runImport] START - Job: {}, Format: {}", SERVICE_NAME, job.getId(), job.getFormat());
+        job.setState("RUNNING");
+        job.setStartedAt(LocalDateTime.now());
+        Deque<Future<ParsedChunk>> pending = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(upload, StandardOpenOption.READ);
+             Connection connection = dataSource.getConnection()) {
+            job.setTotalBytes(channel.size());
+            long dataStart = 0;
+            RowParser parser;
+            if ("CSV".equals(job.getFormat())) {
+                int headerLength = MappedLineReader.firstLineLength(channel);
+                ByteBuffer header = ByteBuffer.allocate(headerLength);
+                channel.read(header, 0);
+                int headerStart = headerLength >= 3 && header.get(0) == (byte) 0xEF && header.get(1) == (byte) 0xBB 
+                        && header.get(2) == (byte) 0xBF ? 3 : 0; // UTF-8 byte order mark
+                int headerEnd = headerLength;
+                while (headerEnd > headerStart && (header.get(headerEnd - 1) == '\n' || header.get(headerEnd - 1) == '\r')) {
+                    headerEnd--;
+                }
+                parser = csvParser(new CsvLine().split(header, headerStart, headerEnd));
+                dataStart = headerLength;
+                job.setProcessedBytes(headerLength);
+            } else {
+                parser = jsonParser(objectMapper.readerFor(Property.class));
+            }
+            List<MappedLineReader.Chunk> chunks = MappedLineReader.split(channel, dataStart, chunkBytes);
+            long lineBase = dataStart > 0 ? 1 : 0; // Lines before the chunk being consumed
+            int nextChunk = 0;
+            List<Property> batch = new ArrayList<>(batchSize);
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                while (nextChunk < chunks.size() || !pending.isEmpty()) {
+                    // Keep a bounded number of chunks parsing ahead of the inserts
+                    while (nextChunk < chunks.size() && pending.size() < parseThreads * 2) {
+                        MappedLineReader.Chunk chunk = chunks.get(nextChunk++);
+                        pending.add(parseExecutor.submit(() -> parseChunk(channel, chunk, parser)));
+                    }
+                    ParsedChunk parsed = pending.poll().get();
+                    for (Property property : parsed.rows) {
+                        batch.add(property);
+                        if (batch.size() == batchSize) {
+                            insertBatch(connection, insert, batch, job);
+                        }
+                    }
+                    for (int i = 0; i < parsed.errorLines.size(); i++) {
+                        job.reject(lineBase + parsed.errorLines.get(i) + 1, parsed.errorMessages.get(i));
+                    }
+                    job.setRowsParsed(job.getRowsParsed() + parsed.rows.size());
+                    job.setProcessedBytes(job.getProcessedBytes() + parsed.bytes);
+                    lineBase += parsed.lineCount;
+                    logger.info("[{}] [PropertyImportService] [runImport] PROGRESS - Job: {}, {}% - {} inserted, {} rejected", 
+                            SERVICE_NAME, job.getId(), Math.round(job.getPercentComplete()), job.getRowsInserted(), job.getRowsRejected());
+                }
+                if (!batch.isEmpty()) {
+                    insertBatch(connection, insert, batch, job);
+                }
+            }
+            job.setState("COMPLETED");
+            logger.info("[{}] [PropertyImportService] [runImport] SUCCESS - Job: {}, {} inserted, {} rejected, {} rows/s", 
+                    SERVICE_NAME, job.getId(), job.getRowsInserted(), job.getRowsRejected(), job.getRowsPerSecond());
+        } catch (Exception e) {
+            pending.forEach(future -> future.cancel(true));
+            job.setState("FAILED");
+            job.setFailureMessage(e.getMessage());
+            logger.error("[{}] [PropertyImportService] [runImport] ERROR - Job: {} - {}", SERVICE_NAME, job.getId(), e.getMessage(), e);
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                logger.warn("[{}] [PropertyImportService] [runImport] Could not delete upload {}: {}", SERVICE_NAME, upload, e.getMessage());
+            }
+        }
+    }
+    
+    private ParsedChunk parseChunk(FileChannel channel, MappedLineReader.Chunk chunk, RowParser parser) throws IOException {
+        ParsedChunk parsed = new ParsedChunk();
+        CsvLine csv = new CsvLine();
+        parsed.bytes = chunk.getLength();
+        parsed.lineCount = MappedLineReader.forEachLine(channel, chunk, (buffer, start, end, lineIndex) -> {
+            try {
+                Property property = parser.parse(buffer, start, end, csv);
+                if (property != null) {
+                    validate(property);
+                    propertyService.prepareNewProperty(property);
+                    parsed.rows.add(property);
+                }
+            } catch (IllegalArgumentException e) {
+                parsed.errorLines.add(lineIndex);
+                parsed.errorMessages.add(e.getMessage());
+            }
+        });
+        return parsed;
+    }
+    
+    private void insertBatch(Connection connection, PreparedStatement insert, List<Property> batch, ImportJob job) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        updateQueryCacheTimestamps(false);
+        try {
+            for (Property property : batch) {
+                insert.setString(1, property.getName());
+                insert.setString(2, property.getAddress());
+                insert.setString(3, property.getCity());
+                insert.setString(4, property.getState());
+                insert.setString(5, property.getZipCode());
+                setNullable(insert, 6, property.getLatitude(), Types.DOUBLE);
+                setNullable(insert, 7, property.getLongitude(), Types.DOUBLE);
+                insert.setString(8, property.getType());
+                setNullable(insert, 9, property.getBedrooms(), Types.INTEGER);
+                setNullable(insert, 10, property.getBathrooms(), Types.INTEGER);
+                setNullable(insert, 11, property.getRentAmount(), Types.DECIMAL);
+                insert.setString(12, property.getStatus());
+                setNullable(insert, 13, property.getUserId(), Types.BIGINT);
+                insert.setLong(14, 0L);
+                insert.setTimestamp(15, timestamp);
+                insert.setTimestamp(16, timestamp);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            // Batched rows get consecutive auto-increment ids, returned in insert order
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < batch.size()) {
+                    batch.get(i++).setId(keys.getLong(1));
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            updateQueryCacheTimestamps(true);
+        }
+        for (Property property : batch) {
+            property.setVersion(0L);
+            property.setCreatedAt(now);
+            property.setUpdatedAt(now);
+            propertyService.indexNewProperty(property);
+        }
+        job.setRowsInserted(job.getRowsInserted() + batch.size());
+        batch.clear();
+    }
+    
+    /**
+     * Rows are written around Hibernate, so each batch keeps the query cache in step the way
+     * Hibernate's own bulk updates do: before the batch the properties table is pre-invalidated, so no
+     * result read meanwhile gets cached, and once it commits (or rolls back) the table's update
+     * timestamp is bumped, so results cached before the commit, such as an owner's listing, are
+     * stale from then on rather than only when the import ends.
+     */
+    private void updateQueryCacheTimestamps(boolean completed) {
+        try {
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            TimestampsCache timestamps = sessionFactory.getCache().getTimestampsCache();
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                if (completed) {
+                    timestamps.invalidate(QUERY_SPACES, (SharedSessionContractImplementor) session);
+                } else {
+                    timestamps.preInvalidate(QUERY_SPACES, (SharedSessionContractImplementor) session);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("[{}] [PropertyImportService] [updateQueryCacheTimestamps] Could not update query cache timestamps: {}", SERVICE_NAME, e.getMessage());
+        }
+    }
+    
+    private static void validate(Property property) {
+        if (property.getName() == null || property.getName().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (property.getRentAmount() != null && property.getRentAmount().signum() < 0) {
+            throw new IllegalArgumentException("rentAmount must not be negative");
+        }
+    }
+    
+    private static String resolveFormat(String fileName, String format) {
+        String resolved = format;
+        if (resolved == null || resolved.isBlank()) {
+            String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".csv")) {
+                resolved = "CSV";
+            } else if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                resolved = "JSON";
+            } else {
+                throw new IllegalArgumentException("Cannot infer the format of " + fileName + "; pass format=CSV or format=JSON");
+            }
+        }
+        resolved = resolved.toUpperCase(Locale.ROOT);
+        if (!resolved.equals("CSV") && !resolved.equals("JSON")) {
+            throw new IllegalArgumentException("Format must be CSV or JSON");
+        }
+        return resolved;
+    }
+    
+    /** Binds CSV columns to Property setters by header name, ignoring case, '_', '-' and spaces. */
+    private static RowParser csvParser(List<String> header) {
+        List<BiConsumer<Property, String>> binders = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        boolean hasName = false;
+        for (String column : header) {
+            String key = column.toLowerCase(Locale.ROOT).replaceAll("[_\\- ]", "");
+            BiConsumer<Property, String> binder = switch (key) {
+                case "name" -> Property::setName;
+                case "address" -> Property::setAddress;
+                case "city" -> Property::setCity;
+                case "state" -> Property::setState;
+                case "zip", "zipcode" -> Property::setZipCode;
+                case "lat", "latitude" -> (p, v) -> p.setLatitude(Double.valueOf(v));
+                case "lon", "lng", "longitude" -> (p, v) -> p.setLongitude(Double.valueOf(v));
+                case "type" -> Property::setType;
+                case "bedrooms" -> (p, v) -> p.setBedrooms(Integer.valueOf(v));
+                case "bathrooms" -> (p, v) -> p.setBathrooms(Integer.valueOf(v));
+                case "rent", "rentamount" -> (p, v) -> p.setRentAmount(new BigDecimal(v));
+                case "status" -> Property::setStatus;
+                case "userid" -> (p, v) -> p.setUserId(Long.valueOf(v));
+                default -> null; // Unknown columns are ignored
+            };
+            hasName |= "name".equals(key);
+            binders.add(binder);
+            columns.add(column);
+        }
+        if (!hasName) {
+            throw new IllegalArgumentException("CSV header must include a name column");
+        }
+        return (buffer, start, end, csv) -> {
+            if (start == end) {
+                return null;
+            }
+            List<String> fields = csv.split(buffer, start, end);
+            Property property = new Property();
+            for (int i = 0; i < fields.size() && i < binders.size(); i++) {
+                BiConsumer<Property, String> binder = binders.get(i);
+                String value = fields.get(i);
+                if (binder == null || value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    binder.accept(property, value);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid " + columns.get(i) + ": " + value);
+                }
+            }
+            return property;
+        };
+    }
+    
+    private static RowParser jsonParser(ObjectReader reader) {
+        return (buffer, start, end, csv) -> {
+            while (start < end && Character.isWhitespace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && (Character.isWhitespace(buffer.get(end - 1)) || buffer.get(end - 1) == ',')) {
+                end--;
+            }
+            if (start < end && buffer.get(start) == '[') {
+                start++;
+            }
+            if (end > start && buffer.get(end - 1) == ']') {
+                end--;
+            }
+            if (start >= end) {
+                return null; // Blank line or the brackets of a top-level array
+            }
+            byte[] line = new byte[end - start];
+            buffer.get(start, line);
+            try {
+                Property property = reader.readValue(line);
+                property.setId(null);
+                return property;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getMessage());
+            }
+        };
+    }
+    
+    private static void setNullable(PreparedStatement statement, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value, sqlType);
+        }
+    }
+    
+    /** Parses one line; returns null for lines that hold no row. */
+    private interface RowParser {
+        Property parse(ByteBuffer buffer, int start, int end, CsvLine csv);
+    }
+    
+    private static final class ParsedChunk {
+        final List<Property> rows = new ArrayList<>();
+        final List<Integer> errorLines = new ArrayList<>();
+        final List<String> errorMessages = new ArrayList<>();
+        int lineCount;
+        int bytes;
+    }
+}
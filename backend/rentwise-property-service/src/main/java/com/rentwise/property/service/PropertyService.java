@@ -1,12 +1,20 @@
 package com.rentwise.property.service;
 
 import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertySearchCriteria;
+import com.rentwise.property.model.PropertySearchPage;
 import com.rentwise.property.repository.PropertyRepository;
+import com.rentwise.property.repository.PropertySpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -14,10 +22,43 @@ public class PropertyService {
     
     private static final Logger logger = LoggerFactory.getLogger(PropertyService.class);
     private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
     
     @Autowired
     private PropertyRepository propertyRepository;
     
+    @Autowired
+    private PropertyGeoService propertyGeoService;
+    
+    @Autowired
+    private PropertyFacetService propertyFacetService;
+    
+    @Autowired
+    private PropertyAnalyticsService propertyAnalyticsService;
+    
+    @Autowired
+    private RentStatisticsService rentStatisticsService;
+    
+    @Autowired
+    private PropertyAutocompleteService propertyAutocompleteService;
+    
+    @Autowired
+    private PropertyAvailabilityService propertyAvailabilityService;
+    
+    @Autowired
+    private PropertyEventPublisher propertyEventPublisher;
+    
+    @Autowired
+    private RentHistoryService rentHistoryService;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeVersions() {
+        int initialized = propertyRepository.initializeMissingVersions();
+        if (initialized > 0) {
+            logger.info("[{}] [PropertyService] [initializeVersions] Set version 0 on {} properties", SERVICE_NAME, initialized);
+        }
+    }
+    
     public List<Property> getAllProperties() {
         logger.info("[{}] [PropertyService] [getAllProperties] START - Fetching all properties", SERVICE_NAME);
         try {
@@ -36,6 +77,7 @@ public class PropertyService {
         try {
             Property property = propertyRepository.findById(id).orElse(null);
             if (property != null) {
+                propertyAutocompleteService.recordView(id);
                 logger.info("[{}] [PropertyService] [getPropertyById] SUCCESS - Property found with ID: {}", SERVICE_NAME, id);
             } else {
                 logger.warn("[{}] [PropertyService] [getPropertyById] Property not found with ID: {}", SERVICE_NAME, id);
@@ -51,11 +93,9 @@ public class PropertyService {
     public Property createProperty(Property property) {
         logger.info("[{}] [PropertyService] [createProperty] START - Creating property: {}", SERVICE_NAME, property.getName());
         try {
-            if (property.getStatus() == null || property.getStatus().isEmpty()) {
-                logger.debug("[{}] [PropertyService] [createProperty] Setting default status to AVAILABLE", SERVICE_NAME);
-                property.setStatus("AVAILABLE");
-            }
+            prepareNewProperty(property);
             Property savedProperty = propertyRepository.save(property);
+            indexNewProperty(savedProperty);
             logger.info("[{}] [PropertyService] [createProperty] SUCCESS - Property created with ID: {}", SERVICE_NAME, savedProperty.getId());
             return savedProperty;
         } catch (Exception e) {
@@ -70,8 +110,23 @@ public class PropertyService {
         try {
             Property existing = propertyRepository.findById(id).orElse(null);
             if (existing != null) {
+                // existing is the managed instance save() merges into, so keep what the indexes need to undo
+                String oldCity = existing.getCity();
+                Integer oldBedrooms = existing.getBedrooms();
+                BigDecimal oldRent = existing.getRentAmount();
+                LocalDateTime createdAt = existing.getCreatedAt();
                 property.setId(id);
+                // The version read above: the UPDATE only applies if no other write has bumped it since
+                property.setVersion(existing.getVersion());
+                propertyGeoService.applyCoordinates(property, existing);
                 Property updated = propertyRepository.save(property);
+                propertyGeoService.indexProperty(updated);
+                propertyFacetService.indexProperty(updated);
+                propertyAnalyticsService.indexProperty(updated);
+                rentStatisticsService.onPropertyUpdated(oldCity, oldBedrooms, oldRent, updated);
+                rentHistoryService.onPropertyUpdated(oldCity, oldRent, createdAt, updated);
+                propertyAutocompleteService.indexProperty(updated);
+                propertyEventPublisher.propertyUpdated(updated);
                 logger.info("[{}] [PropertyService] [updateProperty] SUCCESS - Property updated with ID: {}", SERVICE_NAME, id);
                 return updated;
             }
@@ -87,7 +142,19 @@ public class PropertyService {
     public void deleteProperty(Long id) {
         logger.info("[{}] [PropertyService] [deleteProperty] START - Deleting property with ID: {}", SERVICE_NAME, id);
         try {
+            // Read first: the rent statistics and trends need the deleted row's city, bedrooms and rent
+            Property existing = propertyRepository.findById(id).orElse(null);
             propertyRepository.deleteById(id);
+            propertyGeoService.removeProperty(id);
+            propertyFacetService.removeProperty(id);
+            propertyAnalyticsService.removeProperty(id);
+            propertyAutocompleteService.removeProperty(id);
+            propertyAvailabilityService.removeProperty(id);
+            if (existing != null) {
+                rentStatisticsService.onPropertyDeleted(existing);
+                rentHistoryService.onPropertyDeleted(existing);
+                propertyEventPublisher.propertyDeleted(existing);
+            }
             logger.info("[{}] [PropertyService] [deleteProperty] SUCCESS - Property deleted with ID: {}", SERVICE_NAME, id);
         } catch (Exception e) {
             logger.error("[{}] [PropertyService] [deleteProperty] ERROR - Failed to delete property with ID: {} - Error: {}", 
@@ -136,5 +203,60 @@ public class PropertyService {
             throw e;
         }
     }
+    
+    public PropertySearchPage searchProperties(PropertySearchCriteria criteria) {
+        logger.info("[{}] [PropertyService] [searchProperties] START - City: {}, State: {}, Type: {}, Status: {}, Cursor: {}", 
+                SERVICE_NAME, criteria.getCity(), criteria.getState(), criteria.getType(), criteria.getStatus(), criteria.getCursor());
+        try {
+            int limit = Math.max(1, Math.min(criteria.getLimit(), MAX_SEARCH_PAGE_SIZE));
+            Specification<Property> spec = PropertySpecifications.matching(criteria);
+            if (criteria.getCursor() != null && !criteria.getCursor().isEmpty()) {
+                int separator = criteria.getCursor().lastIndexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Malformed search cursor: " + criteria.getCursor());
+                }
+                String rent = criteria.getCursor().substring(0, separator);
+                Long afterId = Long.valueOf(criteria.getCursor().substring(separator + 1));
+                spec = spec.and(PropertySpecifications.after("null".equals(rent) ? null : new BigDecimal(rent), afterId));
+            }
+            // Fetch one extra row to learn whether another page exists, without a COUNT query
+            List<Property> rows = propertyRepository.findBy(spec, q -> q.sortBy(PropertySpecifications.KEYSET_SORT)
+                    .limit(limit + 1)
+                    .all());
+            boolean hasMore = rows.size() > limit;
+            List<Property> items = hasMore ? rows.subList(0, limit) : rows;
+            String nextCursor = null;
+            if (hasMore) {
+                Property last = items.get(items.size() - 1);
+                nextCursor = (last.getRentAmount() != null ? last.getRentAmount().toPlainString() : "null") + ":" + last.getId();
+            }
+            logger.info("[{}] [PropertyService] [searchProperties] SUCCESS - Returning {} properties, hasMore: {}", 
+                    SERVICE_NAME, items.size(), hasMore);
+            return new PropertySearchPage(items, nextCursor, hasMore);
+        } catch (Exception e) {
+            logger.error("[{}] [PropertyService] [searchProperties] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /** Defaults applied before a new property is stored; shared with PropertyImportService. */
+    void prepareNewProperty(Property property) {
+        if (property.getStatus() == null || property.getStatus().isEmpty()) {
+            logger.debug("[{}] [PropertyService] [prepareNewProperty] Setting default status to AVAILABLE", SERVICE_NAME);
+            property.setStatus("AVAILABLE");
+        }
+        propertyGeoService.applyCoordinates(property, null);
+    }
+    
+    /** Adds a newly stored property to every in-memory index and announces it; shared with PropertyImportService. */
+    void indexNewProperty(Property savedProperty) {
+        propertyGeoService.indexProperty(savedProperty);
+        propertyFacetService.indexProperty(savedProperty);
+        propertyAnalyticsService.indexProperty(savedProperty);
+        rentStatisticsService.onPropertyCreated(savedProperty);
+        rentHistoryService.onPropertyCreated(savedProperty);
+        propertyAutocompleteService.indexProperty(savedProperty);
+        propertyAvailabilityService.indexProperty(savedProperty);
+        propertyEventPublisher.propertyCreated(savedProperty);
+    }
 }
-
@@ -0,0 +1,338 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.analytics.MonthlyRentRollup;
+import com.rentwise.property.analytics.RentSeries;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.RentHistory;
+import com.rentwise.property.model.RentPoint;
+import com.rentwise.property.model.RentRollupRecord;
+import com.rentwise.property.model.RentTrendPoint;
+import com.rentwise.property.repository.PropertyRepository;
+import com.rentwise.property.repository.RentHistoryRepository;
+import com.rentwise.property.repository.RentRollupRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rent history per property and monthly rent trends per city.
+ *
+ * Each property's rent changes are kept as a delta-encoded RentSeries in rent_history, written
+ * on the first change; a property whose rent never changed has no row and its history is its
+ * current rent since creation. City trends come from MonthlyRentRollups updated in memory on
+ * every create, update and delete and written behind to rent_monthly_rollups, so a trend query
+ * reads one total per city and month instead of replaying rent changes.
+ */
+@Service
+public class RentHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RentHistoryService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private static final ZoneId ZONE = ZoneId.systemDefault(); // Same clock as createdAt/updatedAt
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private RentHistoryRepository rentHistoryRepository;
+
+    @Autowired
+    private RentRollupRecordRepository rentRollupRecordRepository;
+
+    @Value("${property.rent-history.max-trend-months:120}")
+    private int maxTrendMonths;
+
+    private final Map<String, MonthlyRentRollup> rollups = new ConcurrentHashMap<>();
+    private final Object historyLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRollups() {
+        logger.info("[{}] [RentHistoryService] [loadRollups] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            rollups.clear();
+            List<RentRollupRecord> records = rentRollupRecordRepository.findAll();
+            // Rollups were credited up to the last flush; the rents loaded below have been in
+            // effect since then, so crediting resumes from that point
+            long resumeMinute = currentMinute();
+            LocalDateTime lastFlush = records.stream().map(RentRollupRecord::getUpdatedAt)
+                    .filter(t -> t != null).max(LocalDateTime::compareTo).orElse(null);
+            if (lastFlush != null) {
+                resumeMinute = Math.min(resumeMinute, lastFlush.atZone(ZONE).toEpochSecond() / 60);
+            }
+            for (RentRollupRecord record : records) {
+                rollup(record.getCity(), resumeMinute)
+                        .restoreMonth(record.getMonth(), record.getRentCentMinutes(), record.getPropertyMinutes());
+            }
+            Page<Property> properties;
+            int page = 0;
+            long tracked = 0;
+            do {
+                properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                for (Property property : properties) {
+                    if (isTracked(property)) {
+                        rollup(property.getCity(), resumeMinute).add(cents(property.getRentAmount()), resumeMinute);
+                        tracked++;
+                    }
+                }
+            } while (properties.hasNext());
+            flushRollups();
+            logger.info("[{}] [RentHistoryService] [loadRollups] SUCCESS - {} cities, {} properties tracked in {} ms",
+                    SERVICE_NAME, rollups.size(), tracked, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [RentHistoryService] [loadRollups] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+
+    public void onPropertyCreated(Property current) {
+        if (isTracked(current)) {
+            long now = currentMinute();
+            MonthlyRentRollup rollup = rollup(current.getCity(), now);
+            synchronized (rollup) {
+                rollup.add(cents(current.getRentAmount()), now);
+            }
+        }
+    }
+
+    /**
+     * Moves the rent between city rollups and records a rent change. The previous values must be
+     * read before the save: the saved entity is the same managed instance as the one loaded, so
+     * it no longer carries them.
+     * @param previousCreatedAt when the previous rent came into effect, if no change is recorded yet
+     */
+    public void onPropertyUpdated(String previousCity, BigDecimal previousRent, LocalDateTime previousCreatedAt,
+                                  Property current) {
+        long now = currentMinute();
+        boolean previousTracked = previousCity != null && previousRent != null;
+        boolean sameBucket = previousTracked && isTracked(current)
+                && previousCity.equals(current.getCity())
+                && previousRent.compareTo(current.getRentAmount()) == 0;
+        if (!sameBucket) {
+            if (previousTracked) {
+                MonthlyRentRollup rollup = rollup(previousCity, now);
+                synchronized (rollup) {
+                    rollup.remove(cents(previousRent), now);
+                }
+            }
+            onPropertyCreated(current);
+        }
+        if (current.getRentAmount() != null
+                && (previousRent == null || previousRent.compareTo(current.getRentAmount()) != 0)) {
+            recordRentChange(previousRent, previousCreatedAt, current);
+        }
+    }
+
+    public void onPropertyDeleted(Property previous) {
+        if (isTracked(previous)) {
+            long now = currentMinute();
+            MonthlyRentRollup rollup = rollup(previous.getCity(), now);
+            synchronized (rollup) {
+                rollup.remove(cents(previous.getRentAmount()), now);
+            }
+        }
+        rentHistoryRepository.deleteByPropertyId(previous.getId());
+    }
+
+    /**
+     * Rent points in [from, to), led by the point in effect at from.
+     * @param from null for the whole history
+     * @param to   exclusive; null for now
+     * @return null when the property does not exist
+     */
+    public List<RentPoint> getRentHistory(Long propertyId, LocalDate from, LocalDate to) {
+        logger.info("[{}] [RentHistoryService] [getRentHistory] START - Property ID: {}, From: {}, To: {}",
+                SERVICE_NAME, propertyId, from, to);
+        try {
+            if (from != null && to != null && !from.isBefore(to)) {
+                throw new IllegalArgumentException("from must be before to");
+            }
+            RentSeries series = rentHistoryRepository.findByPropertyId(propertyId)
+                    .map(history -> RentSeries.deserialize(history.getPoints()))
+                    .orElse(null);
+            if (series == null) {
+                Property property = propertyRepository.findById(propertyId).orElse(null);
+                if (property == null) {
+                    logger.warn("[{}] [RentHistoryService] [getRentHistory] Property not found with ID: {}", SERVICE_NAME, propertyId);
+                    return null;
+                }
+                series = new RentSeries();
+                if (property.getRentAmount() != null) {
+                    series.append(epochSecond(property.getCreatedAt()), cents(property.getRentAmount()));
+                }
+            }
+            long fromSecond = from != null ? from.atStartOfDay(ZONE).toEpochSecond() : Long.MIN_VALUE;
+            long toSecond = to != null ? to.atStartOfDay(ZONE).toEpochSecond() : Long.MAX_VALUE;
+            List<RentPoint> points = new ArrayList<>();
+            for (int i = Math.max(0, series.floor(fromSecond)); i < series.size() && series.secondAt(i) < toSecond; i++) {
+                points.add(new RentPoint(LocalDateTime.ofInstant(Instant.ofEpochSecond(series.secondAt(i)), ZONE),
+                        BigDecimal.valueOf(series.centsAt(i), 2)));
+            }
+            logger.info("[{}] [RentHistoryService] [getRentHistory] SUCCESS - Returning {} points", SERVICE_NAME, points.size());
+            return points;
+        } catch (Exception e) {
+            logger.error("[{}] [RentHistoryService] [getRentHistory] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Monthly time-weighted average rents, oldest month first.
+     * @param city   null for every city
+     * @param from   first month; defaults to eleven months before to
+     * @param to     last month, inclusive; defaults to the current month
+     * @param merged true to combine the matching cities into one series
+     */
+    public List<RentTrendPoint> getRentTrends(String city, YearMonth from, YearMonth to, boolean merged) {
+        logger.info("[{}] [RentHistoryService] [getRentTrends] START - City: {}, From: {}, To: {}, Merged: {}",
+                SERVICE_NAME, city, from, to, merged);
+        try {
+            YearMonth last = to != null ? to : YearMonth.now(ZONE);
+            YearMonth first = from != null ? from : last.minusMonths(11);
+            if (first.isAfter(last)) {
+                throw new IllegalArgumentException("from must not be after to");
+            }
+            if (first.plusMonths(maxTrendMonths).isBefore(last.plusMonths(1))) {
+                throw new IllegalArgumentException("Trend range is limited to " + maxTrendMonths + " months");
+            }
+            int firstKey = MonthlyRentRollup.key(first);
+            int lastKey = MonthlyRentRollup.key(last);
+            long now = currentMinute();
+            List<RentTrendPoint> results = new ArrayList<>();
+            Map<Integer, long[]> combined = new TreeMap<>();
+            for (Map.Entry<String, MonthlyRentRollup> entry : new TreeMap<>(rollups).entrySet()) {
+                if (city != null && !city.equalsIgnoreCase(entry.getKey())) {
+                    continue;
+                }
+                MonthlyRentRollup rollup = entry.getValue();
+                Map<Integer, long[]> months;
+                synchronized (rollup) {
+                    rollup.advanceTo(now);
+                    months = rollup.months(firstKey, lastKey);
+                }
+                if (merged) {
+                    for (Map.Entry<Integer, long[]> month : months.entrySet()) {
+                        long[] totals = combined.computeIfAbsent(month.getKey(), k -> new long[2]);
+                        totals[0] += month.getValue()[0];
+                        totals[1] += month.getValue()[1];
+                    }
+                } else {
+                    months.forEach((month, totals) -> addTrendPoint(results, entry.getKey(), month, totals));
+                }
+            }
+            if (merged) {
+                combined.forEach((month, totals) -> addTrendPoint(results, city, month, totals));
+            }
+            logger.info("[{}] [RentHistoryService] [getRentTrends] SUCCESS - Returning {} points", SERVICE_NAME, results.size());
+            return results;
+        } catch (Exception e) {
+            logger.error("[{}] [RentHistoryService] [getRentTrends] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${property.rent-history.flush-interval-ms:60000}")
+    public void flushRollups() {
+        long now = currentMinute();
+        int flushed = 0;
+        for (Map.Entry<String, MonthlyRentRollup> entry : rollups.entrySet()) {
+            MonthlyRentRollup rollup = entry.getValue();
+            Map<Integer, long[]> changed;
+            synchronized (rollup) {
+                rollup.advanceTo(now);
+                changed = rollup.drainDirtyMonths();
+            }
+            for (Map.Entry<Integer, long[]> month : changed.entrySet()) {
+                try {
+                    RentRollupRecord record = rentRollupRecordRepository.findByCityAndMonth(entry.getKey(), month.getKey())
+                            .orElseGet(() -> new RentRollupRecord(entry.getKey(), month.getKey()));
+                    record.setRentCentMinutes(month.getValue()[0]);
+                    record.setPropertyMinutes(month.getValue()[1]);
+                    rentRollupRecordRepository.save(record);
+                    flushed++;
+                } catch (Exception e) {
+                    synchronized (rollup) {
+                        rollup.markDirty(month.getKey()); // Retried on the next run
+                    }
+                    logger.error("[{}] [RentHistoryService] [flushRollups] ERROR - City: {}, Month: {} - {}",
+                            SERVICE_NAME, entry.getKey(), month.getKey(), e.getMessage(), e);
+                }
+            }
+        }
+        logger.debug("[{}] [RentHistoryService] [flushRollups] SUCCESS - Flushed {} months", SERVICE_NAME, flushed);
+    }
+
+    private void recordRentChange(BigDecimal previousRent, LocalDateTime previousCreatedAt, Property current) {
+        synchronized (historyLock) {
+            RentHistory history = rentHistoryRepository.findByPropertyId(current.getId()).orElse(null);
+            RentSeries series;
+            if (history == null) {
+                // First change: the old rent has been in effect since the property was created
+                history = new RentHistory(current.getId());
+                series = new RentSeries();
+                if (previousRent != null) {
+                    series.append(epochSecond(previousCreatedAt), cents(previousRent));
+                }
+            } else {
+                series = RentSeries.deserialize(history.getPoints());
+            }
+            series.append(System.currentTimeMillis() / 1000, cents(current.getRentAmount()));
+            history.setPoints(series.serialize());
+            history.setPointCount(series.size());
+            rentHistoryRepository.save(history);
+        }
+    }
+
+    private MonthlyRentRollup rollup(String city, long startMinute) {
+        return rollups.computeIfAbsent(city, c -> new MonthlyRentRollup(ZONE, startMinute));
+    }
+
+    private static void addTrendPoint(List<RentTrendPoint> results, String city, int monthKey, long[] totals) {
+        if (totals[1] == 0) {
+            return;
+        }
+        YearMonth month = MonthlyRentRollup.month(monthKey);
+        long monthMinutes = month.lengthOfMonth() * 24L * 60;
+        results.add(new RentTrendPoint(city, month.toString(),
+                BigDecimal.valueOf(totals[0]).divide(BigDecimal.valueOf(totals[1] * 100), 2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(totals[1]).divide(BigDecimal.valueOf(monthMinutes), 2, RoundingMode.HALF_UP)));
+    }
+
+    /** Properties without a city or rent are left out of the trends. */
+    private static boolean isTracked(Property property) {
+        return property.getCity() != null && property.getRentAmount() != null;
+    }
+
+    private static long cents(BigDecimal rent) {
+        return rent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time != null ? time.atZone(ZONE).toEpochSecond() : System.currentTimeMillis() / 1000;
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60000;
+    }
+}
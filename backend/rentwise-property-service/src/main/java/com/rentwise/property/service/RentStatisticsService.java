@@ -0,0 +1,270 @@
+package com.rentwise.property.service;
+
+import com.rentwise.property.analytics.RentSketch;
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.RentQuantileStats;
+import com.rentwise.property.model.RentSketchRecord;
+import com.rentwise.property.repository.PropertyRepository;
+import com.rentwise.property.repository.RentSketchRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rent percentiles per (city, bedrooms) bucket from mergeable relative-error sketches.
+ * Sketches are updated in memory by PropertyService and written behind to
+ * rent_quantile_sketches on a fixed delay. On startup they are restored from that table,
+ * or rebuilt from the properties table when the stored counts no longer add up.
+ */
+@Service
+public class RentStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RentStatisticsService.class);
+    private static final String SERVICE_NAME = "rentwise-property-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private RentSketchRecordRepository rentSketchRecordRepository;
+
+    @Value("${property.rent-stats.relative-accuracy:0.01}")
+    private double relativeAccuracy;
+
+    private final Map<Bucket, RentSketch> sketches = new ConcurrentHashMap<>();
+    private final Set<Bucket> dirty = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSketches() {
+        logger.info("[{}] [RentStatisticsService] [loadSketches] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            sketches.clear();
+            long restored = 0;
+            boolean usable = true;
+            for (RentSketchRecord record : rentSketchRecordRepository.findAll()) {
+                RentSketch sketch = RentSketch.deserialize(record.getSketch());
+                if (sketch.getRelativeAccuracy() != relativeAccuracy) {
+                    usable = false;
+                    break;
+                }
+                sketches.put(new Bucket(record.getCity(), record.getBedrooms()), sketch);
+                restored += sketch.getCount();
+            }
+            long expected = propertyRepository.countByCityIsNotNullAndBedroomsIsNotNullAndRentAmountIsNotNull();
+            if (!usable || restored != expected) {
+                logger.info("[{}] [RentStatisticsService] [loadSketches] Stored sketches cover {} of {} rents - rebuilding",
+                        SERVICE_NAME, restored, expected);
+                rebuild();
+            }
+            logger.info("[{}] [RentStatisticsService] [loadSketches] SUCCESS - {} buckets ready in {} ms",
+                    SERVICE_NAME, sketches.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [RentStatisticsService] [loadSketches] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+
+    public void onPropertyCreated(Property current) {
+        Bucket bucket = Bucket.of(current.getCity(), current.getBedrooms(), current.getRentAmount());
+        if (bucket != null) {
+            RentSketch sketch = sketches.computeIfAbsent(bucket, b -> new RentSketch(relativeAccuracy));
+            synchronized (sketch) {
+                sketch.add(current.getRentAmount().doubleValue());
+            }
+            dirty.add(bucket);
+        }
+    }
+
+    /**
+     * Moves the rent from the bucket it was counted in to the current one. The previous values
+     * must be read before the save: the saved entity is the same managed instance as the one
+     * loaded, so it no longer carries them.
+     */
+    public void onPropertyUpdated(String previousCity, Integer previousBedrooms, BigDecimal previousRent, Property current) {
+        remove(previousCity, previousBedrooms, previousRent);
+        onPropertyCreated(current);
+    }
+
+    public void onPropertyDeleted(Property previous) {
+        remove(previous.getCity(), previous.getBedrooms(), previous.getRentAmount());
+    }
+
+    private void remove(String city, Integer bedrooms, BigDecimal rent) {
+        Bucket bucket = Bucket.of(city, bedrooms, rent);
+        RentSketch sketch = bucket != null ? sketches.get(bucket) : null;
+        if (sketch != null) {
+            synchronized (sketch) {
+                sketch.remove(rent.doubleValue());
+            }
+            dirty.add(bucket);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${property.rent-stats.flush-interval-ms:10000}")
+    public void flushSketches() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        logger.debug("[{}] [RentStatisticsService] [flushSketches] START - {} dirty buckets", SERVICE_NAME, dirty.size());
+        int flushed = 0;
+        for (Bucket bucket : new ArrayList<>(dirty)) {
+            dirty.remove(bucket);
+            try {
+                RentSketch sketch = sketches.get(bucket);
+                byte[] data;
+                long count;
+                synchronized (sketch) {
+                    data = sketch.serialize();
+                    count = sketch.getCount();
+                }
+                RentSketchRecord record = rentSketchRecordRepository.findByCityAndBedrooms(bucket.city, bucket.bedrooms)
+                        .orElseGet(() -> new RentSketchRecord(bucket.city, bucket.bedrooms));
+                if (count == 0) {
+                    if (record.getId() != null) {
+                        rentSketchRecordRepository.delete(record);
+                    }
+                } else {
+                    record.setSketch(data);
+                    record.setSampleCount(count);
+                    rentSketchRecordRepository.save(record);
+                }
+                flushed++;
+            } catch (Exception e) {
+                dirty.add(bucket); // Retried on the next run
+                logger.error("[{}] [RentStatisticsService] [flushSketches] ERROR - City: {}, Bedrooms: {} - {}",
+                        SERVICE_NAME, bucket.city, bucket.bedrooms, e.getMessage(), e);
+            }
+        }
+        logger.debug("[{}] [RentStatisticsService] [flushSketches] SUCCESS - Flushed {} buckets", SERVICE_NAME, flushed);
+    }
+
+    /**
+     * @param city      null for every city
+     * @param bedrooms  null for every bedroom count
+     * @param quantiles requested quantiles in [0, 1]
+     * @param merged    true to merge all matching buckets into one result
+     */
+    public List<RentQuantileStats> getRentStats(String city, Integer bedrooms, List<Double> quantiles, boolean merged) {
+        logger.info("[{}] [RentStatisticsService] [getRentStats] START - City: {}, Bedrooms: {}, Quantiles: {}, Merged: {}",
+                SERVICE_NAME, city, bedrooms, quantiles, merged);
+        try {
+            for (Double quantile : quantiles) {
+                if (quantile == null || quantile < 0 || quantile > 1) {
+                    throw new IllegalArgumentException("Quantiles must be between 0 and 1");
+                }
+            }
+            List<RentQuantileStats> results = new ArrayList<>();
+            RentSketch combined = merged ? new RentSketch(relativeAccuracy) : null;
+            for (Map.Entry<Bucket, RentSketch> entry : sketches.entrySet()) {
+                Bucket bucket = entry.getKey();
+                if ((city != null && !city.equalsIgnoreCase(bucket.city)) || (bedrooms != null && !bedrooms.equals(bucket.bedrooms))) {
+                    continue;
+                }
+                RentSketch sketch = entry.getValue();
+                synchronized (sketch) {
+                    if (sketch.getCount() == 0) {
+                        continue;
+                    }
+                    if (merged) {
+                        combined.merge(sketch);
+                    } else {
+                        results.add(toStats(bucket.city, bucket.bedrooms, sketch, quantiles));
+                    }
+                }
+            }
+            if (merged && combined.getCount() > 0) {
+                results.add(toStats(city, bedrooms, combined, quantiles));
+            }
+            results.sort((a, b) -> {
+                int byCity = String.valueOf(a.getCity()).compareTo(String.valueOf(b.getCity()));
+                return byCity != 0 ? byCity : Integer.compare(
+                        a.getBedrooms() != null ? a.getBedrooms() : -1, b.getBedrooms() != null ? b.getBedrooms() : -1);
+            });
+            logger.info("[{}] [RentStatisticsService] [getRentStats] SUCCESS - Returning {} buckets", SERVICE_NAME, results.size());
+            return results;
+        } catch (Exception e) {
+            logger.error("[{}] [RentStatisticsService] [getRentStats] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private void rebuild() {
+        sketches.clear();
+        Page<Property> properties;
+        int page = 0;
+        do {
+            properties = propertyRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+            properties.forEach(this::onPropertyCreated);
+        } while (properties.hasNext());
+        // Buckets stored earlier but now empty are written as empty so the flush deletes them
+        for (RentSketchRecord record : rentSketchRecordRepository.findAll()) {
+            Bucket bucket = new Bucket(record.getCity(), record.getBedrooms());
+            sketches.putIfAbsent(bucket, new RentSketch(relativeAccuracy));
+            dirty.add(bucket);
+        }
+        flushSketches();
+    }
+
+    private static RentQuantileStats toStats(String city, Integer bedrooms, RentSketch sketch, List<Double> quantiles) {
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (Double quantile : quantiles) {
+            String label = "p" + BigDecimal.valueOf(quantile * 100).stripTrailingZeros().toPlainString();
+            values.put(label, BigDecimal.valueOf(sketch.quantile(quantile)).setScale(2, RoundingMode.HALF_UP));
+        }
+        return new RentQuantileStats(city, bedrooms, sketch.getCount(), sketch.getRelativeAccuracy(), values);
+    }
+
+    private static final class Bucket {
+        final String city;
+        final Integer bedrooms;
+
+        Bucket(String city, Integer bedrooms) {
+            this.city = city;
+            this.bedrooms = bedrooms;
+        }
+
+        /** Properties without a city, bedroom count or rent are not tracked. */
+        static Bucket of(String city, Integer bedrooms, BigDecimal rent) {
+            if (city == null || bedrooms == null || rent == null) {
+                return null;
+            }
+            return new Bucket(city, bedrooms);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Bucket)) {
+                return false;
+            }
+            Bucket other = (Bucket) o;
+            return city.equals(other.city) && bedrooms.equals(other.bedrooms);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(city, bedrooms);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.rentwise.property.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PropertyColumnStoreTest {
+
+    private static final String[] CITIES = {"Austin", "Boston", "Chicago", "Denver", "El Paso"};
+    private static final String[] STATES = {"TX", "MA", "IL", "CO"};
+    private static final String[] TYPES = {"APARTMENT", "HOUSE", "CONDO"};
+    private static final String[] STATUSES = {"AVAILABLE", "OCCUPIED", "MAINTENANCE"};
+
+    private record Row(String city, String state, String type, String status, Integer bedrooms, Integer bathrooms, Long rentCents) {
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return random.nextInt(12) == 0 ? null : values[random.nextInt(values.length)];
+    }
+
+    private static Row randomRow(Random random) {
+        Integer bedrooms = random.nextInt(12) == 0 ? null : random.nextInt(6);
+        Integer bathrooms = random.nextInt(12) == 0 ? null : 1 + random.nextInt(3);
+        // Few distinct rents, so the medians are taken over long runs of equal values
+        Long rentCents = random.nextInt(10) == 0 ? null : 50_000L + 2_500L * random.nextInt(40) + (random.nextInt(4) == 0 ? 1 : 0);
+        return new Row(pick(random, CITIES), pick(random, STATES), pick(random, TYPES), pick(random, STATUSES),
+                bedrooms, bathrooms, rentCents);
+    }
+
+    private static void put(PropertyColumnStore store, long id, Row row) {
+        store.put(id, row.city(), row.state(), row.type(), row.status(), row.bedrooms(), row.bathrooms(),
+                row.rentCents() != null ? BigDecimal.valueOf(row.rentCents(), 2) : null);
+    }
+
+    private static boolean matches(Row row, String city, String status, Integer minBedrooms, Integer maxBedrooms,
+                                   Integer minBathrooms) {
+        int bedrooms = row.bedrooms() != null ? row.bedrooms() : PropertyColumnStore.NULL;
+        int bathrooms = row.bathrooms() != null ? row.bathrooms() : PropertyColumnStore.NULL;
+        return (city == null || city.equals(row.city()))
+                && (status == null || status.equals(row.status()))
+                && (minBedrooms == null ? maxBedrooms == null || bedrooms >= 0 : bedrooms >= minBedrooms)
+                && (maxBedrooms == null || bedrooms <= maxBedrooms)
+                && (minBathrooms == null || bathrooms >= minBathrooms);
+    }
+
+    private static long median(List<Long> rents) {
+        if (rents.isEmpty()) {
+            return PropertyColumnStore.NULL;
+        }
+        List<Long> sorted = new ArrayList<>(rents);
+        sorted.sort(null);
+        int mid = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2;
+    }
+
+    /** key -> {count, vacant, rentCount, sum, min, max, median}, computed by a plain pass over the rows. */
+    private static Map<String, List<Long>> expected(Map<Long, Row> rows, Function<Row, String> groupKey, String city,
+                                                    String status, Integer minBedrooms, Integer maxBedrooms, Integer minBathrooms) {
+        Map<String, List<Row>> groups = new TreeMap<>();
+        for (Row row : rows.values()) {
+            String key = groupKey.apply(row);
+            if (key != null && matches(row, city, status, minBedrooms, maxBedrooms, minBathrooms)) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+        Map<String, List<Long>> expected = new TreeMap<>();
+        groups.forEach((key, members) -> {
+            List<Long> rents = members.stream().map(Row::rentCents).filter(r -> r != null).toList();
+            long vacant = members.stream().filter(r -> "AVAILABLE".equals(r.status())).count();
+            expected.put(key, List.of((long) members.size(), vacant, (long) rents.size(),
+                    rents.stream().mapToLong(Long::longValue).sum(),
+                    rents.isEmpty() ? PropertyColumnStore.NULL : rents.stream().mapToLong(Long::longValue).min().getAsLong(),
+                    rents.isEmpty() ? PropertyColumnStore.NULL : rents.stream().mapToLong(Long::longValue).max().getAsLong(),
+                    median(rents)));
+        });
+        return expected;
+    }
+
+    private static Map<String, List<Long>> actual(List<PropertyColumnStore.GroupStats> stats) {
+        Map<String, List<Long>> actual = new TreeMap<>();
+        for (PropertyColumnStore.GroupStats group : stats) {
+            actual.put(group.getKey(), List.of((long) group.getCount(), (long) group.getVacant(), (long) group.getRentCount(),
+                    group.getSumCents(), group.getMinCents(), group.getMaxCents(), group.getMedianCents()));
+        }
+        return actual;
+    }
+
+    private static Function<Row, String> groupKey(String groupBy) {
+        if (groupBy == null) {
+            return row -> "ALL";
+        }
+        return switch (groupBy) {
+            case PropertyColumnStore.CITY -> Row::city;
+            case PropertyColumnStore.STATUS -> Row::status;
+            case PropertyColumnStore.TYPE -> Row::type;
+            default -> row -> row.bedrooms() != null ? row.bedrooms().toString() : null;
+        };
+    }
+
+    @Test
+    void aggregateMatchesBruteForceAcrossChunksSequentialAndParallel() {
+        Random random = new Random(42);
+        PropertyColumnStore store = new PropertyColumnStore();
+        Map<Long, Row> rows = new HashMap<>();
+        // Well past one 65536-row chunk, with removals and re-puts leaving dead and reused slots
+        for (int step = 0; step < 180_000; step++) {
+            long id = random.nextInt(150_000);
+            if (random.nextInt(6) == 0) {
+                store.remove(id);
+                rows.remove(id);
+            } else {
+                Row row = randomRow(random);
+                put(store, id, row);
+                rows.put(id, row);
+            }
+        }
+        assertEquals(rows.size(), store.liveRows());
+
+        String[] groupBys = {null, PropertyColumnStore.CITY, PropertyColumnStore.STATUS, PropertyColumnStore.TYPE, PropertyColumnStore.BEDROOMS};
+        for (int query = 0; query < 20; query++) {
+            String groupBy = groupBys[query % groupBys.length];
+            String city = random.nextInt(3) == 0 ? CITIES[random.nextInt(CITIES.length)] : null;
+            String status = random.nextInt(4) == 0 ? STATUSES[random.nextInt(STATUSES.length)] : null;
+            Integer minBedrooms = random.nextInt(3) == 0 ? random.nextInt(3) : null;
+            Integer maxBedrooms = random.nextInt(3) == 0 ? 2 + random.nextInt(4) : null;
+            Integer minBathrooms = random.nextInt(4) == 0 ? 2 : null;
+            PropertyColumnStore.Filter filter = new PropertyColumnStore.Filter(city, null, null, status,
+                    minBedrooms, maxBedrooms, minBathrooms);
+
+            Map<String, List<Long>> expected = expected(rows, groupKey(groupBy), city, status, minBedrooms, maxBedrooms, minBathrooms);
+
+            assertEquals(expected, actual(store.aggregate(filter, groupBy, "AVAILABLE", Integer.MAX_VALUE)), "sequential, groupBy " + groupBy);
+            assertEquals(expected, actual(store.aggregate(filter, groupBy, "AVAILABLE", 0)), "parallel, groupBy " + groupBy);
+        }
+    }
+
+    @Test
+    void medianMatchesSortedMiddleForAnySizeAndDuplicates() {
+        Random random = new Random(7);
+        for (int n = 1; n <= 300; n++) {
+            PropertyColumnStore store = new PropertyColumnStore();
+            List<Long> rents = new ArrayList<>();
+            int distinct = 1 + random.nextInt(n % 3 == 0 ? 3 : 1000); // All equal, a few values, or mostly distinct
+            for (int i = 0; i < n; i++) {
+                long rent = 100_000L + random.nextInt(distinct) * 137L;
+                rents.add(rent);
+                store.put(i, "Austin", "TX", "HOUSE", "AVAILABLE", 1, 1, BigDecimal.valueOf(rent, 2));
+            }
+            PropertyColumnStore.Filter all = new PropertyColumnStore.Filter(null, null, null, null, null, null, null);
+
+            assertEquals(median(rents), store.aggregate(all, null, "AVAILABLE", Integer.MAX_VALUE).get(0).getMedianCents(), "n " + n);
+        }
+    }
+
+    @Test
+    void unknownFilterValuesAndVacantStatusMatchNothing() {
+        PropertyColumnStore store = new PropertyColumnStore();
+        store.put(1, "Austin", "TX", "HOUSE", null, 2, 1, new BigDecimal("1500.00"));
+
+        assertEquals(List.of(), store.aggregate(new PropertyColumnStore.Filter("Nowhere", null, null, null, null, null, null),
+                null, "AVAILABLE", Integer.MAX_VALUE));
+        // A status the store has never seen must not count rows without a status as vacant
+        assertEquals(0, store.aggregate(new PropertyColumnStore.Filter(null, null, null, null, null, null, null),
+                null, "AVAILABLE", Integer.MAX_VALUE).get(0).getVacant());
+    }
+}
@@ -0,0 +1,80 @@
+package com.rentwise.property.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RentSeriesTest {
+
+    @Test
+    void appendSkipsUnchangedRent() {
+        RentSeries series = new RentSeries();
+        assertTrue(series.append(1000, 150_000));
+        assertFalse(series.append(2000, 150_000));
+        assertTrue(series.append(3000, 160_000));
+
+        assertEquals(2, series.size());
+        assertEquals(3000, series.secondAt(1));
+        assertEquals(160_000, series.centsAt(1));
+    }
+
+    @Test
+    void earlierTimesAreMovedUpToTheLastPoint() {
+        RentSeries series = new RentSeries();
+        series.append(5000, 100_000);
+        series.append(4000, 110_000); // Clock stepped back
+
+        assertEquals(5000, series.secondAt(1));
+    }
+
+    @Test
+    void floorFindsRentInEffect() {
+        RentSeries series = new RentSeries();
+        series.append(100, 1);
+        series.append(200, 2);
+        series.append(300, 3);
+
+        assertEquals(-1, series.floor(99));
+        assertEquals(0, series.floor(100));
+        assertEquals(0, series.floor(199));
+        assertEquals(1, series.floor(200));
+        assertEquals(2, series.floor(10_000));
+        assertEquals(-1, new RentSeries().floor(100));
+    }
+
+    @Test
+    void serializationRoundTripsDecreasesAndLargeGaps() {
+        RentSeries series = new RentSeries();
+        long second = 1_600_000_000L;
+        long[] rents = {250_000, 240_000, 0, 99_999_999L, 125_050};
+        for (long rent : rents) {
+            series.append(second, rent);
+            second += 86_400L * 400;
+        }
+
+        byte[] bytes = series.serialize();
+        RentSeries copy = RentSeries.deserialize(bytes);
+
+        assertEquals(series.size(), copy.size());
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(series.secondAt(i), copy.secondAt(i));
+            assertEquals(series.centsAt(i), copy.centsAt(i));
+        }
+        assertTrue(bytes.length < rents.length * 16, "delta encoding should beat fixed-width longs");
+    }
+
+    @Test
+    void emptySeriesRoundTrips() {
+        assertEquals(0, RentSeries.deserialize(new RentSeries().serialize()).size());
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() {
+        byte[] bytes = new RentSeries().serialize();
+        bytes[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> RentSeries.deserialize(bytes));
+    }
+}
@@ -0,0 +1,127 @@
+package com.rentwise.property.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RentSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    private static void assertWithinAccuracy(double expected, double actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * ACCURACY,
+                "expected " + expected + " within " + ACCURACY + " but was " + actual);
+    }
+
+    @Test
+    void quantilesAreWithinRelativeAccuracy() {
+        Random random = new Random(7);
+        RentSketch sketch = new RentSketch(ACCURACY);
+        double[] rents = new double[10_000];
+        for (int i = 0; i < rents.length; i++) {
+            rents[i] = 500 + random.nextDouble() * 4500;
+            sketch.add(rents[i]);
+        }
+        Arrays.sort(rents);
+
+        for (double q : new double[]{0, 0.1, 0.5, 0.9, 0.99, 1}) {
+            assertWithinAccuracy(rents[(int) (q * (rents.length - 1))], sketch.quantile(q));
+        }
+        assertEquals(rents.length, sketch.getCount());
+    }
+
+    @Test
+    void removeUndoesAdd() {
+        RentSketch sketch = new RentSketch(ACCURACY);
+        sketch.add(1000);
+        sketch.add(2000);
+        sketch.add(3000);
+
+        sketch.remove(3000);
+
+        assertEquals(2, sketch.getCount());
+        assertWithinAccuracy(2000, sketch.quantile(1));
+    }
+
+    @Test
+    void removingUnknownValuesIsIgnored() {
+        RentSketch sketch = new RentSketch(ACCURACY);
+        sketch.add(1000);
+
+        sketch.remove(50_000);
+        sketch.remove(1);
+        sketch.remove(0);
+
+        assertEquals(1, sketch.getCount());
+        assertWithinAccuracy(1000, sketch.quantile(0.5));
+    }
+
+    @Test
+    void emptySketchReturnsNaN() {
+        RentSketch sketch = new RentSketch(ACCURACY);
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+
+        sketch.add(1200);
+        sketch.remove(1200);
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    void zeroRentsCountBelowEveryPositiveValue() {
+        RentSketch sketch = new RentSketch(ACCURACY);
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(1500);
+
+        assertEquals(0, sketch.quantile(0.5));
+        assertWithinAccuracy(1500, sketch.quantile(1));
+    }
+
+    @Test
+    void mergeMatchesSingleSketch() {
+        RentSketch left = new RentSketch(ACCURACY);
+        RentSketch right = new RentSketch(ACCURACY);
+        RentSketch all = new RentSketch(ACCURACY);
+        for (int rent = 100; rent <= 10_000; rent += 37) {
+            (rent % 2 == 0 ? left : right).add(rent);
+            all.add(rent);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        for (double q : new double[]{0, 0.25, 0.5, 0.75, 1}) {
+            assertEquals(all.quantile(q), left.quantile(q));
+        }
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new RentSketch(0.05)));
+    }
+
+    @Test
+    void serializationRoundTrips() {
+        RentSketch sketch = new RentSketch(ACCURACY);
+        sketch.add(0);
+        for (int rent = 800; rent < 3000; rent += 13) {
+            sketch.add(rent);
+        }
+
+        RentSketch copy = RentSketch.deserialize(sketch.serialize());
+
+        assertEquals(sketch.getCount(), copy.getCount());
+        assertEquals(sketch.getRelativeAccuracy(), copy.getRelativeAccuracy());
+        for (double q : new double[]{0, 0.3, 0.5, 0.8, 1}) {
+            assertEquals(sketch.quantile(q), copy.quantile(q));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RentSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> new RentSketch(1));
+        assertThrows(IllegalArgumentException.class, () -> new RentSketch(ACCURACY).quantile(1.5));
+    }
+}
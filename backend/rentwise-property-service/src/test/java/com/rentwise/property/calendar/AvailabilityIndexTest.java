@@ -0,0 +1,125 @@
+package com.rentwise.property.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AvailabilityIndexTest {
+
+    @Test
+    void propertyWithoutBookingsIsAlwaysFree() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.addProperty(1);
+
+        assertEquals(List.of(1L), index.freeProperties(0, 365, 0, 10).getIds());
+        assertEquals(List.of(1L), index.freeProperties(-1000, 1000, 0, 10).getIds());
+    }
+
+    @Test
+    void freeAtBookingBoundaries() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+
+        assertEquals(List.of(1L), index.freeProperties(0, 10, 0, 10).getIds(), "checkout before the booking starts");
+        assertEquals(List.of(1L), index.freeProperties(20, 30, 0, 10).getIds(), "check-in on the booking's end day");
+        assertEquals(List.of(), index.freeProperties(0, 11, 0, 10).getIds());
+        assertEquals(List.of(), index.freeProperties(19, 30, 0, 10).getIds());
+        assertEquals(List.of(), index.freeProperties(12, 15, 0, 10).getIds());
+        assertEquals(List.of(), index.freeProperties(0, 30, 0, 10).getIds());
+    }
+
+    @Test
+    void freeBetweenTwoBookings() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+        index.put(101, 1, 25, 30, "BOOKING");
+
+        assertEquals(List.of(1L), index.freeProperties(20, 25, 0, 10).getIds());
+        assertEquals(List.of(), index.freeProperties(20, 26, 0, 10).getIds());
+    }
+
+    @Test
+    void overlappingBookingsMergeIntoOneBusyStretch() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 30, "BOOKING");
+        index.put(101, 1, 15, 20, "BLOCKED");
+
+        assertEquals(List.of(), index.freeProperties(20, 25, 0, 10).getIds());
+        List<long[]> windows = index.freeWindows(1, 0, 40, 1);
+        assertEquals(2, windows.size());
+        assertArrayEquals(new long[]{0, 10}, windows.get(0));
+        assertArrayEquals(new long[]{30, 40}, windows.get(1));
+    }
+
+    @Test
+    void freePropertiesArePagedInIdOrder() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        for (long id = 5; id >= 1; id--) {
+            index.addProperty(id);
+        }
+        index.put(100, 3, 0, 10, "BOOKING");
+
+        AvailabilityIndex.Page page = index.freeProperties(0, 5, 1, 2);
+        assertEquals(4, page.getTotal());
+        assertEquals(List.of(2L, 4L), page.getIds());
+    }
+
+    @Test
+    void replacingAndRemovingBookingsRestoresGaps() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+        index.put(100, 1, 30, 40, "BOOKING"); // Moved
+
+        assertEquals(1, index.intervalCount());
+        assertEquals(List.of(1L), index.freeProperties(10, 20, 0, 10).getIds());
+        assertEquals(List.of(), index.freeProperties(30, 40, 0, 10).getIds());
+
+        index.remove(100);
+        assertEquals(0, index.intervalCount());
+        assertEquals(List.of(1L), index.freeProperties(30, 40, 0, 10).getIds());
+        assertEquals(List.of(), index.overlapping(1, 0, 100));
+    }
+
+    @Test
+    void removedPropertyIsNeverFree() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+        index.addProperty(2);
+
+        index.removeProperty(1);
+
+        assertFalse(index.containsProperty(1));
+        assertEquals(0, index.intervalCount());
+        assertEquals(List.of(2L), index.freeProperties(0, 5, 0, 10).getIds());
+    }
+
+    @Test
+    void conflictsMatchKindAndSkipExcludedInterval() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+        index.put(101, 1, 15, 25, "BLOCKED");
+
+        assertEquals(100L, index.findConflict(1, 18, 30, "BOOKING", null));
+        assertNull(index.findConflict(1, 18, 30, "BOOKING", 100L));
+        assertNull(index.findConflict(1, 20, 30, "BOOKING", null), "touching the end is not a conflict");
+        assertEquals(101L, index.findConflict(1, 20, 30, "BLOCKED", null));
+        assertNull(index.findConflict(2, 0, 100, "BOOKING", null));
+    }
+
+    @Test
+    void freeWindowsRespectMinimumLength() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.put(100, 1, 10, 20, "BOOKING");
+        index.put(101, 1, 22, 30, "BOOKING");
+
+        List<long[]> windows = index.freeWindows(1, 0, 40, 3);
+        assertEquals(2, windows.size());
+        assertArrayEquals(new long[]{0, 10}, windows.get(0));
+        assertArrayEquals(new long[]{30, 40}, windows.get(1));
+    }
+}
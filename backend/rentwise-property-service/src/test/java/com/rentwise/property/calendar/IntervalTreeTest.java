@@ -0,0 +1,152 @@
+package com.rentwise.property.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTest {
+
+    private static List<Long> overlapping(IntervalTree tree, long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        tree.overlapping(from, to, (start, end, id) -> ids.add(id));
+        return ids;
+    }
+
+    @Test
+    void intervalsAreHalfOpen() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(10, 20, 1);
+
+        assertFalse(tree.overlapsAny(0, 10), "ending at the start does not overlap");
+        assertFalse(tree.overlapsAny(20, 30), "starting at the end does not overlap");
+        assertTrue(tree.overlapsAny(9, 11));
+        assertTrue(tree.overlapsAny(19, 20));
+        assertTrue(tree.overlapsAny(12, 15), "contained range overlaps");
+        assertTrue(tree.overlapsAny(0, 100), "containing range overlaps");
+    }
+
+    @Test
+    void rejectsEmptyIntervals() {
+        IntervalTree tree = new IntervalTree();
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(5, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(6, 5, 1));
+    }
+
+    @Test
+    void visitsMatchesInStartThenIdOrder() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(30, 40, 3);
+        tree.insert(10, 50, 2);
+        tree.insert(10, 15, 1);
+        tree.insert(60, 70, 4);
+
+        assertEquals(List.of(1L, 2L, 3L), overlapping(tree, 12, 35));
+    }
+
+    @Test
+    void visitorCanStopTheWalk() {
+        IntervalTree tree = new IntervalTree();
+        for (long i = 0; i < 10; i++) {
+            tree.insert(i, i + 10, i);
+        }
+        List<Long> seen = new ArrayList<>();
+        tree.overlapping(0, 100, (start, end, id) -> {
+            seen.add(id);
+            return seen.size() < 3;
+        });
+        assertEquals(List.of(0L, 1L, 2L), seen);
+    }
+
+    @Test
+    void removeMatchesStartAndId() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(10, 20, 1);
+        tree.insert(10, 30, 2);
+
+        assertFalse(tree.remove(11, 1), "wrong start");
+        assertFalse(tree.remove(10, 3), "wrong id");
+        assertTrue(tree.remove(10, 1));
+        assertFalse(tree.remove(10, 1), "already removed");
+
+        assertEquals(1, tree.size());
+        assertEquals(List.of(2L), overlapping(tree, 0, 100));
+        // The long interval still covers 25 after its sibling is gone
+        assertTrue(tree.overlapsAny(25, 26));
+    }
+
+    @Test
+    void removingInnerNodesKeepsTheRest() {
+        IntervalTree tree = new IntervalTree();
+        for (long i = 0; i < 15; i++) {
+            tree.insert(i * 10, i * 10 + 5, i);
+        }
+        // Root and nodes with two children
+        assertTrue(tree.remove(70, 7));
+        assertTrue(tree.remove(30, 3));
+        assertTrue(tree.remove(110, 11));
+
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < 15; i++) {
+            if (i != 3 && i != 7 && i != 11) {
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, overlapping(tree, 0, 1000));
+        assertEquals(12, tree.size());
+    }
+
+    @Test
+    void sortedInsertsStayBalanced() {
+        IntervalTree tree = new IntervalTree();
+        int n = 1 << 14;
+        for (long i = 0; i < n; i++) {
+            tree.insert(i, i + 1, i);
+        }
+        // AVL height is at most ~1.44 log2(n)
+        assertTrue(tree.height() <= 21, "height " + tree.height());
+
+        for (long i = 0; i < n; i += 2) {
+            assertTrue(tree.remove(i, i));
+        }
+        assertEquals(n / 2, tree.size());
+        assertTrue(tree.height() <= 20, "height after removals " + tree.height());
+        assertEquals(List.of(1L, 3L), overlapping(tree, 0, 4));
+    }
+
+    @Test
+    void maxEndSurvivesRotationsAndRemovals() {
+        // The subtree max end is what lets queries skip subtrees; check it against a brute-force scan
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> live = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            if (live.isEmpty() || random.nextInt(3) > 0) {
+                long start = random.nextInt(10_000);
+                long[] interval = {start, start + 1 + random.nextInt(random.nextBoolean() ? 20 : 2000), step};
+                tree.insert(interval[0], interval[1], interval[2]);
+                live.add(interval);
+            } else {
+                long[] interval = live.remove(random.nextInt(live.size()));
+                assertTrue(tree.remove(interval[0], interval[2]));
+            }
+            if (step % 50 == 0) {
+                long from = random.nextInt(12_000);
+                long to = from + 1 + random.nextInt(500);
+                List<Long> expected = live.stream()
+                        .filter(i -> i[0] < to && i[1] > from)
+                        .sorted((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[2], b[2]))
+                        .map(i -> i[2])
+                        .toList();
+                assertEquals(expected, overlapping(tree, from, to));
+            }
+        }
+        assertEquals(live.size(), tree.size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.rentwise.property.facet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FacetIndexTest {
+
+    private static final List<String> FACETS = List.of("city", "type", "bedrooms");
+    private static final List<List<String>> VALUES = List.of(
+            List.of("Austin", "Boston", "Chicago", "Denver"),
+            List.of("APARTMENT", "HOUSE", "CONDO"),
+            List.of("0", "1", "2", "3", "4"));
+
+    private static Map<String, String> randomValues(Random random) {
+        Map<String, String> values = new HashMap<>();
+        for (int f = 0; f < FACETS.size(); f++) {
+            if (random.nextInt(8) != 0) { // Now and then a document is missing a facet
+                List<String> candidates = VALUES.get(f);
+                values.put(FACETS.get(f), candidates.get(random.nextInt(candidates.size())));
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, List<String>> randomFilters(Random random) {
+        Map<String, List<String>> filters = new HashMap<>();
+        for (int f = 0; f < FACETS.size(); f++) {
+            List<String> accepted = new ArrayList<>();
+            for (String value : VALUES.get(f)) {
+                if (random.nextInt(3) == 0) {
+                    accepted.add(value);
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                accepted.add("Nowhere"); // Unknown values match nothing but don't break the union
+            }
+            filters.put(FACETS.get(f), accepted);
+        }
+        return filters;
+    }
+
+    private static boolean matches(Map<String, String> values, Map<String, List<String>> filters, String skippedFacet) {
+        for (String facet : FACETS) {
+            List<String> accepted = filters.get(facet);
+            if (!facet.equals(skippedFacet) && !accepted.isEmpty() && !accepted.contains(values.get(facet))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Per facet, the value counts among documents matching every other facet's filter. */
+    private static Map<String, Map<String, Integer>> expectedCounts(Map<Long, Map<String, String>> documents,
+                                                                    Map<String, List<String>> filters) {
+        Map<String, Map<String, Integer>> counts = new HashMap<>();
+        for (String facet : FACETS) {
+            Map<String, Integer> facetCounts = new TreeMap<>();
+            for (Map<String, String> values : documents.values()) {
+                if (values.get(facet) != null && matches(values, filters, facet)) {
+                    facetCounts.merge(values.get(facet), 1, Integer::sum);
+                }
+            }
+            counts.put(facet, facetCounts);
+        }
+        return counts;
+    }
+
+    private static Map<String, String> values(String city, String type) {
+        Map<String, String> values = new HashMap<>();
+        values.put("city", city);
+        values.put("type", type);
+        return values;
+    }
+
+    @Test
+    void countsIgnoreTheFacetsOwnSelection() {
+        FacetIndex index = new FacetIndex(List.of("city", "type"));
+        index.put(1, values("Austin", "HOUSE"));
+        index.put(2, values("Austin", "APARTMENT"));
+        index.put(3, values("Boston", "HOUSE"));
+        index.put(4, values("Chicago", "CONDO"));
+
+        FacetIndex.Result result = index.query(Map.of("city", List.of("Austin")), 0, 10);
+
+        assertEquals(List.of(1L, 2L), result.getIds());
+        // The other cities are still offered; types are counted within Austin only
+        assertEquals(Map.of("Austin", 2, "Boston", 1, "Chicago", 1), result.getCounts().get("city"));
+        assertEquals(Map.of("APARTMENT", 1, "HOUSE", 1), result.getCounts().get("type"));
+    }
+
+    @Test
+    void removedOrdinalsAreReusedInPlace() {
+        FacetIndex index = new FacetIndex(List.of("city", "type"));
+        for (long id = 0; id < 10; id++) {
+            index.put(id, values("Austin", "HOUSE"));
+        }
+        index.remove(3);
+        index.remove(6);
+        index.put(100, values("Austin", "CONDO"));
+        index.put(101, values("Boston", "HOUSE"));
+
+        // Ordinals are handed back most recently freed first
+        assertEquals(List.of(0L, 1L, 2L, 101L, 4L, 5L, 100L, 7L, 8L, 9L), index.query(Map.of(), 0, 20).getIds());
+        assertEquals(List.of(100L), index.query(Map.of("type", List.of("CONDO")), 0, 20).getIds());
+        assertEquals(Map.of("HOUSE", 8, "CONDO", 1), index.query(Map.of("city", List.of("Austin")), 0, 20).getCounts().get("type"));
+        assertEquals(10, index.size());
+    }
+
+    @Test
+    void matchesBruteForceThroughUpdatesAndRemovals() {
+        Random random = new Random(42);
+        FacetIndex index = new FacetIndex(FACETS);
+        Map<Long, Map<String, String>> documents = new HashMap<>();
+
+        for (int step = 0; step < 4000; step++) {
+            long id = random.nextInt(600);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                documents.remove(id);
+            } else {
+                Map<String, String> values = randomValues(random);
+                index.put(id, values);
+                documents.put(id, values);
+            }
+
+            if (step % 50 == 0) {
+                Map<String, List<String>> filters = randomFilters(random);
+                FacetIndex.Result result = index.query(filters, 0, Integer.MAX_VALUE);
+
+                Set<Long> expectedIds = new TreeSet<>();
+                documents.forEach((documentId, values) -> {
+                    if (matches(values, filters, null)) {
+                        expectedIds.add(documentId);
+                    }
+                });
+                assertEquals(expectedIds.size(), result.getTotal());
+                assertEquals(expectedIds, new TreeSet<>(result.getIds()));
+                assertEquals(expectedCounts(documents, filters), result.getCounts());
+                assertEquals(documents.size(), index.size());
+
+                // Pages tile the full ordinal-ordered result
+                List<Long> paged = new ArrayList<>();
+                for (int offset = 0; offset < result.getTotal(); offset += 7) {
+                    paged.addAll(index.query(filters, offset, 7).getIds());
+                }
+                assertEquals(result.getIds(), paged);
+            }
+        }
+    }
+}
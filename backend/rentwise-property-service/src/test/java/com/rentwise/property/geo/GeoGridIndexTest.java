@@ -0,0 +1,185 @@
+package com.rentwise.property.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeoGridIndexTest {
+
+    private static List<Long> ids(GeoGridIndex.Page page) {
+        return page.getHits().stream().map(GeoGridIndex.Hit::getId).toList();
+    }
+
+    /** Points by distance from the centre, then id: the order nearest and withinRadius return. */
+    private static List<Long> byDistance(List<double[]> points, double latitude, double longitude, double radiusKm) {
+        return points.stream()
+                .filter(p -> GeoGridIndex.distanceKm(latitude, longitude, p[1], p[2]) <= radiusKm)
+                .sorted(Comparator.<double[]>comparingDouble(p -> GeoGridIndex.distanceKm(latitude, longitude, p[1], p[2]))
+                        .thenComparingDouble(p -> p[0]))
+                .map(p -> (long) p[0])
+                .toList();
+    }
+
+    /** Dense clusters over the US and on both sides of the antimeridian, plus scattered points everywhere. */
+    private static List<double[]> points(GeoGridIndex index, Random random) {
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 6000; i++) {
+            double latitude;
+            double longitude;
+            switch (i % 3) {
+                case 0 -> {
+                    latitude = 25 + random.nextDouble() * 24;
+                    longitude = -125 + random.nextDouble() * 58;
+                }
+                case 1 -> {
+                    latitude = -20 + random.nextDouble() * 40;
+                    longitude = random.nextBoolean() ? 172 + random.nextDouble() * 8 : -180 + random.nextDouble() * 8;
+                }
+                default -> {
+                    latitude = -90 + random.nextDouble() * 180;
+                    longitude = -180 + random.nextDouble() * 360;
+                }
+            }
+            index.put(i, latitude, longitude);
+            points.add(new double[]{i, latitude, longitude});
+        }
+        return points;
+    }
+
+    private static double[] centre(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> new double[]{25 + random.nextDouble() * 24, -125 + random.nextDouble() * 58};
+            case 1 -> new double[]{-20 + random.nextDouble() * 40, random.nextBoolean() ? 179.5 + random.nextDouble() * 0.5 : -180 + random.nextDouble() * 0.5};
+            case 2 -> new double[]{random.nextBoolean() ? 85 + random.nextDouble() * 5 : -90 + random.nextDouble() * 5, -180 + random.nextDouble() * 360};
+            default -> new double[]{-90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360};
+        };
+    }
+
+    @Test
+    void rejectsCellSizesOutsideTheRange() {
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex(11));
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        // Exercises both the ring scan with its stop condition (dense clusters, small k) and the
+        // fall back to a full pass (sparse areas, centres near the poles, large k)
+        for (double cellDegrees : new double[]{0.1, 0.5, 2.0}) {
+            Random random = new Random(7);
+            GeoGridIndex index = new GeoGridIndex(cellDegrees);
+            List<double[]> points = points(index, random);
+            for (int query = 0; query < 300; query++) {
+                double[] centre = centre(random);
+                int limit = query % 10 == 0 ? 500 : 1 + random.nextInt(20);
+
+                List<Long> expected = byDistance(points, centre[0], centre[1], Double.MAX_VALUE).subList(0, limit);
+                GeoGridIndex.Page page = index.nearest(centre[0], centre[1], 0, limit);
+
+                assertEquals(expected, ids(page), "cell " + cellDegrees + ", centre " + centre[0] + "," + centre[1]);
+                assertEquals(points.size(), page.getTotal());
+            }
+        }
+    }
+
+    @Test
+    void nearestLooksPastARingWhoseCornerIsCloserThanItsEdge() {
+        // The point due east sits in ring 2 but is nearer than the one in the diagonal corner of
+        // ring 1, so the scan must not stop as soon as ring 1 has produced a hit
+        GeoGridIndex index = new GeoGridIndex(1.0);
+        index.put(1, 60.95, 10.95);
+        index.put(2, 60.5, 11.2);
+        index.put(3, 10, 10);
+        for (int i = 0; i < 50; i++) {
+            index.put(100 + i, -60 + i, -100 + i); // Enough occupied cells that the rings are scanned
+        }
+
+        assertEquals(List.of(2L, 1L), ids(index.nearest(60.5, 10.05, 0, 2)));
+    }
+
+    @Test
+    void nearestPagesFromOffset() {
+        GeoGridIndex index = new GeoGridIndex(0.5);
+        List<double[]> points = points(index, new Random(3));
+        List<Long> expected = byDistance(points, 40, -100, Double.MAX_VALUE);
+
+        assertEquals(expected.subList(10, 15), ids(index.nearest(40, -100, 10, 5)));
+    }
+
+    @Test
+    void withinRadiusMatchesBruteForce() {
+        for (double cellDegrees : new double[]{0.1, 1.0}) {
+            Random random = new Random(11);
+            GeoGridIndex index = new GeoGridIndex(cellDegrees);
+            List<double[]> points = points(index, random);
+            for (int query = 0; query < 200; query++) {
+                double[] centre = centre(random);
+                double radiusKm = query % 20 == 0 ? 5000 : 5 + random.nextDouble() * 300;
+
+                List<Long> expected = byDistance(points, centre[0], centre[1], radiusKm);
+                GeoGridIndex.Page page = index.withinRadius(centre[0], centre[1], radiusKm, 0, 25);
+
+                assertEquals(expected.size(), page.getTotal(), "centre " + centre[0] + "," + centre[1] + ", radius " + radiusKm);
+                assertEquals(expected.subList(0, Math.min(25, expected.size())), ids(page));
+            }
+        }
+    }
+
+    @Test
+    void withinRadiusCoversBothSidesOfTheAntimeridian() {
+        GeoGridIndex index = new GeoGridIndex(1.0);
+        index.put(1, 0.0, 179.9);
+        index.put(2, 0.0, -179.9);
+        index.put(3, 0.0, 178.0);
+        index.put(4, 0.0, -178.0);
+
+        assertEquals(List.of(2L, 1L), ids(index.withinRadius(0.0, -179.95, 50, 0, 10)));
+        assertEquals(List.of(1L, 2L), ids(index.withinRadius(0.0, 179.95, 50, 0, 10)));
+    }
+
+    @Test
+    void withinBoxMatchesBruteForceIncludingAntimeridianBoxes() {
+        Random random = new Random(5);
+        GeoGridIndex index = new GeoGridIndex(0.5);
+        List<double[]> points = points(index, random);
+        for (int query = 0; query < 200; query++) {
+            double minLat = -90 + random.nextDouble() * 170;
+            double maxLat = Math.min(90, minLat + random.nextDouble() * 40);
+            double minLon = -180 + random.nextDouble() * 360;
+            double maxLon = query % 2 == 0
+                    ? Math.min(180, minLon + random.nextDouble() * 60)
+                    : -180 + random.nextDouble() * (minLon + 180); // minLon > maxLon: crosses the antimeridian
+            boolean crosses = minLon > maxLon;
+
+            List<Long> expected = points.stream()
+                    .filter(p -> p[1] >= minLat && p[1] <= maxLat
+                            && (crosses ? p[2] >= minLon || p[2] <= maxLon : p[2] >= minLon && p[2] <= maxLon))
+                    .map(p -> (long) p[0])
+                    .sorted()
+                    .toList();
+            GeoGridIndex.Page page = index.withinBox(minLat, minLon, maxLat, maxLon, 0, Integer.MAX_VALUE);
+
+            assertEquals(expected, ids(page));
+            assertEquals(expected.size(), page.getTotal());
+        }
+    }
+
+    @Test
+    void movedAndRemovedPointsLeaveTheirOldCell() {
+        GeoGridIndex index = new GeoGridIndex(1.0);
+        index.put(1, 10.5, 10.5);
+        index.put(2, 10.6, 10.6);
+        index.put(1, -30.5, 40.5);
+        index.remove(2);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(), ids(index.withinBox(10, 10, 11, 11, 0, 10)));
+        assertEquals(List.of(1L), ids(index.withinBox(-31, 40, -30, 41, 0, 10)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.rentwise.property.repository;
+
+import com.rentwise.property.model.Property;
+import com.rentwise.property.model.PropertySearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the plans MySQL picks for the search API's filter combinations against the indexes
+ * declared on Property: the expected composite index, no filesort for the (rent_amount, id)
+ * ordering, and bedroom/bathroom ranges filtered inside the index. The statements mirror the
+ * SQL Hibernate generates for PropertySpecifications. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // ANALYZE TABLE commits implicitly
+@Testcontainers(disabledWithoutDocker = true)
+class PropertySearchExplainTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final int ROWS = 20_000;
+    private static final String[] CITIES = {"Austin", "Boston", "Chicago", "Denver", "Miami", "Portland", "Seattle", "Tampa"};
+    private static final String[] STATES = {"TX", "MA", "IL", "CO", "FL", "OR", "WA", "FL"};
+    private static final String[] TYPES = {"APARTMENT", "HOUSE", "CONDO"};
+    private static final String[] STATUSES = {"AVAILABLE", "RENTED", "MAINTENANCE"};
+    private static final String SELECT = "SELECT * FROM properties WHERE ";
+    private static final String KEYSET_ORDER = " ORDER BY rent_amount, id LIMIT 21";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @BeforeEach
+    void seed() {
+        if (propertyRepository.count() > 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            int city = i % CITIES.length;
+            rows.add(new Object[]{"Property " + i, CITIES[city], STATES[city], TYPES[i % TYPES.length],
+                    STATUSES[(i / 7) % STATUSES.length], i % 6, 1 + i % 3,
+                    BigDecimal.valueOf(500 + (i * 37L) % 4500), 0L, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO properties (name, city, state, type, status, bedrooms, bathrooms, "
+                + "rent_amount, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.queryForList("ANALYZE TABLE properties");
+    }
+
+    @Test
+    void cityAndStatusWalkTheCityIndexInKeysetOrder() {
+        Map<String, Object> plan = explain(SELECT + "city = ? AND status = ?" + KEYSET_ORDER, "Austin", "AVAILABLE");
+
+        assertEquals("idx_properties_city_status_rent_rooms", plan.get("key"));
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void bedroomAndBathroomRangesAreFilteredInsideTheIndex() {
+        Map<String, Object> plan = explain(SELECT + "city = ? AND status = ? AND bedrooms >= ? AND bedrooms <= ? "
+                + "AND bathrooms >= ?" + KEYSET_ORDER, "Boston", "AVAILABLE", 2, 4, 2);
+
+        assertEquals("idx_properties_city_status_rent_rooms", plan.get("key"));
+        assertNoFilesort(plan);
+        assertIndexCondition(plan);
+    }
+
+    @Test
+    void stateFilterUsesTheStateIndex() {
+        Map<String, Object> plan = explain(SELECT + "state = ? AND status = ? AND bathrooms <= ?" + KEYSET_ORDER,
+                "WA", "AVAILABLE", 2);
+
+        assertEquals("idx_properties_state_status_rent_rooms", plan.get("key"));
+        assertNoFilesort(plan);
+        assertIndexCondition(plan);
+    }
+
+    @Test
+    void typeFilterWithRentRangeUsesTheTypeIndex() {
+        Map<String, Object> plan = explain(SELECT + "type = ? AND status = ? AND bedrooms >= ? "
+                + "AND rent_amount >= ? AND rent_amount <= ?" + KEYSET_ORDER, "CONDO", "AVAILABLE", 3, 1000, 2500);
+
+        assertEquals("idx_properties_type_status_rent_rooms", plan.get("key"));
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void statusOnlySearchUsesTheStatusIndex() {
+        Map<String, Object> plan = explain(SELECT + "status = ? AND bedrooms >= ?" + KEYSET_ORDER, "AVAILABLE", 4);
+
+        assertEquals("idx_properties_status_rent_rooms", plan.get("key"));
+        assertNoFilesort(plan);
+        assertIndexCondition(plan);
+    }
+
+    @Test
+    void keysetCursorSeeksIntoTheIndex() {
+        Map<String, Object> plan = explain(SELECT + "city = ? AND status = ? AND bedrooms >= ? "
+                + "AND (rent_amount > ? OR (rent_amount = ? AND id > ?))" + KEYSET_ORDER,
+                "Denver", "AVAILABLE", 1, 2000, 2000, 5000);
+
+        assertEquals("idx_properties_city_status_rent_rooms", plan.get("key"));
+        assertEquals("range", plan.get("type"));
+        assertNoFilesort(plan);
+    }
+
+    @Test
+    void specificationReturnsRoomFilteredRowsInKeysetOrder() {
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        criteria.setCity("Miami");
+        criteria.setStatus("AVAILABLE");
+        criteria.setMinBedrooms(2);
+        criteria.setMaxBathrooms(2);
+
+        List<Property> rows = propertyRepository.findBy(PropertySpecifications.matching(criteria),
+                q -> q.sortBy(PropertySpecifications.KEYSET_SORT).limit(50).all());
+
+        assertFalse(rows.isEmpty());
+        for (int i = 0; i < rows.size(); i++) {
+            Property property = rows.get(i);
+            assertTrue(property.getBedrooms() >= 2 && property.getBathrooms() <= 2);
+            if (i > 0) {
+                Property previous = rows.get(i - 1);
+                int byRent = previous.getRentAmount().compareTo(property.getRentAmount());
+                assertTrue(byRent < 0 || (byRent == 0 && previous.getId() < property.getId()));
+            }
+        }
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertEquals(1, plan.size(), () -> "Expected a single-table plan: " + plan);
+        return plan.get(0);
+    }
+
+    private static void assertNoFilesort(Map<String, Object> plan) {
+        Object extra = plan.get("Extra");
+        assertFalse(extra != null && extra.toString().contains("Using filesort"), () -> "Filesort in plan: " + plan);
+    }
+
+    private static void assertIndexCondition(Map<String, Object> plan) {
+        Object extra = plan.get("Extra");
+        assertTrue(extra != null && extra.toString().contains("Using index condition"),
+                () -> "Room filters not pushed down to the index: " + plan);
+    }
+}
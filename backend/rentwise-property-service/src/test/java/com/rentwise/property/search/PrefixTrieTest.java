@@ -0,0 +1,123 @@
+package com.rentwise.property.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    /** A test document: its keys and a popularity to rank by. */
+    private record Doc(String name, int popularity, List<String> keys) {
+        Doc(String name, int popularity) {
+            this(name, popularity, List.of(name));
+        }
+    }
+
+    private static PrefixTrie<Doc> trie(int topK) {
+        return new PrefixTrie<>(topK, Comparator.comparingInt(Doc::popularity).reversed(), Doc::keys);
+    }
+
+    private static List<String> names(List<Doc> docs) {
+        List<String> names = new ArrayList<>();
+        docs.forEach(doc -> names.add(doc.name()));
+        return names;
+    }
+
+    @Test
+    void completesByPrefixInRankOrder() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(1, new Doc("maple", 1));
+        trie.put(2, new Doc("main", 5));
+        trie.put(3, new Doc("market", 3));
+        trie.put(4, new Doc("oak", 9));
+
+        assertEquals(List.of("main", "market", "maple"), names(trie.complete("ma", 10)));
+        assertEquals(List.of("main"), names(trie.complete("mai", 10)));
+        assertEquals(List.of("main", "market"), names(trie.complete("ma", 2)));
+        assertEquals(List.of("oak", "main", "market", "maple"), names(trie.complete("", 10)));
+    }
+
+    @Test
+    void prefixEndingInsideCompressedEdgeMatches() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(1, new Doc("riverside", 1));
+
+        assertEquals(List.of("riverside"), names(trie.complete("riv", 10)));
+        assertEquals(List.of("riverside"), names(trie.complete("riverside", 10)));
+        assertTrue(trie.complete("rivet", 10).isEmpty(), "diverges inside the edge");
+        assertTrue(trie.complete("riversides", 10).isEmpty(), "longer than every key");
+    }
+
+    @Test
+    void splittingAnEdgeKeepsBothBranches() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(1, new Doc("parkway", 1));
+        trie.put(2, new Doc("parkside", 2));
+        trie.put(3, new Doc("park", 3));
+
+        assertEquals(List.of("park", "parkside", "parkway"), names(trie.complete("park", 10)));
+        assertEquals(List.of("parkway"), names(trie.complete("parkw", 10)));
+    }
+
+    @Test
+    void cachedTopKIsRebuiltAfterRemoval() {
+        PrefixTrie<Doc> trie = trie(2);
+        trie.put(1, new Doc("elm a", 3, List.of("elm a")));
+        trie.put(2, new Doc("elm b", 2, List.of("elm b")));
+        trie.put(3, new Doc("elm c", 1, List.of("elm c")));
+
+        assertEquals(List.of("elm a", "elm b"), names(trie.complete("elm", 10)));
+
+        trie.remove(1);
+        assertEquals(List.of("elm b", "elm c"), names(trie.complete("elm", 10)));
+        assertNull(trie.get(1));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void reindexingMovesDocumentToNewKeys() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(1, new Doc("cedar", 1));
+        trie.put(1, new Doc("birch", 1));
+
+        assertTrue(trie.complete("ced", 10).isEmpty());
+        assertEquals(List.of("birch"), names(trie.complete("bir", 10)));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    void documentWithSeveralMatchingKeysIsReturnedOnce() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(1, new Doc("hill", 1, List.of("hill street", "hill", "hillcrest")));
+
+        assertEquals(List.of("hill"), names(trie.complete("hill", 10)));
+    }
+
+    @Test
+    void tiesAreBrokenByDocumentId() {
+        PrefixTrie<Doc> trie = trie(5);
+        trie.put(9, new Doc("ash b", 1, List.of("ash b")));
+        trie.put(4, new Doc("ash a", 1, List.of("ash a")));
+
+        assertEquals(List.of("ash a", "ash b"), names(trie.complete("ash", 10)));
+    }
+
+    @Test
+    void removingEveryDocumentEmptiesTheTrie() {
+        PrefixTrie<Doc> trie = trie(5);
+        for (int i = 0; i < 50; i++) {
+            trie.put(i, new Doc("street" + i, i));
+        }
+        for (int i = 0; i < 50; i++) {
+            trie.remove(i);
+        }
+        assertEquals(0, trie.size());
+        assertTrue(trie.complete("s", 10).isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+package com.rentwise.property.service;
+
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.common.importer.ImportThroughputTestSupport;
+import com.rentwise.property.repository.PropertyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Import throughput for PropertyImportService. Run with mvn test -Pperformance.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+class PropertyImportThroughputTest extends ImportThroughputTestSupport {
+
+    @Autowired
+    private PropertyImportService propertyImportService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Override
+    protected String header() {
+        return "name,address,city,state,zipCode,type,bedrooms,bathrooms,rentAmount,status,userId";
+    }
+
+    @Override
+    protected void appendRow(StringBuilder csv, int i) {
+        csv.append("Property ").append(i).append(",\"").append(i).append(" Main St, Unit ").append(i % 40)
+                .append("\",Austin,TX,787").append(i % 100).append(",APARTMENT,").append(i % 5).append(',')
+                .append(1 + i % 3).append(',').append(800 + i % 3000).append(".00,AVAILABLE,").append(i % 500).append('\n');
+    }
+
+    @Override
+    protected ImportJob startImport(MockMultipartFile file) throws Exception {
+        return propertyImportService.startImport(file, null);
+    }
+
+    @Override
+    protected long countRows() {
+        return propertyRepository.count();
+    }
+}
@@ -14,6 +14,14 @@ public class RabbitMQConfig {
     public static final String EXCHANGE_TENANT_REQUEST = "tenant.request.exchange";
     public static final String ROUTING_KEY_TENANT_REQUEST = "tenant.request.routing";
     
+    // user-service's UserRegisteredEvents; messages that still fail after the listener's
+    // retries are dead-lettered to the DLQ for inspection and manual replay
+    public static final String EXCHANGE_USER_EVENTS = "user.events.exchange";
+    public static final String ROUTING_KEY_USER_REGISTERED = "user.registered";
+    public static final String QUEUE_USER_REGISTERED = "tenant.user-registered.queue";
+    public static final String EXCHANGE_USER_EVENTS_DLX = "tenant.user-events.dlx";
+    public static final String QUEUE_USER_REGISTERED_DLQ = "tenant.user-registered.dlq";
+    
     @Bean
     public Queue tenantRequestQueue() {
         return QueueBuilder.durable(QUEUE_TENANT_REQUEST).build();
@@ -32,6 +40,45 @@ public class RabbitMQConfig {
             .with(ROUTING_KEY_TENANT_REQUEST);
     }
     
+    @Bean
+    public TopicExchange userEventsExchange() {
+        return new TopicExchange(EXCHANGE_USER_EVENTS);
+    }
+    
+    @Bean
+    public Queue userRegisteredQueue() {
+        return QueueBuilder.durable(QUEUE_USER_REGISTERED)
+            .deadLetterExchange(EXCHANGE_USER_EVENTS_DLX)
+            .deadLetterRoutingKey(QUEUE_USER_REGISTERED_DLQ)
+            .build();
+    }
+    
+    @Bean
+    public Binding userRegisteredBinding() {
+        return BindingBuilder
+            .bind(userRegisteredQueue())
+            .to(userEventsExchange())
+            .with(ROUTING_KEY_USER_REGISTERED);
+    }
+    
+    @Bean
+    public DirectExchange userEventsDeadLetterExchange() {
+        return new DirectExchange(EXCHANGE_USER_EVENTS_DLX);
+    }
+    
+    @Bean
+    public Queue userRegisteredDeadLetterQueue() {
+        return QueueBuilder.durable(QUEUE_USER_REGISTERED_DLQ).build();
+    }
+    
+    @Bean
+    public Binding userRegisteredDeadLetterBinding() {
+        return BindingBuilder
+            .bind(userRegisteredDeadLetterQueue())
+            .to(userEventsDeadLetterExchange())
+            .with(QUEUE_USER_REGISTERED_DLQ);
+    }
+    
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -0,0 +1,28 @@
+package com.rentwise.tenant.consumer;
+
+import com.rentwise.tenant.config.RabbitMQConfig;
+import com.rentwise.tenant.model.UserRegisteredEvent;
+import com.rentwise.tenant.service.TenantService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserRegisteredConsumer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserRegisteredConsumer.class);
+    private static final String SERVICE_NAME = "rentwise-tenant-service";
+    
+    @Autowired
+    private TenantService tenantService;
+    
+    // Exceptions propagate: the listener retries with backoff, then dead-letters the message
+    @RabbitListener(queues = RabbitMQConfig.QUEUE_USER_REGISTERED)
+    public void handleUserRegisteredEvent(UserRegisteredEvent event) {
+        logger.info("[{}] [UserRegisteredConsumer] [handleUserRegisteredEvent] Received event - Event ID: {}, User ID: {}", 
+                SERVICE_NAME, event.getEventId(), event.getUserId());
+        tenantService.createTenantForUser(event);
+    }
+}
@@ -1,17 +1,25 @@
 package com.rentwise.tenant.controller;
 
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.tenant.model.OccupancySummary;
 import com.rentwise.tenant.model.Tenant;
 import com.rentwise.tenant.model.TenantRequest;
-import com.rentwise.tenant.service.TenantService;
+import com.rentwise.tenant.model.TenantSearchResult;
+import com.rentwise.tenant.search.NGramIndex;
+import com.rentwise.tenant.service.TenantImportService;
 import com.rentwise.tenant.service.TenantRequestService;
+import com.rentwise.tenant.service.TenantSearchService;
+import com.rentwise.tenant.service.TenantService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tenants")
@@ -19,6 +27,10 @@ public class TenantRestController {
     
     private static final Logger logger = LoggerFactory.getLogger(TenantRestController.class);
     private static final String SERVICE_NAME = "rentwise-tenant-service";
+    // Identity of the caller as verified by the gateway (or forwarded by dashboard-service);
+    // client-supplied copies are stripped at the edge
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_ROLE_HEADER = "X-User-Role";
     
     @Autowired
     private TenantService tenantService;
@@ -26,6 +38,12 @@ public class TenantRestController {
     @Autowired
     private TenantRequestService tenantRequestService;
     
+    @Autowired
+    private TenantSearchService tenantSearchService;
+    
+    @Autowired
+    private TenantImportService tenantImportService;
+    
     @GetMapping
     public List<Tenant> getAllTenants() {
         logger.info("[{}] [TenantRestController] [getAllTenants] START - API: GET /api/tenants", SERVICE_NAME);
@@ -40,6 +58,92 @@ public class TenantRestController {
         }
     }
     
+    @GetMapping("/search")
+    public ResponseEntity<List<TenantSearchResult>> searchTenants(@RequestParam String q,
+                                                                  @RequestParam(required = false) String type,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        logger.info("[{}] [TenantRestController] [searchTenants] START - API: GET /api/tenants/search - Query: {}", SERVICE_NAME, q);
+        try {
+            List<TenantSearchResult> results = tenantSearchService.search(q, type, Math.min(Math.max(limit, 1), 100));
+            logger.info("[{}] [TenantRestController] [searchTenants] SUCCESS - Returning {} results", SERVICE_NAME, results.size());
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [searchTenants] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/search/stats")
+    public ResponseEntity<Map<String, NGramIndex.Stats>> getSearchIndexStats() {
+        logger.info("[{}] [TenantRestController] [getSearchIndexStats] START - API: GET /api/tenants/search/stats", SERVICE_NAME);
+        return ResponseEntity.ok(tenantSearchService.getIndexStats());
+    }
+    
+    // e.g. curl -F file=@tenants.csv http://localhost:8083/api/tenants/import
+    // Returns 202 with the job; poll GET /api/tenants/import/{jobId} for progress
+    @PostMapping("/import")
+    public ResponseEntity<?> importTenants(@RequestParam("file") MultipartFile file,
+                                           @RequestParam(required = false) String format) {
+        logger.info("[{}] [TenantRestController] [importTenants] START - API: POST /api/tenants/import", SERVICE_NAME);
+        try {
+            ImportJob job = tenantImportService.startImport(file, format);
+            logger.info("[{}] [TenantRestController] [importTenants] SUCCESS - Import job: {}", SERVICE_NAME, job.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] [TenantRestController] [importTenants] Invalid request: {}", SERVICE_NAME, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [importTenants] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJob> getImportJob(@PathVariable String jobId) {
+        ImportJob job = tenantImportService.getJob(jobId);
+        if (job == null) {
+            logger.warn("[{}] [TenantRestController] [getImportJob] Import job not found: {}", SERVICE_NAME, jobId);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+    
+    // Occupancy aggregates, answered from in-memory counters
+    @GetMapping("/occupancy")
+    public ResponseEntity<OccupancySummary> getOccupancySummary() {
+        logger.info("[{}] [TenantRestController] [getOccupancySummary] START - API: GET /api/tenants/occupancy", SERVICE_NAME);
+        try {
+            return ResponseEntity.ok(tenantService.getOccupancySummary());
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [getOccupancySummary] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/occupancy/properties")
+    public ResponseEntity<Map<Long, Long>> getTenantCountsByProperty() {
+        logger.info("[{}] [TenantRestController] [getTenantCountsByProperty] START - API: GET /api/tenants/occupancy/properties", SERVICE_NAME);
+        return ResponseEntity.ok(tenantService.getTenantCountsByProperty());
+    }
+    
+    @GetMapping("/occupancy/properties/{propertyId}")
+    public ResponseEntity<Long> getTenantCountForProperty(@PathVariable Long propertyId) {
+        logger.info("[{}] [TenantRestController] [getTenantCountForProperty] START - Property ID: {}", SERVICE_NAME, propertyId);
+        return ResponseEntity.ok(tenantService.getTenantCountForProperty(propertyId));
+    }
+    
+    @GetMapping("/occupancy/owners")
+    public ResponseEntity<Map<Long, Long>> getTenantCountsByOwner() {
+        logger.info("[{}] [TenantRestController] [getTenantCountsByOwner] START - API: GET /api/tenants/occupancy/owners", SERVICE_NAME);
+        return ResponseEntity.ok(tenantService.getTenantCountsByOwner());
+    }
+    
+    @GetMapping("/occupancy/unassigned")
+    public ResponseEntity<Long> getUnassignedTenantCount() {
+        logger.info("[{}] [TenantRestController] [getUnassignedTenantCount] START - API: GET /api/tenants/occupancy/unassigned", SERVICE_NAME);
+        return ResponseEntity.ok(tenantService.getUnassignedTenantCount());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Tenant> getTenantById(@PathVariable Long id) {
         logger.info("[{}] [TenantRestController] [getTenantById] START - API: GET /api/tenants/{}", SERVICE_NAME, id);
@@ -150,10 +254,11 @@ public class TenantRestController {
     }
     
     @GetMapping("/requests")
-    public ResponseEntity<List<TenantRequest>> getAllTenantRequests() {
-        logger.info("[{}] [TenantRestController] [getAllTenantRequests] START", SERVICE_NAME);
+    public ResponseEntity<List<TenantRequest>> getAllTenantRequests(
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        logger.info("[{}] [TenantRestController] [getAllTenantRequests] START - Include history: {}", SERVICE_NAME, includeHistory);
         try {
-            List<TenantRequest> requests = tenantRequestService.getAllTenantRequests();
+            List<TenantRequest> requests = tenantRequestService.getAllTenantRequests(includeHistory);
             logger.info("[{}] [TenantRestController] [getAllTenantRequests] SUCCESS - Found {} requests", 
                     SERVICE_NAME, requests.size());
             return ResponseEntity.ok(requests);
@@ -164,10 +269,12 @@ public class TenantRestController {
     }
     
     @GetMapping("/requests/user/{userId}")
-    public ResponseEntity<List<TenantRequest>> getTenantRequestsByUser(@PathVariable Long userId) {
-        logger.info("[{}] [TenantRestController] [getTenantRequestsByUser] START - User ID: {}", SERVICE_NAME, userId);
+    public ResponseEntity<List<TenantRequest>> getTenantRequestsByUser(@PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        logger.info("[{}] [TenantRestController] [getTenantRequestsByUser] START - User ID: {}, Include history: {}", 
+                SERVICE_NAME, userId, includeHistory);
         try {
-            List<TenantRequest> requests = tenantRequestService.getTenantRequestsByUser(userId);
+            List<TenantRequest> requests = tenantRequestService.getTenantRequestsByUser(userId, includeHistory);
             logger.info("[{}] [TenantRestController] [getTenantRequestsByUser] SUCCESS - Found {} requests", 
                     SERVICE_NAME, requests.size());
             return ResponseEntity.ok(requests);
@@ -191,11 +298,75 @@ public class TenantRestController {
         }
     }
     
+    @GetMapping("/requests/claimed")
+    public ResponseEntity<List<TenantRequest>> getClaimedTenantRequests(@RequestHeader(USER_ID_HEADER) Long adminId,
+                                                                        @RequestHeader(USER_ROLE_HEADER) String role) {
+        logger.info("[{}] [TenantRestController] [getClaimedTenantRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        if (!isAdmin(role)) {
+            logger.warn("[{}] [TenantRestController] [getClaimedTenantRequests] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            List<TenantRequest> requests = tenantRequestService.getClaimedTenantRequests(adminId);
+            logger.info("[{}] [TenantRestController] [getClaimedTenantRequests] SUCCESS - Admin holds {} requests", 
+                    SERVICE_NAME, requests.size());
+            return ResponseEntity.ok(requests);
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [getClaimedTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PostMapping("/requests/claim")
+    public ResponseEntity<List<TenantRequest>> claimPendingTenantRequests(@RequestHeader(USER_ID_HEADER) Long adminId,
+                                                                          @RequestHeader(USER_ROLE_HEADER) String role,
+                                                                          @RequestParam(defaultValue = "10") int limit) {
+        logger.info("[{}] [TenantRestController] [claimPendingTenantRequests] START - Admin ID: {}, Limit: {}", 
+                SERVICE_NAME, adminId, limit);
+        if (!isAdmin(role)) {
+            logger.warn("[{}] [TenantRestController] [claimPendingTenantRequests] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            List<TenantRequest> requests = tenantRequestService.claimPendingTenantRequests(adminId, limit);
+            logger.info("[{}] [TenantRestController] [claimPendingTenantRequests] SUCCESS - Claimed {} requests", 
+                    SERVICE_NAME, requests.size());
+            return ResponseEntity.ok(requests);
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [claimPendingTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @DeleteMapping("/requests/claim")
+    public ResponseEntity<Void> releaseTenantRequestClaims(@RequestHeader(USER_ID_HEADER) Long adminId,
+                                                           @RequestHeader(USER_ROLE_HEADER) String role) {
+        logger.info("[{}] [TenantRestController] [releaseTenantRequestClaims] START - Admin ID: {}", SERVICE_NAME, adminId);
+        if (!isAdmin(role)) {
+            logger.warn("[{}] [TenantRestController] [releaseTenantRequestClaims] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            tenantRequestService.releaseTenantRequestClaims(adminId);
+            logger.info("[{}] [TenantRestController] [releaseTenantRequestClaims] SUCCESS", SERVICE_NAME);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRestController] [releaseTenantRequestClaims] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @PutMapping("/requests/{id}/approve")
-    public ResponseEntity<?> approveTenantRequest(@PathVariable Long id) {
+    public ResponseEntity<?> approveTenantRequest(@PathVariable Long id,
+                                              @RequestHeader(USER_ID_HEADER) Long adminId,
+                                              @RequestHeader(USER_ROLE_HEADER) String role) {
         logger.info("[{}] [TenantRestController] [approveTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (!isAdmin(role)) {
+            logger.warn("[{}] [TenantRestController] [approveTenantRequest] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only admins can approve tenant requests");
+        }
         try {
-            TenantRequest approved = tenantRequestService.approveTenantRequest(id);
+            TenantRequest approved = tenantRequestService.approveTenantRequest(id, adminId);
             logger.info("[{}] [TenantRestController] [approveTenantRequest] SUCCESS - Request approved", SERVICE_NAME);
             return ResponseEntity.ok(approved);
         } catch (Exception e) {
@@ -205,10 +376,16 @@ public class TenantRestController {
     }
     
     @PutMapping("/requests/{id}/reject")
-    public ResponseEntity<?> rejectTenantRequest(@PathVariable Long id) {
+    public ResponseEntity<?> rejectTenantRequest(@PathVariable Long id,
+                                              @RequestHeader(USER_ID_HEADER) Long adminId,
+                                              @RequestHeader(USER_ROLE_HEADER) String role) {
         logger.info("[{}] [TenantRestController] [rejectTenantRequest] START - Request ID: {}", SERVICE_NAME, id);
+        if (!isAdmin(role)) {
+            logger.warn("[{}] [TenantRestController] [rejectTenantRequest] Forbidden for role {}", SERVICE_NAME, role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only admins can reject tenant requests");
+        }
         try {
-            TenantRequest rejected = tenantRequestService.rejectTenantRequest(id);
+            TenantRequest rejected = tenantRequestService.rejectTenantRequest(id, adminId);
             logger.info("[{}] [TenantRestController] [rejectTenantRequest] SUCCESS - Request rejected", SERVICE_NAME);
             return ResponseEntity.ok(rejected);
         } catch (Exception e) {
@@ -230,5 +407,8 @@ public class TenantRestController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+    
+    private static boolean isAdmin(String role) {
+        return "ADMIN".equalsIgnoreCase(role);
+    }
 }
-
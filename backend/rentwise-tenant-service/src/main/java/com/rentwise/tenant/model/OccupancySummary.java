@@ -0,0 +1,53 @@
+package com.rentwise.tenant.model;
+
+import java.util.Map;
+
+public class OccupancySummary {
+    private Map<Long, Long> tenantsByProperty; // propertyId -> tenant count
+    private Map<Long, Long> tenantsByOwner; // userId -> tenant count
+    private long unassignedTenants;
+    private long totalTenants;
+    
+    public OccupancySummary() {}
+    
+    public OccupancySummary(Map<Long, Long> tenantsByProperty, Map<Long, Long> tenantsByOwner,
+                            long unassignedTenants, long totalTenants) {
+        this.tenantsByProperty = tenantsByProperty;
+        this.tenantsByOwner = tenantsByOwner;
+        this.unassignedTenants = unassignedTenants;
+        this.totalTenants = totalTenants;
+    }
+    
+    // Getters and Setters
+    public Map<Long, Long> getTenantsByProperty() {
+        return tenantsByProperty;
+    }
+    
+    public void setTenantsByProperty(Map<Long, Long> tenantsByProperty) {
+        this.tenantsByProperty = tenantsByProperty;
+    }
+    
+    public Map<Long, Long> getTenantsByOwner() {
+        return tenantsByOwner;
+    }
+    
+    public void setTenantsByOwner(Map<Long, Long> tenantsByOwner) {
+        this.tenantsByOwner = tenantsByOwner;
+    }
+    
+    public long getUnassignedTenants() {
+        return unassignedTenants;
+    }
+    
+    public void setUnassignedTenants(long unassignedTenants) {
+        this.unassignedTenants = unassignedTenants;
+    }
+    
+    public long getTotalTenants() {
+        return totalTenants;
+    }
+    
+    public void setTotalTenants(long totalTenants) {
+        this.totalTenants = totalTenants;
+    }
+}
@@ -1,11 +1,18 @@
 package com.rentwise.tenant.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tenants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "tenants", indexes = {
+    @Index(name = "idx_tenants_property_id", columnList = "property_id"),
+    @Index(name = "idx_tenants_user_id", columnList = "user_id")
+})
 public class Tenant {
     
     @Id
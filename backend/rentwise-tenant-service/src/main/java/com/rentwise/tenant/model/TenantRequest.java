@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tenant_requests")
+@Table(name = "tenant_requests", indexes = {
+    @Index(name = "idx_tenant_requests_status_claim", columnList = "status, claim_expires_at"),
+    @Index(name = "idx_tenant_requests_claimed_by", columnList = "claimed_by"),
+    @Index(name = "idx_tenant_requests_status_updated", columnList = "status, updated_at")
+})
 public class TenantRequest {
     
     @Id
@@ -28,6 +32,12 @@ public class TenantRequest {
     @Column(nullable = false)
     private String status = "PENDING"; // PENDING, APPROVED, REJECTED
     
+    @Column(name = "claimed_by")
+    private Long claimedBy; // Admin currently holding the review lease
+    
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -114,6 +124,22 @@ public class TenantRequest {
         this.status = status;
     }
     
+    public Long getClaimedBy() {
+        return claimedBy;
+    }
+    
+    public void setClaimedBy(Long claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+    
+    public LocalDateTime getClaimExpiresAt() {
+        return claimExpiresAt;
+    }
+    
+    public void setClaimExpiresAt(LocalDateTime claimExpiresAt) {
+        this.claimExpiresAt = claimExpiresAt;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,145 @@
+package com.rentwise.tenant.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a resolved (APPROVED/REJECTED) tenant request. Rows are moved here by
+ * TenantRequestArchiveService so that tenant_requests only holds recent and pending work.
+ * The original request ID is kept so archived rows can still be referenced.
+ */
+@Entity
+@Table(name = "tenant_requests_archive", indexes = {
+    @Index(name = "idx_tenant_requests_archive_user", columnList = "requested_by_user_id"),
+    @Index(name = "idx_tenant_requests_archive_status", columnList = "status")
+})
+public class TenantRequestArchive {
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "first_name")
+    private String firstName;
+    
+    @Column(name = "last_name")
+    private String lastName;
+    
+    @Column(nullable = false)
+    private String email;
+    
+    private String phone;
+    
+    @Column(name = "requested_by_user_id")
+    private Long requestedByUserId;
+    
+    @Column(nullable = false)
+    private String status; // APPROVED, REJECTED
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public TenantRequestArchive() {}
+    
+    // Converts back to the hot-table shape so callers see one request type
+    public TenantRequest toTenantRequest() {
+        TenantRequest request = new TenantRequest();
+        request.setId(id);
+        request.setFirstName(firstName);
+        request.setLastName(lastName);
+        request.setEmail(email);
+        request.setPhone(phone);
+        request.setRequestedByUserId(requestedByUserId);
+        request.setStatus(status);
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(updatedAt);
+        return request;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+    
+    public Long getRequestedByUserId() {
+        return requestedByUserId;
+    }
+    
+    public void setRequestedByUserId(Long requestedByUserId) {
+        this.requestedByUserId = requestedByUserId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,107 @@
+package com.rentwise.tenant.model;
+
+public class TenantSearchResult {
+    private String type; // TENANT, REQUEST
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String status; // Only set for tenant requests
+    private double score;
+    
+    public TenantSearchResult() {}
+    
+    public TenantSearchResult(String type, Long id, String firstName, String lastName, 
+                              String email, String phone, String status) {
+        this.type = type;
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.status = status;
+    }
+    
+    public static TenantSearchResult of(Tenant tenant) {
+        return new TenantSearchResult("TENANT", tenant.getId(), tenant.getFirstName(), tenant.getLastName(),
+                tenant.getEmail(), tenant.getPhone(), null);
+    }
+    
+    public static TenantSearchResult of(TenantRequest request) {
+        return new TenantSearchResult("REQUEST", request.getId(), request.getFirstName(), request.getLastName(),
+                request.getEmail(), request.getPhone(), request.getStatus());
+    }
+    
+    // Indexed entries are shared snapshots, so each hit gets its own copy carrying the score
+    public TenantSearchResult withScore(double score) {
+        TenantSearchResult copy = new TenantSearchResult(type, id, firstName, lastName, email, phone, status);
+        copy.setScore(score);
+        return copy;
+    }
+    
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public double getScore() {
+        return score;
+    }
+    
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,70 @@
+package com.rentwise.tenant.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Received from user-service (user.events.exchange, routing key user.registered) after a
+ * registration commits. Delivery is at-least-once; the same eventId may arrive more than once.
+ */
+public class UserRegisteredEvent implements Serializable {
+    
+    private String eventId;
+    private Long userId;
+    private String username;
+    private String email;
+    private String role;
+    private LocalDateTime registeredAt;
+    
+    public UserRegisteredEvent() {
+    }
+    
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+    
+    public void setRole(String role) {
+        this.role = role;
+    }
+    
+    public LocalDateTime getRegisteredAt() {
+        return registeredAt;
+    }
+    
+    public void setRegisteredAt(LocalDateTime registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}
@@ -1,17 +1,40 @@
 package com.rentwise.tenant.repository;
 
 import com.rentwise.tenant.model.Tenant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TenantRepository extends JpaRepository<Tenant, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Tenant> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    // Set-based uniqueness check for imports: which of these emails are already taken
+    @Query("SELECT t.email FROM Tenant t WHERE t.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tenant> findByUserId(Long userId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tenant> findByPropertyId(Long propertyId);
+    long countByPropertyIdIsNull();
+    
+    // Each row is [propertyId, tenantCount]; served from idx_tenants_property_id
+    @Query("SELECT t.propertyId, COUNT(t) FROM Tenant t WHERE t.propertyId IS NOT NULL GROUP BY t.propertyId")
+    List<Object[]> countGroupByPropertyId();
+    
+    // Each row is [userId, tenantCount]; served from idx_tenants_user_id
+    @Query("SELECT t.userId, COUNT(t) FROM Tenant t WHERE t.userId IS NOT NULL GROUP BY t.userId")
+    List<Object[]> countGroupByUserId();
 }
 
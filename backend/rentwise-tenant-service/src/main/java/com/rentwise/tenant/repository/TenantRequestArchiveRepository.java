@@ -0,0 +1,30 @@
+package com.rentwise.tenant.repository;
+
+import com.rentwise.tenant.model.TenantRequestArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TenantRequestArchiveRepository extends JpaRepository<TenantRequestArchive, Long> {
+    List<TenantRequestArchive> findByRequestedByUserId(Long userId);
+    List<TenantRequestArchive> findByStatus(String status);
+    
+    // Copies hot rows into the archive in a single statement, without loading entities.
+    // The declared query space keeps Hibernate from evicting unrelated second-level cache regions.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tenant_requests_archive"))
+    @Query(value = "INSERT INTO tenant_requests_archive " +
+            "(id, first_name, last_name, email, phone, requested_by_user_id, status, created_at, updated_at, archived_at) " +
+            "SELECT id, first_name, last_name, email, phone, requested_by_user_id, status, created_at, updated_at, :archivedAt " +
+            "FROM tenant_requests WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTenantRequests(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
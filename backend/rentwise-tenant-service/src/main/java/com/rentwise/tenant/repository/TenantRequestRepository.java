@@ -1,15 +1,50 @@
 package com.rentwise.tenant.repository;
 
 import com.rentwise.tenant.model.TenantRequest;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TenantRequestRepository extends JpaRepository<TenantRequest, Long> {
     List<TenantRequest> findByRequestedByUserId(Long userId);
     List<TenantRequest> findByStatus(String status);
     List<TenantRequest> findByRequestedByUserIdAndStatus(Long userId, String status);
+    
+    // Claims currently held by an admin whose lease has not yet expired
+    List<TenantRequest> findByStatusAndClaimedByAndClaimExpiresAtAfterOrderByIdAsc(String status, Long claimedBy, LocalDateTime now);
+    
+    // Locks the next unclaimed (or lease-expired) pending rows; rows locked by another admin's
+    // claim transaction are skipped instead of waited on
+    @Query(value = "SELECT * FROM tenant_requests " +
+            "WHERE status = 'PENDING' AND (claimed_by IS NULL OR claim_expires_at < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TenantRequest> lockUnclaimedPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TenantRequest r WHERE r.id = :id")
+    Optional<TenantRequest> findByIdForUpdate(@Param("id") Long id);
+    
+    // Resolved requests older than the retention cutoff, oldest first, for archival batches
+    @Query(value = "SELECT id FROM tenant_requests " +
+            "WHERE status IN ('APPROVED', 'REJECTED') AND updated_at < :cutoff " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    @Modifying
+    @Query("DELETE FROM TenantRequest r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+    
+    @Modifying
+    @Query("UPDATE TenantRequest r SET r.claimedBy = null, r.claimExpiresAt = null " +
+            "WHERE r.claimedBy = :adminId AND r.status = 'PENDING'")
+    int releaseClaims(@Param("adminId") Long adminId);
 }
-
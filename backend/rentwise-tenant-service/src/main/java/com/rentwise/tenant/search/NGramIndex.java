@@ -0,0 +1,356 @@
+package com.rentwise.tenant.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index keyed by entity ID.
+ *
+ * Every indexed token is padded with two leading spaces, so the first grams of a token
+ * ("  j", " jo") double as prefix keys and short queries still resolve. Documents get dense
+ * ordinals in insertion order, which keeps each posting list sorted without extra work.
+ * Updates tombstone the old ordinal and append a new one; postings are compacted once the
+ * dead fraction grows too large.
+ *
+ * Queries are fuzzy: a document matches when it shares at least {@code minMatchRatio} of
+ * the query grams. Candidates are drawn only from the rarest posting lists that could
+ * satisfy that threshold and then verified by binary search against the rest, so common
+ * grams never have to be scanned in full.
+ */
+public class NGramIndex<V> {
+    
+    private static final int GRAM = 3;
+    private static final String PAD = "  ";
+    
+    private final double minMatchRatio;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final List<Entry<V>> entries = new ArrayList<>();
+    private int deadCount;
+    
+    public NGramIndex(double minMatchRatio) {
+        this.minMatchRatio = minMatchRatio;
+    }
+    
+    public void put(Long id, V value, String... fields) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            long[] grams = gramsOf(fields, false);
+            int ordinal = entries.size();
+            entries.add(new Entry<>(id, value, grams));
+            ordinalById.put(id, ordinal);
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+            }
+            if (deadCount > 1024 && deadCount > ordinalById.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinalById.clear();
+            entries.clear();
+            deadCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<Hit<V>> search(String query, int limit) {
+        long[] queryGrams = gramsOf(new String[] {query}, true);
+        if (queryGrams.length == 0 || limit <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                Postings list = postings.get(queryGrams[i]);
+                lists[i] = list != null ? list : Postings.EMPTY;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+            
+            int required = Math.max(1, (int) Math.ceil(queryGrams.length * minMatchRatio));
+            // A document with `required` matches must appear in one of the first n - required + 1 lists
+            int candidateLists = lists.length - required + 1;
+            
+            // Sorted, de-duplicated candidate ordinals let every list be walked with a forward cursor
+            int[] candidates = mergeCandidates(lists, candidateLists);
+            int[] cursors = new int[lists.length];
+            PriorityQueue<Hit<V>> top = new PriorityQueue<>(limit + 1, Hit.WORST_FIRST);
+            for (int ordinal : candidates) {
+                // Once the top-k is full, only a candidate that can beat its worst hit is worth counting
+                int needed = top.size() == limit ? Math.max(required, top.peek().matches + 1) : required;
+                int matches = 0;
+                for (int l = 0; l < lists.length && matches + (lists.length - l) >= needed; l++) {
+                    cursors[l] = lists[l].seek(cursors[l], ordinal);
+                    if (cursors[l] < lists[l].size && lists[l].ids[cursors[l]] == ordinal) {
+                        matches++;
+                    }
+                }
+                // Candidates arrive in ordinal order, so a tie never displaces an earlier hit
+                if (matches < needed) {
+                    continue;
+                }
+                Entry<V> entry = entries.get(ordinal);
+                if (entry == null) {
+                    continue;
+                }
+                top.offer(new Hit<>(entry.id, entry.value, matches, (double) matches / queryGrams.length));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Hit<V>> hits = new ArrayList<>(top);
+            hits.sort(Hit.WORST_FIRST.reversed().thenComparing(h -> h.id));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static int[] mergeCandidates(Postings[] lists, int count) {
+        int total = 0;
+        for (int l = 0; l < count; l++) {
+            total += lists[l].size;
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (int l = 0; l < count; l++) {
+            System.arraycopy(lists[l].ids, 0, merged, offset, lists[l].size);
+            offset += lists[l].size;
+        }
+        if (count > 1) {
+            Arrays.sort(merged);
+        }
+        int unique = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (unique == 0 || merged[unique - 1] != merged[i]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return unique == merged.length ? merged : Arrays.copyOf(merged, unique);
+    }
+    
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long postingEntries = 0;
+            long postingBytes = 0;
+            for (Postings list : postings.values()) {
+                postingEntries += list.size;
+                // array header + int slots, plus the Postings object and boxed map key/node
+                postingBytes += 16 + 4L * list.ids.length + 24 + 16 + 32;
+            }
+            long entryBytes = 0;
+            for (Entry<V> entry : entries) {
+                // list slot, plus the live entry's object and its gram array
+                entryBytes += 4;
+                if (entry != null) {
+                    entryBytes += 24 + 16 + 8L * entry.grams.length;
+                }
+            }
+            long idMapBytes = ordinalById.size() * (32L + 16 + 16);
+            return new Stats(ordinalById.size(), deadCount, postings.size(), postingEntries,
+                    postingBytes + entryBytes + idMapBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void removeInternal(Long id) {
+        Integer ordinal = ordinalById.remove(id);
+        if (ordinal != null) {
+            entries.set(ordinal, null);
+            deadCount++;
+        }
+    }
+    
+    // Renumbers live entries densely and rebuilds postings; caller holds the write lock
+    private void compact() {
+        List<Entry<V>> live = new ArrayList<>(ordinalById.size());
+        for (Entry<V> entry : entries) {
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        postings.clear();
+        ordinalById.clear();
+        entries.clear();
+        deadCount = 0;
+        for (Entry<V> entry : live) {
+            int ordinal = entries.size();
+            entries.add(entry);
+            ordinalById.put(entry.id, ordinal);
+            for (long gram : entry.grams) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+            }
+        }
+    }
+    
+    /**
+     * Lowercases and splits on anything non-alphanumeric, then emits padded trigrams per token.
+     * Each gram is packed into a long (16 bits per char). For queries, grams are de-duplicated
+     * so repeated substrings do not inflate the score.
+     */
+    static long[] gramsOf(String[] fields, boolean query) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (String token : field.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                String padded = PAD + token;
+                for (int i = 0; i + GRAM <= padded.length(); i++) {
+                    grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+                }
+            }
+        }
+        long[] result = new long[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            result[i++] = gram;
+        }
+        return result;
+    }
+    
+    private static final class Postings {
+        static final Postings EMPTY = new Postings();
+        
+        int[] ids = new int[4];
+        int size;
+        
+        void add(int ordinal) {
+            // Ordinals only grow, so a repeated gram within one document is a trailing duplicate
+            if (size > 0 && ids[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            ids[size++] = ordinal;
+        }
+        
+        // Galloping search for the first position >= ordinal, starting from a previous cursor
+        int seek(int from, int ordinal) {
+            if (from >= size || ids[from] >= ordinal) {
+                return from;
+            }
+            int step = 1;
+            int lo = from;
+            int hi = from + 1;
+            while (hi < size && ids[hi] < ordinal) {
+                lo = hi;
+                step <<= 1;
+                hi = from + step;
+            }
+            int index = Arrays.binarySearch(ids, lo + 1, Math.min(hi + 1, size), ordinal);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+    
+    private static final class Entry<V> {
+        final Long id;
+        final V value;
+        final long[] grams;
+        
+        Entry(Long id, V value, long[] grams) {
+            this.id = id;
+            this.value = value;
+            this.grams = grams;
+        }
+    }
+    
+    public static final class Hit<V> {
+        static final Comparator<Hit<?>> WORST_FIRST = Comparator.comparingDouble((Hit<?> h) -> h.score);
+        
+        private final Long id;
+        private final V value;
+        private final int matches;
+        private final double score;
+        
+        Hit(Long id, V value, int matches, double score) {
+            this.id = id;
+            this.value = value;
+            this.matches = matches;
+            this.score = score;
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public V getValue() {
+            return value;
+        }
+        
+        public double getScore() {
+            return score;
+        }
+    }
+    
+    public static final class Stats {
+        private final int liveDocuments;
+        private final int deadDocuments;
+        private final int distinctGrams;
+        private final long postingEntries;
+        private final long estimatedBytes;
+        
+        Stats(int liveDocuments, int deadDocuments, int distinctGrams, long postingEntries, long estimatedBytes) {
+            this.liveDocuments = liveDocuments;
+            this.deadDocuments = deadDocuments;
+            this.distinctGrams = distinctGrams;
+            this.postingEntries = postingEntries;
+            this.estimatedBytes = estimatedBytes;
+        }
+        
+        public int getLiveDocuments() {
+            return liveDocuments;
+        }
+        
+        public int getDeadDocuments() {
+            return deadDocuments;
+        }
+        
+        public int getDistinctGrams() {
+            return distinctGrams;
+        }
+        
+        public long getPostingEntries() {
+            return postingEntries;
+        }
+        
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+}
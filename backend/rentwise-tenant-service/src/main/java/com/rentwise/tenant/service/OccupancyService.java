@@ -0,0 +1,194 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.tenant.model.OccupancySummary;
+import com.rentwise.tenant.model.Tenant;
+import com.rentwise.tenant.repository.TenantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory tenant counters per property, per owning user and for unassigned tenants.
+ * Seeded from GROUP BY queries at startup, adjusted by TenantService/TenantRequestService on
+ * every write, and periodically reconciled against MySQL to correct any drift, so read
+ * endpoints never have to touch the database.
+ *
+ * Adjustments are applied once the writing transaction commits, so a rolled-back write never
+ * shows up in the counts. Adjustments committed while a reload is running are applied to the
+ * snapshot being built as well, so the swap does not drop them.
+ */
+@Service
+public class OccupancyService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyService.class);
+    private static final String SERVICE_NAME = "rentwise-tenant-service";
+    
+    @Autowired
+    private TenantRepository tenantRepository;
+    
+    private volatile Counters counters = new Counters();
+    
+    private final Object lock = new Object();
+    // Adjustments applied since the running reload started; null when no reload is running
+    private List<Consumer<Counters>> appliedDuringReload;
+    
+    // One read-only transaction, so the GROUP BY queries all see the same snapshot
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tenant.occupancy.reconcile-interval-ms:600000}",
+               fixedDelayString = "${tenant.occupancy.reconcile-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        logger.info("[{}] [OccupancyService] [reload] START", SERVICE_NAME);
+        synchronized (lock) {
+            appliedDuringReload = new ArrayList<>();
+        }
+        try {
+            Counters fresh = new Counters();
+            for (Object[] row : tenantRepository.countGroupByPropertyId()) {
+                fresh.byProperty.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+            for (Object[] row : tenantRepository.countGroupByUserId()) {
+                fresh.byOwner.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+            fresh.unassigned.set(tenantRepository.countByPropertyIdIsNull());
+            fresh.total.set(tenantRepository.count());
+            synchronized (lock) {
+                // Committed after the queries started, so possibly not in their results
+                for (Consumer<Counters> adjustment : appliedDuringReload) {
+                    adjustment.accept(fresh);
+                }
+                counters = fresh;
+            }
+            logger.info("[{}] [OccupancyService] [reload] SUCCESS - {} properties, {} owners, {} unassigned, {} total", 
+                    SERVICE_NAME, fresh.byProperty.size(), fresh.byOwner.size(), fresh.unassigned.get(), fresh.total.get());
+        } catch (Exception e) {
+            logger.error("[{}] [OccupancyService] [reload] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        } finally {
+            synchronized (lock) {
+                appliedDuringReload = null;
+            }
+        }
+    }
+    
+    public void onTenantCreated(Tenant tenant) {
+        Long userId = tenant.getUserId();
+        Long propertyId = tenant.getPropertyId();
+        afterCommit(c -> {
+            c.total.incrementAndGet();
+            adjust(c.byOwner, userId, 1);
+            adjustProperty(c, propertyId, 1);
+        });
+    }
+    
+    public void onTenantDeleted(Tenant tenant) {
+        Long userId = tenant.getUserId();
+        Long propertyId = tenant.getPropertyId();
+        afterCommit(c -> {
+            c.total.decrementAndGet();
+            adjust(c.byOwner, userId, -1);
+            adjustProperty(c, propertyId, -1);
+        });
+    }
+    
+    public void onTenantMoved(Long oldUserId, Long oldPropertyId, Tenant tenant) {
+        Long userId = tenant.getUserId();
+        Long propertyId = tenant.getPropertyId();
+        afterCommit(c -> {
+            if (!Objects.equals(oldUserId, userId)) {
+                adjust(c.byOwner, oldUserId, -1);
+                adjust(c.byOwner, userId, 1);
+            }
+            if (!Objects.equals(oldPropertyId, propertyId)) {
+                adjustProperty(c, oldPropertyId, -1);
+                adjustProperty(c, propertyId, 1);
+            }
+        });
+    }
+    
+    public long getTenantCountForProperty(Long propertyId) {
+        return counters.byProperty.getOrDefault(propertyId, 0L);
+    }
+    
+    public Map<Long, Long> getTenantCountsByProperty() {
+        return new HashMap<>(counters.byProperty);
+    }
+    
+    public Map<Long, Long> getTenantCountsByOwner() {
+        return new HashMap<>(counters.byOwner);
+    }
+    
+    public long getUnassignedTenantCount() {
+        return counters.unassigned.get();
+    }
+    
+    public OccupancySummary getSummary() {
+        Counters c = counters;
+        return new OccupancySummary(new HashMap<>(c.byProperty), new HashMap<>(c.byOwner), 
+                c.unassigned.get(), c.total.get());
+    }
+    
+    // The tenant is snapshotted by the caller; only applying the adjustment waits for the commit
+    private void afterCommit(Consumer<Counters> adjustment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(adjustment);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(adjustment);
+            }
+        });
+    }
+    
+    private void apply(Consumer<Counters> adjustment) {
+        synchronized (lock) {
+            adjustment.accept(counters);
+            if (appliedDuringReload != null) {
+                appliedDuringReload.add(adjustment);
+            }
+        }
+    }
+    
+    private static void adjustProperty(Counters c, Long propertyId, long delta) {
+        if (propertyId == null) {
+            c.unassigned.addAndGet(delta);
+        } else {
+            adjust(c.byProperty, propertyId, delta);
+        }
+    }
+    
+    // Removes the key when its count reaches zero so the maps only hold occupied groups
+    private static void adjust(ConcurrentHashMap<Long, Long> counts, Long key, long delta) {
+        if (key == null) {
+            return;
+        }
+        counts.compute(key, (k, current) -> {
+            long next = (current != null ? current : 0L) + delta;
+            return next > 0 ? next : null;
+        });
+    }
+    
+    private static final class Counters {
+        final ConcurrentHashMap<Long, Long> byProperty = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, Long> byOwner = new ConcurrentHashMap<>();
+        final AtomicLong unassigned = new AtomicLong();
+        final AtomicLong total = new AtomicLong();
+    }
+}
@@ -0,0 +1,479 @@
+package com.rentwise.tenant.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rentwise.common.importer.CsvLine;
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.common.importer.MappedLineReader;
+import com.rentwise.tenant.model.Tenant;
+import com.rentwise.tenant.repository.TenantRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Bulk tenant import from CSV (with a header row) or JSON lines (one object per line; a
+ * top-level array is accepted when each element sits on its own line). The uploaded file is
+ * memory-mapped and split into line-aligned chunks that are parsed in parallel, while the
+ * import thread inserts the parsed rows in file order with JDBC batches on one connection,
+ * committing and indexing each batch as it goes. Email uniqueness is checked per batch with
+ * one IN query instead of a lookup per row; within the file the first occurrence wins.
+ * Imports run one at a time; progress is polled through getJob.
+ */
+@Service
+public class TenantImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TenantImportService.class);
+    private static final String SERVICE_NAME = "rentwise-tenant-service";
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final String[] QUERY_SPACES = {"tenants"};
+    private static final String INSERT_SQL = "INSERT INTO tenants (first_name, last_name, email, phone, date_of_birth, "
+            + "emergency_contact, emergency_phone, user_id, property_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private TenantService tenantService;
+    
+    @Autowired
+    private TenantRepository tenantRepository;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${tenant.import.chunk-bytes:8388608}")
+    private int chunkBytes;
+    
+    @Value("${tenant.import.batch-size:1000}")
+    private int batchSize;
+    
+    private final int parseThreads;
+    private final ExecutorService parseExecutor;
+    private final ExecutorService importExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tenant-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+    
+    public TenantImportService(@Value("${tenant.import.parse-threads:0}") int parseThreads) {
+        this.parseThreads = parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors();
+        this.parseExecutor = Executors.newFixedThreadPool(this.parseThreads, runnable -> {
+            Thread thread = new Thread(runnable, "tenant-import-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdownNow();
+        parseExecutor.shutdownNow();
+    }
+    
+    /**
+     * Stores the upload in a temporary file and queues the import.
+     * @param format CSV or JSON; inferred from the file extension when null
+     */
+    public ImportJob startImport(MultipartFile file, String format) throws IOException {
+        logger.info("[{}] [TenantImportService] [startImport] START - File: {}, Size: {} bytes", 
+                SERVICE_NAME, file.getOriginalFilename(), file.getSize());
+        try {
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            String resolvedFormat = resolveFormat(file.getOriginalFilename(), format);
+            Path upload = Files.createTempFile("tenant-import-", "." + resolvedFormat.toLowerCase(Locale.ROOT));
+            file.transferTo(upload);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), resolvedFormat);
+            jobs.put(job.getId(), job);
+            importExecutor.submit(() -> runImport(job, upload));
+            logger.info("[{}] [TenantImportService] [startImport] SUCCESS - Queued import job: {}", SERVICE_NAME, job.getId());
+            return job;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantImportService] [startImport] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public ImportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+    
+    private void runImport(ImportJob job, Path upload) {
+        logger.info("[{}] [TenantImportService] [runImport] START - Job: {}, Format: {}", SERVICE_NAME, job.getId(), job.getFormat());
+        job.setState("RUNNING");
+        job.setStartedAt(LocalDateTime.now());
+        Deque<Future<ParsedChunk>> pending = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(upload, StandardOpenOption.READ);
+             Connection connection = dataSource.getConnection()) {
+            job.setTotalBytes(channel.size());
+            long dataStart = 0;
+            RowParser parser;
+            if ("CSV".equals(job.getFormat())) {
+                int headerLength = MappedLineReader.firstLineLength(channel);
+                ByteBuffer header = ByteBuffer.allocate(headerLength);
+                channel.read(header, 0);
+                int headerStart = headerLength >= 3 && header.get(0) == (byte) 0xEF && header.get(1) == (byte) 0xBB 
+                        && header.get(2) == (byte) 0xBF ? 3 : 0; // UTF-8 byte order mark
+                int headerEnd = headerLength;
+                while (headerEnd > headerStart && (header.get(headerEnd - 1) == '\n' || header.get(headerEnd - 1) == '\r')) {
+                    headerEnd--;
+                }
+                parser = csvParser(new CsvLine().split(header, headerStart, headerEnd));
+                dataStart = headerLength;
+                job.setProcessedBytes(headerLength);
+            } else {
+                parser = jsonParser(objectMapper.readerFor(Tenant.class));
+            }
+            List<MappedLineReader.Chunk> chunks = MappedLineReader.split(channel, dataStart, chunkBytes);
+            long lineBase = dataStart > 0 ? 1 : 0; // Lines before the chunk being consumed
+            int nextChunk = 0;
+            List<Tenant> batch = new ArrayList<>(batchSize);
+            List<Long> batchLines = new ArrayList<>(batchSize);
+            Set<String> seenEmails = new HashSet<>();
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                while (nextChunk < chunks.size() || !pending.isEmpty()) {
+                    // Keep a bounded number of chunks parsing ahead of the inserts
+                    while (nextChunk < chunks.size() && pending.size() < parseThreads * 2) {
+                        MappedLineReader.Chunk chunk = chunks.get(nextChunk++);
+                        pending.add(parseExecutor.submit(() -> parseChunk(channel, chunk, parser)));
+                    }
+                    ParsedChunk parsed = pending.poll().get();
+                    for (int i = 0; i < parsed.rows.size(); i++) {
+                        Tenant tenant = parsed.rows.get(i);
+                        long line = lineBase + parsed.rowLines.get(i) + 1;
+                        if (!seenEmails.add(tenant.getEmail().toLowerCase(Locale.ROOT))) {
+                            job.reject(line, "Duplicate email in file: " + tenant.getEmail());
+                            continue;
+                        }
+                        batch.add(tenant);
+                        batchLines.add(line);
+                        if (batch.size() == batchSize) {
+                            insertBatch(connection, insert, batch, batchLines, job);
+                        }
+                    }
+                    for (int i = 0; i < parsed.errorLines.size(); i++) {
+                        job.reject(lineBase + parsed.errorLines.get(i) + 1, parsed.errorMessages.get(i));
+                    }
+                    job.setRowsParsed(job.getRowsParsed() + parsed.rows.size());
+                    job.setProcessedBytes(job.getProcessedBytes() + parsed.bytes);
+                    lineBase += parsed.lineCount;
+                    logger.info("[{}] [TenantImportService] [runImport] PROGRESS - Job: {}, {}% - {} inserted, {} rejected", 
+                            SERVICE_NAME, job.getId(), Math.round(job.getPercentComplete()), job.getRowsInserted(), job.getRowsRejected());
+                }
+                if (!batch.isEmpty()) {
+                    insertBatch(connection, insert, batch, batchLines, job);
+                }
+            }
+            job.setState("COMPLETED");
+            logger.info("[{}] [TenantImportService] [runImport] SUCCESS - Job: {}, {} inserted, {} rejected, {} rows/s", 
+                    SERVICE_NAME, job.getId(), job.getRowsInserted(), job.getRowsRejected(), job.getRowsPerSecond());
+        } catch (Exception e) {
+            pending.forEach(future -> future.cancel(true));
+            job.setState("FAILED");
+            job.setFailureMessage(e.getMessage());
+            logger.error("[{}] [TenantImportService] [runImport] ERROR - Job: {} - {}", SERVICE_NAME, job.getId(), e.getMessage(), e);
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                logger.warn("[{}] [TenantImportService] [runImport] Could not delete upload {}: {}", SERVICE_NAME, upload, e.getMessage());
+            }
+        }
+    }
+    
+    private ParsedChunk parseChunk(FileChannel channel, MappedLineReader.Chunk chunk, RowParser parser) throws IOException {
+        ParsedChunk parsed = new ParsedChunk();
+        CsvLine csv = new CsvLine();
+        parsed.bytes = chunk.getLength();
+        parsed.lineCount = MappedLineReader.forEachLine(channel, chunk, (buffer, start, end, lineIndex) -> {
+            try {
+                Tenant tenant = parser.parse(buffer, start, end, csv);
+                if (tenant != null) {
+                    validate(tenant);
+                    parsed.rows.add(tenant);
+                    parsed.rowLines.add(lineIndex);
+                }
+            } catch (IllegalArgumentException e) {
+                parsed.errorLines.add(lineIndex);
+                parsed.errorMessages.add(e.getMessage());
+            }
+        });
+        return parsed;
+    }
+    
+    private void insertBatch(Connection connection, PreparedStatement insert, List<Tenant> batch, List<Long> batchLines, 
+                             ImportJob job) throws SQLException {
+        List<String> emails = new ArrayList<>(batch.size());
+        for (Tenant tenant : batch) {
+            emails.add(tenant.getEmail());
+        }
+        Set<String> taken = new HashSet<>();
+        for (String email : tenantRepository.findExistingEmails(emails)) {
+            taken.add(email.toLowerCase(Locale.ROOT)); // The unique index compares case-insensitively
+        }
+        List<Tenant> accepted = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Tenant tenant = batch.get(i);
+            if (taken.contains(tenant.getEmail().toLowerCase(Locale.ROOT))) {
+                job.reject(batchLines.get(i), "Email already exists: " + tenant.getEmail());
+            } else {
+                accepted.add(tenant);
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+        if (accepted.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        updateQueryCacheTimestamps(false);
+        try {
+            for (Tenant tenant : accepted) {
+                insert.setString(1, tenant.getFirstName());
+                insert.setString(2, tenant.getLastName());
+                insert.setString(3, tenant.getEmail());
+                insert.setString(4, tenant.getPhone());
+                setNullable(insert, 5, tenant.getDateOfBirth() != null ? Date.valueOf(tenant.getDateOfBirth()) : null, Types.DATE);
+                insert.setString(6, tenant.getEmergencyContact());
+                insert.setString(7, tenant.getEmergencyPhone());
+                setNullable(insert, 8, tenant.getUserId(), Types.BIGINT);
+                setNullable(insert, 9, tenant.getPropertyId(), Types.BIGINT);
+                insert.setTimestamp(10, timestamp);
+                insert.setTimestamp(11, timestamp);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            // Batched rows get consecutive auto-increment ids, returned in insert order
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < accepted.size()) {
+                    accepted.get(i++).setId(keys.getLong(1));
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            updateQueryCacheTimestamps(true);
+        }
+        for (Tenant tenant : accepted) {
+            tenant.setCreatedAt(now);
+            tenant.setUpdatedAt(now);
+            tenantService.indexNewTenant(tenant);
+        }
+        job.setRowsInserted(job.getRowsInserted() + accepted.size());
+    }
+    
+    /**
+     * Rows are written around Hibernate, so each batch keeps the query cache in step the way
+     * Hibernate's own bulk updates do: before the batch the tenants table is pre-invalidated, so no
+     * result read meanwhile gets cached, and once it commits (or rolls back) the table's update
+     * timestamp is bumped, so results cached before the commit, such as a duplicate-email or
+     * listing query, are stale from then on rather than only when the import ends.
+     */
+    private void updateQueryCacheTimestamps(boolean completed) {
+        try {
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            TimestampsCache timestamps = sessionFactory.getCache().getTimestampsCache();
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                if (completed) {
+                    timestamps.invalidate(QUERY_SPACES, (SharedSessionContractImplementor) session);
+                } else {
+                    timestamps.preInvalidate(QUERY_SPACES, (SharedSessionContractImplementor) session);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("[{}] [TenantImportService] [updateQueryCacheTimestamps] Could not update query cache timestamps: {}", SERVICE_NAME, e.getMessage());
+        }
+    }
+    
+    private static void validate(Tenant tenant) {
+        if (tenant.getEmail() == null || tenant.getEmail().isBlank()) {
+            throw new IllegalArgumentException("email is required");
+        }
+        tenant.setEmail(tenant.getEmail().trim());
+        if (tenant.getEmail().indexOf('@') < 1) {
+            throw new IllegalArgumentException("Invalid email: " + tenant.getEmail());
+        }
+    }
+    
+    private static String resolveFormat(String fileName, String format) {
+        String resolved = format;
+        if (resolved == null || resolved.isBlank()) {
+            String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".csv")) {
+                resolved = "CSV";
+            } else if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                resolved = "JSON";
+            } else {
+                throw new IllegalArgumentException("Cannot infer the format of " + fileName + "; pass format=CSV or format=JSON");
+            }
+        }
+        resolved = resolved.toUpperCase(Locale.ROOT);
+        if (!resolved.equals("CSV") && !resolved.equals("JSON")) {
+            throw new IllegalArgumentException("Format must be CSV or JSON");
+        }
+        return resolved;
+    }
+    
+    /** Binds CSV columns to Tenant setters by header name, ignoring case, '_', '-' and spaces. */
+    private static RowParser csvParser(List<String> header) {
+        List<BiConsumer<Tenant, String>> binders = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        boolean hasEmail = false;
+        for (String column : header) {
+            String key = column.toLowerCase(Locale.ROOT).replaceAll("[_\\- ]", "");
+            BiConsumer<Tenant, String> binder = switch (key) {
+                case "firstname" -> Tenant::setFirstName;
+                case "lastname" -> Tenant::setLastName;
+                case "email" -> Tenant::setEmail;
+                case "phone" -> Tenant::setPhone;
+                case "dob", "dateofbirth" -> (t, v) -> t.setDateOfBirth(LocalDate.parse(v));
+                case "emergencycontact" -> Tenant::setEmergencyContact;
+                case "emergencyphone" -> Tenant::setEmergencyPhone;
+                case "userid" -> (t, v) -> t.setUserId(Long.valueOf(v));
+                case "propertyid" -> (t, v) -> t.setPropertyId(Long.valueOf(v));
+                default -> null; // Unknown columns are ignored
+            };
+            hasEmail |= "email".equals(key);
+            binders.add(binder);
+            columns.add(column);
+        }
+        if (!hasEmail) {
+            throw new IllegalArgumentException("CSV header must include an email column");
+        }
+        return (buffer, start, end, csv) -> {
+            if (start == end) {
+                return null;
+            }
+            List<String> fields = csv.split(buffer, start, end);
+            Tenant tenant = new Tenant();
+            for (int i = 0; i < fields.size() && i < binders.size(); i++) {
+                BiConsumer<Tenant, String> binder = binders.get(i);
+                String value = fields.get(i);
+                if (binder == null || value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    binder.accept(tenant, value);
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid " + columns.get(i) + ": " + value);
+                }
+            }
+            return tenant;
+        };
+    }
+    
+    private static RowParser jsonParser(ObjectReader reader) {
+        return (buffer, start, end, csv) -> {
+            while (start < end && Character.isWhitespace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && (Character.isWhitespace(buffer.get(end - 1)) || buffer.get(end - 1) == ',')) {
+                end--;
+            }
+            if (start < end && buffer.get(start) == '[') {
+                start++;
+            }
+            if (end > start && buffer.get(end - 1) == ']') {
+                end--;
+            }
+            if (start >= end) {
+                return null; // Blank line or the brackets of a top-level array
+            }
+            byte[] line = new byte[end - start];
+            buffer.get(start, line);
+            try {
+                Tenant tenant = reader.readValue(line);
+                tenant.setId(null);
+                return tenant;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getMessage());
+            }
+        };
+    }
+    
+    private static void setNullable(PreparedStatement statement, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value, sqlType);
+        }
+    }
+    
+    /** Parses one line; returns null for lines that hold no row. */
+    private interface RowParser {
+        Tenant parse(ByteBuffer buffer, int start, int end, CsvLine csv);
+    }
+    
+    private static final class ParsedChunk {
+        final List<Tenant> rows = new ArrayList<>();
+        final List<Integer> rowLines = new ArrayList<>();
+        final List<Integer> errorLines = new ArrayList<>();
+        final List<String> errorMessages = new ArrayList<>();
+        int lineCount;
+        int bytes;
+    }
+}
@@ -0,0 +1,132 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.tenant.model.TenantRequest;
+import com.rentwise.tenant.model.TenantRequestArchive;
+import com.rentwise.tenant.repository.TenantRequestArchiveRepository;
+import com.rentwise.tenant.repository.TenantRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Moves resolved tenant requests older than the retention window out of tenant_requests
+ * and into tenant_requests_archive, keeping the hot table small for pending/user lookups.
+ * Work is done in small batches, each in its own transaction, with a pause in between so
+ * the job never holds long locks or saturates MySQL.
+ */
+@Service
+public class TenantRequestArchiveService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TenantRequestArchiveService.class);
+    private static final String SERVICE_NAME = "rentwise-tenant-service";
+    
+    @Autowired
+    private TenantRequestRepository tenantRequestRepository;
+    
+    @Autowired
+    private TenantRequestArchiveRepository tenantRequestArchiveRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private TenantSearchService tenantSearchService;
+    
+    @Value("${tenant.requests.archive.enabled:true}")
+    private boolean archiveEnabled;
+    
+    @Value("${tenant.requests.archive.retention-days:90}")
+    private int retentionDays;
+    
+    @Value("${tenant.requests.archive.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${tenant.requests.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+    
+    @Value("${tenant.requests.archive.pause-millis:200}")
+    private long pauseMillis;
+    
+    @Scheduled(initialDelayString = "${tenant.requests.archive.initial-delay-ms:60000}",
+               fixedDelayString = "${tenant.requests.archive.interval-ms:3600000}")
+    public void archiveResolvedRequests() {
+        if (!archiveEnabled) {
+            return;
+        }
+        logger.info("[{}] [TenantRequestArchiveService] [archiveResolvedRequests] START - Retention: {} days", 
+                SERVICE_NAME, retentionDays);
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            int total = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                total += moved != null ? moved : 0;
+                if (moved == null || moved < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+            logger.info("[{}] [TenantRequestArchiveService] [archiveResolvedRequests] SUCCESS - Archived {} requests", 
+                    SERVICE_NAME, total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("[{}] [TenantRequestArchiveService] [archiveResolvedRequests] Interrupted", SERVICE_NAME);
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestArchiveService] [archiveResolvedRequests] ERROR - {}", 
+                    SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = tenantRequestRepository.findArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        tenantRequestArchiveRepository.copyFromTenantRequests(ids, LocalDateTime.now());
+        tenantRequestRepository.deleteByIdIn(ids);
+        tenantSearchService.removeTenantRequests(ids);
+        logger.debug("[{}] [TenantRequestArchiveService] [archiveBatch] Moved {} requests (IDs {}..{})", 
+                SERVICE_NAME, ids.size(), ids.get(0), ids.get(ids.size() - 1));
+        return ids.size();
+    }
+    
+    public List<TenantRequest> getArchivedRequestsByUser(Long userId) {
+        logger.info("[{}] [TenantRequestArchiveService] [getArchivedRequestsByUser] START - User ID: {}", SERVICE_NAME, userId);
+        try {
+            List<TenantRequest> requests = tenantRequestArchiveRepository.findByRequestedByUserId(userId).stream()
+                    .map(TenantRequestArchive::toTenantRequest)
+                    .collect(Collectors.toList());
+            logger.info("[{}] [TenantRequestArchiveService] [getArchivedRequestsByUser] SUCCESS - Found {} archived requests", 
+                    SERVICE_NAME, requests.size());
+            return requests;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestArchiveService] [getArchivedRequestsByUser] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public List<TenantRequest> getAllArchivedRequests() {
+        logger.info("[{}] [TenantRequestArchiveService] [getAllArchivedRequests] START", SERVICE_NAME);
+        try {
+            List<TenantRequest> requests = tenantRequestArchiveRepository.findAll().stream()
+                    .map(TenantRequestArchive::toTenantRequest)
+                    .collect(Collectors.toList());
+            logger.info("[{}] [TenantRequestArchiveService] [getAllArchivedRequests] SUCCESS - Found {} archived requests", 
+                    SERVICE_NAME, requests.size());
+            return requests;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestArchiveService] [getAllArchivedRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
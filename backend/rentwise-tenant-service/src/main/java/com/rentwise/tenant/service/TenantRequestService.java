@@ -10,8 +10,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -29,6 +33,21 @@ public class TenantRequestService {
     @Autowired
     private RabbitTemplate rabbitTemplate;
     
+    @Autowired
+    private TenantRequestArchiveService tenantRequestArchiveService;
+    
+    @Autowired
+    private TenantSearchService tenantSearchService;
+    
+    @Autowired
+    private OccupancyService occupancyService;
+    
+    @Value("${tenant.requests.claim.lease-seconds:300}")
+    private long claimLeaseSeconds;
+    
+    @Value("${tenant.requests.claim.max-batch-size:50}")
+    private int claimMaxBatchSize;
+    
     public TenantRequest createTenantRequest(TenantRequest request) throws Exception {
         logger.info("[{}] [TenantRequestService] [createTenantRequest] START - Email: {}", SERVICE_NAME, request.getEmail());
         try {
@@ -51,6 +70,7 @@ public class TenantRequestService {
             
             request.setStatus("PENDING");
             TenantRequest saved = tenantRequestRepository.save(request);
+            tenantSearchService.indexTenantRequest(saved);
             
             // Publish event to RabbitMQ
             try {
@@ -84,9 +104,17 @@ public class TenantRequestService {
     }
     
     public List<TenantRequest> getAllTenantRequests() {
-        logger.info("[{}] [TenantRequestService] [getAllTenantRequests] START", SERVICE_NAME);
+        return getAllTenantRequests(false);
+    }
+    
+    // Archived (resolved, past retention) requests are only read when history is asked for
+    public List<TenantRequest> getAllTenantRequests(boolean includeHistory) {
+        logger.info("[{}] [TenantRequestService] [getAllTenantRequests] START - Include history: {}", SERVICE_NAME, includeHistory);
         try {
-            List<TenantRequest> requests = tenantRequestRepository.findAll();
+            List<TenantRequest> requests = new ArrayList<>(tenantRequestRepository.findAll());
+            if (includeHistory) {
+                requests.addAll(tenantRequestArchiveService.getAllArchivedRequests());
+            }
             logger.info("[{}] [TenantRequestService] [getAllTenantRequests] SUCCESS - Found {} requests", 
                     SERVICE_NAME, requests.size());
             return requests;
@@ -97,9 +125,17 @@ public class TenantRequestService {
     }
     
     public List<TenantRequest> getTenantRequestsByUser(Long userId) {
-        logger.info("[{}] [TenantRequestService] [getTenantRequestsByUser] START - User ID: {}", SERVICE_NAME, userId);
+        return getTenantRequestsByUser(userId, false);
+    }
+    
+    public List<TenantRequest> getTenantRequestsByUser(Long userId, boolean includeHistory) {
+        logger.info("[{}] [TenantRequestService] [getTenantRequestsByUser] START - User ID: {}, Include history: {}", 
+                SERVICE_NAME, userId, includeHistory);
         try {
-            List<TenantRequest> requests = tenantRequestRepository.findByRequestedByUserId(userId);
+            List<TenantRequest> requests = new ArrayList<>(tenantRequestRepository.findByRequestedByUserId(userId));
+            if (includeHistory) {
+                requests.addAll(tenantRequestArchiveService.getArchivedRequestsByUser(userId));
+            }
             logger.info("[{}] [TenantRequestService] [getTenantRequestsByUser] SUCCESS - Found {} requests for user {}", 
                     SERVICE_NAME, requests.size(), userId);
             return requests;
@@ -122,15 +158,98 @@ public class TenantRequestService {
         }
     }
     
-    public TenantRequest approveTenantRequest(Long requestId) throws Exception {
+    /**
+     * The pending requests whose lease the admin currently holds. Read-only: leases are neither
+     * taken nor renewed here, that is what {@link #claimPendingTenantRequests} is for.
+     */
+    @Transactional(readOnly = true)
+    public List<TenantRequest> getClaimedTenantRequests(Long adminId) {
+        logger.info("[{}] [TenantRequestService] [getClaimedTenantRequests] START - Admin ID: {}", SERVICE_NAME, adminId);
+        try {
+            List<TenantRequest> requests = tenantRequestRepository
+                    .findByStatusAndClaimedByAndClaimExpiresAtAfterOrderByIdAsc("PENDING", adminId, LocalDateTime.now());
+            logger.info("[{}] [TenantRequestService] [getClaimedTenantRequests] SUCCESS - Admin {} holds {} requests",
+                    SERVICE_NAME, adminId, requests.size());
+            return requests;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestService] [getClaimedTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Hands the admin up to {@code batchSize} pending requests to review. Leases the admin
+     * already holds are renewed first; the slice is then topped up with unclaimed rows using
+     * SELECT ... FOR UPDATE SKIP LOCKED, so concurrent admins never receive the same request.
+     */
+    @Transactional
+    public List<TenantRequest> claimPendingTenantRequests(Long adminId, int batchSize) {
+        logger.info("[{}] [TenantRequestService] [claimPendingTenantRequests] START - Admin ID: {}, Batch size: {}", 
+                SERVICE_NAME, adminId, batchSize);
+        try {
+            int limit = Math.max(1, Math.min(batchSize, claimMaxBatchSize));
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plusSeconds(claimLeaseSeconds);
+            
+            List<TenantRequest> claimed = new ArrayList<>(tenantRequestRepository
+                    .findByStatusAndClaimedByAndClaimExpiresAtAfterOrderByIdAsc("PENDING", adminId, now));
+            int remaining = limit - claimed.size();
+            if (remaining > 0) {
+                claimed.addAll(tenantRequestRepository.lockUnclaimedPending(now, remaining));
+            }
+            
+            for (TenantRequest request : claimed) {
+                request.setClaimedBy(adminId);
+                request.setClaimExpiresAt(expiresAt);
+            }
+            List<TenantRequest> saved = tenantRequestRepository.saveAll(claimed);
+            
+            logger.info("[{}] [TenantRequestService] [claimPendingTenantRequests] SUCCESS - Admin {} holds {} requests until {}", 
+                    SERVICE_NAME, adminId, saved.size(), expiresAt);
+            return saved;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestService] [claimPendingTenantRequests] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    @Transactional
+    public int releaseTenantRequestClaims(Long adminId) {
+        logger.info("[{}] [TenantRequestService] [releaseTenantRequestClaims] START - Admin ID: {}", SERVICE_NAME, adminId);
+        try {
+            int released = tenantRequestRepository.releaseClaims(adminId);
+            logger.info("[{}] [TenantRequestService] [releaseTenantRequestClaims] SUCCESS - Released {} requests", 
+                    SERVICE_NAME, released);
+            return released;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantRequestService] [releaseTenantRequestClaims] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    private void checkClaim(TenantRequest request, Long adminId) throws Exception {
+        if (adminId == null) {
+            throw new Exception("Admin id is required to approve or reject a tenant request");
+        }
+        if (request.getClaimedBy() == null || adminId.equals(request.getClaimedBy())) {
+            return;
+        }
+        if (request.getClaimExpiresAt() != null && request.getClaimExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new Exception("Tenant request is claimed by another admin");
+        }
+    }
+    
+    @Transactional(rollbackFor = Exception.class)
+    public TenantRequest approveTenantRequest(Long requestId, Long adminId) throws Exception {
         logger.info("[{}] [TenantRequestService] [approveTenantRequest] START - Request ID: {}", SERVICE_NAME, requestId);
         try {
-            TenantRequest request = tenantRequestRepository.findById(requestId)
+            TenantRequest request = tenantRequestRepository.findByIdForUpdate(requestId)
                     .orElseThrow(() -> new Exception("Tenant request not found"));
             
             if (!"PENDING".equals(request.getStatus())) {
                 throw new Exception("Only pending requests can be approved");
             }
+            checkClaim(request, adminId);
             
             // Create tenant from request
             Tenant tenant = new Tenant();
@@ -146,12 +265,17 @@ public class TenantRequestService {
             }
             
             Tenant savedTenant = tenantRepository.save(tenant);
+            tenantSearchService.indexTenant(savedTenant);
+            occupancyService.onTenantCreated(savedTenant);
             logger.info("[{}] [TenantRequestService] [approveTenantRequest] Tenant created with ID: {}", 
                     SERVICE_NAME, savedTenant.getId());
             
             // Update request status
             request.setStatus("APPROVED");
+            request.setClaimedBy(null);
+            request.setClaimExpiresAt(null);
             TenantRequest updated = tenantRequestRepository.save(request);
+            tenantSearchService.indexTenantRequest(updated);
             
             // Publish event to RabbitMQ
             try {
@@ -183,18 +307,23 @@ public class TenantRequestService {
         }
     }
     
-    public TenantRequest rejectTenantRequest(Long requestId) throws Exception {
+    @Transactional(rollbackFor = Exception.class)
+    public TenantRequest rejectTenantRequest(Long requestId, Long adminId) throws Exception {
         logger.info("[{}] [TenantRequestService] [rejectTenantRequest] START - Request ID: {}", SERVICE_NAME, requestId);
         try {
-            TenantRequest request = tenantRequestRepository.findById(requestId)
+            TenantRequest request = tenantRequestRepository.findByIdForUpdate(requestId)
                     .orElseThrow(() -> new Exception("Tenant request not found"));
             
             if (!"PENDING".equals(request.getStatus())) {
                 throw new Exception("Only pending requests can be rejected");
             }
+            checkClaim(request, adminId);
             
             request.setStatus("REJECTED");
+            request.setClaimedBy(null);
+            request.setClaimExpiresAt(null);
             TenantRequest updated = tenantRequestRepository.save(request);
+            tenantSearchService.indexTenantRequest(updated);
             
             // Publish event to RabbitMQ
             try {
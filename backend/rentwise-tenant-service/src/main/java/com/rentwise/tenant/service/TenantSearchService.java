@@ -0,0 +1,165 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.tenant.model.Tenant;
+import com.rentwise.tenant.model.TenantRequest;
+import com.rentwise.tenant.model.TenantSearchResult;
+import com.rentwise.tenant.repository.TenantRepository;
+import com.rentwise.tenant.repository.TenantRequestRepository;
+import com.rentwise.tenant.search.NGramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves tenant and tenant-request search from in-memory trigram indexes. The indexes are
+ * loaded page by page once the application is ready and are then kept current by
+ * TenantService and TenantRequestService on every write they make. Writes made inside a
+ * transaction reach the index only once it commits, so a rolled-back write is never searchable.
+ */
+@Service
+public class TenantSearchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TenantSearchService.class);
+    private static final String SERVICE_NAME = "rentwise-tenant-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+    
+    @Autowired
+    private TenantRepository tenantRepository;
+    
+    @Autowired
+    private TenantRequestRepository tenantRequestRepository;
+    
+    private final NGramIndex<TenantSearchResult> tenantIndex;
+    private final NGramIndex<TenantSearchResult> requestIndex;
+    
+    public TenantSearchService(@Value("${tenant.search.min-match-ratio:0.6}") double minMatchRatio) {
+        this.tenantIndex = new NGramIndex<>(minMatchRatio);
+        this.requestIndex = new NGramIndex<>(minMatchRatio);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        logger.info("[{}] [TenantSearchService] [buildIndexes] START", SERVICE_NAME);
+        try {
+            long start = System.currentTimeMillis();
+            tenantIndex.clear();
+            requestIndex.clear();
+            Page<Tenant> tenants;
+            int page = 0;
+            do {
+                tenants = tenantRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                tenants.forEach(this::indexTenant);
+            } while (tenants.hasNext());
+            Page<TenantRequest> requests;
+            page = 0;
+            do {
+                requests = tenantRequestRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                requests.forEach(this::indexTenantRequest);
+            } while (requests.hasNext());
+            logger.info("[{}] [TenantSearchService] [buildIndexes] SUCCESS - Indexed {} tenants and {} requests in {} ms", 
+                    SERVICE_NAME, tenantIndex.stats().getLiveDocuments(), requestIndex.stats().getLiveDocuments(), 
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[{}] [TenantSearchService] [buildIndexes] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+    
+    public void indexTenant(Tenant tenant) {
+        Long id = tenant.getId();
+        TenantSearchResult value = TenantSearchResult.of(tenant);
+        String[] fields = {tenant.getFirstName(), tenant.getLastName(), tenant.getEmail(), digitsOf(tenant.getPhone())};
+        afterCommit(() -> tenantIndex.put(id, value, fields));
+    }
+    
+    public void removeTenant(Long tenantId) {
+        afterCommit(() -> tenantIndex.remove(tenantId));
+    }
+    
+    public void indexTenantRequest(TenantRequest request) {
+        Long id = request.getId();
+        TenantSearchResult value = TenantSearchResult.of(request);
+        String[] fields = {request.getFirstName(), request.getLastName(), request.getEmail(), digitsOf(request.getPhone())};
+        afterCommit(() -> requestIndex.put(id, value, fields));
+    }
+    
+    public void removeTenantRequests(Collection<Long> requestIds) {
+        List<Long> ids = new ArrayList<>(requestIds);
+        afterCommit(() -> {
+            for (Long requestId : ids) {
+                requestIndex.remove(requestId);
+            }
+        });
+    }
+    
+    /**
+     * Prefix/fuzzy search over names, emails and phone numbers.
+     * @param type TENANT, REQUEST, or null for both
+     */
+    public List<TenantSearchResult> search(String query, String type, int limit) {
+        logger.info("[{}] [TenantSearchService] [search] START - Query: {}, Type: {}, Limit: {}", SERVICE_NAME, query, type, limit);
+        try {
+            List<TenantSearchResult> results = new ArrayList<>();
+            if (type == null || "TENANT".equalsIgnoreCase(type)) {
+                for (NGramIndex.Hit<TenantSearchResult> hit : tenantIndex.search(query, limit)) {
+                    results.add(hit.getValue().withScore(hit.getScore()));
+                }
+            }
+            if (type == null || "REQUEST".equalsIgnoreCase(type)) {
+                for (NGramIndex.Hit<TenantSearchResult> hit : requestIndex.search(query, limit)) {
+                    results.add(hit.getValue().withScore(hit.getScore()));
+                }
+            }
+            results.sort(Comparator.comparingDouble(TenantSearchResult::getScore).reversed());
+            if (results.size() > limit) {
+                results = new ArrayList<>(results.subList(0, limit));
+            }
+            logger.info("[{}] [TenantSearchService] [search] SUCCESS - Found {} results", SERVICE_NAME, results.size());
+            return results;
+        } catch (Exception e) {
+            logger.error("[{}] [TenantSearchService] [search] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    public Map<String, NGramIndex.Stats> getIndexStats() {
+        Map<String, NGramIndex.Stats> stats = new LinkedHashMap<>();
+        stats.put("tenants", tenantIndex.stats());
+        stats.put("requests", requestIndex.stats());
+        return stats;
+    }
+    
+    // The entity is snapshotted by the caller; only applying it to the index waits for the commit
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+    
+    // Phone numbers are indexed as one digit run so "555-1234" and "5551234" match each other
+    private static String digitsOf(String phone) {
+        return phone != null ? phone.replaceAll("\\D", "") : null;
+    }
+}
@@ -1,13 +1,17 @@
 package com.rentwise.tenant.service;
 
+import com.rentwise.tenant.model.OccupancySummary;
 import com.rentwise.tenant.model.Tenant;
+import com.rentwise.tenant.model.UserRegisteredEvent;
 import com.rentwise.tenant.repository.TenantRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TenantService {
@@ -18,6 +22,12 @@ public class TenantService {
     @Autowired
     private TenantRepository tenantRepository;
     
+    @Autowired
+    private TenantSearchService tenantSearchService;
+    
+    @Autowired
+    private OccupancyService occupancyService;
+    
     public List<Tenant> getAllTenants() {
         logger.info("[{}] [TenantService] [getAllTenants] START - Fetching all tenants", SERVICE_NAME);
         try {
@@ -56,6 +66,7 @@ public class TenantService {
                 throw new Exception("Email already exists");
             }
             Tenant savedTenant = tenantRepository.save(tenant);
+            indexNewTenant(savedTenant);
             logger.info("[{}] [TenantService] [createTenant] SUCCESS - Tenant created with ID: {}", SERVICE_NAME, savedTenant.getId());
             return savedTenant;
         } catch (Exception e) {
@@ -65,13 +76,69 @@ public class TenantService {
         }
     }
     
+    /**
+     * Creates the tenant record for a newly registered USER. Idempotent, since the event may be
+     * delivered more than once: a tenant already linked to the user means it was done, and an
+     * unlinked tenant with the same email is linked instead of duplicated.
+     * @return the user's tenant, or null for roles that have none
+     */
+    public Tenant createTenantForUser(UserRegisteredEvent event) {
+        logger.info("[{}] [TenantService] [createTenantForUser] START - User ID: {}, Event ID: {}", 
+                SERVICE_NAME, event.getUserId(), event.getEventId());
+        if (!"USER".equalsIgnoreCase(event.getRole())) {
+            logger.debug("[{}] [TenantService] [createTenantForUser] Skipping role: {}", SERVICE_NAME, event.getRole());
+            return null;
+        }
+        List<Tenant> linked = tenantRepository.findByUserId(event.getUserId());
+        if (!linked.isEmpty()) {
+            logger.info("[{}] [TenantService] [createTenantForUser] Already processed - Tenant ID: {}", SERVICE_NAME, linked.get(0).getId());
+            return linked.get(0);
+        }
+        Tenant sameEmail = tenantRepository.findByEmail(event.getEmail()).orElse(null);
+        if (sameEmail != null) {
+            return linkToUser(sameEmail, event.getUserId());
+        }
+        Tenant tenant = new Tenant(event.getUsername(), "", event.getEmail(), ""); // Username as firstName until the profile is filled in
+        tenant.setUserId(event.getUserId());
+        try {
+            Tenant savedTenant = tenantRepository.save(tenant);
+            indexNewTenant(savedTenant);
+            logger.info("[{}] [TenantService] [createTenantForUser] SUCCESS - Tenant created with ID: {}", SERVICE_NAME, savedTenant.getId());
+            return savedTenant;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent delivery of the same event inserted it first
+            Tenant existing = tenantRepository.findByEmail(event.getEmail()).orElseThrow(() -> e);
+            return linkToUser(existing, event.getUserId());
+        }
+    }
+    
+    private Tenant linkToUser(Tenant tenant, Long userId) {
+        if (userId.equals(tenant.getUserId())) {
+            return tenant;
+        }
+        if (tenant.getUserId() != null) {
+            throw new IllegalStateException("Email " + tenant.getEmail() + " already belongs to the tenant of user " + tenant.getUserId());
+        }
+        tenant.setUserId(userId);
+        Tenant linked = tenantRepository.save(tenant);
+        tenantSearchService.indexTenant(linked);
+        occupancyService.onTenantMoved(null, tenant.getPropertyId(), linked);
+        logger.info("[{}] [TenantService] [createTenantForUser] SUCCESS - Linked existing tenant ID: {} to user ID: {}", 
+                SERVICE_NAME, linked.getId(), userId);
+        return linked;
+    }
+    
     public Tenant updateTenant(Long id, Tenant tenant) {
         logger.info("[{}] [TenantService] [updateTenant] START - Updating tenant with ID: {}", SERVICE_NAME, id);
         try {
             Tenant existing = tenantRepository.findById(id).orElse(null);
             if (existing != null) {
+                Long oldUserId = existing.getUserId();
+                Long oldPropertyId = existing.getPropertyId();
                 tenant.setId(id);
                 Tenant updated = tenantRepository.save(tenant);
+                tenantSearchService.indexTenant(updated);
+                occupancyService.onTenantMoved(oldUserId, oldPropertyId, updated);
                 logger.info("[{}] [TenantService] [updateTenant] SUCCESS - Tenant updated with ID: {}", SERVICE_NAME, id);
                 return updated;
             }
@@ -87,7 +154,12 @@ public class TenantService {
     public void deleteTenant(Long id) {
         logger.info("[{}] [TenantService] [deleteTenant] START - Deleting tenant with ID: {}", SERVICE_NAME, id);
         try {
+            Tenant existing = tenantRepository.findById(id).orElse(null);
             tenantRepository.deleteById(id);
+            tenantSearchService.removeTenant(id);
+            if (existing != null) {
+                occupancyService.onTenantDeleted(existing);
+            }
             logger.info("[{}] [TenantService] [deleteTenant] SUCCESS - Tenant deleted with ID: {}", SERVICE_NAME, id);
         } catch (Exception e) {
             logger.error("[{}] [TenantService] [deleteTenant] ERROR - Failed to delete tenant with ID: {} - Error: {}", 
@@ -122,6 +194,30 @@ public class TenantService {
         }
     }
     
+    public OccupancySummary getOccupancySummary() {
+        logger.info("[{}] [TenantService] [getOccupancySummary] START", SERVICE_NAME);
+        OccupancySummary summary = occupancyService.getSummary();
+        logger.info("[{}] [TenantService] [getOccupancySummary] SUCCESS - {} occupied properties, {} unassigned tenants", 
+                SERVICE_NAME, summary.getTenantsByProperty().size(), summary.getUnassignedTenants());
+        return summary;
+    }
+    
+    public Map<Long, Long> getTenantCountsByProperty() {
+        return occupancyService.getTenantCountsByProperty();
+    }
+    
+    public Map<Long, Long> getTenantCountsByOwner() {
+        return occupancyService.getTenantCountsByOwner();
+    }
+    
+    public long getTenantCountForProperty(Long propertyId) {
+        return occupancyService.getTenantCountForProperty(propertyId);
+    }
+    
+    public long getUnassignedTenantCount() {
+        return occupancyService.getUnassignedTenantCount();
+    }
+    
     public Tenant assignPropertyToTenant(Long tenantId, Long propertyId) throws Exception {
         logger.info("[{}] [TenantService] [assignPropertyToTenant] START - Tenant ID: {}, Property ID: {}", 
                 SERVICE_NAME, tenantId, propertyId);
@@ -131,8 +227,10 @@ public class TenantService {
                 logger.warn("[{}] [TenantService] [assignPropertyToTenant] Tenant not found with ID: {}", SERVICE_NAME, tenantId);
                 throw new Exception("Tenant not found with ID: " + tenantId);
             }
+            Long oldPropertyId = tenant.getPropertyId();
             tenant.setPropertyId(propertyId);
             Tenant updated = tenantRepository.save(tenant);
+            occupancyService.onTenantMoved(updated.getUserId(), oldPropertyId, updated);
             logger.info("[{}] [TenantService] [assignPropertyToTenant] SUCCESS - Property {} assigned to tenant {}", 
                     SERVICE_NAME, propertyId, tenantId);
             return updated;
@@ -141,5 +239,10 @@ public class TenantService {
             throw e;
         }
     }
+    
+    /** Adds a newly stored tenant to the search index and occupancy counts; shared with TenantImportService. */
+    void indexNewTenant(Tenant savedTenant) {
+        tenantSearchService.indexTenant(savedTenant);
+        occupancyService.onTenantCreated(savedTenant);
+    }
 }
-
@@ -0,0 +1,110 @@
+package com.rentwise.tenant.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NGramIndexTest {
+    
+    private static long gram(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+    
+    @Test
+    void tokenizerPadsEachTokenAndLowercases() {
+        long[] grams = NGramIndex.gramsOf(new String[] {"Jo"}, false);
+        assertArrayEquals(new long[] {gram(' ', ' ', 'j'), gram(' ', 'j', 'o')}, grams);
+    }
+    
+    @Test
+    void tokenizerSplitsOnNonAlphanumerics() {
+        long[] joined = NGramIndex.gramsOf(new String[] {"ann lee"}, false);
+        long[] separate = NGramIndex.gramsOf(new String[] {"ann", "lee"}, false);
+        assertArrayEquals(separate, joined);
+        assertArrayEquals(joined, NGramIndex.gramsOf(new String[] {"Ann.Lee"}, false));
+    }
+    
+    @Test
+    void tokenizerSkipsNullAndEmptyFields() {
+        assertEquals(0, NGramIndex.gramsOf(new String[] {null, "", "--"}, true).length);
+    }
+    
+    @Test
+    void tokenizerDeduplicatesRepeatedGrams() {
+        // "aaaa" pads to "  aaaa": "  a", " aa", then "aaa" twice
+        assertEquals(3, NGramIndex.gramsOf(new String[] {"aaaa"}, true).length);
+    }
+    
+    @Test
+    void prefixQueryFindsToken() {
+        NGramIndex<String> index = new NGramIndex<>(0.6);
+        index.put(1L, "john", "John", "Smith");
+        index.put(2L, "mary", "Mary", "Jones");
+        
+        List<NGramIndex.Hit<String>> hits = index.search("jo", 10);
+        
+        assertEquals(List.of(1L, 2L), hits.stream().map(NGramIndex.Hit::getId).toList());
+        assertEquals(1.0, hits.get(0).getScore());
+    }
+    
+    @Test
+    void fuzzyQueryToleratesTypoAboveThreshold() {
+        NGramIndex<String> index = new NGramIndex<>(0.6);
+        index.put(1L, "jonathan", "Jonathan");
+        
+        List<NGramIndex.Hit<String>> hits = index.search("jonathon", 10);
+        
+        assertEquals(1, hits.size());
+        assertTrue(hits.get(0).getScore() < 1.0);
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+    
+    @Test
+    void resultsAreRankedAndLimited() {
+        NGramIndex<String> index = new NGramIndex<>(0.5);
+        index.put(1L, "smithson", "Smithson");
+        index.put(2L, "smith", "Smith");
+        index.put(3L, "smyth", "Smyth");
+        
+        List<NGramIndex.Hit<String>> hits = index.search("smith", 2);
+        
+        assertEquals(2, hits.size());
+        // Both Smith and Smithson contain every query gram; ties keep insertion order
+        assertEquals(List.of(1L, 2L), hits.stream().map(NGramIndex.Hit::getId).toList());
+    }
+    
+    @Test
+    void updateAndRemoveReplaceDocuments() {
+        NGramIndex<String> index = new NGramIndex<>(0.6);
+        index.put(1L, "old", "Alice");
+        index.put(1L, "new", "Beatrice");
+        
+        assertTrue(index.search("alice", 10).isEmpty());
+        assertEquals("new", index.search("beatrice", 10).get(0).getValue());
+        
+        index.remove(1L);
+        assertTrue(index.search("beatrice", 10).isEmpty());
+        assertEquals(0, index.stats().getLiveDocuments());
+    }
+    
+    @Test
+    void compactionKeepsLiveDocumentsSearchable() {
+        NGramIndex<Long> index = new NGramIndex<>(0.6);
+        for (long round = 0; round < 3; round++) {
+            for (long id = 0; id < 1000; id++) {
+                index.put(id, round, "tenant" + id);
+            }
+        }
+        
+        NGramIndex.Stats stats = index.stats();
+        assertEquals(1000, stats.getLiveDocuments());
+        assertTrue(stats.getDeadDocuments() < 2000, "tombstones should have been compacted");
+        List<NGramIndex.Hit<Long>> hits = index.search("tenant999", 1);
+        assertEquals(999L, hits.get(0).getId());
+        assertEquals(2L, hits.get(0).getValue());
+    }
+}
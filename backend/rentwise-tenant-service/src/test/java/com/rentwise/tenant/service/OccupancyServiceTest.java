@@ -0,0 +1,132 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.tenant.model.Tenant;
+import com.rentwise.tenant.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OccupancyServiceTest {
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final OccupancyService occupancyService = new OccupancyService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(occupancyService, "tenantRepository", tenantRepository);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Tenant tenant(Long userId, Long propertyId) {
+        Tenant tenant = new Tenant("Alice", "Doe", "alice@example.com", "555-0100");
+        tenant.setUserId(userId);
+        tenant.setPropertyId(propertyId);
+        return tenant;
+    }
+
+    private static List<Object[]> rows(long key, long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {key, count});
+        return rows;
+    }
+
+    private static List<TransactionSynchronization> endTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    @Test
+    void countsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        occupancyService.onTenantCreated(tenant(7L, 3L));
+
+        assertEquals(0, occupancyService.getTenantCountForProperty(3L));
+
+        endTransaction().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, occupancyService.getTenantCountForProperty(3L));
+        assertEquals(1, occupancyService.getTenantCountsByOwner().get(7L));
+        assertEquals(1, occupancyService.getSummary().getTotalTenants());
+    }
+
+    @Test
+    void rolledBackWritesAreNeverCounted() {
+        occupancyService.onTenantCreated(tenant(7L, 3L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        Tenant moved = tenant(7L, 4L);
+        occupancyService.onTenantMoved(7L, 3L, moved);
+        occupancyService.onTenantCreated(tenant(8L, null));
+        endTransaction().forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(1, occupancyService.getTenantCountForProperty(3L));
+        assertEquals(0, occupancyService.getTenantCountForProperty(4L));
+        assertEquals(0, occupancyService.getUnassignedTenantCount());
+    }
+
+    @Test
+    void snapshotsTenantWhenCalled() {
+        TransactionSynchronizationManager.initSynchronization();
+        Tenant tenant = tenant(7L, 3L);
+        occupancyService.onTenantCreated(tenant);
+        tenant.setPropertyId(9L); // Changed after the write, e.g. by a later step in the transaction
+
+        endTransaction().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, occupancyService.getTenantCountForProperty(3L));
+        assertEquals(0, occupancyService.getTenantCountForProperty(9L));
+    }
+
+    @Test
+    void reloadReplacesDriftedCounts() {
+        occupancyService.onTenantCreated(tenant(7L, 3L));
+        occupancyService.onTenantCreated(tenant(7L, 3L));
+        when(tenantRepository.countGroupByPropertyId()).thenReturn(rows(3L, 5L));
+        when(tenantRepository.countGroupByUserId()).thenReturn(rows(7L, 5L));
+        when(tenantRepository.countByPropertyIdIsNull()).thenReturn(0L);
+        when(tenantRepository.count()).thenReturn(5L);
+
+        occupancyService.reload();
+
+        assertEquals(5, occupancyService.getTenantCountForProperty(3L));
+        assertEquals(5, occupancyService.getSummary().getTotalTenants());
+    }
+
+    @Test
+    void writesCommittedDuringReloadSurviveTheSwap() {
+        when(tenantRepository.countGroupByPropertyId()).thenAnswer(invocation -> {
+            // Another transaction commits while the GROUP BY queries run
+            occupancyService.onTenantCreated(tenant(8L, 4L));
+            return rows(3L, 2L);
+        });
+        when(tenantRepository.countGroupByUserId()).thenReturn(rows(7L, 2L));
+        when(tenantRepository.countByPropertyIdIsNull()).thenReturn(0L);
+        when(tenantRepository.count()).thenReturn(2L);
+
+        occupancyService.reload();
+
+        assertEquals(2, occupancyService.getTenantCountForProperty(3L));
+        assertEquals(1, occupancyService.getTenantCountForProperty(4L));
+        assertEquals(1, occupancyService.getTenantCountsByOwner().get(8L));
+        assertEquals(3, occupancyService.getSummary().getTotalTenants());
+
+        // Once the reload is over, writes apply to the new snapshot only once
+        occupancyService.onTenantCreated(tenant(8L, 4L));
+        assertEquals(2, occupancyService.getTenantCountForProperty(4L));
+    }
+}
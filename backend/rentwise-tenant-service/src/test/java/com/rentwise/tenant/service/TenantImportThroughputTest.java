@@ -0,0 +1,44 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.common.importer.ImportJob;
+import com.rentwise.common.importer.ImportThroughputTestSupport;
+import com.rentwise.tenant.repository.TenantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Import throughput for TenantImportService, which adds the set-based email check per batch.
+ * Run with mvn test -Pperformance.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+class TenantImportThroughputTest extends ImportThroughputTestSupport {
+
+    @Autowired
+    private TenantImportService tenantImportService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Override
+    protected String header() {
+        return "firstName,lastName,email,phone,dateOfBirth,emergencyContact,emergencyPhone,userId";
+    }
+
+    @Override
+    protected void appendRow(StringBuilder csv, int i) {
+        csv.append("First").append(i).append(",Last").append(i).append(",tenant").append(i).append("@example.com,512-555-")
+                .append(String.format("%04d", i % 10_000)).append(",1990-01-").append(String.format("%02d", 1 + i % 28))
+                .append(",\"Contact ").append(i).append(", Jr.\",512-555-0100,").append(i).append('\n');
+    }
+
+    @Override
+    protected ImportJob startImport(MockMultipartFile file) throws Exception {
+        return tenantImportService.startImport(file, null);
+    }
+
+    @Override
+    protected long countRows() {
+        return tenantRepository.count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.rentwise.tenant.service;
+
+import com.rentwise.tenant.model.Tenant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantSearchServiceTest {
+    
+    private final TenantSearchService searchService = new TenantSearchService(0.6);
+    
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    private static Tenant tenant(long id, String firstName) {
+        Tenant tenant = new Tenant(firstName, "Doe", firstName.toLowerCase() + "@example.com", "555-0100");
+        tenant.setId(id);
+        return tenant;
+    }
+    
+    private static List<TransactionSynchronization> endTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+    
+    @Test
+    void indexesImmediatelyOutsideTransaction() {
+        searchService.indexTenant(tenant(1L, "Alice"));
+        
+        assertEquals(1, searchService.search("alice", "TENANT", 10).size());
+    }
+    
+    @Test
+    void indexesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        searchService.indexTenant(tenant(1L, "Alice"));
+        
+        assertTrue(searchService.search("alice", "TENANT", 10).isEmpty());
+        
+        endTransaction().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, searchService.search("alice", "TENANT", 10).size());
+    }
+    
+    @Test
+    void rolledBackWritesNeverReachIndex() {
+        searchService.indexTenant(tenant(1L, "Alice"));
+        
+        TransactionSynchronizationManager.initSynchronization();
+        searchService.indexTenant(tenant(2L, "Bob"));
+        searchService.removeTenant(1L);
+        endTransaction().forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        
+        assertTrue(searchService.search("bob", "TENANT", 10).isEmpty());
+        assertEquals(1, searchService.search("alice", "TENANT", 10).size());
+    }
+    
+    @Test
+    void snapshotsEntityWhenCalled() {
+        TransactionSynchronizationManager.initSynchronization();
+        Tenant tenant = tenant(1L, "Alice");
+        searchService.indexTenant(tenant);
+        tenant.setFirstName("Mallory"); // Changed after the write, e.g. by a later step in the transaction
+        
+        endTransaction().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("Alice", searchService.search("alice", "TENANT", 10).get(0).getFirstName());
+    }
+}
@@ -0,0 +1,32 @@
+package com.rentwise.user.config;
+
+import com.rentwise.user.service.LoginAttemptLimiter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+    
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+    
+    public CustomAuthenticationFailureHandler() {
+        super("/login?error");
+    }
+    
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        // Count the failure against the username for login admission control
+        loginAttemptLimiter.recordFailure(request.getParameter("username"));
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
@@ -1,24 +1,46 @@
 package com.rentwise.user.config;
 
+import com.rentwise.user.model.User;
+import com.rentwise.user.service.TokenService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Component
 public class CustomAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
     
+    @Autowired
+    private TokenService tokenService;
+    
+    @Value("${user.token.cookie-name:rentwise_token}")
+    private String cookieName;
+    
+    @Value("${user.token.dashboard-url:http://localhost:8084/dashboard}")
+    private String dashboardUrl;
+    
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, 
                                        HttpServletResponse response,
                                        Authentication authentication) throws IOException, ServletException {
-        String username = authentication.getName();
-        // Redirect to Dashboard Service with username parameter
-        response.sendRedirect("http://localhost:8084/dashboard?username=" + username);
+        User user = (User) authentication.getPrincipal();
+        // Hand the signed token to the Dashboard Service as a cookie; it verifies it locally
+        ResponseCookie cookie = ResponseCookie.from(cookieName, tokenService.issueToken(user))
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(Duration.ofSeconds(tokenService.getTtlSeconds()))
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        response.sendRedirect(dashboardUrl);
     }
 }
-
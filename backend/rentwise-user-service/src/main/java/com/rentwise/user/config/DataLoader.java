@@ -2,11 +2,11 @@ package com.rentwise.user.config;
 
 import com.rentwise.user.model.User;
 import com.rentwise.user.repository.UserRepository;
+import com.rentwise.user.service.PasswordHashingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,7 +21,8 @@ public class DataLoader implements CommandLineRunner {
     @Autowired
     private UserRepository userRepository;
     
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private PasswordHashingService passwordEncoder;
     
     @Override
     public void run(String... args) throws Exception {
@@ -0,0 +1,40 @@
+package com.rentwise.user.config;
+
+import com.rentwise.user.service.LoginAttemptLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs the form login (POST /login) through LoginAttemptLimiter ahead of
+ * UsernamePasswordAuthenticationFilter, so throttled attempts never reach the password encoder.
+ * Failures are counted by the authentication failure handler in SecurityConfig.
+ */
+public class LoginAdmissionFilter extends OncePerRequestFilter {
+    
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    
+    public LoginAdmissionFilter(LoginAttemptLimiter loginAttemptLimiter) {
+        this.loginAttemptLimiter = loginAttemptLimiter;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if ("POST".equals(request.getMethod()) && "/login".equals(request.getServletPath())
+                && !loginAttemptLimiter.tryAdmit(request.getParameter("username"), request.getRemoteAddr())) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginAttemptLimiter.getRetryAfterSeconds()));
+            response.setContentType("text/plain");
+            response.getWriter().write("Too many login attempts, please try again later");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
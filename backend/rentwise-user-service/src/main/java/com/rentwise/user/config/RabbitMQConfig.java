@@ -0,0 +1,34 @@
+package com.rentwise.user.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+    
+    // Routing keys are user.<event>, e.g. user.registered; consumers declare and bind their own queues
+    public static final String EXCHANGE_USER_EVENTS = "user.events.exchange";
+    public static final String ROUTING_KEY_USER_REGISTERED = "user.registered";
+    
+    @Bean
+    public TopicExchange userEventsExchange() {
+        return new TopicExchange(EXCHANGE_USER_EVENTS);
+    }
+    
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+    
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+        RabbitTemplate template = new RabbitTemplate(connectionFactory);
+        template.setMessageConverter(jsonMessageConverter());
+        return template;
+    }
+}
@@ -7,8 +7,10 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import com.rentwise.user.service.LoginAttemptLimiter;
+import com.rentwise.user.service.PasswordHashingService;
 import com.rentwise.user.service.UserService;
 
 @Configuration
@@ -20,6 +22,15 @@ public class SecurityConfig {
     @Autowired
     private CustomAuthenticationSuccessHandler authenticationSuccessHandler;
     
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private CustomAuthenticationFailureHandler authenticationFailureHandler;
+    
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+    
     public SecurityConfig(UserService userService) {
         this.userService = userService;
     }
@@ -27,6 +38,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
+                .addFilterBefore(new LoginAdmissionFilter(loginAttemptLimiter), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/css/**", "/js/**", "/images/**").permitAll()
                         // Allow registration and login
@@ -36,12 +48,14 @@ public class SecurityConfig {
                         .requestMatchers("/users/*").hasRole("ADMIN")
                         // REST API endpoints - keep open for now (will be secured with JWT later)
                         .requestMatchers("/api/users/**").permitAll()
+                        // Health and metrics (including cache hit ratios) for internal monitoring
+                        .requestMatchers("/actuator/health", "/actuator/metrics/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
                         .loginPage("/login")
                         .successHandler(authenticationSuccessHandler)
-                        .failureUrl("/login?error")
+                        .failureHandler(authenticationFailureHandler)
                         .permitAll()
                 )
                 .logout(logout -> logout
@@ -52,15 +66,11 @@ public class SecurityConfig {
         return http.build();
     }
     
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-    
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         AuthenticationManagerBuilder auth = http.getSharedObject(AuthenticationManagerBuilder.class);
-        auth.userDetailsService(userService).passwordEncoder(passwordEncoder());
+        // Verification runs on the bounded hashing pool; UserService stores upgraded hashes
+        auth.userDetailsService(userService).passwordEncoder(passwordHashingService);
         return auth.build();
     }
 }
@@ -1,16 +1,25 @@
 package com.rentwise.user.controller;
 
 import com.rentwise.user.model.LoginRequest;
+import com.rentwise.user.model.LoginResponse;
 import com.rentwise.user.model.User;
+import com.rentwise.user.model.UserDirectory;
+import com.rentwise.user.service.HashingCapacityExceededException;
+import com.rentwise.user.service.LoginAttemptLimiter;
+import com.rentwise.user.service.TokenService;
+import com.rentwise.user.service.UserDirectoryService;
 import com.rentwise.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -22,6 +31,15 @@ public class UserRestController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+    
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+    
     @GetMapping
     public List<User> getAllUsers() {
         logger.info("[{}] [UserRestController] [getAllUsers] START - API: GET /api/users", SERVICE_NAME);
@@ -63,6 +81,9 @@ public class UserRestController {
             logger.info("[{}] [UserRestController] [registerUser] SUCCESS - User registered with ID: {}", 
                     SERVICE_NAME, savedUser.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
+        } catch (HashingCapacityExceededException e) {
+            logger.warn("[{}] [UserRestController] [registerUser] Hashing saturated - Username: {}", SERVICE_NAME, user.getUsername());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             logger.error("[{}] [UserRestController] [registerUser] ERROR - Registration failed for username: {} - Error: {}", 
                     SERVICE_NAME, user.getUsername(), e.getMessage(), e);
@@ -88,24 +109,54 @@ public class UserRestController {
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         logger.info("[{}] [UserRestController] [login] START - Login attempt for username: {}", SERVICE_NAME, request.getUsername());
         try {
+            // Throttled attempts are turned away before any password hashing
+            if (!loginAttemptLimiter.tryAdmit(request.getUsername(), httpRequest.getRemoteAddr())) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginAttemptLimiter.getRetryAfterSeconds()))
+                        .body("Too many login attempts, please try again later");
+            }
             User user = userService.authenticate(request.getUsername(), request.getPassword());
             if (user != null) {
+                String token = tokenService.issueToken(user);
                 logger.info("[{}] [UserRestController] [login] SUCCESS - User authenticated: {}", SERVICE_NAME, request.getUsername());
                 // Return user without password
                 user.setPassword(null);
-                return ResponseEntity.ok(user);
+                return ResponseEntity.ok(new LoginResponse(token, tokenService.getTtlSeconds(), user));
             }
+            loginAttemptLimiter.recordFailure(request.getUsername());
             logger.warn("[{}] [UserRestController] [login] Authentication failed for username: {}", SERVICE_NAME, request.getUsername());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
+        } catch (HashingCapacityExceededException e) {
+            logger.warn("[{}] [UserRestController] [login] Hashing saturated - Username: {}", SERVICE_NAME, request.getUsername());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             logger.error("[{}] [UserRestController] [login] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
     }
     
+    // Public key for verifying login tokens; verifiers cache it and refetch on an unknown kid
+    @GetMapping("/token-keys")
+    public ResponseEntity<Map<String, Object>> getTokenKeys() {
+        logger.debug("[{}] [UserRestController] [getTokenKeys] START - API: GET /api/users/token-keys", SERVICE_NAME);
+        return ResponseEntity.ok(tokenService.getKeySet());
+    }
+    
+    // id/username/role only, for name lookups; ?since=<version> returns just the users changed since
+    @GetMapping("/directory")
+    public ResponseEntity<UserDirectory> getDirectory(@RequestParam(defaultValue = "0") long since) {
+        logger.info("[{}] [UserRestController] [getDirectory] START - API: GET /api/users/directory?since={}", SERVICE_NAME, since);
+        try {
+            return ResponseEntity.ok(userDirectoryService.getDirectory(since));
+        } catch (Exception e) {
+            logger.error("[{}] [UserRestController] [getDirectory] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
         logger.info("[{}] [UserRestController] [updateUser] START - Updating user with ID: {}", SERVICE_NAME, id);
@@ -0,0 +1,49 @@
+package com.rentwise.user.model;
+
+public class LoginResponse {
+    private String token;
+    private String tokenType = "Bearer";
+    private long expiresIn; // Seconds
+    private User user; // Password cleared
+    
+    public LoginResponse() {
+    }
+    
+    public LoginResponse(String token, long expiresIn, User user) {
+        this.token = token;
+        this.expiresIn = expiresIn;
+        this.user = user;
+    }
+    
+    public String getToken() {
+        return token;
+    }
+    
+    public void setToken(String token) {
+        this.token = token;
+    }
+    
+    public String getTokenType() {
+        return tokenType;
+    }
+    
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+    
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+    
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+}
@@ -1,6 +1,8 @@
 package com.rentwise.user.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -9,7 +11,11 @@ import java.util.Collections;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
 public class User implements UserDetails {
     
     @Id
@@ -54,6 +60,18 @@ public class User implements UserDetails {
         this.password = password;
         this.email = email;
     }
+    
+    // Detached copy, so callers can clear the password without touching a cached instance
+    public User(User other) {
+        this.id = other.id;
+        this.username = other.username;
+        this.password = other.password;
+        this.email = other.email;
+        this.role = other.role;
+        this.enabled = other.enabled;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
 
     // UserDetails implementation
     @Override
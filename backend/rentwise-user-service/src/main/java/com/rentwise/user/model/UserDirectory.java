@@ -0,0 +1,43 @@
+package com.rentwise.user.model;
+
+import java.util.List;
+
+public class UserDirectory {
+    private long version; // Pass back as ?since= to get only the users changed after this response
+    private boolean full; // True when users is the whole directory rather than a delta
+    private List<UserDirectoryEntry> users;
+    
+    public UserDirectory() {
+    }
+    
+    public UserDirectory(long version, boolean full, List<UserDirectoryEntry> users) {
+        this.version = version;
+        this.full = full;
+        this.users = users;
+    }
+    
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
+    public boolean isFull() {
+        return full;
+    }
+    
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+    
+    public List<UserDirectoryEntry> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserDirectoryEntry> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rentwise.user.model;
+
+/** The slice of a user other services need for display: no email, password or timestamps. */
+public class UserDirectoryEntry {
+    private Long id;
+    private String username;
+    private String role;
+    
+    public UserDirectoryEntry() {
+    }
+    
+    public UserDirectoryEntry(Long id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+    
+    public void setRole(String role) {
+        this.role = role;
+    }
+}
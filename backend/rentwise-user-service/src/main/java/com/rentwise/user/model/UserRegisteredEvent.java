@@ -0,0 +1,80 @@
+package com.rentwise.user.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Published on user.events.exchange (routing key user.registered) once a registration has
+ * committed. eventId is unique per event and doubles as the AMQP message id, so consumers
+ * can recognise redeliveries.
+ */
+public class UserRegisteredEvent implements Serializable {
+    
+    private String eventId;
+    private Long userId;
+    private String username;
+    private String email;
+    private String role;
+    private LocalDateTime registeredAt;
+    
+    public UserRegisteredEvent() {
+    }
+    
+    public UserRegisteredEvent(String eventId, User user) {
+        this.eventId = eventId;
+        this.userId = user.getId();
+        this.username = user.getUsername();
+        this.email = user.getEmail();
+        this.role = user.getRole();
+        this.registeredAt = user.getCreatedAt();
+    }
+    
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getRole() {
+        return role;
+    }
+    
+    public void setRole(String role) {
+        this.role = role;
+    }
+    
+    public LocalDateTime getRegisteredAt() {
+        return registeredAt;
+    }
+    
+    public void setRegisteredAt(LocalDateTime registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}
@@ -1,16 +1,39 @@
 package com.rentwise.user.repository;
 
 import com.rentwise.user.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+    // Login by username or email in one round trip; both columns are unique, so MySQL answers
+    // the OR from the two unique indexes (index merge). At most two rows: one per column.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<User> findByUsernameOrEmail(String username, String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    
+    // Keyset page of [id, username, email] for streaming the table without loading entities
+    @Query("SELECT u.id, u.username, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findLoginKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Directory rows [id, username, role, updatedAt]; the delta query uses idx_users_updated_at
+    @Query("SELECT u.id, u.username, u.role, u.updatedAt FROM User u ORDER BY u.id")
+    List<Object[]> findDirectoryRows();
+    @Query("SELECT u.id, u.username, u.role, u.updatedAt FROM User u WHERE u.updatedAt > :since ORDER BY u.id")
+    List<Object[]> findDirectoryRowsUpdatedAfter(@Param("since") LocalDateTime since);
 }
-
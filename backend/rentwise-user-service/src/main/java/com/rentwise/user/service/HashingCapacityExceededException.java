@@ -0,0 +1,11 @@
+package com.rentwise.user.service;
+
+/**
+ * Thrown when password hashing is saturated; callers should answer 503 and let the client retry.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,215 @@
+package com.rentwise.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Admission control for login, checked before any password is verified, so a flood of bad
+ * attempts is turned away without costing a BCrypt hash each. Two sliding-window limits:
+ * attempts per client IP (credential stuffing from one source) and failed attempts per
+ * username (guessing one account from many sources).
+ *
+ * Each tracked key owns a small ring of time buckets updated with CAS, so counting takes no
+ * lock. Keys are spread over stripes, each a map bounded to max-keys / STRIPES entries; a full
+ * stripe first drops keys with no attempts left in the window, then arbitrary ones, so memory
+ * stays bounded under a spray of random usernames or IPs.
+ */
+@Service
+public class LoginAttemptLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    private static final int STRIPES = 16;
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerUsername;
+    private final int maxKeysPerStripe;
+    private final Stripes ipAttempts = new Stripes();
+    private final Stripes usernameFailures = new Stripes();
+    private final Counter admitted;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+
+    public LoginAttemptLimiter(MeterRegistry meterRegistry,
+                               @Value("${user.login.limit.window:60s}") Duration window,
+                               @Value("${user.login.limit.buckets:6}") int buckets,
+                               @Value("${user.login.limit.ip-attempts:30}") int maxAttemptsPerIp,
+                               @Value("${user.login.limit.username-failures:10}") int maxFailuresPerUsername,
+                               @Value("${user.login.limit.max-keys:100000}") int maxKeys) {
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.admitted = Counter.builder("user.login.admission").tag("result", "admitted").register(meterRegistry);
+        this.rejectedByIp = Counter.builder("user.login.admission").tag("result", "rejected").tag("reason", "ip").register(meterRegistry);
+        this.rejectedByUsername = Counter.builder("user.login.admission").tag("result", "rejected").tag("reason", "username").register(meterRegistry);
+        Gauge.builder("user.login.admission.tracked-keys", this, limiter -> limiter.ipAttempts.size() + limiter.usernameFailures.size())
+                .register(meterRegistry);
+        logger.info("[{}] [LoginAttemptLimiter] [Constructor] Login limits per {}: {} attempts/IP, {} failures/username",
+                SERVICE_NAME, window, maxAttemptsPerIp, maxFailuresPerUsername);
+    }
+
+    /**
+     * Decides whether a login attempt may proceed to password verification and, if so, counts
+     * it against the client IP.
+     * @return true to verify the password, false to reject the attempt outright
+     */
+    public boolean tryAdmit(String username, String clientIp) {
+        long now = currentBucket();
+        Window failures = username != null ? usernameFailures.get(normalize(username)) : null;
+        if (failures != null && failures.sum(now) >= maxFailuresPerUsername) {
+            rejectedByUsername.increment();
+            logger.warn("[{}] [LoginAttemptLimiter] [tryAdmit] Rejected - too many failures for username: {}", SERVICE_NAME, username);
+            return false;
+        }
+        if (clientIp != null) {
+            Window attempts = ipAttempts.getOrCreate(clientIp, now);
+            if (attempts.sum(now) >= maxAttemptsPerIp) {
+                rejectedByIp.increment();
+                logger.warn("[{}] [LoginAttemptLimiter] [tryAdmit] Rejected - too many attempts from IP: {}", SERVICE_NAME, clientIp);
+                return false;
+            }
+            attempts.add(now);
+        }
+        admitted.increment();
+        return true;
+    }
+
+    /** Counts a failed password check against the username. */
+    public void recordFailure(String username) {
+        if (username != null) {
+            long now = currentBucket();
+            usernameFailures.getOrCreate(normalize(username), now).add(now);
+        }
+    }
+
+    /** Seconds until the oldest bucket leaves the window, for Retry-After. */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (bucketMillis - System.currentTimeMillis() % bucketMillis + 999) / 1000);
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Key -> window, split into independently bounded stripes so eviction scans only one. */
+    private final class Stripes {
+
+        @SuppressWarnings("unchecked")
+        private final ConcurrentHashMap<String, Window>[] maps = new ConcurrentHashMap[STRIPES];
+
+        Stripes() {
+            for (int i = 0; i < STRIPES; i++) {
+                maps[i] = new ConcurrentHashMap<>();
+            }
+        }
+
+        Window get(String key) {
+            return stripe(key).get(key);
+        }
+
+        Window getOrCreate(String key, long now) {
+            ConcurrentHashMap<String, Window> map = stripe(key);
+            Window window = map.get(key);
+            if (window != null) {
+                return window;
+            }
+            if (map.size() >= maxKeysPerStripe) {
+                evict(map, now);
+            }
+            return map.computeIfAbsent(key, k -> new Window(buckets));
+        }
+
+        int size() {
+            int size = 0;
+            for (ConcurrentHashMap<String, Window> map : maps) {
+                size += map.size();
+            }
+            return size;
+        }
+
+        private ConcurrentHashMap<String, Window> stripe(String key) {
+            int hash = key.hashCode();
+            return maps[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        }
+
+        private void evict(ConcurrentHashMap<String, Window> map, long now) {
+            map.values().removeIf(window -> window.isIdle(now));
+            // Everything still counting: drop arbitrary keys rather than grow
+            Iterator<String> keys = map.keySet().iterator();
+            while (map.size() >= maxKeysPerStripe && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Ring of per-bucket counts. Each slot packs (bucket number << COUNT_BITS | count), so a
+     * slot left over from an earlier lap of the ring is recognised and restarted by the same
+     * CAS that increments it.
+     */
+    static final class Window {
+
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray slots;
+
+        Window(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        void add(long bucket) {
+            int index = (int) (bucket % slots.length());
+            while (true) {
+                long current = slots.get(index);
+                long next;
+                if (current >>> COUNT_BITS == bucket) {
+                    if ((current & COUNT_MASK) == COUNT_MASK) {
+                        return;
+                    }
+                    next = current + 1;
+                } else {
+                    next = bucket << COUNT_BITS | 1;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        long sum(long bucket) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                if (bucket - (slot >>> COUNT_BITS) < slots.length()) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+
+        boolean isIdle(long bucket) {
+            return sum(bucket) == 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.rentwise.user.service;
+
+import com.rentwise.user.config.RabbitMQConfig;
+import com.rentwise.user.model.OutboxEvent;
+import com.rentwise.user.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes outbox rows to RabbitMQ. Each run takes the oldest unpublished rows, sends them in
+ * one channel, waits for the broker's publisher confirms and only then marks them published,
+ * so an event is never lost between the database commit and the broker; a crash after sending
+ * but before marking sends it again. Delivery is therefore at-least-once and consumers
+ * deduplicate on the message id (the event id).
+ */
+@Service
+public class OutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+    
+    @Value("${user.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${user.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+    
+    @Value("${user.outbox.retention-hours:24}")
+    private long retentionHours;
+    
+    @Scheduled(fixedDelayString = "${user.outbox.poll-interval-ms:500}")
+    public void publishPending() {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        while (!batch.isEmpty()) {
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                ids.add(event.getId());
+            }
+            List<OutboxEvent> sending = batch;
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    for (OutboxEvent event : sending) {
+                        operations.send(RabbitMQConfig.EXCHANGE_USER_EVENTS, event.getRoutingKey(), toMessage(event));
+                    }
+                    operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                    return null;
+                });
+            } catch (Exception e) {
+                // Left unpublished; the next run retries them in the same order
+                outboxEventRepository.incrementAttempts(ids);
+                logger.warn("[{}] [OutboxRelay] [publishPending] Publish of {} events failed, will retry: {}",
+                        SERVICE_NAME, batch.size(), e.getMessage());
+                return;
+            }
+            outboxEventRepository.markPublished(ids, LocalDateTime.now());
+            logger.info("[{}] [OutboxRelay] [publishPending] SUCCESS - Published {} events", SERVICE_NAME, batch.size());
+            if (batch.size() < batchSize) {
+                return;
+            }
+            batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${user.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("[{}] [OutboxRelay] [deletePublished] Deleted {} published events older than {}h", SERVICE_NAME, deleted, retentionHours);
+        }
+    }
+    
+    private static Message toMessage(OutboxEvent event) {
+        // Payload is already JSON; send it as the Jackson converter would, keyed by the event id
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(event.getEventId())
+                .setType(event.getEventType())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.rentwise.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt hashing and verification on a dedicated, bounded pool instead of the Tomcat request
+ * threads. At most `threads` hashes run at once, so a burst of logins or registrations cannot
+ * take every core from the other endpoints; callers wait for their turn, and once `queue-capacity`
+ * are already waiting new work is refused with HashingCapacityExceededException (503 upstream).
+ *
+ * The work factor is calibrated at startup: the largest cost in [min-cost, max-cost] whose hash
+ * takes no longer than target-hash-ms on this host, unless user.password.cost pins it. Stored
+ * hashes below the current cost report upgradeEncoding() = true, and logins rehash them.
+ */
+@Service
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Counter rejected;
+    private final Timer hashTimer;
+
+    public PasswordHashingService(MeterRegistry meterRegistry,
+                                  @Value("${user.password.cost:0}") int configuredCost,
+                                  @Value("${user.password.min-cost:10}") int minCost,
+                                  @Value("${user.password.max-cost:14}") int maxCost,
+                                  @Value("${user.password.target-hash-ms:100}") long targetHashMs,
+                                  @Value("${user.password.hashing.threads:0}") int threads,
+                                  @Value("${user.password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${user.password.hashing.wait-timeout:5s}") Duration waitTimeout) {
+        this.cost = configuredCost > 0 ? configuredCost : calibrate(minCost, maxCost, targetHashMs);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeout = waitTimeout;
+        this.rejected = Counter.builder("user.password.hashing.rejected")
+                .description("Hash/verify requests refused because the hashing queue was full")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("user.password.hashing.duration")
+                .description("Time spent in BCrypt per hash/verify, excluding queueing")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Hash/verify requests waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hashing.cost", () -> cost).register(meterRegistry);
+        logger.info("[{}] [PasswordHashingService] [Constructor] BCrypt cost: {} ({}), hashing threads: {}, queue capacity: {}",
+                SERVICE_NAME, cost, configuredCost > 0 ? "configured" : "calibrated", poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** True when the hash was made with a lower cost than the current one (or is not BCrypt). */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        try {
+            return encoder.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("[{}] [PasswordHashingService] [run] Hashing queue full ({} waiting) - rejecting request",
+                    SERVICE_NAME, executor.getQueue().size());
+            throw new HashingCapacityExceededException("Too many concurrent sign-ins, please retry shortly");
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new HashingCapacityExceededException("Password check timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Each cost step doubles the work, so time one hash at minCost (best of three, the first
+     * ones warm up the JIT) and take as many doublings as still fit in the target.
+     */
+    private static int calibrate(int minCost, int maxCost, long targetHashMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        double baseMs = bestNanos / 1_000_000.0;
+        int calibrated = minCost;
+        while (calibrated < maxCost && baseMs * (1L << (calibrated + 1 - minCost)) <= targetHashMs) {
+            calibrated++;
+        }
+        logger.info("[{}] [PasswordHashingService] [calibrate] Cost {} hash took {} ms; target {} ms -> cost {} (~{} hashes/s per core)",
+                SERVICE_NAME, minCost, String.format("%.1f", baseMs), targetHashMs, calibrated,
+                String.format("%.1f", 1000.0 / (baseMs * (1L << (calibrated - minCost)))));
+        return calibrated;
+    }
+}
@@ -0,0 +1,136 @@
+package com.rentwise.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentwise.user.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issues signed access tokens (JWT, RS256) carrying the user's id, username, email and role, so the
+ * dashboard and gateway can authenticate requests with the public key alone instead of a
+ * user-service call or a server-side session. The public key is served as a JWK set from
+ * /api/users/token-keys; its kid changes with the key, which lets verifiers notice rotation.
+ *
+ * Keys come from user.token.private-key / public-key (base64 PKCS#8 / X.509 DER). Startup fails
+ * without them, except under the "dev" profile, where a key pair is generated instead: fine for
+ * one instance, but tokens then stop verifying on restart and differ between instances.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PrivateKey privateKey;
+    private final RSAPublicKey publicKey;
+    private final String keyId;
+    private final String issuer;
+    private final Duration ttl;
+
+    public TokenService(@Value("${user.token.private-key:}") String encodedPrivateKey,
+                        @Value("${user.token.public-key:}") String encodedPublicKey,
+                        @Value("${user.token.issuer:rentwise-user-service}") String issuer,
+                        @Value("${user.token.ttl:1h}") Duration ttl,
+                        Environment environment) throws GeneralSecurityException {
+        if (encodedPrivateKey.isBlank() || encodedPublicKey.isBlank()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+                logger.error("[{}] [TokenService] [Constructor] ERROR - No token signing key configured", SERVICE_NAME);
+                throw new IllegalStateException("No token signing key configured: set USER_TOKEN_PRIVATE_KEY and "
+                        + "USER_TOKEN_PUBLIC_KEY, or run with the dev profile to generate one");
+            }
+            logger.warn("[{}] [TokenService] [Constructor] No token signing key configured - generating one; "
+                    + "tokens will not survive a restart or verify across instances", SERVICE_NAME);
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            this.privateKey = pair.getPrivate();
+            this.publicKey = (RSAPublicKey) pair.getPublic();
+        } else {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            this.privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(encodedPrivateKey)));
+            this.publicKey = (RSAPublicKey) factory.generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(encodedPublicKey)));
+        }
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+        this.keyId = BASE64URL.encodeToString(Arrays.copyOf(digest, 12));
+        this.issuer = issuer;
+        this.ttl = ttl;
+        logger.info("[{}] [TokenService] [Constructor] Token signing key ready - kid: {}, TTL: {}", SERVICE_NAME, keyId, ttl);
+    }
+
+    public String issueToken(User user) {
+        try {
+            long now = System.currentTimeMillis() / 1000;
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("alg", "RS256");
+            header.put("typ", "JWT");
+            header.put("kid", keyId);
+            Map<String, Object> claims = new LinkedHashMap<>();
+            claims.put("iss", issuer);
+            claims.put("sub", String.valueOf(user.getId()));
+            claims.put("username", user.getUsername());
+            claims.put("email", user.getEmail());
+            claims.put("role", user.getRole());
+            claims.put("iat", now);
+            claims.put("exp", now + ttl.toSeconds());
+            String signingInput = encodeJson(header) + "." + encodeJson(claims);
+            Signature signer = Signature.getInstance("SHA256withRSA");
+            signer.initSign(privateKey);
+            signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64URL.encodeToString(signer.sign());
+        } catch (GeneralSecurityException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not sign token: " + e.getMessage(), e);
+        }
+    }
+
+    /** Public key as a JWK set (RFC 7517). */
+    public Map<String, Object> getKeySet() {
+        Map<String, Object> key = new LinkedHashMap<>();
+        key.put("kty", "RSA");
+        key.put("use", "sig");
+        key.put("alg", "RS256");
+        key.put("kid", keyId);
+        key.put("n", BASE64URL.encodeToString(unsigned(publicKey.getModulus())));
+        key.put("e", BASE64URL.encodeToString(unsigned(publicKey.getPublicExponent())));
+        return Map.of("keys", List.of(key));
+    }
+
+    public long getTtlSeconds() {
+        return ttl.toSeconds();
+    }
+
+    private String encodeJson(Map<String, Object> value) throws JsonProcessingException {
+        return BASE64URL.encodeToString(objectMapper.writeValueAsBytes(value));
+    }
+
+    /** Big-endian magnitude without the sign byte BigInteger adds when the top bit is set. */
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 && bytes.length > 1 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.rentwise.user.service;
+
+import com.rentwise.user.model.UserDirectory;
+import com.rentwise.user.model.UserDirectoryEntry;
+import com.rentwise.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the user directory (id, username, role) for name resolution in other services, in
+ * full or as the rows changed since a version the caller already holds.
+ *
+ * The version is the latest updated_at among the rows served, in epoch millis. A delta re-reads
+ * delta-overlap-ms before the caller's version, because a transaction that stamped updated_at
+ * earlier may commit after a later one was already served; entries are idempotent upserts, so
+ * repeats are harmless. Users are never deleted, so deltas carry no tombstones.
+ */
+@Service
+public class UserDirectoryService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectoryService.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Value("${user.directory.delta-overlap-ms:10000}")
+    private long deltaOverlapMs;
+    
+    /**
+     * @param sinceVersion version from an earlier response, or 0 for the whole directory
+     */
+    public UserDirectory getDirectory(long sinceVersion) {
+        logger.info("[{}] [UserDirectoryService] [getDirectory] START - Since version: {}", SERVICE_NAME, sinceVersion);
+        try {
+            boolean full = sinceVersion <= 0;
+            List<Object[]> rows = full
+                    ? userRepository.findDirectoryRows()
+                    : userRepository.findDirectoryRowsUpdatedAfter(toDateTime(sinceVersion - deltaOverlapMs));
+            long version = Math.max(sinceVersion, 0);
+            List<UserDirectoryEntry> users = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                users.add(new UserDirectoryEntry((Long) row[0], (String) row[1], (String) row[2]));
+                if (row[3] != null) {
+                    version = Math.max(version, toVersion((LocalDateTime) row[3]));
+                }
+            }
+            logger.info("[{}] [UserDirectoryService] [getDirectory] SUCCESS - {} {} entries, version {}",
+                    SERVICE_NAME, users.size(), full ? "full" : "delta", version);
+            return new UserDirectory(version, full, users);
+        } catch (Exception e) {
+            logger.error("[{}] [UserDirectoryService] [getDirectory] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
+    private static long toVersion(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private static LocalDateTime toDateTime(long version) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(version), ZoneId.systemDefault());
+    }
+}
@@ -1,47 +1,79 @@
 package com.rentwise.user.service;
 
-import com.rentwise.user.client.TenantServiceClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentwise.user.config.RabbitMQConfig;
+import com.rentwise.user.model.OutboxEvent;
 import com.rentwise.user.model.User;
+import com.rentwise.user.model.UserRegisteredEvent;
+import com.rentwise.user.repository.OutboxEventRepository;
 import com.rentwise.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.UUID;
 
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private static final String SERVICE_NAME = "rentwise-user-service";
     
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
-    private final TenantServiceClient tenantServiceClient;
+    private final PasswordHashingService passwordEncoder;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final UserUniquenessFilter uniquenessFilter;
+    // Login (username or email, lower-cased) -> resolved user. Entries are private copies;
+    // callers always get a fresh copy, since controllers clear the password before replying.
+    private final Cache<String, User> userDetailsCache;
     
     @Autowired
-    public UserService(UserRepository userRepository, TenantServiceClient tenantServiceClient) {
+    public UserService(UserRepository userRepository, OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                       UserUniquenessFilter uniquenessFilter,
+                       PasswordHashingService passwordHashingService, MeterRegistry meterRegistry,
+                       @Value("${user.cache.user-details.max-size:10000}") long userDetailsMaxSize,
+                       @Value("${user.cache.user-details.ttl:2m}") Duration userDetailsTtl) {
         this.userRepository = userRepository;
-        this.passwordEncoder = new BCryptPasswordEncoder();
-        this.tenantServiceClient = tenantServiceClient;
+        this.passwordEncoder = passwordHashingService;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.uniquenessFilter = uniquenessFilter;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(userDetailsMaxSize)
+                .expireAfterWrite(userDetailsTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
         logger.info("[{}] [UserService] [Constructor] UserService initialized successfully", SERVICE_NAME);
     }
     
+    @Transactional(rollbackFor = Exception.class)
     public User registerUser(User user) throws Exception {
         logger.info("[{}] [UserService] [registerUser] START - Registering user with username: {}", SERVICE_NAME, user.getUsername());
         try {
-            if (userRepository.existsByUsername(user.getUsername())) {
+            // Bloom pre-checks: a definite negative skips the query
+            if (uniquenessFilter.mightContainUsername(user.getUsername()) && userRepository.existsByUsername(user.getUsername())) {
                 logger.warn("[{}] [UserService] [registerUser] Username already exists: {}", SERVICE_NAME, user.getUsername());
                 throw new Exception("Username already exists");
             }
-            if (userRepository.existsByEmail(user.getEmail())) {
+            if (uniquenessFilter.mightContainEmail(user.getEmail()) && userRepository.existsByEmail(user.getEmail())) {
                 logger.warn("[{}] [UserService] [registerUser] Email already exists: {}", SERVICE_NAME, user.getEmail());
                 throw new Exception("Email already exists");
             }
@@ -49,28 +81,21 @@ public class UserService implements UserDetailsService {
             logger.debug("[{}] [UserService] [registerUser] Encoding password for user: {}", SERVICE_NAME, user.getUsername());
             user.setPassword(passwordEncoder.encode(user.getPassword()));
             
-            User savedUser = userRepository.save(user);
+            User savedUser;
+            try {
+                savedUser = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                // Unique constraint caught what the pre-checks missed (e.g. a concurrent registration)
+                logger.warn("[{}] [UserService] [registerUser] Unique constraint violation for: {}", SERVICE_NAME, user.getUsername());
+                throw new Exception("Username or email already exists");
+            }
+            uniquenessFilter.add(savedUser.getUsername(), savedUser.getEmail());
+            evictUserDetails(savedUser);
             logger.info("[{}] [UserService] [registerUser] SUCCESS - User registered successfully with ID: {}", SERVICE_NAME, savedUser.getId());
             
-            // If user role is USER, create corresponding tenant record
-            if ("USER".equalsIgnoreCase(savedUser.getRole())) {
-                try {
-                    logger.info("[{}] [UserService] [registerUser] Creating tenant record for user: {}", SERVICE_NAME, savedUser.getUsername());
-                    Map<String, Object> tenantData = new HashMap<>();
-                    tenantData.put("firstName", savedUser.getUsername()); // Use username as firstName
-                    tenantData.put("lastName", ""); // Empty lastName
-                    tenantData.put("email", savedUser.getEmail());
-                    tenantData.put("phone", ""); // Empty phone
-                    tenantData.put("userId", savedUser.getId());
-                    
-                    tenantServiceClient.createTenant(tenantData);
-                    logger.info("[{}] [UserService] [registerUser] Tenant record created successfully for user: {}", SERVICE_NAME, savedUser.getUsername());
-                } catch (Exception e) {
-                    // Log error but don't fail user registration if tenant creation fails
-                    logger.error("[{}] [UserService] [registerUser] Failed to create tenant record for user: {} - Error: {}", 
-                            SERVICE_NAME, savedUser.getUsername(), e.getMessage());
-                }
-            }
+            // Tenant-service creates the tenant record from this event once the transaction commits
+            writeOutboxEvent(new UserRegisteredEvent(UUID.randomUUID().toString(), savedUser),
+                    RabbitMQConfig.ROUTING_KEY_USER_REGISTERED);
             
             return savedUser;
         } catch (Exception e) {
@@ -82,7 +107,11 @@ public class UserService implements UserDetailsService {
     
     public User findByUsername(String username) {
         logger.debug("[{}] [UserService] [findByUsername] Searching for user with username: {}", SERVICE_NAME, username);
-        User user = userRepository.findByUsername(username).orElse(null);
+        User user = resolveLogin(username);
+        // resolveLogin prefers a username match, so any other hit means no such username
+        if (user != null && !user.getUsername().equalsIgnoreCase(username)) {
+            user = null;
+        }
         if (user != null) {
             logger.debug("[{}] [UserService] [findByUsername] User found with ID: {}", SERVICE_NAME, user.getId());
         } else {
@@ -105,16 +134,20 @@ public class UserService implements UserDetailsService {
     public User authenticate(String username, String password) {
         logger.info("[{}] [UserService] [authenticate] START - Authenticating user: {}", SERVICE_NAME, username);
         try {
-            User user = findByUsername(username);
-            if (user == null) {
-                user = findByEmail(username);
-            }
+            User user = resolveLogin(username);
             if (user != null && passwordEncoder.matches(password, user.getPassword())) {
+                if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                    // Hash predates the current work factor; the plain password is only at hand now
+                    user = updatePassword(user, passwordEncoder.encode(password));
+                }
                 logger.info("[{}] [UserService] [authenticate] SUCCESS - User authenticated: {}", SERVICE_NAME, username);
                 return user;
             }
             logger.warn("[{}] [UserService] [authenticate] Authentication failed for: {}", SERVICE_NAME, username);
             return null;
+        } catch (HashingCapacityExceededException e) {
+            logger.warn("[{}] [UserService] [authenticate] Hashing saturated, rejecting: {}", SERVICE_NAME, username);
+            throw e;
         } catch (Exception e) {
             logger.error("[{}] [UserService] [authenticate] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
             return null;
@@ -143,6 +176,8 @@ public class UserService implements UserDetailsService {
         logger.info("[{}] [UserService] [save] START - Saving user with ID: {}", SERVICE_NAME, user.getId());
         try {
             userRepository.save(user);
+            uniquenessFilter.add(user.getUsername(), user.getEmail());
+            evictUserDetails(user);
             logger.info("[{}] [UserService] [save] SUCCESS - User saved with ID: {}", SERVICE_NAME, user.getId());
         } catch (Exception e) {
             logger.error("[{}] [UserService] [save] ERROR - Failed to save user with ID: {} - Error: {}", 
@@ -162,7 +197,7 @@ public class UserService implements UserDetailsService {
             
             // Check if email is being changed and if it already exists
             if (updatedUser.getEmail() != null && !updatedUser.getEmail().equals(existingUser.getEmail())) {
-                if (userRepository.existsByEmail(updatedUser.getEmail())) {
+                if (uniquenessFilter.mightContainEmail(updatedUser.getEmail()) && userRepository.existsByEmail(updatedUser.getEmail())) {
                     logger.warn("[{}] [UserService] [updateUser] Email already exists: {}", SERVICE_NAME, updatedUser.getEmail());
                     throw new Exception("Email already exists");
                 }
@@ -179,6 +214,8 @@ public class UserService implements UserDetailsService {
             // Role and enabled status should not be changed via profile update (admin only)
             
             User savedUser = userRepository.save(existingUser);
+            uniquenessFilter.add(savedUser.getUsername(), savedUser.getEmail());
+            evictUserDetails(savedUser);
             logger.info("[{}] [UserService] [updateUser] SUCCESS - User updated with ID: {}", SERVICE_NAME, id);
             return savedUser;
         } catch (Exception e) {
@@ -192,14 +229,10 @@ public class UserService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         logger.info("[{}] [UserService] [loadUserByUsername] START - Loading user details for username: {}", SERVICE_NAME, username);
         try {
-            User user = findByUsername(username);
+            User user = resolveLogin(username);
             if (user == null) {
-                logger.debug("[{}] [UserService] [loadUserByUsername] Username not found, trying email: {}", SERVICE_NAME, username);
-                user = findByEmail(username);
-                if (user == null) {
-                    logger.warn("[{}] [UserService] [loadUserByUsername] User not found with username/email: {}", SERVICE_NAME, username);
-                    throw new UsernameNotFoundException("User not found with username: " + username);
-                }
+                logger.warn("[{}] [UserService] [loadUserByUsername] User not found with username/email: {}", SERVICE_NAME, username);
+                throw new UsernameNotFoundException("User not found with username: " + username);
             }
             logger.info("[{}] [UserService] [loadUserByUsername] SUCCESS - User details loaded for: {}", SERVICE_NAME, username);
             return user;
@@ -208,5 +241,75 @@ public class UserService implements UserDetailsService {
             throw e;
         }
     }
+    
+    /**
+     * Resolves a login name that may be a username or an email with one query, served from
+     * the user-details cache when possible. A username match wins over an email match.
+     * Misses are not cached, so a newly registered user is found immediately.
+     * @return a copy the caller may modify, or null
+     */
+    private User resolveLogin(String login) {
+        if (login == null) {
+            return null;
+        }
+        String key = login.toLowerCase(Locale.ROOT);
+        User cached = userDetailsCache.getIfPresent(key);
+        if (cached != null) {
+            return new User(cached);
+        }
+        List<User> matches = userRepository.findByUsernameOrEmail(login, login);
+        User user = null;
+        for (User match : matches) {
+            if (user == null || match.getUsername().equalsIgnoreCase(login)) {
+                user = match;
+            }
+        }
+        if (user == null) {
+            return null;
+        }
+        userDetailsCache.put(key, new User(user));
+        return new User(user);
+    }
+    
+    // Same transaction as the change it reports; OutboxRelay publishes it after commit
+    private void writeOutboxEvent(UserRegisteredEvent event, String routingKey) throws JsonProcessingException {
+        outboxEventRepository.save(new OutboxEvent(event.getEventId(), UserRegisteredEvent.class.getSimpleName(),
+                routingKey, objectMapper.writeValueAsString(event)));
+    }
+    
+    // Drops every cached login that resolves to this user, plus its username/email keys
+    private void evictUserDetails(User user) {
+        String username = user.getUsername() != null ? user.getUsername().toLowerCase(Locale.ROOT) : null;
+        String email = user.getEmail() != null ? user.getEmail().toLowerCase(Locale.ROOT) : null;
+        userDetailsCache.asMap().entrySet().removeIf(entry -> entry.getValue().getId().equals(user.getId())
+                || entry.getKey().equals(username) || entry.getKey().equals(email));
+    }
+    
+    /**
+     * Stores a rehashed password after a successful login (also called by Spring Security's
+     * form login). A failed write only costs another rehash on the next login.
+     * @return the user with the new hash when stored, otherwise the user unchanged
+     */
+    @Override
+    public User updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        try {
+            User existingUser = userRepository.findById(user.getId()).orElse(null);
+            if (existingUser == null) {
+                return user;
+            }
+            existingUser.setPassword(newPassword);
+            userRepository.save(existingUser);
+            evictUserDetails(existingUser);
+            logger.info("[{}] [UserService] [updatePassword] SUCCESS - Rehashed password at cost {} for user ID: {}",
+                    SERVICE_NAME, passwordEncoder.getCost(), user.getId());
+            User updated = new User(user);
+            updated.setPassword(newPassword);
+            return updated;
+        } catch (Exception e) {
+            logger.warn("[{}] [UserService] [updatePassword] Failed to store rehashed password for user ID: {} - {}",
+                    SERVICE_NAME, user.getId(), e.getMessage());
+            return user;
+        }
+    }
 }
-
@@ -0,0 +1,168 @@
+package com.rentwise.user.service;
+
+import com.rentwise.user.membership.BloomFilter;
+import com.rentwise.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bloom filters over every username and email, consulted before the existsBy* queries during
+ * registration: most names tried have never been taken, and a definite "not present" skips
+ * the round trip. A possible hit falls through to the indexed query, and the unique
+ * constraints still decide at insert time.
+ *
+ * Filters are built by streaming the table when the application is ready and rebuilt
+ * periodically, sized from the current row count, so values freed by email changes drop out
+ * and the false-positive rate stays near target as the table grows. Inserts made during a
+ * rebuild go into both filters. Until the first build completes every check falls through.
+ */
+@Service
+public class UserUniquenessFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserUniquenessFilter.class);
+    private static final String SERVICE_NAME = "rentwise-user-service";
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${user.bloom.min-expected-users:100000}")
+    private long minExpectedUsers;
+
+    @Value("${user.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Counter usernameNegative;
+    private final Counter usernameMaybe;
+    private final Counter emailNegative;
+    private final Counter emailMaybe;
+
+    private final Object lock = new Object();
+    private volatile Filters current; // Null until the first build
+    private Filters building; // Non-null during a rebuild; guarded by lock
+
+    public UserUniquenessFilter(MeterRegistry meterRegistry) {
+        this.usernameNegative = checkCounter(meterRegistry, "username", "negative");
+        this.usernameMaybe = checkCounter(meterRegistry, "username", "maybe");
+        this.emailNegative = checkCounter(meterRegistry, "email", "negative");
+        this.emailMaybe = checkCounter(meterRegistry, "email", "maybe");
+    }
+
+    /** False only when no user has this username; true means "check the database". */
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        boolean maybe = filters == null || username == null || filters.usernames.mightContain(normalize(username));
+        (maybe ? usernameMaybe : usernameNegative).increment();
+        return maybe;
+    }
+
+    /** False only when no user has this email; true means "check the database". */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        boolean maybe = filters == null || email == null || filters.emails.mightContain(normalize(email));
+        (maybe ? emailMaybe : emailNegative).increment();
+        return maybe;
+    }
+
+    /** Records a username/email just written, so later checks for them fall through. */
+    public void add(String username, String email) {
+        synchronized (lock) {
+            Filters filters = current;
+            if (filters != null) {
+                filters.add(username, email);
+            }
+            if (building != null) {
+                building.add(username, email);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${user.bloom.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${user.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        logger.info("[{}] [UserUniquenessFilter] [rebuild] START - Building username/email filters", SERVICE_NAME);
+        long start = System.currentTimeMillis();
+        try {
+            // Room for twice today's users, so steady growth stays near the target rate until the next rebuild
+            long expected = Math.max(minExpectedUsers, userRepository.count() * 2);
+            Filters filters = new Filters(expected, falsePositiveRate);
+            synchronized (lock) {
+                building = filters;
+            }
+            long rows = 0;
+            Long afterId = 0L;
+            List<Object[]> page;
+            do {
+                page = userRepository.findLoginKeysAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (Object[] row : page) {
+                    filters.add((String) row[1], (String) row[2]);
+                    afterId = (Long) row[0];
+                }
+                rows += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+            synchronized (lock) {
+                current = filters;
+                building = null;
+            }
+            logger.info("[{}] [UserUniquenessFilter] [rebuild] SUCCESS - {} users, {} bits x {} hashes per filter in {} ms",
+                    SERVICE_NAME, rows, filters.usernames.getBitCount(), filters.usernames.getHashCount(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            synchronized (lock) {
+                building = null;
+            }
+            // Keep the previous filters (or none: every check falls through to the database)
+            logger.error("[{}] [UserUniquenessFilter] [rebuild] ERROR - {}", SERVICE_NAME, e.getMessage(), e);
+        }
+    }
+
+    // Lower-cased to match MySQL's case-insensitive collation on the unique columns
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String filter, String result) {
+        return Counter.builder("user.bloom.checks")
+                .description("Uniqueness pre-checks; negative ones skipped the database")
+                .tag("filter", filter)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Filters {
+
+        final BloomFilter usernames;
+        final BloomFilter emails;
+
+        Filters(long expected, double falsePositiveRate) {
+            this.usernames = new BloomFilter(expected, falsePositiveRate);
+            this.emails = new BloomFilter(expected, falsePositiveRate);
+        }
+
+        void add(String username, String email) {
+            if (username != null) {
+                usernames.add(normalize(username));
+            }
+            if (email != null) {
+                emails.add(normalize(email));
+            }
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.rentwise.user;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("dev") // Generates a token signing key
 class RentwiseUserServiceApplicationTests {
 
 	@Test
@@ -0,0 +1,84 @@
+package com.rentwise.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login (verify) and registration (hash) throughput per core at a few BCrypt costs, through
+ * PasswordHashingService with a one-thread pool, next to a bare BCryptPasswordEncoder to show
+ * what the pool hand-off costs. One core's throughput times the hashing threads is the most
+ * logins per second user-service will accept before queueing.
+ *
+ * Not run by the test phase. Run with:
+ *   mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *       -Dexec.args="-cp %classpath com.rentwise.user.service.PasswordHashingBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10", "11", "12"})
+    public int cost;
+
+    private PasswordHashingService service;
+    private BCryptPasswordEncoder bare;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new PasswordHashingService(new SimpleMeterRegistry(), cost, 10, 14, 100, 1, 64, Duration.ofSeconds(30));
+        bare = new BCryptPasswordEncoder(cost);
+        hash = bare.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public boolean verifyThroughService() {
+        return service.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public String hashThroughService() {
+        return service.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyBare() {
+        return bare.matches(PASSWORD, hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordHashingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -33,7 +33,7 @@ const LoginPage = () => {
       });
 
       if (response.data) {
-        dispatch(setAuth({ user: response.data, token: 'token-' + response.data.id }));
+        dispatch(setAuth({ user: response.data.user, token: response.data.token }));
         navigate('/dashboard');
       }
     } catch (err: any) {
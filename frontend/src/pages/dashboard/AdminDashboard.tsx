@@ -6,6 +6,7 @@ import {
   getAdminProperties,
   getAdminTenants,
   getPendingRequests,
+  claimPendingRequests,
   approveTenantRequest,
   rejectTenantRequest,
   assignPropertyToTenant,
@@ -33,8 +34,8 @@ const AdminDashboard = () => {
     onMessage: (event: TenantRequestEvent) => {
       console.log('Admin Dashboard received WebSocket event:', event);
       if (event.status === 'CREATED') {
-        // New request created - refresh pending requests
-        fetchPendingRequests();
+        // New request created - top up this admin's slice
+        fetchPendingRequests(true);
       } else if (event.status === 'APPROVED' || event.status === 'REJECTED') {
         // Request approved/rejected - refresh both requests and tenants
         fetchPendingRequests();
@@ -55,7 +56,7 @@ const AdminDashboard = () => {
       const [props, tnts, requests] = await Promise.all([
         getAdminProperties(),
         getAdminTenants(),
-        getPendingRequests(),
+        claimPendingRequests(),
       ]);
       setProperties(props);
       setTenants(tnts);
@@ -69,9 +70,10 @@ const AdminDashboard = () => {
     }
   };
 
-  const fetchPendingRequests = async () => {
+  // Claiming renews this admin's leases and takes unclaimed requests; a plain refresh only lists them
+  const fetchPendingRequests = async (claim = false) => {
     try {
-      const requests = await getPendingRequests();
+      const requests = claim ? await claimPendingRequests() : await getPendingRequests();
       setPendingRequests(requests);
     } catch (err) {
       console.error('Failed to refresh pending requests:', err);
@@ -88,10 +90,11 @@ const AdminDashboard = () => {
   };
 
   const handleApprove = async (requestId: number) => {
+    if (!user) return;
     try {
       await approveTenantRequest(requestId);
       // WebSocket will handle the update, but refresh to ensure consistency
-      await fetchPendingRequests();
+      await fetchPendingRequests(true);
       await fetchTenants();
     } catch (err) {
       alert('Failed to approve request');
@@ -99,10 +102,11 @@ const AdminDashboard = () => {
   };
 
   const handleReject = async (requestId: number) => {
+    if (!user) return;
     try {
       await rejectTenantRequest(requestId);
       // WebSocket will handle the update, but refresh to ensure consistency
-      await fetchPendingRequests();
+      await fetchPendingRequests(true);
     } catch (err) {
       alert('Failed to reject request');
     }
@@ -21,6 +21,12 @@ axiosInstance.interceptors.response.use(
         return axiosInstance.request(error.config);
       }
     }
+    // Expired or invalid token (rejected by the gateway): drop it and sign in again
+    if (error.response?.status === 401 && !error.config?.url?.includes('/api/users/login')) {
+      localStorage.removeItem('token');
+      localStorage.removeItem('user');
+      window.location.href = '/login';
+    }
     return Promise.reject(error);
   }
 );
@@ -44,11 +44,17 @@ export const getAdminTenants = async (): Promise<Tenant[]> => {
   return response.data;
 };
 
+// The admin is identified from the login token at the gateway, not from a parameter
 export const getPendingRequests = async (): Promise<TenantRequest[]> => {
   const response = await axiosInstance.get('/api/dashboard/admin/pending-requests');
   return response.data;
 };
 
+export const claimPendingRequests = async (): Promise<TenantRequest[]> => {
+  const response = await axiosInstance.post('/api/dashboard/admin/pending-requests/claim');
+  return response.data;
+};
+
 // User Dashboard APIs
 export const getUserTenants = async (userId: number): Promise<Tenant[]> => {
   const response = await axiosInstance.get(`/api/dashboard/user/tenants?userId=${userId}`);